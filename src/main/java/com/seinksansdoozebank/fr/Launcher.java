@@ -1,9 +1,17 @@
 package com.seinksansdoozebank.fr;
 
 import com.beust.jcommander.JCommander;
+import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.controller.GameFactory;
+import com.seinksansdoozebank.fr.controller.RandomStreams;
 import com.seinksansdoozebank.fr.jcommander.CommandLineArgs;
 import com.seinksansdoozebank.fr.statistics.GameStatisticsAnalyzer;
+import com.seinksansdoozebank.fr.statistics.PairedExperiment;
+import com.seinksansdoozebank.fr.statistics.SequentialStopping;
+import com.seinksansdoozebank.fr.statistics.ViewBenchmark;
+import com.seinksansdoozebank.fr.view.SilentView;
 
+import static com.seinksansdoozebank.fr.controller.Game.NORMAL_NB_DISTRICT_TO_WIN;
 import static com.seinksansdoozebank.fr.statistics.GameStatisticsAnalyzer.CsvCategory.BEST_AGAINST_SECOND;
 import static com.seinksansdoozebank.fr.statistics.GameStatisticsAnalyzer.CsvCategory.BEST_BOTS_AGAINST;
 import static com.seinksansdoozebank.fr.statistics.GameStatisticsAnalyzer.CsvCategory.DEMO_GAME;
@@ -12,6 +20,8 @@ import static com.seinksansdoozebank.fr.statistics.GameStatisticsAnalyzer.CsvCat
  * The main class of the application
  */
 public class Launcher {
+    private boolean actionValidationEnabled = true;
+
     /**
      * The main method of the application
      *
@@ -28,52 +38,167 @@ public class Launcher {
                 .build()
                 .parse(args);
 
+        launcher.setActionValidationEnabled(!cmdArgs.isNoChecks());
+        RandomStreams randomStreams = cmdArgs.getSeed() == null
+                ? new RandomStreams(cmdArgs.getRandomAlgorithm())
+                : new RandomStreams(cmdArgs.getRandomAlgorithm(), cmdArgs.getSeed());
         if (cmdArgs.getQuickValue() != null) {
-            launcher.runQuickDemo(Integer.parseInt(cmdArgs.getQuickValue()), cmdArgs.isCsv());
+            launcher.runQuickDemo(Integer.parseInt(cmdArgs.getQuickValue()), cmdArgs.isCsv(), randomStreams);
         } else if (cmdArgs.isDemo()) {
-            launcher.runDemo(cmdArgs.isCsv(), cmdArgs.isVariante());
+            launcher.runDemo(cmdArgs.isCsv(), cmdArgs.isVariante(), randomStreams);
         } else if (cmdArgs.is2Thousands()) {
-            launcher.twoThousand(cmdArgs.isCsv());
+            launcher.twoThousand(cmdArgs.isCsv(), cmdArgs.getNbThreads(), randomStreams, cmdArgs.getPrecision(), cmdArgs.isDuplicate());
+        } else if (cmdArgs.isAbVariante()) {
+            launcher.abVariante(cmdArgs.getNbThreads(), randomStreams);
         } else if (cmdArgs.isCsv()) {
-            launcher.csvDemo();
+            launcher.csvDemo(cmdArgs.getNbThreads(), randomStreams);
+        } else if (cmdArgs.getBenchmarkNbGames() != null) {
+            launcher.benchmark(cmdArgs.getBenchmarkNbGames(), randomStreams.getSeed());
         }
     }
 
+    /**
+     * Turn the checks of the actions of the games launched on or off
+     *
+     * @param actionValidationEnabled true to check the actions before applying them
+     */
+    public void setActionValidationEnabled(boolean actionValidationEnabled) {
+        this.actionValidationEnabled = actionValidationEnabled;
+    }
+
+    /**
+     * Create the analyzer of a single game, checking the actions as asked
+     *
+     * @param saveInCsv     true if the results should be saved in a csv file
+     * @param randomStreams the random streams of the game
+     * @return the analyzer
+     */
+    private GameStatisticsAnalyzer createAnalyzer(boolean saveInCsv, RandomStreams randomStreams) {
+        GameStatisticsAnalyzer analyzer = new GameStatisticsAnalyzer(saveInCsv, randomStreams);
+        analyzer.setActionValidationEnabled(this.actionValidationEnabled);
+        return analyzer;
+    }
+
+    /**
+     * Create the analyzer of a tournament, checking the actions as asked
+     *
+     * @param numSessions   the number of games
+     * @param saveInCsv     true if the results should be saved in a csv file
+     * @param csvCategory   the category of the csv file
+     * @param nbWorkers     the number of workers playing the games in parallel
+     * @param randomStreams the random streams of the games
+     * @return the analyzer
+     */
+    private GameStatisticsAnalyzer createAnalyzer(int numSessions, boolean saveInCsv, GameStatisticsAnalyzer.CsvCategory csvCategory, int nbWorkers, RandomStreams randomStreams) {
+        GameStatisticsAnalyzer analyzer = new GameStatisticsAnalyzer(numSessions, saveInCsv, csvCategory, nbWorkers, randomStreams);
+        analyzer.setActionValidationEnabled(this.actionValidationEnabled);
+        return analyzer;
+    }
+
     /**
      * Run the demo
      *
-     * @param saveInCsv true if the results should be saved in a csv file
+     * @param saveInCsv     true if the results should be saved in a csv file
+     * @param variante      true to play with the variante
+     * @param randomStreams the random streams of the games
      */
-    public void runDemo(boolean saveInCsv, boolean variante) {
-        GameStatisticsAnalyzer analyzer = new GameStatisticsAnalyzer(saveInCsv);
+    public void runDemo(boolean saveInCsv, boolean variante, RandomStreams randomStreams) {
+        GameStatisticsAnalyzer analyzer = this.createAnalyzer(saveInCsv, randomStreams);
         analyzer.runDemo(variante);
     }
 
     /**
      * Run a quick demo
      *
-     * @param nbDistricts the number of districts
-     * @param saveInCsv   true if the results should be saved in a csv file
+     * @param nbDistricts   the number of districts
+     * @param saveInCsv     true if the results should be saved in a csv file
+     * @param randomStreams the random streams of the games
      */
-    public void runQuickDemo(int nbDistricts, boolean saveInCsv) {
-        GameStatisticsAnalyzer analyzer = new GameStatisticsAnalyzer(saveInCsv);
+    public void runQuickDemo(int nbDistricts, boolean saveInCsv, RandomStreams randomStreams) {
+        GameStatisticsAnalyzer analyzer = this.createAnalyzer(saveInCsv, randomStreams);
         analyzer.runQuickDemo(nbDistricts);
     }
 
     /**
-     * Run two thousand games
+     * Run two thousand games, or fewer if a precision is given and the results are known before
      *
-     * @param saveInCsv true if the results should be saved in a csv file
+     * @param saveInCsv     true if the results should be saved in a csv file
+     * @param nbWorkers     the number of workers playing the games in parallel
+     * @param randomStreams the random streams of the games
+     * @param precision     the margin of the win rates to reach before stopping, null to play every game
+     * @param duplicate     true to play each deal once for each rotation of the seats, when no precision is given
      */
-    public void twoThousand(boolean saveInCsv) {
-        GameStatisticsAnalyzer analyzer = new GameStatisticsAnalyzer(1000, saveInCsv, BEST_AGAINST_SECOND);
-        analyzer.runAndAnalyze(1, 1, 1, 1, 1, 1);
-        analyzer = new GameStatisticsAnalyzer(1000, saveInCsv, BEST_BOTS_AGAINST);
-        analyzer.runAndAnalyze(0, 6, 0, 0, 0, 0);
+    public void twoThousand(boolean saveInCsv, int nbWorkers, RandomStreams randomStreams, Double precision, boolean duplicate) {
+        GameStatisticsAnalyzer analyzer = this.createAnalyzer(1000, saveInCsv, BEST_AGAINST_SECOND, nbWorkers, randomStreams);
+        this.runTournament(analyzer, precision, duplicate, 1, 1, 1, 1, 1, 1);
+        analyzer = this.createAnalyzer(1000, saveInCsv, BEST_BOTS_AGAINST, nbWorkers, randomStreams);
+        this.runTournament(analyzer, precision, duplicate, 0, 6, 0, 0, 0, 0);
+    }
+
+    /**
+     * Run the games of a tournament in the mode asked
+     *
+     * @param analyzer           the analyzer of the tournament
+     * @param precision          the margin of the win rates to reach before stopping, null to play every game
+     * @param duplicate          true to play each deal once for each rotation of the seats
+     * @param numRandomBots      the number of random bots
+     * @param numSmartBots       the number of smart bots
+     * @param numCustomBots      the number of custom bots
+     * @param numRichardBots     the number of richard bots
+     * @param numBuilderBots     the number of builder bots
+     * @param numOpportunistBots the number of opportunist bots
+     */
+    private void runTournament(GameStatisticsAnalyzer analyzer, Double precision, boolean duplicate, int numRandomBots, int numSmartBots, int numCustomBots, int numRichardBots, int numBuilderBots, int numOpportunistBots) {
+        if (precision != null) {
+            analyzer.runUntilConfident(new SequentialStopping(precision), numRandomBots, numSmartBots, numCustomBots, numRichardBots, numBuilderBots, numOpportunistBots);
+        } else if (duplicate) {
+            analyzer.runDuplicateAndAnalyze(numRandomBots, numSmartBots, numCustomBots, numRichardBots, numBuilderBots, numOpportunistBots);
+        } else {
+            analyzer.runAndAnalyze(numRandomBots, numSmartBots, numCustomBots, numRichardBots, numBuilderBots, numOpportunistBots);
+        }
+    }
+
+    /**
+     * Compare the variante with the standard rules on a thousand pairs of games with all the types of bots,
+     * the two games of a pair sharing their deal, their seats and the random of the bots
+     *
+     * @param nbWorkers     the number of workers playing the pairs in parallel
+     * @param randomStreams the random streams of the pairs
+     */
+    public void abVariante(int nbWorkers, RandomStreams randomStreams) {
+        PairedExperiment.Configuration standardRules = new PairedExperiment.Configuration("standard rules",
+                random -> {
+                    Game game = GameFactory.createCustomGame(new SilentView(), 1, 1, 1, 1, 1, 1, NORMAL_NB_DISTRICT_TO_WIN, random);
+                    game.getSimulationContext().setActionValidationEnabled(this.actionValidationEnabled);
+                    return game;
+                });
+        PairedExperiment.Configuration variante = new PairedExperiment.Configuration("variante", random -> {
+            Game game = GameFactory.createCustomGame(new SilentView(), 1, 1, 1, 1, 1, 1, NORMAL_NB_DISTRICT_TO_WIN, random);
+            game.getSimulationContext().setActionValidationEnabled(this.actionValidationEnabled);
+            game.setVariante(true);
+            return game;
+        });
+        new PairedExperiment(standardRules, variante, 1000, nbWorkers, randomStreams).run();
     }
 
-    public void csvDemo() {
-        GameStatisticsAnalyzer analyzer = new GameStatisticsAnalyzer(100, true, DEMO_GAME);
+    /**
+     * Run a hundred games and save the results in a csv file
+     *
+     * @param nbWorkers     the number of workers playing the games in parallel
+     * @param randomStreams the random streams of the games
+     */
+    public void csvDemo(int nbWorkers, RandomStreams randomStreams) {
+        GameStatisticsAnalyzer analyzer = this.createAnalyzer(100, true, DEMO_GAME, nbWorkers, randomStreams);
         analyzer.runAndAnalyze(1, 1, 1, 1, 1, 1);
     }
+
+    /**
+     * Measure the games per second of the Cli view and of the silent view
+     *
+     * @param nbGames the number of games played with each view
+     * @param seed    the seed of the games
+     */
+    public void benchmark(int nbGames, long seed) {
+        new ViewBenchmark(nbGames, seed).run();
+    }
 }
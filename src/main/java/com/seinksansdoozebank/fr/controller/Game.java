@@ -4,26 +4,25 @@ import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.Deck;
 import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.model.character.Characters;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
-import com.seinksansdoozebank.fr.model.character.commoncharacters.Bishop;
-import com.seinksansdoozebank.fr.model.character.commoncharacters.King;
-import com.seinksansdoozebank.fr.model.character.commoncharacters.Merchant;
-import com.seinksansdoozebank.fr.model.character.commoncharacters.Warlord;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
-import com.seinksansdoozebank.fr.model.character.specialscharacters.Architect;
-import com.seinksansdoozebank.fr.model.character.specialscharacters.Assassin;
-import com.seinksansdoozebank.fr.model.character.specialscharacters.Magician;
-import com.seinksansdoozebank.fr.model.character.specialscharacters.Thief;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
+import com.seinksansdoozebank.fr.model.character.roles.RoleStateTable;
 import com.seinksansdoozebank.fr.model.player.Opponent;
 import com.seinksansdoozebank.fr.model.player.Player;
+import com.seinksansdoozebank.fr.model.player.ThreatAnalysis;
+import com.seinksansdoozebank.fr.model.player.WarlordTargetIndex;
 import com.seinksansdoozebank.fr.view.IView;
-import com.seinksansdoozebank.fr.view.logger.CustomLogger;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 /**
  * The Game class represents a game of Citadels
@@ -32,12 +31,18 @@ public class Game {
     /**
      * The maximum number of players
      */
-    protected static final int NB_PLAYER_MAX = 6;
+    public static final int NB_PLAYER_MAX = 6;
     /**
      * The minimum number of players
      */
     protected static final int NB_PLAYER_MIN = 3;
     private static final int NB_CARD_BY_PLAYER = 4;
+    private static final Role[] ROLES = Role.values();
+    /**
+     * The roles which may be left out of a round, the king being always in it
+     */
+    private static final Role[] NOT_MANDATORY_ROLES = {Role.ASSASSIN, Role.THIEF, Role.MAGICIAN, Role.BISHOP,
+            Role.MERCHANT, Role.ARCHITECT, Role.WARLORD};
     public static final int NORMAL_NB_DISTRICT_TO_WIN = 8;
     private int nbOfDistrictsInCitadel;
     private boolean findFirstPlayerWithAllDistricts = false;
@@ -51,11 +56,42 @@ public class Game {
      * The list of players
      */
     protected List<Player> players;
+    /**
+     * The players in the order they are seated around the table
+     */
+    private Player[] seats;
+    /**
+     * The list reused at each round to keep the order of the players in the round
+     */
+    private final List<Player> roundOrder;
+    /**
+     * The list reused at each round to keep the opponents which have chosen their character in the draft
+     */
+    private final List<Opponent> opponentsWhichHasChosenCharacter;
     Player crownedPlayer;
-    private List<Character> availableCharacters;
-    private List<Character> charactersInTheRound;
-    private List<Character> unusedCharacters;
+    /**
+     * The lists of the available characters, of the characters in the round and of the unused characters, filled
+     * again at each round
+     */
+    private final List<Character> availableCharacters;
+    private final List<Character> charactersInTheRound;
+    private final List<Character> unusedCharacters;
+    /**
+     * The array the not mandatory roles are shuffled in at each round
+     */
+    private final Role[] shuffledRoles;
+    /**
+     * The roles of the available characters, of the characters in the round and of the unused characters
+     */
+    private RoleSet availableRoles;
+    private RoleSet rolesInTheRound;
+    private RoleSet unusedRoles;
     private final IView view;
+    private final SimulationContext context;
+    private final RoleStateTable roleStates;
+    private final TerminationTracker terminationTracker;
+    private final ThreatAnalysis threatAnalysis;
+    private final WarlordTargetIndex warlordTargetIndex;
     private int nbCurrentRound;
     private boolean finished;
     private boolean isVariante;
@@ -69,22 +105,138 @@ public class Game {
      * @param playerList the list of players
      */
     protected Game(IView view, Deck deck, Bank bank, List<Player> playerList) {
+        this(SimulationContext.getDefault(), view, deck, bank, playerList);
+    }
+
+    /**
+     * Constructor of the Game class
+     *
+     * @param context    the context of the game
+     * @param view       the view
+     * @param deck       the deck of cards
+     * @param bank       the bank
+     * @param playerList the list of players
+     */
+    protected Game(SimulationContext context, IView view, Deck deck, Bank bank, List<Player> playerList) {
         if (playerList.size() > NB_PLAYER_MAX || playerList.size() < NB_PLAYER_MIN) {
             throw new IllegalArgumentException("The number of players must be between " + NB_PLAYER_MIN + " and " + NB_PLAYER_MAX);
         }
+        this.context = context;
         this.view = view;
         this.deck = deck;
         this.playersInInitialOrder = playerList;
         this.players = new ArrayList<>(playerList);
-        this.availableCharacters = new ArrayList<>();
+        this.seats = playerList.toArray(new Player[0]);
+        this.roundOrder = new ArrayList<>(NB_PLAYER_MAX);
+        this.opponentsWhichHasChosenCharacter = new ArrayList<>(NB_PLAYER_MAX);
+        this.availableCharacters = new ArrayList<>(NB_PLAYER_MAX + 1);
+        this.charactersInTheRound = new ArrayList<>(NB_PLAYER_MAX + 1);
+        this.unusedCharacters = new ArrayList<>(NOT_MANDATORY_ROLES.length);
+        this.shuffledRoles = new Role[NOT_MANDATORY_ROLES.length];
+        this.availableRoles = RoleSet.empty();
+        this.rolesInTheRound = RoleSet.empty();
+        this.unusedRoles = RoleSet.empty();
         this.crownedPlayer = null;
         this.finished = false;
         this.bank = bank;
+        this.roleStates = new RoleStateTable();
+        for (Player player : playerList) {
+            player.setRoleStates(this.roleStates);
+        }
         if (playerList.size() == 3) {
             nbOfDistrictsInCitadel = 10;
         } else {
             nbOfDistrictsInCitadel = NORMAL_NB_DISTRICT_TO_WIN;
         }
+        // the players check their actions against the number of districts the game ends with
+        for (Player player : playerList) {
+            player.setNumberOfDistrictsNeeded(nbOfDistrictsInCitadel);
+        }
+        this.terminationTracker = new TerminationTracker(nbOfDistrictsInCitadel);
+        this.terminationTracker.track(playerList);
+        this.threatAnalysis = new ThreatAnalysis(nbOfDistrictsInCitadel);
+        this.threatAnalysis.track(playerList);
+        this.warlordTargetIndex = new WarlordTargetIndex(nbOfDistrictsInCitadel);
+        this.warlordTargetIndex.track(playerList);
+        this.trackDeckForEachPlayer(playerList);
+    }
+
+    /**
+     * Put the game back in its initial state so that it can be played again with the same players,
+     * as if it had been built again with the given random.
+     * The deck, the bank and the players are reused instead of being created again.
+     *
+     * @param random the random of the new game, the same random always gives the same game
+     */
+    public void reset(RandomGenerator random) {
+        this.context.reset(random);
+        this.resetTable(random, playerList -> RandomUtils.shuffle(playerList, random));
+    }
+
+    /**
+     * Put the game back in its initial state to play a deal again with the players seated in another rotation.
+     * The players are seated in the order they were created, shifted by the rotation, and the deck and the
+     * characters are shuffled by the random of the deal, so the same deal random gives the same cards and
+     * characters whatever the rotation.
+     *
+     * @param random     the random of the decisions of the players
+     * @param dealRandom the random of the deal, a new one created from the same seed for each rotation
+     * @param rotation   the number of seats the players are shifted by, between 0 and the number of players excluded
+     * @throws IllegalArgumentException if the rotation is out of bounds
+     */
+    public void resetDeal(RandomGenerator random, RandomGenerator dealRandom, int rotation) {
+        if (rotation < 0 || rotation >= this.seats.length) {
+            throw new IllegalArgumentException("The rotation must be between 0 and " + (this.seats.length - 1) + ", not " + rotation);
+        }
+        this.context.reset(random, dealRandom);
+        this.resetTable(random, playerList -> Collections.rotate(playerList, -rotation));
+    }
+
+    /**
+     * Reset the deck, the bank and the players, then seat the players and give them their opponents
+     *
+     * @param random     the random shuffling the opponents of each player
+     * @param seatPlayer the action putting the players, sorted in the order they were created, in the order of the seats
+     */
+    private void resetTable(RandomGenerator random, Consumer<List<Player>> seatPlayer) {
+        this.deck.reset();
+        this.bank.reset();
+        // the players are reset in the order they were created, as the builder does
+        List<Player> playerList = new ArrayList<>(this.playersInInitialOrder);
+        playerList.sort(Comparator.comparingInt(Player::getId));
+        for (Player player : playerList) {
+            player.reset(this.bank.pickXCoin(GameBuilder.PLAYER_NB_GOLD_INIT));
+        }
+        seatPlayer.accept(playerList);
+        for (Player player : playerList) {
+            List<Opponent> opponents = new ArrayList<>(playerList);
+            opponents.remove(player);
+            RandomUtils.shuffle(opponents, random);
+            player.setOpponents(opponents);
+        }
+        this.playersInInitialOrder = playerList;
+        this.players = new ArrayList<>(playerList);
+        this.seats = playerList.toArray(this.seats);
+        this.availableCharacters.clear();
+        this.roleStates.clear();
+        this.charactersInTheRound.clear();
+        this.unusedCharacters.clear();
+        this.availableRoles = RoleSet.empty();
+        this.rolesInTheRound = RoleSet.empty();
+        this.unusedRoles = RoleSet.empty();
+        this.crownedPlayer = null;
+        this.findFirstPlayerWithAllDistricts = false;
+        this.nbCurrentRound = 0;
+        this.finished = false;
+    }
+
+    /**
+     * Put the game back in its initial state, as if it had been built again with a random created from the seed
+     *
+     * @param seed the seed of the new game
+     */
+    public void reset(long seed) {
+        this.reset(RandomGeneratorFactory.of(RandomStreams.DEFAULT_ALGORITHM).create(seed));
     }
 
     public void setVariante(boolean variante) {
@@ -121,10 +273,7 @@ public class Game {
      * @return true if the game is stuck
      */
     protected boolean isStuck() {
-        boolean aPlayerCanPlay = players.stream()
-                .anyMatch(player -> player.getHand().stream()
-                        .anyMatch(player::canPlayCard));
-        return (deck.getDeck().isEmpty() && this.bank.getNbOfAvailableCoins() <= 0 && !aPlayerCanPlay) || this.nbCurrentRound > 1000;
+        return (deck.isEmpty() && this.bank.getNbOfAvailableCoins() <= 0 && !this.terminationTracker.aPlayerCanPlay()) || this.nbCurrentRound > 1000;
     }
 
     /**
@@ -135,11 +284,12 @@ public class Game {
         playersChooseCharacters();
         orderPlayerBeforePlaying();
         for (Player player : players) {
-            if (!player.getCharacter().isDead()) {
+            if (!this.roleStates.isDead(player.getCharacter().getRole())) {
                 player.setAvailableCharacters(charactersInTheRound);
                 player.setCharactersNotInRound(unusedCharacters);
                 this.updateCrownedPlayer(player);
                 checkPlayerStolen(player);
+                this.publishOpponentViews();
                 player.play();
             }else if (this.isVariante()){
                 this.updateCrownedPlayer(player);
@@ -148,7 +298,7 @@ public class Game {
             isTheFirstOneToHaveAllDistricts(player);
         }
         retrieveCharacters();
-        finished = players.stream().anyMatch(player -> player.getCitadel().size() >= this.getNumberOfDistrictsNeeded());
+        finished = this.terminationTracker.aCitadelIsComplete();
         this.nbCurrentRound++;
     }
 
@@ -169,10 +319,39 @@ public class Game {
     }
 
     /**
-     * Order the players before playing
+     * Get the number of rounds played since the beginning of the game
+     * @return the number of rounds played
+     */
+    public int getNbRoundsPlayed() {
+        return Math.max(0, nbCurrentRound - 1);
+    }
+
+    /**
+     * Get the seat of a player around the table
+     * @param player the player
+     * @return the seat of the player, 0 being the first player of the game, -1 if the player is not in the game
+     */
+    public int getSeat(Player player) {
+        for (int seat = 0; seat < this.seats.length; seat++) {
+            if (this.seats[seat] == player) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Order the players before playing, following the order of the roles they have chosen
      */
     void orderPlayerBeforePlaying() {
-        players.sort(Comparator.comparing(player -> player.getCharacter().getRole()));
+        this.roundOrder.clear();
+        for (Role role : ROLES) {
+            Player player = this.roleStates.getPlayer(role);
+            if (player != null) {
+                this.roundOrder.add(player);
+            }
+        }
+        this.players = this.roundOrder;
     }
 
     /**
@@ -180,7 +359,9 @@ public class Game {
      */
     void retrieveCharacters() {
         for (Player player : players) {
-            availableCharacters.add(player.retrieveCharacter());
+            Character character = player.retrieveCharacter();
+            availableCharacters.add(character);
+            availableRoles = availableRoles.with(character.getRole());
         }
     }
 
@@ -189,32 +370,69 @@ public class Game {
      * player revealed himself being the king during the last round
      */
     void orderPlayerBeforeChoosingCharacter() {
-        players = new ArrayList<>(playersInInitialOrder);
-        if (crownedPlayer != null) {
-            List<Player> orderedPlayers = new ArrayList<>();
-            //récupération de l'index du roi dans la liste des joueurs
-            int indexOfTheKingPlayer = players.indexOf(crownedPlayer);
-            for (int i = indexOfTheKingPlayer; i < players.size(); i++) {
-                orderedPlayers.add((i - indexOfTheKingPlayer) % players.size(), players.get(i));
-            }
-            for (int i = 0; i < indexOfTheKingPlayer; i++) {
-                orderedPlayers.add((i + players.size() - indexOfTheKingPlayer) % players.size(), players.get(i));
+        int nbPlayers = this.seats.length;
+        int crownedSeat = this.getCrownedSeat();
+        this.roundOrder.clear();
+        // the players choose their character around the table, starting from the crowned player
+        for (int i = 0; i < nbPlayers; i++) {
+            this.roundOrder.add(this.seats[(crownedSeat + i) % nbPlayers]);
+        }
+        this.players = this.roundOrder;
+    }
+
+    /**
+     * Get the seat of the crowned player
+     *
+     * @return the index of the crowned player in the seats, 0 if there is no crowned player
+     */
+    private int getCrownedSeat() {
+        for (int seat = 0; seat < this.seats.length; seat++) {
+            if (this.seats[seat].equals(this.crownedPlayer)) {
+                return seat;
             }
-            players = orderedPlayers;
+        }
+        return 0;
+    }
+
+
+    /**
+     * Start counting again the cards each player has not seen yet, for the players whose tracker was asked for
+     *
+     * @param playerList the players of the game
+     */
+    private void trackDeckForEachPlayer(List<Player> playerList) {
+        for (Player player : playerList) {
+            player.trackDeck(playerList);
         }
     }
 
+    /**
+     * Publish to each player the snapshots of its opponents, at the beginning of a phase
+     */
+    void publishOpponentViews() {
+        for (Player player : this.seats) {
+            player.publishOpponentView();
+        }
+        for (Player player : this.seats) {
+            player.collectOpponentViews();
+        }
+    }
 
     /**
      * Ask the player to choose their characters
      */
     protected void playersChooseCharacters() {
-        List<Opponent> opponentsWhichHasChosenCharacter = new ArrayList<>();
+        this.opponentsWhichHasChosenCharacter.clear();
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).setPositionInDrawToPickACharacter(i);
+        }
+        this.publishOpponentViews();
         for (Player player : players) {
-            player.setPositionInDrawToPickACharacter(players.indexOf(player));
-            player.setOpponentsWhichHasChosenCharacterBefore(opponentsWhichHasChosenCharacter);
-            availableCharacters.remove(player.chooseCharacter(availableCharacters));
-            opponentsWhichHasChosenCharacter.add(player);
+            player.setOpponentsWhichHasChosenCharacterBefore(this.opponentsWhichHasChosenCharacter);
+            Character character = player.chooseCharacter(availableCharacters);
+            availableCharacters.remove(character);
+            availableRoles = availableRoles.without(character.getRole());
+            this.opponentsWhichHasChosenCharacter.add(player);
         }
     }
 
@@ -223,8 +441,12 @@ public class Game {
      * Initialize the game
      */
     protected void init() {
-        CustomLogger.resetAvailableColors();
+        this.context.getPlayerColors().reset();
         dealCards();
+        this.terminationTracker.track(this.playersInInitialOrder);
+        this.threatAnalysis.track(this.playersInInitialOrder);
+        this.warlordTargetIndex.track(this.playersInInitialOrder);
+        this.trackDeckForEachPlayer(this.playersInInitialOrder);
     }
 
     /**
@@ -232,37 +454,35 @@ public class Game {
      */
     protected void createCharacters() {
         int nbPlayers = this.players.size();
-        availableCharacters = new ArrayList<>();
-        List<Character> notMandatoryCharacters = new ArrayList<>(List.of(
-                new Assassin(),
-                new Thief(),
-                new Magician(),
-                new Bishop(),
-                new Merchant(),
-                new Architect(),
-                new Warlord()));
-        if (nbPlayers + 1 > notMandatoryCharacters.size()) {
+        this.roleStates.clear();
+        if (nbPlayers + 1 > NOT_MANDATORY_ROLES.length) {
             throw new UnsupportedOperationException("The number of players is too high for the number of characters implemented");
         }
-        if (nbPlayers == 3) {
-            notMandatoryCharacters.remove(0);
-        }
-        Collections.shuffle(notMandatoryCharacters);
+        // the assassin is left out of the games of three players
+        int firstRole = nbPlayers == 3 ? 1 : 0;
+        int nbRoles = NOT_MANDATORY_ROLES.length - firstRole;
+        System.arraycopy(NOT_MANDATORY_ROLES, firstRole, this.shuffledRoles, 0, nbRoles);
+        RandomUtils.shuffle(this.shuffledRoles, nbRoles, this.context.getDealRandom());
+        availableCharacters.clear();
+        charactersInTheRound.clear();
+        unusedCharacters.clear();
         // the king must always be available
-        availableCharacters.add(new King());
+        availableCharacters.add(Characters.of(Role.KING));
         //adding as much characters as there are players because the king is already added and
         // the rules say that the number of characters must be equal to the number of players +1
         for (int i = 0; i < nbPlayers + 1; i++) {
-            availableCharacters.add(notMandatoryCharacters.get(i));
+            availableCharacters.add(Characters.of(this.shuffledRoles[i]));
         }
-        charactersInTheRound = new ArrayList<>(availableCharacters);
-        //remove the characters that are available from the list of not mandatory characters
-        notMandatoryCharacters.removeAll(availableCharacters);
-        //display the characters that are not in availableCharacters
-        this.unusedCharacters = notMandatoryCharacters;
-        for (Character unusedCharacter : notMandatoryCharacters) {
+        charactersInTheRound.addAll(availableCharacters);
+        availableRoles = RoleSet.of(availableCharacters);
+        rolesInTheRound = availableRoles;
+        //the roles left after the available ones are not used in the round
+        for (int i = nbPlayers + 1; i < nbRoles; i++) {
+            Character unusedCharacter = Characters.of(this.shuffledRoles[i]);
+            unusedCharacters.add(unusedCharacter);
             view.displayUnusedCharacterInRound(unusedCharacter);
         }
+        this.unusedRoles = RoleSet.of(unusedCharacters);
     }
 
     /**
@@ -291,29 +511,8 @@ public class Game {
      * Order the players by points, considering tiebreakers.
      */
     protected void orderPlayersByPoints() {
-        this.getPlayers().sort((player1, player2) -> {
-            // Compare by total points
-            int scoreComparaison = Integer.compare(player2.getScore(), player1.getScore());
-
-            if (scoreComparaison == 0) {
-                // If points are tied, compare by the number of districts in the citadel
-                int citadelComparaison = Integer.compare(player2.getCitadel().size(), player1.getCitadel().size());
-
-                if (citadelComparaison == 0) {
-                    // If districts are tied, compare by the total points of all districts
-                    return Integer.compare(
-                            player2.getCitadel().stream().mapToInt(
-                                    card -> card.getDistrict().getCost()
-                            ).sum(),
-                            player1.getCitadel().stream().mapToInt(
-                                    card -> card.getDistrict().getCost()
-                            ).sum()
-                    );
-                }
-                return citadelComparaison;
-            }
-            return scoreComparaison;
-        });
+        // the ranking key holds the score and the tiebreakers: number of districts, then cost of the citadel
+        this.getPlayers().sort(Comparator.comparingLong(Player::getRankingKey).reversed());
     }
 
     /**
@@ -334,6 +533,33 @@ public class Game {
         return availableCharacters;
     }
 
+    /**
+     * Get the roles of the characters that are still available
+     *
+     * @return the set of the available roles
+     */
+    public RoleSet getAvailableRoles() {
+        return availableRoles;
+    }
+
+    /**
+     * Get the roles of the characters in the round
+     *
+     * @return the set of the roles in the round
+     */
+    public RoleSet getRolesInTheRound() {
+        return rolesInTheRound;
+    }
+
+    /**
+     * Get the roles of the characters which are not used in the round
+     *
+     * @return the set of the unused roles
+     */
+    public RoleSet getUnusedRoles() {
+        return unusedRoles;
+    }
+
     /**
      * Method which sets the attribute isTheFirstOneToHaveAllDistricts at true if it's the case
      *
@@ -395,24 +621,24 @@ public class Game {
      * @return an optional of Player with the given role
      */
     public Optional<Player> getPlayerByRole(Role role) {
-        for (Player player : players) {
-            if (player.getCharacter().getRole() == role) {
-                return Optional.of(player);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(this.roleStates.getPlayer(role));
     }
 
 
     /**
-     * we apply this if the player has savedThief==true
+     * we apply this if the character of the player has been robbed by the thief,
+     * all the gold of the player is given to the thief
      *
      * @param player player to check
      */
     public void checkPlayerStolen(Player player) {
-        if (player.getCharacter().getSavedThief() != null) {
-            view.displayStolenCharacter(player.getCharacter());
-            player.getCharacter().isStolen();
+        Role role = player.getCharacter().getRole();
+        Player thief = this.roleStates.getRobbedBy(role);
+        if (thief != null) {
+            view.displayStolenCharacter(player);
+            thief.increaseGold(player.getNbGold());
+            player.decreaseGold(player.getNbGold());
+            this.roleStates.setRobbedBy(role, null);
             Optional<Player> playerByRole = getPlayerByRole(Role.THIEF);
             playerByRole.ifPresent(view::displayActualNumberOfGold);
         }
@@ -428,9 +654,24 @@ public class Game {
 
     public void setNbOfDistrictsInCitadel(int nbOfDistrictsInCitadel) {
         this.nbOfDistrictsInCitadel = nbOfDistrictsInCitadel;
+        this.terminationTracker.setNumberOfDistrictsNeeded(nbOfDistrictsInCitadel);
+        this.threatAnalysis.setNbDistrictsNeeded(nbOfDistrictsInCitadel);
+        this.warlordTargetIndex.setNbDistrictsNeeded(nbOfDistrictsInCitadel);
+        for (Player player : this.players) {
+            player.setNumberOfDistrictsNeeded(nbOfDistrictsInCitadel);
+        }
     }
 
     public int getNumberOfDistrictsNeeded() {
         return nbOfDistrictsInCitadel;
     }
+
+    /**
+     * Get the context of the game
+     *
+     * @return the context shared by the objects of the game
+     */
+    public SimulationContext getSimulationContext() {
+        return context;
+    }
 }
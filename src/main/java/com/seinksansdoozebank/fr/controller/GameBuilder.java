@@ -19,14 +19,14 @@ import com.seinksansdoozebank.fr.model.player.custombot.strategies.thiefeffect.I
 import com.seinksansdoozebank.fr.view.IView;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Builder for the game
  */
 public class GameBuilder {
-    private static final int PLAYER_NB_GOLD_INIT = 2;
+    static final int PLAYER_NB_GOLD_INIT = 2;
+    private final SimulationContext context;
     private final IView view;
     private final Deck deck;
     private final Bank bank;
@@ -42,7 +42,21 @@ public class GameBuilder {
      * @param numberOfDistrictsNeeded the number of districts needed to win
      */
     public GameBuilder(IView view, Deck deck, Bank bank, int numberOfDistrictsNeeded) {
+        this(SimulationContext.getDefault(), view, deck, bank, numberOfDistrictsNeeded);
+    }
+
+    /**
+     * Constructor of the game builder
+     *
+     * @param context the context of the game, shared by all the players added to the game
+     * @param view the view
+     * @param deck the deck
+     * @param bank the bank
+     * @param numberOfDistrictsNeeded the number of districts needed to win
+     */
+    public GameBuilder(SimulationContext context, IView view, Deck deck, Bank bank, int numberOfDistrictsNeeded) {
         playerList = new ArrayList<>();
+        this.context = context;
         this.view = view;
         this.deck = deck;
         this.bank = bank;
@@ -73,7 +87,7 @@ public class GameBuilder {
      */
     public GameBuilder addSmartBot() {
         checkNbPlayers();
-        playerList.add(new SmartBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank));
+        playerList.add(new SmartBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank, this.context));
         return this;
     }
 
@@ -84,7 +98,7 @@ public class GameBuilder {
      */
     public GameBuilder addRandomBot() {
         checkNbPlayers();
-        playerList.add(new RandomBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank));
+        playerList.add(new RandomBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank, this.context));
         return this;
     }
 
@@ -106,6 +120,7 @@ public class GameBuilder {
                                     ICardChoosingStrategy cardChosingStrategy) {
         checkNbPlayers();
         playerList.add(new CustomBotBuilder(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.view, this.deck, this.bank)
+                .setSimulationContext(this.context)
                 .setPickingStrategy(pickingStrategy)
                 .setCharacterChoosingStrategy(characterChoosingStrategy)
                 .setUsingThiefEffectStrategy(thiefEffectStrategy)
@@ -122,7 +137,7 @@ public class GameBuilder {
      */
     public GameBuilder addRichardBot() {
         checkNbPlayers();
-        playerList.add(new RichardBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank));
+        playerList.add(new RichardBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank, this.context));
         return this;
     }
 
@@ -132,7 +147,7 @@ public class GameBuilder {
      */
     public GameBuilder addBuilderBot() {
         checkNbPlayers();
-        playerList.add(new BuilderBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank));
+        playerList.add(new BuilderBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank, this.context));
         return this;
     }
 
@@ -142,7 +157,7 @@ public class GameBuilder {
      */
     public GameBuilder addOpportunistBot() {
         checkNbPlayers();
-        playerList.add(new OpportunistBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank));
+        playerList.add(new OpportunistBot(this.bank.pickXCoin(PLAYER_NB_GOLD_INIT), this.deck, this.view, this.bank, this.context));
         return this;
     }
 
@@ -155,14 +170,14 @@ public class GameBuilder {
         if (playerList.size() < Game.NB_PLAYER_MIN) {
             throw new IllegalStateException("The number of players must be between " + Game.NB_PLAYER_MIN + " and " + Game.NB_PLAYER_MAX);
         }
-        Collections.shuffle(playerList);
+        RandomUtils.shuffle(playerList, this.context.getRandom());
         for (Player player : playerList) {
             List<Opponent> opponents = new ArrayList<>(playerList);
             opponents.remove(player);
-            Collections.shuffle(opponents);
+            RandomUtils.shuffle(opponents, this.context.getRandom());
             player.setOpponents(opponents);
             player.setNumberOfDistrictsNeeded(numberOfDistrictsNeeded);
         }
-        return new Game(this.view, this.deck, this.bank, this.playerList);
+        return new Game(this.context, this.view, this.deck, this.bank, this.playerList);
     }
 }
@@ -15,6 +15,8 @@ import com.seinksansdoozebank.fr.model.player.custombot.strategies.thiefeffect.U
 import com.seinksansdoozebank.fr.view.Cli;
 import com.seinksansdoozebank.fr.view.IView;
 
+import java.util.random.RandomGenerator;
+
 /**
  * Factory for the game exposing static methods to preset create games
  */
@@ -37,7 +39,8 @@ public class GameFactory {
             throw new IllegalArgumentException(NUMBER_OF_PLAYER_BETWEEN);
         }
 
-        GameBuilder gameBuilder = new GameBuilder(view, new Deck(), bank, numberOfDistrictsNeeded);
+        SimulationContext context = new SimulationContext();
+        GameBuilder gameBuilder = new GameBuilder(context, view, new Deck(context), bank, numberOfDistrictsNeeded);
         for (int i = 0; i < nbPlayers; i++) {
             gameBuilder.addRandomBot();
         }
@@ -56,7 +59,8 @@ public class GameFactory {
         if (nbPlayers < Game.NB_PLAYER_MIN || nbPlayers > Game.NB_PLAYER_MAX) {
             throw new IllegalArgumentException(NUMBER_OF_PLAYER_BETWEEN);
         }
-        GameBuilder gameBuilder = new GameBuilder(view, new Deck(), bank,numberOfDistrictsNeeded);
+        SimulationContext context = new SimulationContext();
+        GameBuilder gameBuilder = new GameBuilder(context, view, new Deck(context), bank, numberOfDistrictsNeeded);
         for (int i = 0; i < nbPlayers; i++) {
             gameBuilder.addSmartBot();
         }
@@ -74,7 +78,8 @@ public class GameFactory {
         if (nbPlayers < Game.NB_PLAYER_MIN || nbPlayers > Game.NB_PLAYER_MAX) {
             throw new IllegalArgumentException(NUMBER_OF_PLAYER_BETWEEN);
         }
-        GameBuilder gameBuilder = new GameBuilder(view, new Deck(), bank, numberOfDistrictsNeeded);
+        SimulationContext context = new SimulationContext();
+        GameBuilder gameBuilder = new GameBuilder(context, view, new Deck(context), bank, numberOfDistrictsNeeded);
         for (int i = 0; i < nbPlayers; i++) {
             gameBuilder.addCustomBot(
                     null,
@@ -99,7 +104,8 @@ public class GameFactory {
         if (nbPlayers < Game.NB_PLAYER_MIN || nbPlayers > Game.NB_PLAYER_MAX) {
             throw new IllegalArgumentException(NUMBER_OF_PLAYER_BETWEEN);
         }
-        GameBuilder gameBuilder = new GameBuilder(view, new Deck(), bank, numberOfDistrictsNeeded);
+        SimulationContext context = new SimulationContext();
+        GameBuilder gameBuilder = new GameBuilder(context, view, new Deck(context), bank, numberOfDistrictsNeeded);
         for (int i = 0; i < nbPlayers; i++) {
             gameBuilder.addRichardBot();
         }
@@ -113,7 +119,20 @@ public class GameFactory {
      * @return the game created
      */
     public static Game createGameOfAllTypeOfBot(IView view, Bank bank, int numberOfDistrictsNeeded) {
-        GameBuilder gameBuilder = new GameBuilder(view, new Deck(), bank, numberOfDistrictsNeeded);
+        return createGameOfAllTypeOfBot(view, bank, numberOfDistrictsNeeded, RandomGenerator.of(RandomStreams.DEFAULT_ALGORITHM));
+    }
+
+    /**
+     * Create a game with one bot of each type, played with the given random
+     * @param view the view to use
+     * @param bank the bank to use
+     * @param numberOfDistrictsNeeded the number of districts needed to win
+     * @param random the random of the game, the same random always gives the same game
+     * @return the game created
+     */
+    public static Game createGameOfAllTypeOfBot(IView view, Bank bank, int numberOfDistrictsNeeded, RandomGenerator random) {
+        SimulationContext context = new SimulationContext(random);
+        GameBuilder gameBuilder = new GameBuilder(context, view, new Deck(context), bank, numberOfDistrictsNeeded);
         gameBuilder.addRandomBot();
         gameBuilder.addSmartBot();
         gameBuilder.addCustomBot(
@@ -144,10 +163,30 @@ public class GameFactory {
      * @return The newly created game instance.
      */
     public static Game createCustomGame(int numRandomBots, int numSmartBots, int numCustomBots, int numRichardBots, int numBuilderBots, int numOpportunistBots, int numberOfDistrictsNeeded) {
+        return createCustomGame(new Cli(), numRandomBots, numSmartBots, numCustomBots, numRichardBots, numBuilderBots, numOpportunistBots, numberOfDistrictsNeeded, RandomGenerator.of(RandomStreams.DEFAULT_ALGORITHM));
+    }
+
+    /**
+     * Creates a new game instance based on the specified number of bots of each type, displayed by the given view
+     * and played with the given random.
+     *
+     * @param view The view displaying the game, a {@link com.seinksansdoozebank.fr.view.SilentView} for batch simulations.
+     * @param numRandomBots The number of random bots to be added to the game.
+     * @param numSmartBots  The number of smart bots to be added to the game.
+     * @param numCustomBots The number of custom bots to be added to the game.
+     * @param numRichardBots The number of Richard bots to be added to the game.
+     * @param numBuilderBots The number of Builder bots to be added to the game.
+     * @param numOpportunistBots The number of Opportunist bots to be added to the game.
+     * @param numberOfDistrictsNeeded The number of districts needed to win.
+     * @param random The random of the game, the same random always gives the same game.
+     * @return The newly created game instance.
+     */
+    public static Game createCustomGame(IView view, int numRandomBots, int numSmartBots, int numCustomBots, int numRichardBots, int numBuilderBots, int numOpportunistBots, int numberOfDistrictsNeeded, RandomGenerator random) {
         if (numRandomBots + numSmartBots + numCustomBots + numRichardBots + numBuilderBots + numOpportunistBots < Game.NB_PLAYER_MIN || numRandomBots + numSmartBots + numCustomBots + numRichardBots + numBuilderBots + numOpportunistBots > Game.NB_PLAYER_MAX) {
             throw new IllegalArgumentException(NUMBER_OF_PLAYER_BETWEEN);
         }
-        GameBuilder gameBuilder = new GameBuilder(new Cli(), new Deck(), new Bank(), numberOfDistrictsNeeded);
+        SimulationContext context = new SimulationContext(random);
+        GameBuilder gameBuilder = new GameBuilder(context, view, new Deck(context), new Bank(context), numberOfDistrictsNeeded);
         for (int i = 0; i < numRandomBots; i++) {
             gameBuilder.addRandomBot();
         }
@@ -0,0 +1,112 @@
+package com.seinksansdoozebank.fr.controller;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The RandomStreams class derives, from a single seed, one independent random stream for each game of a tournament.
+ * The streams are split (or jumped) from a root generator in the order they are asked for, so a given seed always
+ * gives the same stream to the n-th game, whatever the number of workers playing the games.
+ */
+public class RandomStreams {
+    /**
+     * The algorithm used when none is given, a fast splittable generator
+     */
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    private final String algorithm;
+    private final long seed;
+    private final RandomGeneratorFactory<RandomGenerator> factory;
+    private final RandomGenerator root;
+
+    /**
+     * RandomStreams constructor with a random seed and the default algorithm
+     */
+    public RandomStreams() {
+        this(DEFAULT_ALGORITHM);
+    }
+
+    /**
+     * RandomStreams constructor with a random seed
+     *
+     * @param algorithm the name of the algorithm of the generators (e.g. L64X128MixRandom, Xoshiro256PlusPlus, Random)
+     */
+    public RandomStreams(String algorithm) {
+        this(algorithm, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * RandomStreams constructor
+     *
+     * @param algorithm the name of the algorithm of the generators (e.g. L64X128MixRandom, Xoshiro256PlusPlus, Random)
+     * @param seed      the seed of the tournament
+     * @throws IllegalArgumentException if the algorithm is unknown
+     */
+    public RandomStreams(String algorithm, long seed) {
+        this.algorithm = algorithm;
+        this.seed = seed;
+        this.factory = RandomGeneratorFactory.of(algorithm);
+        this.root = this.factory.create(seed);
+    }
+
+    /**
+     * Get the random stream of the next game.
+     * The stream is split from the root generator if the algorithm is splittable, jumped if it is jumpable,
+     * and seeded from the root generator otherwise.
+     *
+     * @return the random stream of the next game
+     */
+    public synchronized RandomGenerator nextStream() {
+        if (this.root instanceof RandomGenerator.SplittableGenerator splittableGenerator) {
+            return splittableGenerator.split();
+        }
+        if (this.root instanceof RandomGenerator.JumpableGenerator jumpableGenerator) {
+            return jumpableGenerator.copyAndJump();
+        }
+        return this.factory.create(this.root.nextLong());
+    }
+
+    /**
+     * Get the random streams of the next games, in the order of the games
+     *
+     * @param nbStreams the number of streams
+     * @return the random streams of the next games
+     */
+    public synchronized RandomGenerator[] nextStreams(int nbStreams) {
+        RandomGenerator[] streams = new RandomGenerator[nbStreams];
+        for (int i = 0; i < nbStreams; i++) {
+            streams[i] = this.nextStream();
+        }
+        return streams;
+    }
+
+    /**
+     * Create a generator of the algorithm from a seed, outside the streams of the games, so that the same seed
+     * always gives the same generator
+     *
+     * @param generatorSeed the seed of the generator
+     * @return the generator
+     */
+    public RandomGenerator create(long generatorSeed) {
+        return this.factory.create(generatorSeed);
+    }
+
+    /**
+     * Get the name of the algorithm of the generators
+     *
+     * @return the name of the algorithm
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Get the seed of the tournament
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
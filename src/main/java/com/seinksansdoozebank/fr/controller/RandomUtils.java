@@ -0,0 +1,43 @@
+package com.seinksansdoozebank.fr.controller;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Utility methods using the random of a game
+ */
+public class RandomUtils {
+    private RandomUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Shuffle the list with the given random (Fisher-Yates), the same random always gives the same order
+     *
+     * @param list   the list to shuffle
+     * @param random the random of the game
+     */
+    public static void shuffle(List<?> list, RandomGenerator random) {
+        for (int i = list.size() - 1; i >= 1; i--) {
+            Collections.swap(list, i, random.nextInt(i + 1));
+        }
+    }
+
+    /**
+     * Shuffle the first elements of the array with the given random, drawing the same numbers as the shuffle of a
+     * list of the same size
+     *
+     * @param array  the array to shuffle
+     * @param length the number of elements to shuffle, from the start of the array
+     * @param random the random of the game
+     */
+    public static void shuffle(Object[] array, int length, RandomGenerator random) {
+        for (int i = length - 1; i >= 1; i--) {
+            int j = random.nextInt(i + 1);
+            Object element = array[i];
+            array[i] = array[j];
+            array[j] = element;
+        }
+    }
+}
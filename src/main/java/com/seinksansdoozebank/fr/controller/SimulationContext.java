@@ -0,0 +1,176 @@
+package com.seinksansdoozebank.fr.controller;
+
+import com.seinksansdoozebank.fr.view.logger.PlayerColors;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The SimulationContext class holds the state shared by all the objects of a single game:
+ * the allocation of the ids of the players and the cards, the random, the colors of the players in the logs and
+ * the switch of the checks of the actions.
+ * Each game having its own context, several games can be played at the same time in the same process.
+ */
+public class SimulationContext {
+    /**
+     * Context used by the objects created outside a game (e.g. a standalone deck or player), one per thread
+     */
+    private static final ThreadLocal<SimulationContext> DEFAULT_CONTEXT = ThreadLocal.withInitial(SimulationContext::new);
+
+    private RandomGenerator random;
+    /**
+     * The random of the deal (the shuffles of the deck and of the characters), null to use the random of the game
+     */
+    private RandomGenerator dealRandom;
+    private PlayerColors playerColors;
+    private int nextPlayerId;
+    private int nextCardId;
+    /**
+     * True if the actions are checked before being applied, so that a wrong action of a bot is reported by an
+     * exception. The checks can be turned off for the batch runs of the statistics, where the bots are trusted.
+     * The tryApply forms of the actions always check, whatever the switch.
+     */
+    private boolean actionValidationEnabled = true;
+
+    /**
+     * SimulationContext constructor
+     */
+    public SimulationContext() {
+        this(RandomGeneratorFactory.of(RandomStreams.DEFAULT_ALGORITHM).create());
+    }
+
+    /**
+     * SimulationContext constructor
+     *
+     * @param random the random used by the game, the same random always gives the same game
+     */
+    public SimulationContext(RandomGenerator random) {
+        this.random = random;
+        this.playerColors = new PlayerColors(new SplittableRandom(random.nextLong()));
+        this.nextPlayerId = 1;
+        this.nextCardId = 1;
+    }
+
+    /**
+     * Give a new random to the game of the context, as if the context had been created with it.
+     * The ids already given are kept.
+     *
+     * @param random the new random of the game
+     */
+    public void reset(RandomGenerator random) {
+        this.reset(random, null);
+    }
+
+    /**
+     * Give a new random to the game of the context and another one to its deal, so that the same deal can be
+     * played again while the players take other decisions.
+     * The ids already given are kept.
+     *
+     * @param random     the new random of the game
+     * @param dealRandom the random shuffling the deck and the characters, null to use the random of the game
+     */
+    public void reset(RandomGenerator random, RandomGenerator dealRandom) {
+        this.random = random;
+        this.dealRandom = dealRandom;
+        this.playerColors = new PlayerColors(new SplittableRandom(random.nextLong()));
+    }
+
+    /**
+     * Get the context used by the objects created outside a game on the current thread
+     *
+     * @return the default context of the current thread
+     */
+    public static SimulationContext getDefault() {
+        return DEFAULT_CONTEXT.get();
+    }
+
+    /**
+     * Allocate the id of a new player
+     *
+     * @return the id of the player
+     */
+    public int nextPlayerId() {
+        return this.nextPlayerId++;
+    }
+
+    /**
+     * Allocate the id of a new card
+     *
+     * @return the id of the card
+     */
+    public int nextCardId() {
+        return this.nextCardId++;
+    }
+
+    /**
+     * Allocate the ids of several cards at once
+     *
+     * @param nbCards the number of cards
+     * @return the id of the first card, the ids of the others follow
+     */
+    public int nextCardIds(int nbCards) {
+        int firstId = this.nextCardId;
+        this.nextCardId += nbCards;
+        return firstId;
+    }
+
+    /**
+     * Reset the ids of the players so that the next player created gets the id 1
+     */
+    public void resetPlayerIds() {
+        this.nextPlayerId = 1;
+    }
+
+    /**
+     * Reset the ids of the cards so that the next card created gets the id 1
+     */
+    public void resetCardIds() {
+        this.nextCardId = 1;
+    }
+
+    /**
+     * Get the random of the game
+     *
+     * @return the random
+     */
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    /**
+     * Get the random shuffling the deck and the characters, which is the random of the game unless a deal was given
+     *
+     * @return the random of the deal
+     */
+    public RandomGenerator getDealRandom() {
+        return dealRandom == null ? random : dealRandom;
+    }
+
+    /**
+     * Check if the actions of the game are checked before being applied
+     *
+     * @return true if the checks are on, false otherwise
+     */
+    public boolean isActionValidationEnabled() {
+        return actionValidationEnabled;
+    }
+
+    /**
+     * Turn the checks of the actions of the game on or off, the switch is kept when the context is reset
+     *
+     * @param actionValidationEnabled true to check the actions before applying them
+     */
+    public void setActionValidationEnabled(boolean actionValidationEnabled) {
+        this.actionValidationEnabled = actionValidationEnabled;
+    }
+
+    /**
+     * Get the colors of the players in the logs
+     *
+     * @return the colors of the players
+     */
+    public PlayerColors getPlayerColors() {
+        return playerColors;
+    }
+}
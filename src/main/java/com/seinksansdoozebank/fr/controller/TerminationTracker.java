@@ -0,0 +1,141 @@
+package com.seinksansdoozebank.fr.controller;
+
+import com.seinksansdoozebank.fr.model.cards.Hand;
+import com.seinksansdoozebank.fr.model.player.IPlayerListener;
+import com.seinksansdoozebank.fr.model.player.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The TerminationTracker class keeps the conditions ending a game up to date as the players change:
+ * the players having a complete citadel and the number of cards each player can build with its gold.
+ * The game can then check at each round if it is finished or stuck without looking at every hand and citadel.
+ */
+public class TerminationTracker implements IPlayerListener {
+    private final List<Player> trackedPlayers;
+    private final Map<Player, Integer> nbPlayableCards;
+    private final Set<Player> playersWithCompleteCitadel;
+    private int nbPlayersWhoCanPlay;
+    private int numberOfDistrictsNeeded;
+
+    /**
+     * TerminationTracker constructor
+     *
+     * @param numberOfDistrictsNeeded the number of districts needed to complete a citadel
+     */
+    public TerminationTracker(int numberOfDistrictsNeeded) {
+        this.trackedPlayers = new ArrayList<>();
+        this.nbPlayableCards = new HashMap<>();
+        this.playersWithCompleteCitadel = new HashSet<>();
+        this.numberOfDistrictsNeeded = numberOfDistrictsNeeded;
+    }
+
+    /**
+     * Start listening to the players, forgetting the players tracked before
+     *
+     * @param players the players of the game
+     */
+    public void track(List<Player> players) {
+        this.trackedPlayers.clear();
+        this.trackedPlayers.addAll(players);
+        this.nbPlayableCards.clear();
+        this.playersWithCompleteCitadel.clear();
+        this.nbPlayersWhoCanPlay = 0;
+        for (Player player : players) {
+            player.addPlayerListener(this);
+            this.nbPlayableCards.put(player, 0);
+            this.onCitadelChanged(player);
+        }
+    }
+
+    /**
+     * Set the number of districts needed to complete a citadel
+     *
+     * @param numberOfDistrictsNeeded the number of districts needed to complete a citadel
+     */
+    public void setNumberOfDistrictsNeeded(int numberOfDistrictsNeeded) {
+        this.numberOfDistrictsNeeded = numberOfDistrictsNeeded;
+        this.playersWithCompleteCitadel.clear();
+        for (Player player : this.trackedPlayers) {
+            this.updateCompleteCitadel(player);
+        }
+    }
+
+    @Override
+    public void onCitadelChanged(Player player) {
+        if (!this.nbPlayableCards.containsKey(player)) {
+            return;
+        }
+        this.updateCompleteCitadel(player);
+        this.updatePlayableCards(player);
+    }
+
+    @Override
+    public void onResourcesChanged(Player player) {
+        if (!this.nbPlayableCards.containsKey(player)) {
+            return;
+        }
+        this.updatePlayableCards(player);
+    }
+
+    /**
+     * Update whether the citadel of the player is complete
+     *
+     * @param player the player
+     */
+    private void updateCompleteCitadel(Player player) {
+        if (player.getCitadel().size() >= this.numberOfDistrictsNeeded) {
+            this.playersWithCompleteCitadel.add(player);
+        } else {
+            this.playersWithCompleteCitadel.remove(player);
+        }
+    }
+
+    /**
+     * Update the number of cards of the hand of the player that the player can build, read from the counts the hand
+     * keeps by cost and by district as its cards come and go
+     *
+     * @param player the player
+     */
+    private void updatePlayableCards(Player player) {
+        int nbCards = Hand.of(player.getHand()).getNbPlayableCards(player.getNbGold(), player.getBuiltDistricts());
+        Integer previousNbCards = this.nbPlayableCards.put(player, nbCards);
+        boolean couldPlay = previousNbCards != null && previousNbCards > 0;
+        if (couldPlay != nbCards > 0) {
+            this.nbPlayersWhoCanPlay += nbCards > 0 ? 1 : -1;
+        }
+    }
+
+    /**
+     * Get the number of cards of the hand of the player that the player can build
+     *
+     * @param player the player
+     * @return the number of cards the player can build
+     */
+    public int getNbPlayableCards(Player player) {
+        return this.nbPlayableCards.getOrDefault(player, 0);
+    }
+
+    /**
+     * Check if a player can build one of the cards of its hand
+     *
+     * @return true if a player can build a card, false otherwise
+     */
+    public boolean aPlayerCanPlay() {
+        return this.nbPlayersWhoCanPlay > 0;
+    }
+
+    /**
+     * Check if a player has a complete citadel
+     *
+     * @return true if a player has a complete citadel, false otherwise
+     */
+    public boolean aCitadelIsComplete() {
+        return !this.playersWithCompleteCitadel.isEmpty();
+    }
+}
@@ -1,7 +1,11 @@
 package com.seinksansdoozebank.fr.jcommander;
 
 import com.beust.jcommander.Parameter;
+import com.beust.jcommander.validators.PositiveInteger;
+import com.seinksansdoozebank.fr.controller.RandomStreams;
+import com.seinksansdoozebank.fr.jcommander.validator.PrecisionValidator;
 import com.seinksansdoozebank.fr.jcommander.validator.QuickValueValidator;
+import com.seinksansdoozebank.fr.jcommander.validator.RandomAlgorithmValidator;
 
 // Class to hold command-line parameters
 public class CommandLineArgs {
@@ -20,6 +24,29 @@ public class CommandLineArgs {
     @Parameter(names= "--variante", description="Enable King To Have Crown whereas he is dead")
     private boolean isVariante;
 
+    @Parameter(names = "--threads", description = "Number of workers used to play the games of the statistics in parallel", validateWith = PositiveInteger.class)
+    private int nbThreads = Runtime.getRuntime().availableProcessors();
+
+    @Parameter(names = "--benchmark", description = "Measure the games per second of the Cli view (logger OFF) and of the silent view on the given number of games", validateWith = PositiveInteger.class)
+    private Integer benchmarkNbGames;
+
+    @Parameter(names = "--seed", description = "Seed of the games, the same seed replays the same games")
+    private Long seed;
+
+    @Parameter(names = "--rng", description = "Random generator algorithm (e.g. L64X128MixRandom, Xoshiro256PlusPlus, Random)", validateWith = RandomAlgorithmValidator.class)
+    private String randomAlgorithm = RandomStreams.DEFAULT_ALGORITHM;
+    @Parameter(names = "--no-checks", description = "Skip the checks of the actions of the bots, for the batch runs")
+    private boolean isNoChecks;
+
+    @Parameter(names = "--precision", description = "Stop the 2thousands games once the win rate of every bot is known within the given margin (e.g. 0.02) or the bots are ranked for sure", validateWith = PrecisionValidator.class)
+    private Double precision;
+
+    @Parameter(names = "--duplicate", description = "Play each deal of the 2thousands games once for each rotation of the seats")
+    private boolean isDuplicate;
+
+    @Parameter(names = "--ab-variante", description = "Compare the variante with the standard rules on pairs of games sharing their random")
+    private boolean isAbVariante;
+
     // Getter methods if needed
     public boolean is2Thousands() {
         return is2Thousands;
@@ -38,4 +65,36 @@ public class CommandLineArgs {
     }
 
     public boolean isVariante(){return isVariante;}
-}
\ No newline at end of file
+
+    public int getNbThreads() {
+        return nbThreads;
+    }
+
+    public Integer getBenchmarkNbGames() {
+        return benchmarkNbGames;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public String getRandomAlgorithm() {
+        return randomAlgorithm;
+    }
+
+    public boolean isNoChecks() {
+        return isNoChecks;
+    }
+
+    public Double getPrecision() {
+        return precision;
+    }
+
+    public boolean isDuplicate() {
+        return isDuplicate;
+    }
+
+    public boolean isAbVariante() {
+        return isAbVariante;
+    }
+}
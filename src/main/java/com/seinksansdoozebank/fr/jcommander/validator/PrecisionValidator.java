@@ -0,0 +1,19 @@
+package com.seinksansdoozebank.fr.jcommander.validator;
+
+import com.beust.jcommander.IParameterValidator;
+import com.beust.jcommander.ParameterException;
+
+public class PrecisionValidator implements IParameterValidator {
+
+    @Override
+    public void validate(String name, String value) throws ParameterException {
+        try {
+            double doubleValue = Double.parseDouble(value);
+            if (doubleValue <= 0 || doubleValue >= 1) {
+                throw new ParameterException("Value for " + name + " must be between 0 and 1 excluded");
+            }
+        } catch (NumberFormatException e) {
+            throw new ParameterException("Invalid value for " + name + ": " + value);
+        }
+    }
+}
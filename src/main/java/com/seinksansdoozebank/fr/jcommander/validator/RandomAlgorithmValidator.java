@@ -0,0 +1,18 @@
+package com.seinksansdoozebank.fr.jcommander.validator;
+
+import com.beust.jcommander.IParameterValidator;
+import com.beust.jcommander.ParameterException;
+
+import java.util.random.RandomGeneratorFactory;
+
+public class RandomAlgorithmValidator implements IParameterValidator {
+
+    @Override
+    public void validate(String name, String value) throws ParameterException {
+        try {
+            RandomGeneratorFactory.of(value);
+        } catch (IllegalArgumentException e) {
+            throw new ParameterException("Unknown random algorithm for " + name + ": " + value);
+        }
+    }
+}
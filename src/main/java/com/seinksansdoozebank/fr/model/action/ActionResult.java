@@ -0,0 +1,62 @@
+package com.seinksansdoozebank.fr.model.action;
+
+/**
+ * The ActionResult enum tells if an action of a player can be done, and why not if it can't.
+ * The bots can check an action and get the reason of the refusal without an exception being thrown.
+ */
+public enum ActionResult {
+    OK("The action can be done", false),
+    NO_TARGET("The player must choose a target", false),
+    TARGET_IS_SELF("The character cannot target himself", false),
+    TARGET_IS_PROTECTED("The character cannot be targeted", false),
+    TARGET_IS_DEAD("This character is already dead", true),
+    NOT_ENOUGH_GOLD("The player doesn't have enough gold", false),
+    DISTRICT_IS_PROTECTED("The district cannot be destroyed", false),
+    DISTRICT_NOT_IN_CITADEL("The player doesn't have the district to destroy", false),
+    CITADEL_IS_COMPLETE("The district of a complete citadel cannot be destroyed", false),
+    CARD_NOT_IN_HAND("The player doesn't have the card to discard", false),
+    INVALID_NUMBER_OF_CARDS("The number of cards must be positive and at most the number of districts the player can build", false),
+    BANK_IS_FULL("The bank would have more than 30 coins", true);
+
+    private final String message;
+    private final boolean stateError;
+
+    ActionResult(String message, boolean stateError) {
+        this.message = message;
+        this.stateError = stateError;
+    }
+
+    /**
+     * Check if the action can be done
+     *
+     * @return true if the result is OK, false otherwise
+     */
+    public boolean isSuccess() {
+        return this == OK;
+    }
+
+    /**
+     * Get the reason of the result
+     *
+     * @return the message of the result
+     */
+    public String getMessage() {
+        return this.message;
+    }
+
+    /**
+     * Throw the exception matching the result if the action can't be done
+     *
+     * @throws IllegalStateException    if the game is not in a state allowing the action
+     * @throws IllegalArgumentException if the action was asked with wrong arguments
+     */
+    public void throwIfFailed() {
+        if (this.isSuccess()) {
+            return;
+        }
+        if (this.stateError) {
+            throw new IllegalStateException(this.message);
+        }
+        throw new IllegalArgumentException(this.message);
+    }
+}
@@ -1,5 +1,8 @@
 package com.seinksansdoozebank.fr.model.bank;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
+import com.seinksansdoozebank.fr.model.action.ActionResult;
+
 /**
  * The bank ensure that there is only 30 coins in the game.
  */
@@ -17,11 +20,29 @@ public class Bank {
      * The number of coin that still available to pick in the bank
      */
     private int nbOfAvailableCoins;
+    private final SimulationContext context;
 
     /**
-     * Bank constructor
+     * Bank constructor, in the context of the current thread
      */
     public Bank() {
+        this(SimulationContext.getDefault());
+    }
+
+    /**
+     * Bank constructor
+     *
+     * @param context the context of the game of the bank
+     */
+    public Bank(SimulationContext context) {
+        this.nbOfAvailableCoins = MAX_COIN;
+        this.context = context;
+    }
+
+    /**
+     * Put back all the coins in the bank, as at the beginning of a game
+     */
+    public void reset() {
         this.nbOfAvailableCoins = MAX_COIN;
     }
 
@@ -71,12 +92,37 @@ public class Bank {
      * Retrieve a specific number of coin to the bank
      *
      * @param nbOfCoin the number of coin to retrieve
+     * @throws IllegalStateException if the bank would have more than 30 coins
      */
     public void retrieveCoin(int nbOfCoin) {
+        if (this.context.isActionValidationEnabled()) {
+            canRetrieveCoin(nbOfCoin).throwIfFailed();
+        }
         nbOfAvailableCoins += nbOfCoin;
-        if (nbOfAvailableCoins > MAX_COIN) {
-            throw new IllegalStateException("The bank has more than 30 coins");
+    }
+
+    /**
+     * Check if the bank can retrieve a specific number of coin
+     *
+     * @param nbOfCoin the number of coin to retrieve
+     * @return OK if the bank can take the coins back, BANK_IS_FULL otherwise
+     */
+    public ActionResult canRetrieveCoin(int nbOfCoin) {
+        return nbOfAvailableCoins + nbOfCoin > MAX_COIN ? ActionResult.BANK_IS_FULL : ActionResult.OK;
+    }
+
+    /**
+     * Retrieve a specific number of coin to the bank if it can, without throwing any exception
+     *
+     * @param nbOfCoin the number of coin to retrieve
+     * @return OK if the coins have been retrieved, BANK_IS_FULL otherwise
+     */
+    public ActionResult tryRetrieveCoin(int nbOfCoin) {
+        ActionResult result = canRetrieveCoin(nbOfCoin);
+        if (result.isSuccess()) {
+            nbOfAvailableCoins += nbOfCoin;
         }
+        return result;
     }
 
 }
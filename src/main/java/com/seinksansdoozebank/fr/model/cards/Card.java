@@ -1,11 +1,12 @@
 package com.seinksansdoozebank.fr.model.cards;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
+
 /**
  * Represents a card (for a district)
  */
 public class Card {
     private final District district;
-    private static int counter = 1;
     /**
      * The id of the card
      */
@@ -17,16 +18,36 @@ public class Card {
      * @param district from class District
      */
     public Card(District district) {
+        this(district, SimulationContext.getDefault());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param district from class District
+     * @param context  the context of the game giving the id of the card
+     */
+    public Card(District district, SimulationContext context) {
+        this.district = district;
+        this.id = context.nextCardId();
+    }
+
+    /**
+     * Constructor of a card with an id already allocated, used for the cards shared by all the decks
+     *
+     * @param district from class District
+     * @param id       the id of the card
+     */
+    Card(District district, int id) {
         this.district = district;
-        this.id = counter;
-        counter++;
+        this.id = id;
     }
 
     /**
-     * Reset the counter of the id
+     * Reset the counter of the id of the cards created outside a game
      */
     public static void resetCounterId() {
-        counter = 1;
+        SimulationContext.getDefault().resetCardIds();
     }
 
     /**
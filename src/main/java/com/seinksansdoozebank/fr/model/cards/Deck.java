@@ -1,50 +1,103 @@
 package com.seinksansdoozebank.fr.model.cards;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
+
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
- * The Deck class represents the deck of cards
+ * The Deck class represents the deck of cards.
+ * The cards are kept in a circular array, from the bottom of the deck to its top, so that a card is picked from the
+ * top and discarded under the bottom without moving the other cards.
  */
 public class Deck {
-    private final List<Card> cardsList;
-    private final Random random;
+    /**
+     * All the cards of a deck in their initial order. The cards are immutable and numbered from 1 in every game,
+     * so they are shared by all the decks instead of being created again for each game.
+     */
+    private static final Card[] TEMPLATE = createTemplate();
+    private Card[] cards;
+    /**
+     * Index of the bottom of the deck in the circular array
+     */
+    private int bottom;
+    private int size;
+    private final SimulationContext context;
 
     /**
      * Constructor which implements a new deck of 65 cards of district
      */
     public Deck() {
-        this.cardsList = new ArrayList<>();
-        random = new Random();
+        this(SimulationContext.getDefault());
+    }
+
+    /**
+     * Constructor which implements a new deck of 65 cards of district for the game of the given context
+     *
+     * @param context the context of the game giving the ids of the cards and the random used to shuffle them
+     */
+    public Deck(SimulationContext context) {
+        this.cards = new Card[TEMPLATE.length];
+        this.context = context;
         fillDeck();
     }
 
     /**
-     * We created the deck of 65 cards and then we shuffle it
+     * Create the 65 cards of a deck, in the order of the districts
+     *
+     * @return the cards of a deck
      */
-    private void fillDeck() {
-        Card.resetCounterId();
+    private static Card[] createTemplate() {
+        List<Card> allCards = new ArrayList<>();
         for (District district : District.values()) {
             //We take the ordinal which corresponds to a district and take the number of appearances
             int numberOfAppearance = district.getNumberOfAppearance();
             for (int j = 0; j < numberOfAppearance; j++) {
-                //We add to the list the right number of the district called
-                this.cardsList.add(new Card(district));
+                //We add to the list the right number of the district called, the ids start at 1 as in a new game
+                allCards.add(new Card(district, allCards.size() + 1));
             }
         }
+        return allCards.toArray(new Card[0]);
+    }
+
+    /**
+     * We take the ids of the 65 cards in the context of the game and then we shuffle the deck
+     */
+    private void fillDeck() {
+        this.context.resetCardIds();
+        this.context.nextCardIds(TEMPLATE.length);
+        reset();
+    }
+
+    /**
+     * Put back all the cards in the deck in their initial order and shuffle them with the random of the game.
+     * The cards are reused, so a reset deck is the same as a new deck created with the same random.
+     */
+    public void reset() {
+        if (this.cards.length != TEMPLATE.length) {
+            this.cards = new Card[TEMPLATE.length];
+        }
+        System.arraycopy(TEMPLATE, 0, this.cards, 0, TEMPLATE.length);
+        this.bottom = 0;
+        this.size = TEMPLATE.length;
         shuffle();
     }
 
     /**
-     * @return the last element of cardsList and we remove it
+     * @return the card on the top of the deck, which is removed from the deck
      */
     public Optional<Card> pick() {
-        //On vérifie que la liste n'est pas vide
-        if (cardsList.isEmpty()) {
+        //On vérifie que le paquet n'est pas vide
+        if (this.size == 0) {
             //On renvoie un Optional vide
             return Optional.empty();
         }
-        //On renvoie la dernière carte district du paquet et on l'enlève du paquet.
-        return Optional.of(cardsList.remove(cardsList.size() - 1));
+        //On renvoie la carte district du dessus du paquet et on l'enlève du paquet.
+        this.size--;
+        int top = this.indexOf(this.size);
+        Card card = this.cards[top];
+        this.cards[top] = null;
+        return Optional.of(card);
     }
 
     /**
@@ -53,30 +106,90 @@ public class Deck {
      * @param cardToDiscard the card to discard
      */
     public void discard(Card cardToDiscard) {
-        this.cardsList.add(0, cardToDiscard);
+        if (this.size == this.cards.length) {
+            this.grow();
+        }
+        this.bottom = (this.bottom - 1 + this.cards.length) % this.cards.length;
+        this.cards[this.bottom] = cardToDiscard;
+        this.size++;
     }
 
+    /**
+     * Make room for cards which do not come from the deck
+     */
+    private void grow() {
+        Card[] grownCards = new Card[this.cards.length * 2];
+        for (int i = 0; i < this.size; i++) {
+            grownCards[i] = this.cards[this.indexOf(i)];
+        }
+        this.cards = grownCards;
+        this.bottom = 0;
+    }
 
     /**
-     * The method shuffle takes the list of cards and shuffles it
+     * Get the index in the circular array of a card of the deck
+     *
+     * @param position the position of the card in the deck, 0 being the bottom of the deck
+     * @return the index of the card in the array
+     */
+    private int indexOf(int position) {
+        return (this.bottom + position) % this.cards.length;
+    }
+
+    /**
+     * The method shuffle takes the cards of the deck and shuffles them
      */
     protected void shuffle() {
+        RandomGenerator random = this.context.getDealRandom();
         //On commence par la dernière carte du paquet
-        for (int i = cardsList.size() - 1; i >= 1; i--) {
+        for (int i = this.size - 1; i >= 1; i--) {
             //on choisit un index au hasard parmi les autres éléments, cet index pourra prendre sa valeur entre 0 et i
             int j = random.nextInt(i + 1);
             //On échange l'élément à la i-ème place avec celui à la j-ème place
-            Collections.swap(cardsList, i, j);
+            int indexI = this.indexOf(i);
+            int indexJ = this.indexOf(j);
+            Card card = this.cards[indexI];
+            this.cards[indexI] = this.cards[indexJ];
+            this.cards[indexJ] = card;
         }
     }
 
+    /**
+     * Get the number of cards in the deck
+     *
+     * @return the number of cards
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Check if there is no card left in the deck
+     *
+     * @return true if the deck is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
     /**
      * getter
      *
-     * @return the list of cards
+     * @return a read-only view of the cards, from the bottom of the deck to its top
      */
     public List<Card> getDeck() {
-        return cardsList;
+        return new AbstractList<>() {
+            @Override
+            public Card get(int position) {
+                Objects.checkIndex(position, Deck.this.size);
+                return Deck.this.cards[Deck.this.indexOf(position)];
+            }
+
+            @Override
+            public int size() {
+                return Deck.this.size;
+            }
+        };
     }
 
 }
@@ -0,0 +1,319 @@
+package com.seinksansdoozebank.fr.model.cards;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The Hand class represents the cards in the hand of a player.
+ * It is a list of cards which also counts its cards by cost and by district, so that the questions asked by the
+ * players about the cost of their hand are answered without going through all the cards.
+ * The districts are identified by a bitmask, one bit per district, as in the citadel of the players.
+ */
+public class Hand extends AbstractList<Card> {
+    private static final District[] DISTRICTS = District.values();
+    private static final int MAX_COST = computeMaxCost();
+    /**
+     * The districts of each cost
+     */
+    private static final long[] DISTRICTS_OF_COST = new long[MAX_COST + 1];
+    /**
+     * The districts of each type
+     */
+    private static final long[] DISTRICTS_OF_TYPE = new long[DistrictType.values().length];
+
+    static {
+        for (District district : DISTRICTS) {
+            DISTRICTS_OF_COST[district.getCost()] |= 1L << district.ordinal();
+            DISTRICTS_OF_TYPE[district.getDistrictType().ordinal()] |= 1L << district.ordinal();
+        }
+    }
+
+    private final List<Card> cards;
+    private final int[] nbCardsOfCost;
+    private final int[] nbCardsOfDistrict;
+    private long districts;
+
+    /**
+     * Hand constructor, the hand is empty
+     */
+    public Hand() {
+        this.cards = new ArrayList<>();
+        this.nbCardsOfCost = new int[MAX_COST + 1];
+        this.nbCardsOfDistrict = new int[DISTRICTS.length];
+        this.districts = 0L;
+    }
+
+    /**
+     * Hand constructor
+     *
+     * @param cards the cards of the hand
+     */
+    public Hand(Collection<Card> cards) {
+        this();
+        this.addAll(cards);
+    }
+
+    /**
+     * Get the cost of the most expensive district
+     *
+     * @return the maximum cost of a district
+     */
+    private static int computeMaxCost() {
+        int maxCost = 0;
+        for (District district : DISTRICTS) {
+            maxCost = Math.max(maxCost, district.getCost());
+        }
+        return maxCost;
+    }
+
+    /**
+     * Get the given cards as a hand, the cards are only copied if they are not already a hand
+     *
+     * @param cards the cards
+     * @return the hand of the cards
+     */
+    public static Hand of(List<Card> cards) {
+        if (cards instanceof Hand hand) {
+            return hand;
+        }
+        return new Hand(cards);
+    }
+
+    @Override
+    public Card get(int index) {
+        return this.cards.get(index);
+    }
+
+    @Override
+    public int size() {
+        return this.cards.size();
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        this.cards.add(index, card);
+        this.count(card, 1);
+        this.modCount++;
+    }
+
+    @Override
+    public Card remove(int index) {
+        Card card = this.cards.remove(index);
+        this.count(card, -1);
+        this.modCount++;
+        return card;
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        // the district of the card is checked first, so that a card which is not in the hand is not searched for
+        if (!(object instanceof Card card) || this.nbCardsOfDistrict[card.getDistrict().ordinal()] == 0) {
+            return false;
+        }
+        return super.remove(object);
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        Card replacedCard = this.cards.set(index, card);
+        this.count(replacedCard, -1);
+        this.count(card, 1);
+        return replacedCard;
+    }
+
+    @Override
+    public void clear() {
+        this.cards.clear();
+        Arrays.fill(this.nbCardsOfCost, 0);
+        Arrays.fill(this.nbCardsOfDistrict, 0);
+        this.districts = 0L;
+        this.modCount++;
+    }
+
+    /**
+     * Update the counts of the hand when a card is added or removed
+     *
+     * @param card  the card
+     * @param delta 1 if the card is added, -1 if it is removed
+     */
+    private void count(Card card, int delta) {
+        District district = card.getDistrict();
+        this.nbCardsOfCost[district.getCost()] += delta;
+        int nbCards = this.nbCardsOfDistrict[district.ordinal()] += delta;
+        if (nbCards == 0) {
+            this.districts &= ~(1L << district.ordinal());
+        } else {
+            this.districts |= 1L << district.ordinal();
+        }
+    }
+
+    /**
+     * Get the bitmask of the districts of the given type
+     *
+     * @param districtType the type of district
+     * @return the bitmask of the districts of this type
+     */
+    public static long districtsOfType(DistrictType districtType) {
+        return DISTRICTS_OF_TYPE[districtType.ordinal()];
+    }
+
+    /**
+     * Get the number of cards of the district in the hand
+     *
+     * @param district the district
+     * @return the number of cards of the district
+     */
+    public int getNbCardsOfDistrict(District district) {
+        return this.nbCardsOfDistrict[district.ordinal()];
+    }
+
+    /**
+     * Check if there is a card which costs at most the given gold and whose district is not excluded
+     *
+     * @param gold              the gold available
+     * @param excludedDistricts the bitmask of the districts which can't be played (e.g. the districts already built)
+     * @return true if such a card is in the hand, false otherwise
+     */
+    public boolean hasPlayableCard(int gold, long excludedDistricts) {
+        long playableDistricts = this.districts & ~excludedDistricts;
+        for (int cost = 1; cost <= Math.min(gold, MAX_COST); cost++) {
+            if ((playableDistricts & DISTRICTS_OF_COST[cost]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of cards which cost at most the given gold and whose district is not excluded, read from the
+     * counts of the hand
+     *
+     * @param gold              the gold available
+     * @param excludedDistricts the bitmask of the districts which can't be played (e.g. the districts already built)
+     * @return the number of playable cards
+     */
+    public int getNbPlayableCards(int gold, long excludedDistricts) {
+        int maxPlayableCost = Math.min(gold, MAX_COST);
+        int nbCards = 0;
+        for (int cost = 0; cost <= maxPlayableCost; cost++) {
+            nbCards += this.nbCardsOfCost[cost];
+        }
+        long excludedDistrictsInHand = this.districts & excludedDistricts;
+        while (excludedDistrictsInHand != 0) {
+            int ordinal = Long.numberOfTrailingZeros(excludedDistrictsInHand);
+            excludedDistrictsInHand &= excludedDistrictsInHand - 1;
+            if (DISTRICTS[ordinal].getCost() <= maxPlayableCost) {
+                nbCards -= this.nbCardsOfDistrict[ordinal];
+            }
+        }
+        return nbCards;
+    }
+
+    /**
+     * Get the cheapest card whose district is not excluded, the first one in the hand if several cards have this cost
+     *
+     * @param excludedDistricts the bitmask of the districts which can't be played (e.g. the districts already built)
+     * @return the cheapest card, empty if there is none
+     */
+    public Optional<Card> getCheapestCard(long excludedDistricts) {
+        long playableDistricts = this.districts & ~excludedDistricts;
+        for (int cost = 1; cost <= MAX_COST; cost++) {
+            if ((playableDistricts & DISTRICTS_OF_COST[cost]) != 0) {
+                return Optional.of(this.findCard(playableDistricts & DISTRICTS_OF_COST[cost]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get the most expensive card whose district is not excluded, the first one in the hand if several cards have this cost
+     *
+     * @param excludedDistricts the bitmask of the districts which can't be played (e.g. the districts already built)
+     * @return the most expensive card, empty if there is none
+     */
+    public Optional<Card> getMostExpensiveCard(long excludedDistricts) {
+        long playableDistricts = this.districts & ~excludedDistricts;
+        for (int cost = MAX_COST; cost >= 1; cost--) {
+            if ((playableDistricts & DISTRICTS_OF_COST[cost]) != 0) {
+                return Optional.of(this.findCard(playableDistricts & DISTRICTS_OF_COST[cost]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get the playable card whose cost is the closest to the given cost, the first one in the hand if several cards
+     * are as close
+     *
+     * @param cost              the cost wanted
+     * @param gold              the gold available
+     * @param excludedDistricts the bitmask of the districts which can't be played (e.g. the districts already built)
+     * @return the card, empty if no card costs at most the gold available
+     */
+    public Optional<Card> getCardWithCostClosestTo(int cost, int gold, long excludedDistricts) {
+        long playableDistricts = this.districts & ~excludedDistricts;
+        int maxPlayableCost = Math.min(gold, MAX_COST);
+        for (int distance = 0; distance <= MAX_COST; distance++) {
+            long closeDistricts = 0L;
+            if (cost - distance >= 1 && cost - distance <= maxPlayableCost) {
+                closeDistricts |= DISTRICTS_OF_COST[cost - distance];
+            }
+            if (cost + distance >= 1 && cost + distance <= maxPlayableCost) {
+                closeDistricts |= DISTRICTS_OF_COST[cost + distance];
+            }
+            if ((playableDistricts & closeDistricts) != 0) {
+                return Optional.of(this.findCard(playableDistricts & closeDistricts));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get the first card of the hand whose district is one of the given districts
+     *
+     * @param districts the bitmask of the districts
+     * @return the card
+     */
+    private Card findCard(long districts) {
+        for (Card card : this.cards) {
+            if ((districts & (1L << card.getDistrict().ordinal())) != 0) {
+                return card;
+            }
+        }
+        throw new IllegalStateException("The counts of the hand do not match its cards");
+    }
+
+    /**
+     * Get the total cost of the cheapest cards of the hand
+     *
+     * @param nbCards the number of cards
+     * @return the sum of the costs of the nbCards cheapest cards, or of all the cards if there are less cards
+     */
+    public int getCostOfCheapestCards(int nbCards) {
+        int remainingCards = nbCards;
+        int totalCost = 0;
+        for (int cost = 1; cost <= MAX_COST && remainingCards > 0; cost++) {
+            int nbCardsTaken = Math.min(remainingCards, this.nbCardsOfCost[cost]);
+            totalCost += nbCardsTaken * cost;
+            remainingCards -= nbCardsTaken;
+        }
+        return totalCost;
+    }
+
+    /**
+     * Get the total cost of the cards of the hand
+     *
+     * @return the sum of the costs of the cards
+     */
+    public int getTotalCost() {
+        int totalCost = 0;
+        for (int cost = 1; cost <= MAX_COST; cost++) {
+            totalCost += this.nbCardsOfCost[cost] * cost;
+        }
+        return totalCost;
+    }
+}
@@ -0,0 +1,46 @@
+package com.seinksansdoozebank.fr.model.character;
+
+import com.seinksansdoozebank.fr.model.character.abstracts.Character;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.Bishop;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.King;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.Merchant;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.Warlord;
+import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.specialscharacters.Architect;
+import com.seinksansdoozebank.fr.model.character.specialscharacters.Assassin;
+import com.seinksansdoozebank.fr.model.character.specialscharacters.Magician;
+import com.seinksansdoozebank.fr.model.character.specialscharacters.Thief;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The characters of the game, one shared instance per role.
+ * The characters are immutable, their state during a round is kept in a
+ * {@link com.seinksansdoozebank.fr.model.character.roles.RoleStateTable}.
+ */
+public class Characters {
+    private static final Map<Role, Character> CHARACTERS = new EnumMap<>(Map.of(
+            Role.ASSASSIN, new Assassin(),
+            Role.THIEF, new Thief(),
+            Role.MAGICIAN, new Magician(),
+            Role.KING, new King(),
+            Role.BISHOP, new Bishop(),
+            Role.MERCHANT, new Merchant(),
+            Role.ARCHITECT, new Architect(),
+            Role.WARLORD, new Warlord()));
+
+    private Characters() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Get the character of the role
+     *
+     * @param role the role
+     * @return the shared instance of the character
+     */
+    public static Character of(Role role) {
+        return CHARACTERS.get(role);
+    }
+}
@@ -5,13 +5,12 @@ import com.seinksansdoozebank.fr.model.character.roles.Role;
 import com.seinksansdoozebank.fr.model.player.Player;
 
 /**
- * Represents a character in the game
+ * Represents a character in the game.
+ * A character is immutable, the state of the character during a round (its player, if it is dead, robbed or revealed)
+ * is kept in the {@link com.seinksansdoozebank.fr.model.character.roles.RoleStateTable} of the round.
  */
 public abstract class Character {
-    private Player player;
     private final Role role;
-    private boolean isDead;
-    private Player savedThief ;
 
     /**
      * Character constructor
@@ -19,27 +18,9 @@ public abstract class Character {
      * @param role the role of the character
      */
     protected Character(Role role) {
-        this.isDead = false;
         this.role = role;
     }
 
-    /**
-     * Set the player of the character
-     *
-     * @param player the player to set
-     */
-    public void setPlayer(Player player) {
-        this.player = player;
-    }
-
-    /**
-     * Get the player of the character
-     * @return the player of the character
-     */
-    public Player getPlayer() {
-        return this.player;
-    }
-
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -66,58 +47,10 @@ public abstract class Character {
         return this.role.getName();
     }
 
-    /**
-     * Kill the character
-     */
-    public void kill() {
-        this.isDead = true;
-    }
-
-    /**
-     * Check if the character is dead
-     * @return true if the character is dead, false otherwise
-     */
-    public boolean isDead() {
-        return this.isDead;
-    }
-
-    /**
-     * Resurrect the character
-     */
-    public void resurrect() {
-        this.isDead = false;
-    }
-
-    /**
-     * @param player the player to steal
-     */
-    public void setSavedThief(Player player) {
-        savedThief=player;
-    }
-
-
-    /**
-     * getter
-     * @return a player
-     */
-    public Player getSavedThief() {
-        return savedThief;
-    }
-
-
-    /**
-     * this method decrease the number of gold of the character which is stolen and
-     * refreshes the attribute goldWillBeStolen
-     */
-    public void isStolen() {
-        //We add the number of gold stolen to the number of gold of the thief
-        getSavedThief().increaseGold(this.getPlayer().getNbGold());
-        this.getPlayer().decreaseGold(this.getPlayer().getNbGold());
-        this.setSavedThief(null);
-    }
-
     /**
      * Apply the effect of the character (use heritage)
+     *
+     * @param player the player who chose the character
      */
-    public abstract void applyEffect();
-}
\ No newline at end of file
+    public abstract void applyEffect(Player player);
+}
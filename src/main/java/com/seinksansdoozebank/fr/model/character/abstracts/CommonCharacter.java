@@ -1,9 +1,9 @@
 package com.seinksansdoozebank.fr.model.character.abstracts;
 
-import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.District;
 import com.seinksansdoozebank.fr.model.cards.DistrictType;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.player.Player;
 
 /**
  * Represents a common character in the game
@@ -24,15 +24,16 @@ public abstract class CommonCharacter extends Character {
 
     /**
      * For each district in the citadel of the target type, the player will collect one gold
+     *
+     * @param player the player who chose the character
      */
-    public void goldCollectedFromDistrictType() {
-        int nbGold = 0;
-        for (Card card : this.getPlayer().getCitadel()) {
-            if (card.getDistrict().getDistrictType() == target || card.getDistrict().equals(District.SCHOOL_OF_MAGIC)) {
-                nbGold++;
-            }
+    public void goldCollectedFromDistrictType(Player player) {
+        int nbGold = player.getNbDistrictsOfTypeInCitadel(target);
+        // the school of magic counts as a district of any type
+        if (target != District.SCHOOL_OF_MAGIC.getDistrictType() && player.hasDistrictInCitadel(District.SCHOOL_OF_MAGIC)) {
+            nbGold++;
         }
-        this.getPlayer().pickGold(nbGold);
+        player.pickGold(nbGold);
     }
 
     /**
@@ -3,6 +3,7 @@ package com.seinksansdoozebank.fr.model.character.commoncharacters;
 import com.seinksansdoozebank.fr.model.cards.DistrictType;
 import com.seinksansdoozebank.fr.model.character.abstracts.CommonCharacter;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.player.Player;
 
 /**
  * Represents the bishop character
@@ -16,7 +17,7 @@ public class Bishop extends CommonCharacter {
     }
 
     @Override
-    public void applyEffect() {
+    public void applyEffect(Player player) {
         // No effect
     }
 }
@@ -3,6 +3,7 @@ package com.seinksansdoozebank.fr.model.character.commoncharacters;
 import com.seinksansdoozebank.fr.model.cards.DistrictType;
 import com.seinksansdoozebank.fr.model.character.abstracts.CommonCharacter;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.player.Player;
 
 /**
  * The king character
@@ -17,7 +18,7 @@ public class King extends CommonCharacter {
     }
 
     @Override
-    public void applyEffect() {
+    public void applyEffect(Player player) {
         // The king doesn't have any effect
     }
 }
@@ -3,6 +3,7 @@ package com.seinksansdoozebank.fr.model.character.commoncharacters;
 import com.seinksansdoozebank.fr.model.cards.DistrictType;
 import com.seinksansdoozebank.fr.model.character.abstracts.CommonCharacter;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.player.Player;
 
 /**
  * The merchant character
@@ -17,14 +18,16 @@ public class Merchant extends CommonCharacter {
 
     /**
      * The merchant get 1 gold at the beginning of his turn
+     *
+     * @param player the player who chose the merchant
      */
-    public void useEffect() {
-        this.getPlayer().pickGold(1);
+    public void useEffect(Player player) {
+        player.pickGold(1);
     }
 
     @Override
-    public void applyEffect() {
-        this.useEffect();
+    public void applyEffect(Player player) {
+        this.useEffect(player);
     }
 
 }
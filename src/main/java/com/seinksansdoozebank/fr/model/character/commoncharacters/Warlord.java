@@ -1,10 +1,12 @@
 package com.seinksansdoozebank.fr.model.character.commoncharacters;
 
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import com.seinksansdoozebank.fr.model.cards.District;
 import com.seinksansdoozebank.fr.model.cards.DistrictType;
 import com.seinksansdoozebank.fr.model.character.abstracts.CommonCharacter;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
 import com.seinksansdoozebank.fr.model.player.Opponent;
+import com.seinksansdoozebank.fr.model.player.Player;
 
 import java.util.List;
 
@@ -20,14 +22,18 @@ public class Warlord extends CommonCharacter {
     }
 
     @Override
-    public void applyEffect() {
-        List<Opponent> opponentsFocusableForWarlord = getOpponentsFocusableForWarlord(this.getPlayer().getOpponents(), this.getPlayer().getNumberOfDistrictsNeeded());
+    public void applyEffect(Player player) {
+        // the index tells at once if the player can afford any district of its opponents
+        if (player.getWarlordTargetIndex().getBestAffordableTarget(player).isEmpty()) {
+            return;
+        }
+        List<Opponent> opponentsFocusableForWarlord = getOpponentsFocusableForWarlord(player.getOpponents(), player.getNumberOfDistrictsNeeded());
         if (opponentsFocusableForWarlord.isEmpty()) {
             return;
         }
-        WarlordTarget warlordTarget = this.getPlayer().chooseWarlordTarget(opponentsFocusableForWarlord);
+        WarlordTarget warlordTarget = player.chooseWarlordTarget(opponentsFocusableForWarlord);
         if (warlordTarget != null) {
-            this.useEffect(warlordTarget);
+            this.useEffect(player, warlordTarget);
         }
     }
 
@@ -48,33 +54,78 @@ public class Warlord extends CommonCharacter {
      * The warlord can choose to destroy a district of another player
      * Paying the cost of the district to the bank -1
      *
+     * @param player        the player who chose the warlord
      * @param warlordTarget the opponent to destroy the district
      *                          (the opponent must have a character revealed)
      *                          (the opponent can't be the bishop)
      *                          (the opponent can't have a complete citadel)
      *                          (the opponent can't destroy the donjon)
      *                          district the district to destroy
+     * @throws IllegalArgumentException if the district can't be destroyed
      */
-    public void useEffect(WarlordTarget warlordTarget) {
+    public void useEffect(Player player, WarlordTarget warlordTarget) {
+        if (player.getSimulationContext().isActionValidationEnabled()) {
+            this.canApply(player, warlordTarget).throwIfFailed();
+        }
+        this.destroy(player, warlordTarget);
+    }
+
+    /**
+     * Check if the player can destroy the district of the target
+     *
+     * @param player        the player who chose the warlord
+     * @param warlordTarget the opponent and the district to destroy
+     * @return OK if the district can be destroyed, the reason why it can't otherwise
+     */
+    public ActionResult canApply(Player player, WarlordTarget warlordTarget) {
         if (warlordTarget == null) {
-            throw new IllegalArgumentException("The player must choose a target");
+            return ActionResult.NO_TARGET;
         }
         Opponent opponent = warlordTarget.opponent();
         District district = warlordTarget.district();
-        if (this.getPlayer().getNbGold() < district.getCost() - 1) {
-            throw new IllegalArgumentException("The player doesn't have enough gold to destroy the district");
+        if (player.getNbGold() < district.getCost() - 1) {
+            return ActionResult.NOT_ENOUGH_GOLD;
         }
         if (opponent.getOpponentCharacter() != null && opponent.getOpponentCharacter().getRole().equals(Role.BISHOP)) {
-            throw new IllegalArgumentException("The player can't destroy the district of the bishop");
+            return ActionResult.TARGET_IS_PROTECTED;
         }
         if (district.equals(District.DONJON)) {
-            throw new IllegalArgumentException("The player can't destroy the donjon");
+            return ActionResult.DISTRICT_IS_PROTECTED;
         }
-        if (opponent.getCitadel().size() >= this.getPlayer().getNumberOfDistrictsNeeded()) {
-            throw new IllegalArgumentException("The player can't destroy a district if the player has a complete citadel");
+        if (opponent.getCitadel().size() >= player.getNumberOfDistrictsNeeded()) {
+            return ActionResult.CITADEL_IS_COMPLETE;
         }
-        opponent.destroyDistrict(this.getPlayer(), district);
-        this.getPlayer().returnGoldToBank(district.getCost() - 1);
+        return ActionResult.OK;
+    }
+
+    /**
+     * Destroy the district of the target if the player can, without throwing any exception
+     *
+     * @param player        the player who chose the warlord
+     * @param warlordTarget the opponent and the district to destroy
+     * @return OK if the district has been destroyed, the reason why it can't be otherwise
+     */
+    public ActionResult tryApply(Player player, WarlordTarget warlordTarget) {
+        ActionResult result = this.canApply(player, warlordTarget);
+        if (result.isSuccess() && !warlordTarget.opponent().hasDistrictInCitadel(warlordTarget.district())) {
+            result = ActionResult.DISTRICT_NOT_IN_CITADEL;
+        }
+        if (result.isSuccess()) {
+            this.destroy(player, warlordTarget);
+        }
+        return result;
+    }
+
+    /**
+     * Destroy the district of the target and make the player pay for it
+     *
+     * @param player        the player who chose the warlord
+     * @param warlordTarget the opponent and the district to destroy
+     */
+    private void destroy(Player player, WarlordTarget warlordTarget) {
+        District district = warlordTarget.district();
+        warlordTarget.opponent().destroyDistrict(player, district);
+        player.returnGoldToBank(district.getCost() - 1);
     }
 
     @Override
@@ -0,0 +1,197 @@
+package com.seinksansdoozebank.fr.model.character.roles;
+
+import com.seinksansdoozebank.fr.model.character.abstracts.Character;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The RoleSet class is an immutable set of roles stored as a bitmask, one bit per role.
+ * There are only a few roles, so all the possible sets are created once and shared:
+ * checking, adding or removing a role is a single bit operation and never allocates.
+ */
+public final class RoleSet {
+    private static final Role[] ROLES = Role.values();
+    private static final RoleSet[] ALL_SETS = new RoleSet[1 << ROLES.length];
+
+    static {
+        for (int mask = 0; mask < ALL_SETS.length; mask++) {
+            ALL_SETS[mask] = new RoleSet(mask);
+        }
+    }
+
+    private final int mask;
+
+    private RoleSet(int mask) {
+        this.mask = mask;
+    }
+
+    private static int bitOf(Role role) {
+        return 1 << role.ordinal();
+    }
+
+    /**
+     * Get the empty set
+     *
+     * @return the set without any role
+     */
+    public static RoleSet empty() {
+        return ALL_SETS[0];
+    }
+
+    /**
+     * Get the set of all the roles
+     *
+     * @return the set with every role
+     */
+    public static RoleSet all() {
+        return ALL_SETS[ALL_SETS.length - 1];
+    }
+
+    /**
+     * Get the set of the given roles
+     *
+     * @param roles the roles
+     * @return the set of the roles
+     */
+    public static RoleSet of(Role... roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= bitOf(role);
+        }
+        return ALL_SETS[mask];
+    }
+
+    /**
+     * Get the set of the roles of the given characters
+     *
+     * @param characters the characters
+     * @return the set of the roles of the characters
+     */
+    public static RoleSet of(Collection<? extends Character> characters) {
+        int mask = 0;
+        for (Character character : characters) {
+            mask |= bitOf(character.getRole());
+        }
+        return ALL_SETS[mask];
+    }
+
+    /**
+     * Check if the set contains the role
+     *
+     * @param role the role
+     * @return true if the role is in the set, false otherwise
+     */
+    public boolean contains(Role role) {
+        return (this.mask & bitOf(role)) != 0;
+    }
+
+    /**
+     * Get the set with the role added
+     *
+     * @param role the role to add
+     * @return the set with the role
+     */
+    public RoleSet with(Role role) {
+        return ALL_SETS[this.mask | bitOf(role)];
+    }
+
+    /**
+     * Get the set with the role removed
+     *
+     * @param role the role to remove
+     * @return the set without the role
+     */
+    public RoleSet without(Role role) {
+        return ALL_SETS[this.mask & ~bitOf(role)];
+    }
+
+    /**
+     * Get the set with the roles of the other one added
+     *
+     * @param other the roles to add
+     * @return the union of the two sets
+     */
+    public RoleSet with(RoleSet other) {
+        return ALL_SETS[this.mask | other.mask];
+    }
+
+    /**
+     * Get the set with the roles of the other one removed
+     *
+     * @param other the roles to remove
+     * @return the roles of this set which are not in the other one
+     */
+    public RoleSet without(RoleSet other) {
+        return ALL_SETS[this.mask & ~other.mask];
+    }
+
+    /**
+     * Get the roles which are in this set and in the other one
+     *
+     * @param other the other set
+     * @return the intersection of the two sets
+     */
+    public RoleSet intersect(RoleSet other) {
+        return ALL_SETS[this.mask & other.mask];
+    }
+
+    /**
+     * Get the number of roles in the set
+     *
+     * @return the number of roles
+     */
+    public int size() {
+        return Integer.bitCount(this.mask);
+    }
+
+    /**
+     * Check if the set is empty
+     *
+     * @return true if there is no role in the set, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.mask == 0;
+    }
+
+    /**
+     * Get the first role of the set, in the order of the roles
+     *
+     * @return the role with the lowest ordinal, empty if the set is empty
+     */
+    public Optional<Role> first() {
+        return this.mask == 0 ? Optional.empty() : Optional.of(ROLES[Integer.numberOfTrailingZeros(this.mask)]);
+    }
+
+    /**
+     * Get the roles of the set, in the order of the roles
+     *
+     * @return the list of the roles
+     */
+    public List<Role> toList() {
+        List<Role> roles = new ArrayList<>(this.size());
+        for (Role role : ROLES) {
+            if (this.contains(role)) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof RoleSet other && this.mask == other.mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.mask;
+    }
+
+    @Override
+    public String toString() {
+        return this.toList().toString();
+    }
+}
@@ -0,0 +1,142 @@
+package com.seinksansdoozebank.fr.model.character.roles;
+
+import com.seinksansdoozebank.fr.model.player.Player;
+
+import java.util.Arrays;
+
+/**
+ * The RoleStateTable class holds the state of the characters during a round, indexed by their role:
+ * the player who chose the character, whether it is dead, the thief who robbed it and whether it is revealed.
+ * The characters themselves are immutable and shared, so all their state of the round is kept here.
+ */
+public class RoleStateTable {
+    private static final int NB_ROLES = Role.values().length;
+    private final Player[] players;
+    private final boolean[] dead;
+    private final Player[] robbers;
+    private final boolean[] revealed;
+
+    /**
+     * RoleStateTable constructor, no role is assigned
+     */
+    public RoleStateTable() {
+        this.players = new Player[NB_ROLES];
+        this.dead = new boolean[NB_ROLES];
+        this.robbers = new Player[NB_ROLES];
+        this.revealed = new boolean[NB_ROLES];
+    }
+
+    /**
+     * RoleStateTable copy constructor
+     *
+     * @param other the table to copy
+     */
+    public RoleStateTable(RoleStateTable other) {
+        this.players = other.players.clone();
+        this.dead = other.dead.clone();
+        this.robbers = other.robbers.clone();
+        this.revealed = other.revealed.clone();
+    }
+
+    /**
+     * Forget the state of all the roles, at the beginning of a new round
+     */
+    public void clear() {
+        Arrays.fill(this.players, null);
+        Arrays.fill(this.dead, false);
+        Arrays.fill(this.robbers, null);
+        Arrays.fill(this.revealed, false);
+    }
+
+    /**
+     * Assign the role to the player who chose it
+     *
+     * @param role   the role
+     * @param player the player
+     */
+    public void assign(Role role, Player player) {
+        this.players[role.ordinal()] = player;
+    }
+
+    /**
+     * Forget the state of the role when its player gives it back
+     *
+     * @param role the role
+     */
+    public void release(Role role) {
+        int index = role.ordinal();
+        this.players[index] = null;
+        this.dead[index] = false;
+        this.robbers[index] = null;
+        this.revealed[index] = false;
+    }
+
+    /**
+     * Get the player who chose the role
+     *
+     * @param role the role
+     * @return the player, null if nobody chose the role
+     */
+    public Player getPlayer(Role role) {
+        return this.players[role.ordinal()];
+    }
+
+    /**
+     * Kill the role
+     *
+     * @param role the role
+     */
+    public void kill(Role role) {
+        this.dead[role.ordinal()] = true;
+    }
+
+    /**
+     * Check if the role is dead
+     *
+     * @param role the role
+     * @return true if the role is dead, false otherwise
+     */
+    public boolean isDead(Role role) {
+        return this.dead[role.ordinal()];
+    }
+
+    /**
+     * Set the thief who robbed the role
+     *
+     * @param role  the role
+     * @param thief the player of the thief, null if the role is not robbed
+     */
+    public void setRobbedBy(Role role, Player thief) {
+        this.robbers[role.ordinal()] = thief;
+    }
+
+    /**
+     * Get the thief who robbed the role
+     *
+     * @param role the role
+     * @return the player of the thief, null if the role is not robbed
+     */
+    public Player getRobbedBy(Role role) {
+        return this.robbers[role.ordinal()];
+    }
+
+    /**
+     * Set whether the role is revealed
+     *
+     * @param role     the role
+     * @param revealed true if the role is revealed, false otherwise
+     */
+    public void setRevealed(Role role, boolean revealed) {
+        this.revealed[role.ordinal()] = revealed;
+    }
+
+    /**
+     * Check if the role is revealed
+     *
+     * @param role the role
+     * @return true if the role is revealed, false otherwise
+     */
+    public boolean isRevealed(Role role) {
+        return this.revealed[role.ordinal()];
+    }
+}
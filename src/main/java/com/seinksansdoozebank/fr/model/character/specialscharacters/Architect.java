@@ -1,6 +1,7 @@
 package com.seinksansdoozebank.fr.model.character.specialscharacters;
 
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.player.Player;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 
 /**
@@ -16,7 +17,7 @@ public class Architect extends Character {
     }
 
     @Override
-    public void applyEffect() {
-        this.getPlayer().useEffectArchitect();
+    public void applyEffect(Player player) {
+        player.useEffectArchitect();
     }
 }
@@ -1,7 +1,9 @@
 package com.seinksansdoozebank.fr.model.character.specialscharacters;
 
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.player.Player;
 
 /**
  * Represents the assassin character
@@ -18,24 +20,59 @@ public class Assassin extends Character {
     /**
      * Kill the character
      *
+     * @param player    the player who chose the assassin
      * @param character the character to kill
+     * @throws IllegalArgumentException if the character is the assassin
+     * @throws IllegalStateException    if the character is already dead
      */
-    public void useEffect(Character character) {
+    public void useEffect(Player player, Character character) {
+        if (player.getSimulationContext().isActionValidationEnabled()) {
+            this.canApply(player, character).throwIfFailed();
+        }
+        // Kill the specific character
+        player.getRoleStates().kill(character.getRole());
+    }
+
+    /**
+     * Check if the assassin can kill the character
+     *
+     * @param player    the player who chose the assassin
+     * @param character the character to kill
+     * @return OK if the character can be killed, the reason why it can't otherwise
+     */
+    public ActionResult canApply(Player player, Character character) {
+        if (character == null) {
+            return ActionResult.NO_TARGET;
+        }
         // Check if the character is not itself
-        if (character == this) {
-            throw new IllegalArgumentException("The character cannot kill itself");
+        if (character.getRole() == this.getRole()) {
+            return ActionResult.TARGET_IS_SELF;
         }
         // Check if the character is already dead
-        if (character.isDead()) {
-            throw new IllegalStateException("The character is already dead");
+        if (player.getRoleStates().isDead(character.getRole())) {
+            return ActionResult.TARGET_IS_DEAD;
         }
-        // Kill the specific character
-        character.kill();
+        return ActionResult.OK;
+    }
+
+    /**
+     * Kill the character if the assassin can, without throwing any exception
+     *
+     * @param player    the player who chose the assassin
+     * @param character the character to kill
+     * @return OK if the character has been killed, the reason why it can't be otherwise
+     */
+    public ActionResult tryApply(Player player, Character character) {
+        ActionResult result = this.canApply(player, character);
+        if (result.isSuccess()) {
+            player.getRoleStates().kill(character.getRole());
+        }
+        return result;
     }
 
     @Override
-    public void applyEffect() {
-        this.useEffect(this.getPlayer().useEffectAssassin());
+    public void applyEffect(Player player) {
+        this.useEffect(player, player.useEffectAssassin());
     }
 
 }
@@ -1,9 +1,11 @@
 package com.seinksansdoozebank.fr.model.character.specialscharacters;
 
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
 import com.seinksansdoozebank.fr.model.player.Opponent;
+import com.seinksansdoozebank.fr.model.player.Player;
 
 import java.util.List;
 
@@ -22,26 +24,76 @@ public class Magician extends Character {
      * Switch the hand of the player with the hand of the target player
      * If the target player is not present, the player will switch his hand with the deck
      *
+     * @param player         the player who chose the magician
      * @param magicianTarget the target of the magician
+     * @throws IllegalArgumentException if the target is the player or a card to switch is not in its hand
      */
-    public void useEffect(MagicianTarget magicianTarget) {
+    public void useEffect(Player player, MagicianTarget magicianTarget) {
+        if (player.getSimulationContext().isActionValidationEnabled()) {
+            this.canApply(player, magicianTarget).throwIfFailed();
+        }
+        this.switchCards(player, magicianTarget);
+    }
+
+    /**
+     * Check if the player can switch its cards with the target
+     *
+     * @param player         the player who chose the magician
+     * @param magicianTarget the target of the magician
+     * @return OK if the cards can be switched, the reason why they can't otherwise
+     */
+    public ActionResult canApply(Player player, MagicianTarget magicianTarget) {
+        if (magicianTarget == null || (magicianTarget.targetOpponent() == null && magicianTarget.cardsToSwitchWithDeck() == null)) {
+            return ActionResult.NO_TARGET;
+        }
+        if (magicianTarget.targetOpponent() == player) {
+            return ActionResult.TARGET_IS_SELF;
+        }
+        if (magicianTarget.targetOpponent() == null && !player.getHand().containsAll(magicianTarget.cardsToSwitchWithDeck())) {
+            return ActionResult.CARD_NOT_IN_HAND;
+        }
+        return ActionResult.OK;
+    }
+
+    /**
+     * Switch the cards of the player with the target if the player can, without throwing any exception
+     *
+     * @param player         the player who chose the magician
+     * @param magicianTarget the target of the magician
+     * @return OK if the cards have been switched, the reason why they can't be otherwise
+     */
+    public ActionResult tryApply(Player player, MagicianTarget magicianTarget) {
+        ActionResult result = this.canApply(player, magicianTarget);
+        if (result.isSuccess()) {
+            this.switchCards(player, magicianTarget);
+        }
+        return result;
+    }
+
+    /**
+     * Switch the hand of the player with the hand of the target, or the cards chosen with the deck
+     *
+     * @param player         the player who chose the magician
+     * @param magicianTarget the target of the magician
+     */
+    private void switchCards(Player player, MagicianTarget magicianTarget) {
         Opponent targetOpponent = magicianTarget.targetOpponent();
         List<Card> cardsToSwitchWithDeck = magicianTarget.cardsToSwitchWithDeck();
         if (targetOpponent != null) { //picking card from target player's hand
-            targetOpponent.switchHandWith(this.getPlayer());
+            targetOpponent.switchHandWith(player);
         } else { //picking card from deck
             for (Card card : cardsToSwitchWithDeck) {
-                this.getPlayer().discardACard(card);
-                this.getPlayer().pickACard();
+                player.discardACard(card);
+                player.pickACard();
             }
         }
     }
 
     @Override
-    public void applyEffect() {
-        MagicianTarget magicianTarget = this.getPlayer().useEffectMagician();
+    public void applyEffect(Player player) {
+        MagicianTarget magicianTarget = player.useEffectMagician();
         if (magicianTarget != null) {
-            this.useEffect(magicianTarget);
+            this.useEffect(player, magicianTarget);
         }
     }
 }
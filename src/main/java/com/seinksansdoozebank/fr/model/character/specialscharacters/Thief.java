@@ -1,7 +1,9 @@
 package com.seinksansdoozebank.fr.model.character.specialscharacters;
 
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.player.Player;
 
 /**
  * The thief character
@@ -16,31 +18,66 @@ public class Thief extends Character {
     }
 
     /**
-     * the method set the attribute goldWillBeStolen to true for the character which will be stolen
+     * Check if the thief can steal the character
+     *
+     * @param player    the player who chose the thief
      * @param character the character to steal
+     * @return OK if the character can be stolen, the reason why it can't otherwise
      */
-    public void useEffect(Character character) {
+    public ActionResult canApply(Player player, Character character) {
+        if (character == null) {
+            return ActionResult.NO_TARGET;
+        }
         //We verify if the character is not the thief
-        if (character == this) {
-            throw new IllegalArgumentException("The thief cannot steal from himself ");
+        if (character.getRole() == this.getRole()) {
+            return ActionResult.TARGET_IS_SELF;
         }
         //We verify if the character is not the assassin
         if (character.getRole() == Role.ASSASSIN) {
-            throw new IllegalArgumentException("The thief cannot steal from the assassin ");
+            return ActionResult.TARGET_IS_PROTECTED;
         }
         //We verify if the character is not dead
-        if (character.isDead()) {
-            throw new IllegalStateException("This character is already dead");
+        if (player.getRoleStates().isDead(character.getRole())) {
+            return ActionResult.TARGET_IS_DEAD;
+        }
+        return ActionResult.OK;
+    }
+
+    /**
+     * Steal the character if the thief can, without throwing any exception
+     *
+     * @param player    the player who chose the thief
+     * @param character the character to steal
+     * @return OK if the character has been stolen, the reason why it can't be otherwise
+     */
+    public ActionResult tryApply(Player player, Character character) {
+        ActionResult result = this.canApply(player, character);
+        if (result.isSuccess()) {
+            player.getRoleStates().setRobbedBy(character.getRole(), player);
+        }
+        return result;
+    }
+
+    /**
+     * the method records the thief as the robber of the character which will be stolen
+     * @param player    the player who chose the thief
+     * @param character the character to steal
+     * @throws IllegalArgumentException if the character is the thief or the assassin
+     * @throws IllegalStateException    if the character is dead
+     */
+    public void useEffect(Player player, Character character) {
+        if (player.getSimulationContext().isActionValidationEnabled()) {
+            this.canApply(player, character).throwIfFailed();
         }
-        //We set the attribute goldWillBeStolen to true.
-        character.setSavedThief(this.getPlayer());
+        //We record the thief as the robber of the character
+        player.getRoleStates().setRobbedBy(character.getRole(), player);
     }
 
     @Override
-    public void applyEffect() {
-        Character target = this.getPlayer().useEffectThief();
+    public void applyEffect(Player player) {
+        Character target = player.useEffectThief();
         if (target != null) {
-            this.useEffect(target);
+            this.useEffect(player, target);
         }
     }
 }
@@ -1,9 +1,11 @@
 package com.seinksansdoozebank.fr.model.player;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.Deck;
 import com.seinksansdoozebank.fr.model.cards.DistrictType;
+import com.seinksansdoozebank.fr.model.cards.Hand;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.abstracts.CommonCharacter;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
@@ -29,6 +31,19 @@ public class BuilderBot extends SmartBot {
         super(nbGold, deck, view, bank);
     }
 
+    /**
+     * BuilderBot constructor
+     *
+     * @param nbGold  The number of gold pieces the player has.
+     * @param deck    The deck of cards.
+     * @param view    The view.
+     * @param bank    The bank.
+     * @param context The context of the game.
+     */
+    public BuilderBot(int nbGold, Deck deck, IView view, Bank bank, SimulationContext context) {
+        super(nbGold, deck, view, bank, context);
+    }
+
     /**
      * Chooses a character based on the current state of the player's citadel and hand.
      * Prioritizes characters related to Nobility, Commerce and Crafts, and Architect roles.
@@ -40,8 +55,8 @@ public class BuilderBot extends SmartBot {
     @Override
     public Character chooseCharacterImpl(List<Character> characters) {
         Character choice = null;
-        int quartierCommerce = (int) this.getCitadel().stream().filter(d -> d.getDistrict().getDistrictType().equals(DistrictType.TRADE_AND_CRAFTS)).count();
-        int quartierNoblesse = (int) this.getCitadel().stream().filter(d -> d.getDistrict().getDistrictType().equals(DistrictType.NOBILITY)).count();
+        int quartierCommerce = this.getNbDistrictsOfTypeInCitadel(DistrictType.TRADE_AND_CRAFTS);
+        int quartierNoblesse = this.getNbDistrictsOfTypeInCitadel(DistrictType.NOBILITY);
 
         if (quartierNoblesse > 0) {
             choice = characters.stream().filter(c -> c.getRole().equals(Role.KING)).findFirst().orElse(null);
@@ -93,20 +108,19 @@ public class BuilderBot extends SmartBot {
      */
     @Override
     protected Optional<Card> chooseCard() {
-        List<Card> notAlreadyPlayedCardList = this.getHand().stream().filter(cardHand -> this.getCitadel().stream().noneMatch(cardCitadel -> cardHand.getDistrict().equals(cardCitadel.getDistrict()))).toList();
+        Hand hand = Hand.of(this.getHand());
+        // the districts already built can't be played
+        long builtDistricts = this.getBuiltDistricts();
         Optional<Card> cardToPlay;
         if (this.character instanceof CommonCharacter commonCharacter) {
-            DistrictType target = commonCharacter.getTarget();
-            cardToPlay = notAlreadyPlayedCardList.stream()
-                    .filter(card -> card.getDistrict().getDistrictType().equals(target))
-                    .max(Comparator.comparing(card -> card.getDistrict().getCost()));
+            cardToPlay = hand.getMostExpensiveCard(builtDistricts | ~Hand.districtsOfType(commonCharacter.getTarget()));
         } else {
-            cardToPlay = this.getMostExpensiveCard(notAlreadyPlayedCardList);
+            cardToPlay = hand.getMostExpensiveCard(builtDistricts);
         }
         if (cardToPlay.isPresent() && this.canPlayCard(cardToPlay.get())) {
             return cardToPlay;
         } else {
-            return this.getMostExpensiveCard(notAlreadyPlayedCardList);
+            return hand.getMostExpensiveCard(builtDistricts);
         }
     }
 
@@ -117,7 +131,7 @@ public class BuilderBot extends SmartBot {
      * @return An optional containing the most expensive card.
      */
     protected Optional<Card> getMostExpensiveCard(List<Card> notAlreadyPlayedCardList) {
-        return notAlreadyPlayedCardList.stream().max(Comparator.comparing(card -> card.getDistrict().getCost()));
+        return Hand.of(notAlreadyPlayedCardList).getMostExpensiveCard(0L);
     }
 
     @Override
@@ -0,0 +1,286 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import com.seinksansdoozebank.fr.model.cards.Card;
+import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.model.cards.DistrictType;
+import com.seinksansdoozebank.fr.model.cards.Hand;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The DeckTracker class counts the districts a player has not seen yet, which are either in the deck or in the hidden
+ * hands of its opponents. The player sees its own hand, the citadels of every player, the cards taken with the
+ * cemetery and the hand it gives away with the magician, so the tracker follows these public events as a listener
+ * of the players and the probabilities of the next card picked are read from the counts.
+ */
+public class DeckTracker implements IPlayerListener {
+    private static final District[] DISTRICTS = District.values();
+    private static final int MAX_COST = computeMaxCost();
+    private final Player viewpoint;
+    /**
+     * The districts of the citadel of each player, as last seen
+     */
+    private final Map<Player, Long> citadels;
+    /**
+     * The cards known to be in the hand of each opponent
+     */
+    private final Map<Player, int[]> knownHands;
+    /**
+     * The cards of the hand of the viewpoint, as last seen
+     */
+    private final int[] nbCardsInHand;
+    private final int[] nbUnseenOfDistrict;
+    private final int[] nbUnseenOfType;
+    private final int[] nbUnseenOfCost;
+    private int nbUnseen;
+
+    /**
+     * DeckTracker constructor
+     *
+     * @param viewpoint the player from whose point of view the cards are counted
+     */
+    public DeckTracker(Player viewpoint) {
+        this.viewpoint = viewpoint;
+        this.citadels = new HashMap<>();
+        this.knownHands = new HashMap<>();
+        this.nbCardsInHand = new int[DISTRICTS.length];
+        this.nbUnseenOfDistrict = new int[DISTRICTS.length];
+        this.nbUnseenOfType = new int[DistrictType.values().length];
+        this.nbUnseenOfCost = new int[MAX_COST + 1];
+    }
+
+    /**
+     * Get the cost of the most expensive district
+     *
+     * @return the maximum cost of a district
+     */
+    private static int computeMaxCost() {
+        int maxCost = 0;
+        for (District district : DISTRICTS) {
+            maxCost = Math.max(maxCost, district.getCost());
+        }
+        return maxCost;
+    }
+
+    /**
+     * Start listening to the players of the game with all the cards unseen, then look at the citadels and the hand
+     * of the viewpoint as they are now
+     *
+     * @param players the players of the game
+     */
+    public void track(List<Player> players) {
+        this.citadels.clear();
+        this.knownHands.clear();
+        Arrays.fill(this.nbCardsInHand, 0);
+        Arrays.fill(this.nbUnseenOfDistrict, 0);
+        Arrays.fill(this.nbUnseenOfType, 0);
+        Arrays.fill(this.nbUnseenOfCost, 0);
+        this.nbUnseen = 0;
+        for (District district : DISTRICTS) {
+            this.see(district, -district.getNumberOfAppearance());
+        }
+        for (Player player : players) {
+            player.addPlayerListener(this);
+            this.citadels.put(player, 0L);
+            if (player != this.viewpoint) {
+                this.knownHands.put(player, new int[DISTRICTS.length]);
+            }
+            this.onCitadelChanged(player);
+        }
+        this.updateHandOfTheViewpoint();
+    }
+
+    /**
+     * Count cards of the district as seen, or as unseen again if the number is negative
+     *
+     * @param district the district
+     * @param nbCards  the number of cards seen
+     */
+    private void see(District district, int nbCards) {
+        this.nbUnseenOfDistrict[district.ordinal()] -= nbCards;
+        this.nbUnseenOfType[district.getDistrictType().ordinal()] -= nbCards;
+        this.nbUnseenOfCost[district.getCost()] -= nbCards;
+        this.nbUnseen -= nbCards;
+    }
+
+    @Override
+    public void onCitadelChanged(Player player) {
+        Long previousCitadel = this.citadels.get(player);
+        if (previousCitadel == null) {
+            return;
+        }
+        long citadel = player.getBuiltDistricts();
+        long changedDistricts = previousCitadel ^ citadel;
+        int[] knownHand = this.knownHands.get(player);
+        while (changedDistricts != 0) {
+            District district = DISTRICTS[Long.numberOfTrailingZeros(changedDistricts)];
+            changedDistricts &= changedDistricts - 1;
+            if ((citadel & (1L << district.ordinal())) != 0) {
+                this.see(district, 1);
+                // a card known in the hand of the opponent is now in its citadel
+                if (knownHand != null && knownHand[district.ordinal()] > 0) {
+                    knownHand[district.ordinal()]--;
+                    this.see(district, -1);
+                }
+            } else {
+                // the destroyed district goes under the deck, unless someone takes it with the cemetery
+                this.see(district, -1);
+            }
+        }
+        this.citadels.put(player, citadel);
+    }
+
+    @Override
+    public void onResourcesChanged(Player player) {
+        if (player == this.viewpoint) {
+            this.updateHandOfTheViewpoint();
+            return;
+        }
+        int[] knownHand = this.knownHands.get(player);
+        if (knownHand == null) {
+            return;
+        }
+        int nbKnownCards = 0;
+        for (int nbCards : knownHand) {
+            nbKnownCards += nbCards;
+        }
+        // the opponent has put back cards we can't tell, so we don't know anymore what its hand holds
+        if (nbKnownCards > player.getHandSize()) {
+            this.forgetKnownHand(knownHand);
+        }
+    }
+
+    @Override
+    public void onCardShownTakenInHand(Player player, Card card) {
+        int[] knownHand = this.knownHands.get(player);
+        if (knownHand != null) {
+            knownHand[card.getDistrict().ordinal()]++;
+            this.see(card.getDistrict(), 1);
+        }
+    }
+
+    @Override
+    public void onHandsSwitched(Player player, Player other) {
+        if (player == this.viewpoint || other == this.viewpoint) {
+            // the opponent now holds the hand the viewpoint had, and the viewpoint will see the hand of the opponent
+            Player opponent = player == this.viewpoint ? other : player;
+            int[] knownHand = this.knownHands.get(opponent);
+            if (knownHand == null) {
+                return;
+            }
+            this.forgetKnownHand(knownHand);
+            for (District district : DISTRICTS) {
+                knownHand[district.ordinal()] = this.nbCardsInHand[district.ordinal()];
+                this.see(district, knownHand[district.ordinal()]);
+            }
+        } else if (this.knownHands.containsKey(player) && this.knownHands.containsKey(other)) {
+            this.knownHands.put(player, this.knownHands.put(other, this.knownHands.get(player)));
+        }
+    }
+
+    /**
+     * Count the cards known in the hand of an opponent as unseen
+     *
+     * @param knownHand the cards known in the hand of the opponent
+     */
+    private void forgetKnownHand(int[] knownHand) {
+        for (District district : DISTRICTS) {
+            this.see(district, -knownHand[district.ordinal()]);
+            knownHand[district.ordinal()] = 0;
+        }
+    }
+
+    /**
+     * Count the changes of the hand of the viewpoint since it was last seen
+     */
+    private void updateHandOfTheViewpoint() {
+        Hand hand = Hand.of(this.viewpoint.getHand());
+        for (District district : DISTRICTS) {
+            int nbCards = hand.getNbCardsOfDistrict(district);
+            int delta = nbCards - this.nbCardsInHand[district.ordinal()];
+            if (delta != 0) {
+                this.see(district, delta);
+                this.nbCardsInHand[district.ordinal()] = nbCards;
+            }
+        }
+    }
+
+    /**
+     * Get the number of cards unseen by the viewpoint
+     *
+     * @return the number of cards in the deck or in the hidden hands of the opponents
+     */
+    public int getNbUnseenCards() {
+        return this.nbUnseen;
+    }
+
+    /**
+     * Get the number of cards of the district unseen by the viewpoint
+     *
+     * @param district the district
+     * @return the number of cards of this district in the deck or in the hidden hands of the opponents
+     */
+    public int getNbUnseenCards(District district) {
+        return this.nbUnseenOfDistrict[district.ordinal()];
+    }
+
+    /**
+     * Get the number of cards of the type unseen by the viewpoint
+     *
+     * @param districtType the type of district
+     * @return the number of cards of this type in the deck or in the hidden hands of the opponents
+     */
+    public int getNbUnseenCards(DistrictType districtType) {
+        return this.nbUnseenOfType[districtType.ordinal()];
+    }
+
+    /**
+     * Get the probability that the next card picked is of the district
+     *
+     * @param district the district
+     * @return the probability, 0 if every card has been seen
+     */
+    public double getProbabilityToPick(District district) {
+        return this.probabilityOf(this.getNbUnseenCards(district));
+    }
+
+    /**
+     * Get the probability that the next card picked is of the type
+     *
+     * @param districtType the type of district
+     * @return the probability, 0 if every card has been seen
+     */
+    public double getProbabilityToPick(DistrictType districtType) {
+        return this.probabilityOf(this.getNbUnseenCards(districtType));
+    }
+
+    /**
+     * Get the probability that the next card picked costs at most the given cost
+     *
+     * @param cost the maximum cost
+     * @return the probability, 0 if every card has been seen
+     */
+    public double getProbabilityToPickCostAtMost(int cost) {
+        int nbCards = 0;
+        for (int districtCost = 0; districtCost <= Math.min(cost, MAX_COST); districtCost++) {
+            nbCards += this.nbUnseenOfCost[districtCost];
+        }
+        return this.probabilityOf(nbCards);
+    }
+
+    /**
+     * Get the probability to pick one of the given number of unseen cards
+     *
+     * @param nbCards the number of unseen cards
+     * @return the probability, 0 if every card has been seen
+     */
+    private double probabilityOf(int nbCards) {
+        if (this.nbUnseen <= 0) {
+            return 0;
+        }
+        return (double) Math.max(nbCards, 0) / this.nbUnseen;
+    }
+}
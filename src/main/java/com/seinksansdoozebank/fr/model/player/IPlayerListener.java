@@ -0,0 +1,42 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import com.seinksansdoozebank.fr.model.cards.Card;
+
+/**
+ * Listener of the changes of a player, notified each time the citadel, the hand or the gold of the player change
+ */
+public interface IPlayerListener {
+    /**
+     * Called when a district is built in or removed from the citadel of the player
+     *
+     * @param player the player whose citadel changed
+     */
+    void onCitadelChanged(Player player);
+
+    /**
+     * Called when the hand or the number of gold of the player change
+     *
+     * @param player the player whose hand or gold changed
+     */
+    void onResourcesChanged(Player player);
+
+    /**
+     * Called when a card is put in the hand of the player in front of the other players (Cemetery effect),
+     * before the listeners are told that the resources of the player changed
+     *
+     * @param player the player who takes the card
+     * @param card   the card
+     */
+    default void onCardShownTakenInHand(Player player, Card card) {
+    }
+
+    /**
+     * Called when two players switch their hands (Magician effect),
+     * before the listeners are told that the resources of the players changed
+     *
+     * @param player the player whose hand is switched
+     * @param other  the other player
+     */
+    default void onHandsSwitched(Player player, Player other) {
+    }
+}
@@ -30,18 +30,38 @@ public interface Opponent {
      */
     int nbDistrictsInCitadel();
 
+    /**
+     * Get the sum of the costs of the districts in the citadel
+     * @return the cost of the citadel
+     */
+    int getCitadelCost();
+
     /**
      * Get the  districts in the citadel
      * @return the districts in the citadel
      */
     List<Card> getCitadel();
 
+    /**
+     * Check if the district is in the citadel of the opponent
+     *
+     * @param district the district
+     * @return true if the district is in the citadel, false otherwise
+     */
+    boolean hasDistrictInCitadel(District district);
+
     /**
      * Get the character of the opponent only if the character is visible
      * @return the character of the opponent
      */
     Character getOpponentCharacter();
 
+    /**
+     * Get the snapshot of the opponent published by the game at the beginning of the current phase
+     * @return the view of the opponent, null if none has been published yet
+     */
+    OpponentView getOpponentView();
+
     /**
      * Switch the hand of the player with the hand of the target player (Magician effect)
      * @param player the player to switch the hand with
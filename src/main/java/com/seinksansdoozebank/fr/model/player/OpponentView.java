@@ -0,0 +1,71 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.model.character.roles.Role;
+
+/**
+ * An immutable snapshot of what the other players can see of an opponent, taken by the game at the beginning of a
+ * phase (the choice of the characters, the turn of a player).
+ * The bots can read it without going through the state of the opponent, which keeps changing during the game.
+ *
+ * @param opponent                        the opponent, to act on it (e.g. to switch hands with it)
+ * @param nbGold                          the number of gold of the opponent
+ * @param handSize                        the number of cards in the hand of the opponent
+ * @param builtDistricts                  the bitmask of the districts in the citadel, one bit per district ordinal
+ * @param nbDistrictsInCitadel            the number of districts in the citadel
+ * @param nbDistrictsNeeded               the number of districts needed to end the game
+ * @param positionInDrawToPickACharacter  the position of the opponent in the draw to pick a character
+ * @param revealedRole                    the role of the opponent if it is revealed, null otherwise
+ */
+public record OpponentView(Opponent opponent, int nbGold, int handSize, long builtDistricts, int nbDistrictsInCitadel,
+                           int nbDistrictsNeeded, int positionInDrawToPickACharacter, Role revealedRole) {
+
+    /**
+     * Check if the district was in the citadel of the opponent
+     *
+     * @param district the district
+     * @return true if the district is in the citadel, false otherwise
+     */
+    public boolean hasDistrictInCitadel(District district) {
+        return (this.builtDistricts & (1L << district.ordinal())) != 0;
+    }
+
+    /**
+     * Check if the opponent was about to win
+     *
+     * @return true if the opponent has one district less than needed to end the game
+     */
+    public boolean isAboutToWin() {
+        return this.nbDistrictsInCitadel == this.nbDistrictsNeeded - 1;
+    }
+
+    /**
+     * Check if the view still shows the opponent as it is, so that it can be published again instead of a new one
+     *
+     * @param nbGold                         the number of gold of the opponent
+     * @param handSize                       the number of cards in the hand of the opponent
+     * @param builtDistricts                 the bitmask of the districts in the citadel
+     * @param nbDistrictsInCitadel           the number of districts in the citadel
+     * @param nbDistrictsNeeded              the number of districts needed to end the game
+     * @param positionInDrawToPickACharacter the position of the opponent in the draw to pick a character
+     * @param revealedRole                   the role of the opponent if it is revealed, null otherwise
+     * @return true if every value of the view is the same
+     */
+    boolean hasValues(int nbGold, int handSize, long builtDistricts, int nbDistrictsInCitadel, int nbDistrictsNeeded,
+                      int positionInDrawToPickACharacter, Role revealedRole) {
+        return this.nbGold == nbGold && this.handSize == handSize && this.builtDistricts == builtDistricts
+                && this.nbDistrictsInCitadel == nbDistrictsInCitadel && this.nbDistrictsNeeded == nbDistrictsNeeded
+                && this.positionInDrawToPickACharacter == positionInDrawToPickACharacter
+                && this.revealedRole == revealedRole;
+    }
+
+    /**
+     * Check if the opponent has chosen its character before the given position in the draw
+     *
+     * @param position the position in the draw
+     * @return true if the opponent picked its character before this position
+     */
+    public boolean hasChosenCharacterBefore(int position) {
+        return this.positionInDrawToPickACharacter < position;
+    }
+}
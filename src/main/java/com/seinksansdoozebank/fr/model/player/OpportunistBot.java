@@ -1,5 +1,6 @@
 package com.seinksansdoozebank.fr.model.player;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.Deck;
@@ -29,6 +30,19 @@ public class OpportunistBot extends SmartBot {
         super(nbGold, deck, view, bank);
     }
 
+    /**
+     * OpportunistBot constructor
+     *
+     * @param nbGold  the number of gold
+     * @param deck    the deck
+     * @param view    the view
+     * @param bank    the bank
+     * @param context the context of the game
+     */
+    public OpportunistBot(int nbGold, Deck deck, IView view, Bank bank, SimulationContext context) {
+        super(nbGold, deck, view, bank, context);
+    }
+
     /**
      * Chooses a character based on the player's current state and strategy.
      * Prioritizes the Bishop if the player has at least one religious district.
@@ -41,7 +55,7 @@ public class OpportunistBot extends SmartBot {
      */
     @Override
     public Character chooseCharacterImpl(List<Character> characters) {
-        int quartierReligieux = (int) this.getCitadel().stream().filter(d -> d.getDistrict().getDistrictType().equals(DistrictType.RELIGION)).count();
+        int quartierReligieux = this.getNbDistrictsOfTypeInCitadel(DistrictType.RELIGION);
         Character choice = null;
         if (quartierReligieux > 0) {
             // Search for the Bishop character
@@ -52,7 +66,7 @@ public class OpportunistBot extends SmartBot {
             choice = characters.stream().filter(c -> c.getRole().equals(Role.WARLORD)).findFirst().orElse(null);
         }
         // if there is a player with equal or more than 4 gold, search for the Thief character
-        if (this.getOpponents().stream().anyMatch(o -> o.getNbGold() >= 4)) {
+        if (this.getThreatAnalysis().getMaxNbGoldOfOpponents(this) >= 4) {
             // Search for the Thief character
             choice = characters.stream().filter(c -> c.getRole().equals(Role.THIEF)).findFirst().orElse(null);
         }
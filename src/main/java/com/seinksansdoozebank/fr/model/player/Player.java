@@ -1,32 +1,35 @@
 package com.seinksansdoozebank.fr.model.player;
 
 import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.controller.SimulationContext;
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.Deck;
 import com.seinksansdoozebank.fr.model.cards.District;
 import com.seinksansdoozebank.fr.model.cards.DistrictType;
+import com.seinksansdoozebank.fr.model.cards.Hand;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.abstracts.CommonCharacter;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.WarlordTarget;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.MagicianTarget;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
+import com.seinksansdoozebank.fr.model.character.roles.RoleStateTable;
 import com.seinksansdoozebank.fr.view.IView;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a player in the game
  */
 public abstract class Player implements Opponent {
-    /**
-     * Counter to give a unique id to each player
-     */
-    private static int counter = 1;
+    private static final District[] DISTRICTS = District.values();
     /**
      * The id of the player
      */
@@ -36,13 +39,24 @@ public abstract class Player implements Opponent {
     private boolean isFirstToHaveAllDistricts;
     final Deck deck;
     final Bank bank;
-    final List<Card> hand;
+    Hand hand;
     final List<Card> citadel;
+    /**
+     * The districts of the citadel, one bit per district, and the number of districts of each type in the citadel,
+     * kept up to date when a district is built or destroyed
+     */
+    private long districtsInCitadel;
+    private final int[] nbDistrictsOfTypeInCitadel;
+    /**
+     * The sum of the costs of the districts of the citadel, kept up to date like the districts of the citadel
+     */
+    private int citadelCost;
     /**
      * The current view
      */
     protected final IView view;
-    Random random = new Random();
+    private final SimulationContext context;
+    RandomGenerator random;
     Character character;
     private int positionInDrawToPickACharacter;
 
@@ -51,14 +65,31 @@ public abstract class Player implements Opponent {
      */
     private List<Opponent> opponents;
 
+    /**
+     * The snapshot of the player published at the beginning of the current phase, and those of its opponents
+     */
+    private OpponentView opponentView;
+    private List<OpponentView> opponentViews = List.of();
+
     private List<Opponent> opponentsWhichHasChosenCharacterBefore;
     private List<Character> availableCharacters;
     private boolean lastCardPlacedCourtyardOfMiracle = false;
-    private boolean characterIsRevealed = false;
+    private RoleStateTable roleStates;
+    private final List<IPlayerListener> playerListeners = new ArrayList<>();
+    private ThreatAnalysis threatAnalysis;
+    private WarlordTargetIndex warlordTargetIndex;
+    /**
+     * The counts of the cards the player has not seen, created the first time a strategy asks for them
+     */
+    private DeckTracker deckTracker;
+    private final RoleBelief roleBelief = new RoleBelief();
     private DistrictType colorCourtyardOfMiracleType;
     private boolean hasPlayed;
     private List<Character> charactersNotInRound;
     private List<Character> charactersSeenInRound;
+    private RoleSet availableRoles = RoleSet.empty();
+    private RoleSet rolesNotInRound = RoleSet.empty();
+    private RoleSet rolesSeenInRound = RoleSet.empty();
     private int nbCharacterChosenInARow;
     /**
      * Max number of character chosen in a row
@@ -77,17 +108,67 @@ public abstract class Player implements Opponent {
      * @param bank   the bank
      */
     protected Player(int nbGold, Deck deck, IView view, Bank bank) {
-        this.id = counter++;
+        this(nbGold, deck, view, bank, SimulationContext.getDefault());
+    }
+
+    /**
+     * Player constructor
+     *
+     * @param nbGold  the number of gold
+     * @param deck    the deck
+     * @param view    the view
+     * @param bank    the bank
+     * @param context the context of the game giving the id and the random of the player
+     */
+    protected Player(int nbGold, Deck deck, IView view, Bank bank, SimulationContext context) {
+        this.id = context.nextPlayerId();
+        this.context = context;
+        this.random = context.getRandom();
         this.nbGold = nbGold;
         this.deck = deck;
-        this.hand = new ArrayList<>();
+        this.hand = new Hand();
         this.citadel = new ArrayList<>();
+        this.nbDistrictsOfTypeInCitadel = new int[DistrictType.values().length];
         this.opponents = new ArrayList<>();
         this.view = view;
         this.bonus = 0;
         this.isFirstToHaveAllDistricts = false;
         this.hasPlayed = false;
         this.bank = bank;
+        this.roleStates = new RoleStateTable();
+    }
+
+    /**
+     * Put the player back in its state of the beginning of a game, keeping its id, its opponents and the number of
+     * districts needed to win. The random of the player is taken again from its context.
+     *
+     * @param nbGold the number of gold the player starts with
+     */
+    public void reset(int nbGold) {
+        this.nbGold = nbGold;
+        this.bonus = 0;
+        this.isFirstToHaveAllDistricts = false;
+        this.hand.clear();
+        this.clearCitadel();
+        this.random = this.context.getRandom();
+        this.character = null;
+        this.positionInDrawToPickACharacter = 0;
+        this.opponentsWhichHasChosenCharacterBefore = null;
+        this.opponentView = null;
+        this.opponentViews = List.of();
+        this.roleBelief.invalidate();
+        this.availableCharacters = null;
+        this.lastCardPlacedCourtyardOfMiracle = false;
+        this.colorCourtyardOfMiracleType = null;
+        this.hasPlayed = false;
+        this.charactersNotInRound = null;
+        this.charactersSeenInRound = null;
+        this.availableRoles = RoleSet.empty();
+        this.rolesNotInRound = RoleSet.empty();
+        this.rolesSeenInRound = RoleSet.empty();
+        this.nbCharacterChosenInARow = 0;
+        this.lastCharacterChosen = null;
+        this.notifyCitadelChanged();
     }
 
     /**
@@ -112,7 +193,7 @@ public abstract class Player implements Opponent {
      * Represents the player's turn
      */
     public void play() {
-        if (this.getCharacter().isDead()) {
+        if (this.isCharacterDead(this.getCharacter())) {
             throw new IllegalStateException("The player is dead, he can't play.");
         }
         view.displayPlayerStartPlaying(this);
@@ -125,16 +206,18 @@ public abstract class Player implements Opponent {
     }
 
     /**
-     * Use the effect of the prestige districts
+     * Use the effect of the prestige districts, in the order of the districts
      */
     public void usePrestigesEffect() {
         // for every prestiges that the player has, and has effect, we use it
-        this.citadel.stream().filter(
-                        card -> card.getDistrict().getDistrictType().equals(DistrictType.PRESTIGE) &&
-                                card.getDistrict().getActiveEffect() != null)
-                .forEach(card ->
-                        card.getDistrict().useActiveEffect(this, this.view)
-                );
+        long prestigesInCitadel = this.districtsInCitadel & Hand.districtsOfType(DistrictType.PRESTIGE);
+        while (prestigesInCitadel != 0) {
+            District district = DISTRICTS[Long.numberOfTrailingZeros(prestigesInCitadel)];
+            prestigesInCitadel &= prestigesInCitadel - 1;
+            if (district.getActiveEffect() != null) {
+                district.useActiveEffect(this, this.view);
+            }
+        }
     }
 
     /**
@@ -153,17 +236,17 @@ public abstract class Player implements Opponent {
      * @return a boolean
      */
     public boolean hasFiveDifferentDistrictTypes() {
-        List<DistrictType> listDifferentDistrictType = new ArrayList<>();
-        for (Card card : this.getCitadel()) {
-            if (!listDifferentDistrictType.contains(card.getDistrict().getDistrictType())) {
-                listDifferentDistrictType.add(card.getDistrict().getDistrictType());
+        int nbDifferentDistrictTypes = 0;
+        for (int nbDistrictsOfType : this.nbDistrictsOfTypeInCitadel) {
+            if (nbDistrictsOfType > 0) {
+                nbDifferentDistrictTypes++;
             }
         }
         // if there is 4 different district types and there is a courtyard of miracle in the citadel, we add the last district type
-        if (listDifferentDistrictType.size() == 4 && this.hasCourtyardOfMiracleAndItsNotTheLastCard()) {
-            listDifferentDistrictType.add(this.getColorCourtyardOfMiracleType());
+        if (nbDifferentDistrictTypes == 4 && this.hasCourtyardOfMiracleAndItsNotTheLastCard()) {
+            nbDifferentDistrictTypes++;
         }
-        return (listDifferentDistrictType.size() == 5);
+        return nbDifferentDistrictTypes == 5;
     }
 
     /**
@@ -172,8 +255,7 @@ public abstract class Player implements Opponent {
      * @return true if the player has the courtyard of miracle in its citadel and it's not the last card
      */
     public boolean hasCourtyardOfMiracleAndItsNotTheLastCard() {
-        return this.getCitadel().stream().anyMatch(card -> card.getDistrict().equals(District.COURTYARD_OF_MIRACLE))
-                && !this.isLastCardPlacedCourtyardOfMiracle();
+        return this.hasDistrictInCitadel(District.COURTYARD_OF_MIRACLE) && !this.isLastCardPlacedCourtyardOfMiracle();
     }
 
 
@@ -183,7 +265,7 @@ public abstract class Player implements Opponent {
     public List<DistrictType> findDistrictTypesMissingInCitadel() {
         List<DistrictType> listOfDistrictTypeMissing = new ArrayList<>();
         for (DistrictType districtType : DistrictType.values()) {
-            if (this.getCitadel().stream().anyMatch(card -> card.getDistrict().getDistrictType() == districtType)) {
+            if (this.getNbDistrictsOfTypeInCitadel(districtType) > 0) {
                 listOfDistrictTypeMissing.add(districtType);
             }
         }
@@ -228,6 +310,7 @@ public abstract class Player implements Opponent {
             this.hand.add(chosenCard);
             pickedCards.stream().filter(card -> card.hashCode() != chosenCard.hashCode()).forEach(this.deck::discard);
         }
+        this.notifyResourcesChanged();
     }
 
     /**
@@ -246,8 +329,7 @@ public abstract class Player implements Opponent {
      * @return nombre de cartes à piocher
      */
     protected int numberOfCardsToPick() {
-        Optional<Card> observatory = getCitadel().stream().filter(card -> card.getDistrict() == District.OBSERVATORY).findFirst();
-        if (observatory.isPresent()) {
+        if (this.hasDistrictInCitadel(District.OBSERVATORY)) {
             this.view.displayPlayerHasGotObservatory(this);
             return 3;
         }
@@ -267,6 +349,7 @@ public abstract class Player implements Opponent {
      */
     public final void pickACard() {
         pickCardFromDeck(this.getHand());
+        this.notifyResourcesChanged();
     }
 
     /**
@@ -277,6 +360,7 @@ public abstract class Player implements Opponent {
     public final void discardACard(Card card) {
         this.getHand().remove(card);
         this.deck.discard(card);
+        this.notifyResourcesChanged();
     }
 
     /**
@@ -293,8 +377,9 @@ public abstract class Player implements Opponent {
         this.getHand().remove(chosenCard);
         // if the chose card is CourtyardOfMiracle, we set the attribute lastCardPlacedCourtyardOfMiracle to true
         this.lastCardPlacedCourtyardOfMiracle = chosenCard.getDistrict().equals(District.COURTYARD_OF_MIRACLE);
-        this.citadel.add(chosenCard);
+        this.addToCitadel(chosenCard);
         this.returnGoldToBank(chosenCard.getDistrict().getCost());
+        this.notifyCitadelChanged();
         return optChosenCard;
     }
 
@@ -302,14 +387,50 @@ public abstract class Player implements Opponent {
      * Represents the phase where the player build x districts chosen by chooseDistrict()
      *
      * @param numberOfCards the number of cards to play
+     * @throws IllegalArgumentException if the number of cards is not positive or more than the player can build
      */
     public void buyXCardsAndAddThemToCitadel(int numberOfCards) {
         setHasPlayed(true);
-        if (numberOfCards <= 0) {
-            throw new IllegalArgumentException("Number of cards to play must be positive");
-        } else if (numberOfCards > this.getNbDistrictsCanBeBuild()) {
-            throw new IllegalArgumentException("Number of cards to play must be less than the number of districts the player can build");
+        if (this.getSimulationContext().isActionValidationEnabled()) {
+            this.canBuyXCardsAndAddThemToCitadel(numberOfCards).throwIfFailed();
         }
+        this.playXCards(numberOfCards);
+    }
+
+    /**
+     * Check if the player can play the given number of cards
+     *
+     * @param numberOfCards the number of cards to play
+     * @return OK if the number of cards is positive and the player can build as many districts, INVALID_NUMBER_OF_CARDS otherwise
+     */
+    public ActionResult canBuyXCardsAndAddThemToCitadel(int numberOfCards) {
+        if (numberOfCards <= 0 || numberOfCards > this.getNbDistrictsCanBeBuild()) {
+            return ActionResult.INVALID_NUMBER_OF_CARDS;
+        }
+        return ActionResult.OK;
+    }
+
+    /**
+     * Make the player play the given number of cards if it can, without throwing any exception
+     *
+     * @param numberOfCards the number of cards to play
+     * @return OK if the cards have been played, INVALID_NUMBER_OF_CARDS otherwise
+     */
+    public ActionResult tryBuyXCardsAndAddThemToCitadel(int numberOfCards) {
+        ActionResult result = this.canBuyXCardsAndAddThemToCitadel(numberOfCards);
+        if (result.isSuccess()) {
+            setHasPlayed(true);
+            this.playXCards(numberOfCards);
+        }
+        return result;
+    }
+
+    /**
+     * Play the given number of cards, one after the other
+     *
+     * @param numberOfCards the number of cards to play
+     */
+    private void playXCards(int numberOfCards) {
         for (int i = 0; i < numberOfCards; i++) {
             Optional<Card> card = playACard();
             card.ifPresent(value -> this.view.displayPlayerPlaysCard(this, value));
@@ -326,8 +447,9 @@ public abstract class Player implements Opponent {
             return;
         }
         this.hand.remove(card);
-        this.citadel.add(card);
+        this.addToCitadel(card);
         this.returnGoldToBank(card.getDistrict().getCost());
+        this.notifyCitadelChanged();
         this.view.displayPlayerPlaysCard(this, card);
     }
 
@@ -338,7 +460,7 @@ public abstract class Player implements Opponent {
     protected void useCommonCharacterEffect() {
         if (this.getCharacter() instanceof CommonCharacter commonCharacter) {
             int nbGoldSave = this.getNbGold();
-            commonCharacter.goldCollectedFromDistrictType();
+            commonCharacter.goldCollectedFromDistrictType(this);
             if (this.getCharacter().getRole() == Role.MERCHANT) {
                 view.displayGoldCollectedFromMerchant(this);
             }
@@ -358,6 +480,7 @@ public abstract class Player implements Opponent {
             cardPick.ifPresent(this.hand::add);
         }
         if (i == 0) return;
+        this.notifyResourcesChanged();
         view.displayPlayerPickCards(this, i);
     }
 
@@ -407,7 +530,7 @@ public abstract class Player implements Opponent {
      * @return true if the player has a card to play, false otherwise
      */
     protected boolean hasACardToPlay() {
-        return this.hand.stream().anyMatch(this::canPlayCard);
+        return this.hand.hasPlayableCard(this.getNbGold(), this.districtsInCitadel);
     }
 
     /**
@@ -425,7 +548,7 @@ public abstract class Player implements Opponent {
      */
     public final boolean canPlayCard(Card card) {
         return card.getDistrict().getCost() <= this.getNbGold()
-                && this.getCitadel().stream().noneMatch(c -> c.getDistrict().equals(card.getDistrict()));
+                && !this.hasDistrictInCitadel(card.getDistrict());
     }
 
     /**
@@ -435,6 +558,7 @@ public abstract class Player implements Opponent {
      */
     public void decreaseGold(int gold) {
         this.nbGold -= gold;
+        this.notifyResourcesChanged();
     }
 
     /**
@@ -444,6 +568,7 @@ public abstract class Player implements Opponent {
      */
     public void increaseGold(int gold) {
         this.nbGold += gold;
+        this.notifyResourcesChanged();
     }
 
     /**
@@ -454,6 +579,7 @@ public abstract class Player implements Opponent {
     public void returnGoldToBank(int gold) {
         this.nbGold -= gold;
         this.bank.retrieveCoin(gold);
+        this.notifyResourcesChanged();
     }
 
     /**
@@ -463,6 +589,7 @@ public abstract class Player implements Opponent {
         int nbPickedGold = this.bank.pickXCoin();
         view.displayPlayerPicksGold(this, nbPickedGold);
         this.nbGold += nbPickedGold;
+        this.notifyResourcesChanged();
     }
 
     /**
@@ -474,6 +601,7 @@ public abstract class Player implements Opponent {
         int nbPickedGold = this.bank.pickXCoin(nbOfGold);
         if (nbPickedGold > 0) {
             this.nbGold += nbPickedGold;
+            this.notifyResourcesChanged();
         }
     }
 
@@ -495,14 +623,82 @@ public abstract class Player implements Opponent {
         return Collections.unmodifiableList(this.citadel);
     }
 
+    /**
+     * Add the card to the citadel and update the districts and the district types of the citadel
+     *
+     * @param card the card built
+     */
+    private void addToCitadel(Card card) {
+        this.citadel.add(card);
+        this.citadelCost += card.getDistrict().getCost();
+        this.districtsInCitadel |= 1L << card.getDistrict().ordinal();
+        this.nbDistrictsOfTypeInCitadel[card.getDistrict().getDistrictType().ordinal()]++;
+    }
+
+    /**
+     * Remove the card from the citadel and update the districts and the district types of the citadel
+     *
+     * @param card the card destroyed
+     */
+    private void removeFromCitadel(Card card) {
+        this.citadel.remove(card);
+        District district = card.getDistrict();
+        this.citadelCost -= district.getCost();
+        this.nbDistrictsOfTypeInCitadel[district.getDistrictType().ordinal()]--;
+        // a district is built once at most
+        this.districtsInCitadel &= ~(1L << district.ordinal());
+    }
+
+    /**
+     * Empty the citadel
+     */
+    private void clearCitadel() {
+        this.citadel.clear();
+        this.districtsInCitadel = 0L;
+        this.citadelCost = 0;
+        Arrays.fill(this.nbDistrictsOfTypeInCitadel, 0);
+    }
+
+    /**
+     * Check if the district is in the citadel of the player
+     *
+     * @param district the district
+     * @return true if the district is in the citadel, false otherwise
+     */
+    public boolean hasDistrictInCitadel(District district) {
+        return (this.districtsInCitadel & (1L << district.ordinal())) != 0;
+    }
+
+    /**
+     * Get the districts of the citadel of the player
+     *
+     * @return the bitmask of the districts of the citadel, one bit per district ordinal
+     */
+    public long getBuiltDistricts() {
+        return this.districtsInCitadel;
+    }
+
+    /**
+     * Get the number of districts of the given type in the citadel of the player
+     *
+     * @param districtType the type of district
+     * @return the number of districts of this type in the citadel
+     */
+    public int getNbDistrictsOfTypeInCitadel(DistrictType districtType) {
+        return this.nbDistrictsOfTypeInCitadel[districtType.ordinal()];
+    }
+
     /**
      * Set the citadel of the player
      *
      * @param citadel the citadel of the player
      */
-    void setCitadel(List<Card> citadel) {
-        this.citadel.clear();
-        this.citadel.addAll(citadel);
+    public void setCitadel(List<Card> citadel) {
+        this.clearCitadel();
+        for (Card card : citadel) {
+            this.addToCitadel(card);
+        }
+        this.notifyCitadelChanged();
     }
 
     /**
@@ -524,10 +720,10 @@ public abstract class Player implements Opponent {
     }
 
     /**
-     * Reset the counter of the id of the player
+     * Reset the counter of the id of the players created outside a game
      */
     public static void resetIdCounter() {
-        counter = 1;
+        SimulationContext.getDefault().resetPlayerIds();
     }
 
     /**
@@ -570,8 +766,27 @@ public abstract class Player implements Opponent {
      * @return the score of the player
      */
     public final int getScore() {
-        //calcule de la somme du cout des quartiers de la citadelle et rajoute les bonus s'il y en a
-        return (getCitadel().stream().mapToInt(card -> card.getDistrict().getCost()).sum()) + getBonus();
+        //somme du cout des quartiers de la citadelle et des bonus s'il y en a
+        return this.getCitadelCost() + this.getBonus();
+    }
+
+    /**
+     * Get the sum of the costs of the districts of the citadel
+     *
+     * @return the cost of the citadel
+     */
+    public int getCitadelCost() {
+        return this.citadelCost;
+    }
+
+    /**
+     * Get the key used to rank the players at the end of the game: the score first, then the number of districts
+     * of the citadel and finally the cost of the citadel. A higher key means a better rank.
+     *
+     * @return the ranking key of the player
+     */
+    public final long getRankingKey() {
+        return ((long) this.getScore() << 32) | ((long) this.nbDistrictsInCitadel() << 16) | this.getCitadelCost();
     }
 
     /**
@@ -582,9 +797,11 @@ public abstract class Player implements Opponent {
      */
     public Character chooseCharacter(List<Character> characters) {
         this.character = this.chooseCharacterImpl(characters);
-        this.character.setPlayer(this);
+        this.roleStates.assign(this.character.getRole(), this);
         this.charactersSeenInRound = new ArrayList<>(characters);
         this.charactersSeenInRound.remove(this.character);
+        this.rolesSeenInRound = RoleSet.of(characters).without(this.character.getRole());
+        this.roleBelief.invalidate();
         this.view.displayPlayerChooseCharacter(this);
         return this.character;
     }
@@ -627,18 +844,166 @@ public abstract class Player implements Opponent {
         this.hide();
         Character characterToRetrieve = this.character;
         this.character = null;
-        characterToRetrieve.resurrect();
-        characterToRetrieve.setPlayer(null);
+        this.roleStates.release(characterToRetrieve.getRole());
+        this.roleBelief.invalidate();
         return characterToRetrieve;
     }
 
+    /**
+     * Get the table of the state of the characters in the round
+     *
+     * @return the role state table shared by the players of the game
+     */
+    public RoleStateTable getRoleStates() {
+        return this.roleStates;
+    }
+
+    /**
+     * Set the table of the state of the characters in the round
+     *
+     * @param roleStates the role state table shared by the players of the game
+     */
+    public void setRoleStates(RoleStateTable roleStates) {
+        this.roleStates = roleStates;
+    }
+
+    /**
+     * Add a listener notified of the changes of the citadel, the hand and the gold of the player,
+     * a listener already added is not added again
+     *
+     * @param playerListener the listener
+     */
+    public void addPlayerListener(IPlayerListener playerListener) {
+        if (!this.playerListeners.contains(playerListener)) {
+            this.playerListeners.add(playerListener);
+        }
+    }
+
+    /**
+     * Notify the listeners that the citadel of the player changed
+     */
+    void notifyCitadelChanged() {
+        for (IPlayerListener playerListener : this.playerListeners) {
+            playerListener.onCitadelChanged(this);
+        }
+    }
+
+    /**
+     * Notify the listeners that the hand or the gold of the player changed
+     */
+    void notifyResourcesChanged() {
+        for (IPlayerListener playerListener : this.playerListeners) {
+            playerListener.onResourcesChanged(this);
+        }
+    }
+
+    /**
+     * Get the analysis of the threats of the game.
+     * A player outside of a game gets an analysis of its opponents as they are now.
+     *
+     * @return the analysis shared by the players of the game
+     */
+    public ThreatAnalysis getThreatAnalysis() {
+        if (this.threatAnalysis == null) {
+            return new ThreatAnalysis(this.getOpponents(), this.getNumberOfDistrictsNeeded());
+        }
+        return this.threatAnalysis;
+    }
+
+    /**
+     * Get the counts of the cards the player has not seen yet in the game. The tracker is created the first time it
+     * is asked, from the citadels and the hand as they are then, so the players whose strategy never reads it don't
+     * pay for it.
+     *
+     * @return the deck tracker from the point of view of the player
+     */
+    public DeckTracker getDeckTracker() {
+        if (this.deckTracker == null) {
+            this.deckTracker = new DeckTracker(this);
+            List<Player> players = new ArrayList<>();
+            players.add(this);
+            for (Opponent opponent : this.getOpponents()) {
+                if (opponent instanceof Player player) {
+                    players.add(player);
+                }
+            }
+            this.deckTracker.track(players);
+        }
+        return this.deckTracker;
+    }
+
+    /**
+     * Start counting again the cards the player has not seen, if its tracker was already asked for
+     *
+     * @param players the players of the game
+     */
+    public void trackDeck(List<Player> players) {
+        if (this.deckTracker != null) {
+            this.deckTracker.track(players);
+        }
+    }
+
+    /**
+     * Get what the player believes about the roles of its opponents in the current round
+     *
+     * @return the role belief of the player, up to date with what it saw
+     */
+    public RoleBelief getRoleBelief() {
+        this.roleBelief.refresh(this);
+        return this.roleBelief;
+    }
+
+    /**
+     * Set the analysis of the threats shared by the players of the game
+     *
+     * @param threatAnalysis the analysis of the game
+     */
+    public void setThreatAnalysis(ThreatAnalysis threatAnalysis) {
+        this.threatAnalysis = threatAnalysis;
+    }
+
+    /**
+     * Get the index of the districts the warlord may destroy.
+     * A player outside of a game gets an index of the citadels of its opponents as they are now.
+     *
+     * @return the index shared by the players of the game
+     */
+    public WarlordTargetIndex getWarlordTargetIndex() {
+        if (this.warlordTargetIndex == null) {
+            return new WarlordTargetIndex(this.getOpponents(), this.getNumberOfDistrictsNeeded());
+        }
+        return this.warlordTargetIndex;
+    }
+
+    /**
+     * Set the index of the districts the warlord may destroy, shared by the players of the game
+     *
+     * @param warlordTargetIndex the index of the game
+     */
+    public void setWarlordTargetIndex(WarlordTargetIndex warlordTargetIndex) {
+        this.warlordTargetIndex = warlordTargetIndex;
+    }
+
+    /**
+     * Check if the character is dead in the current round
+     *
+     * @param character the character
+     * @return true if the character is dead, false otherwise
+     */
+    public boolean isCharacterDead(Character character) {
+        return this.roleStates.isDead(character.getRole());
+    }
+
     @Override
     public final void destroyDistrict(Player attacker, District targetedDistrict) {
         // if the targetedDistrict is in the citadel, we remove it and return the card removed
-        Optional<Card> card = this.getCitadel().stream().filter(c -> c.getDistrict().equals(targetedDistrict)).findFirst();
+        Optional<Card> card = this.hasDistrictInCitadel(targetedDistrict)
+                ? this.getCitadel().stream().filter(c -> c.getDistrict().equals(targetedDistrict)).findFirst()
+                : Optional.empty();
         if (card.isPresent()) {
             Card cardDestroyed = card.get();
-            this.citadel.remove(cardDestroyed);
+            this.removeFromCitadel(cardDestroyed);
+            this.notifyCitadelChanged();
             boolean someoneUseCemeteryToKeepDistrict = askOpponentForCemeteryEffect(cardDestroyed);
             if (!someoneUseCemeteryToKeepDistrict) {
                 this.deck.discard(cardDestroyed);
@@ -653,7 +1018,7 @@ public abstract class Player implements Opponent {
     boolean askOpponentForCemeteryEffect(Card cardToRetrieve) {
         boolean someoneUseCemeteryToKeepDistrict = false;
         for (Opponent opponent : this.getOpponents()) {
-            if (opponent.getCitadel().stream().anyMatch(card -> card.getDistrict().equals(District.CEMETERY))
+            if (opponent.hasDistrictInCitadel(District.CEMETERY)
                     && opponent.isUsingCemeteryEffect(cardToRetrieve)) {
                 someoneUseCemeteryToKeepDistrict = true;
                 break;
@@ -664,6 +1029,9 @@ public abstract class Player implements Opponent {
 
     public final boolean isUsingCemeteryEffect(Card card) {
         if (!this.getCharacter().getRole().equals(Role.WARLORD) && this.wantToUseCemeteryEffect(card)) {
+            for (IPlayerListener playerListener : this.playerListeners) {
+                playerListener.onCardShownTakenInHand(this, card);
+            }
             this.hand.add(card);
             this.returnGoldToBank(1);
             this.view.displayPlayerUseCemeteryEffect(this, card);
@@ -683,9 +1051,12 @@ public abstract class Player implements Opponent {
     /**
      * Get opponents of the player
      *
-     * @return the opponents of the player
+     * @return the opponents of the player, empty if they are not set yet
      */
     public List<Opponent> getOpponents() {
+        if (this.opponents == null) {
+            return List.of();
+        }
         return Collections.unmodifiableList(this.opponents);
     }
 
@@ -698,6 +1069,85 @@ public abstract class Player implements Opponent {
         this.opponents = opponents;
     }
 
+    /**
+     * Take the snapshot of what the opponents can see of the player, at the beginning of a phase.
+     * The snapshot of the previous phase is kept if the player did not change since.
+     */
+    public void publishOpponentView() {
+        Character revealedCharacter = this.getOpponentCharacter();
+        Role revealedRole = revealedCharacter == null ? null : revealedCharacter.getRole();
+        int nbGold = this.getNbGold();
+        int handSize = this.getHandSize();
+        long builtDistricts = this.getBuiltDistricts();
+        int nbDistricts = this.nbDistrictsInCitadel();
+        int nbDistrictsNeeded = this.getNumberOfDistrictsNeeded();
+        int position = this.getPositionInDrawToPickACharacter();
+        if (this.opponentView == null || !this.opponentView.hasValues(nbGold, handSize, builtDistricts, nbDistricts,
+                nbDistrictsNeeded, position, revealedRole)) {
+            this.opponentView = new OpponentView(this, nbGold, handSize, builtDistricts, nbDistricts,
+                    nbDistrictsNeeded, position, revealedRole);
+        }
+    }
+
+    @Override
+    public OpponentView getOpponentView() {
+        return this.opponentView;
+    }
+
+    /**
+     * Gather the snapshots published by the opponents, in the order of the opponents.
+     * The list of the previous phase is kept if no opponent published a new snapshot since.
+     */
+    public void collectOpponentViews() {
+        List<Opponent> opponentsOfThePlayer = this.getOpponents();
+        if (!this.hasSameOpponentViews(opponentsOfThePlayer)) {
+            OpponentView[] views = new OpponentView[opponentsOfThePlayer.size()];
+            for (int i = 0; i < views.length; i++) {
+                views[i] = opponentsOfThePlayer.get(i).getOpponentView();
+            }
+            this.opponentViews = List.of(views);
+        }
+        this.roleBelief.invalidate();
+    }
+
+    /**
+     * Check if the opponents still publish the snapshots of the current list
+     *
+     * @param opponentsOfThePlayer the opponents of the player
+     * @return true if each opponent publishes the same snapshot as in the current list
+     */
+    private boolean hasSameOpponentViews(List<Opponent> opponentsOfThePlayer) {
+        if (this.opponentViews.size() != opponentsOfThePlayer.size()) {
+            return false;
+        }
+        for (int i = 0; i < opponentsOfThePlayer.size(); i++) {
+            if (this.opponentViews.get(i) != opponentsOfThePlayer.get(i).getOpponentView()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the snapshots of the opponents published at the beginning of the current phase
+     *
+     * @return the immutable list of the views of the opponents, in the order of the opponents, a new list being
+     * published at each phase where an opponent changed
+     */
+    public List<OpponentView> getOpponentViews() {
+        return this.opponentViews;
+    }
+
+    /**
+     * Set the snapshots of the opponents
+     *
+     * @param opponentViews the views of the opponents
+     */
+    public void setOpponentViews(List<OpponentView> opponentViews) {
+        this.opponentViews = List.copyOf(opponentViews);
+        this.roleBelief.invalidate();
+    }
+
     /**
      * Get the opponents of the player which has chosen a character before
      *
@@ -718,11 +1168,14 @@ public abstract class Player implements Opponent {
 
     @Override
     public void switchHandWith(Player magician) {
-        List<Card> handToSwitch = new ArrayList<>(this.getHand());
-        this.getHand().clear();
-        this.getHand().addAll(magician.getHand());
-        magician.getHand().clear();
-        magician.getHand().addAll(handToSwitch);
+        Hand handToSwitch = this.hand;
+        this.hand = magician.hand;
+        magician.hand = handToSwitch;
+        for (IPlayerListener playerListener : this.playerListeners) {
+            playerListener.onHandsSwitched(this, magician);
+        }
+        this.notifyResourcesChanged();
+        magician.notifyResourcesChanged();
     }
 
     /**
@@ -779,28 +1232,29 @@ public abstract class Player implements Opponent {
      * @return true if the character is revealed, false otherwise
      */
     public boolean isCharacterIsRevealed() {
-        return this.characterIsRevealed;
+        return this.character != null && this.roleStates.isRevealed(this.character.getRole());
     }
 
     /**
      * Reveal the character
      */
     public void reveal() {
-        if (this.characterIsRevealed) {
+        if (this.isCharacterIsRevealed()) {
             throw new IllegalStateException("The player is already revealed");
         }
         view.displayPlayerRevealCharacter(this);
-        this.characterIsRevealed = true;
+        this.roleStates.setRevealed(this.character.getRole(), true);
+        this.roleBelief.invalidate();
     }
 
     /**
      * Hide the character
      */
     public void hide() {
-        if (!this.characterIsRevealed && !this.character.isDead()) {
+        if (!this.isCharacterIsRevealed() && !this.isCharacterDead(this.character)) {
             throw new IllegalStateException("The player is already hidden");
         }
-        this.characterIsRevealed = false;
+        this.roleStates.setRevealed(this.character.getRole(), false);
     }
 
     @Override
@@ -833,6 +1287,17 @@ public abstract class Player implements Opponent {
      */
     public void setAvailableCharacters(List<Character> availableCharacters) {
         this.availableCharacters = availableCharacters;
+        this.availableRoles = availableCharacters == null ? RoleSet.empty() : RoleSet.of(availableCharacters);
+        this.roleBelief.invalidate();
+    }
+
+    /**
+     * Get the roles of the available characters
+     *
+     * @return the set of the available roles
+     */
+    public RoleSet getAvailableRoles() {
+        return this.availableRoles;
     }
 
     /**
@@ -842,6 +1307,17 @@ public abstract class Player implements Opponent {
      */
     public void setCharactersNotInRound(List<Character> charactersNotInRound) {
         this.charactersNotInRound = charactersNotInRound;
+        this.rolesNotInRound = charactersNotInRound == null ? RoleSet.empty() : RoleSet.of(charactersNotInRound);
+        this.roleBelief.invalidate();
+    }
+
+    /**
+     * Get the roles of the characters not in the round
+     *
+     * @return the set of the roles not in the round
+     */
+    public RoleSet getRolesNotInRound() {
+        return this.rolesNotInRound;
     }
 
     /**
@@ -862,6 +1338,15 @@ public abstract class Player implements Opponent {
         return this.charactersSeenInRound;
     }
 
+    /**
+     * Get the roles of the characters seen in the round
+     *
+     * @return the set of the roles seen in the round
+     */
+    public RoleSet getRolesSeenInRound() {
+        return this.rolesSeenInRound;
+    }
+
     /**
      * Discard a card from the hand of the player (for laboratory effect)
      *
@@ -874,6 +1359,7 @@ public abstract class Player implements Opponent {
         }
         this.hand.remove(card);
         this.deck.discard(card);
+        this.notifyResourcesChanged();
         this.view.displayPlayerDiscardCard(this, card);
         return true;
     }
@@ -891,7 +1377,7 @@ public abstract class Player implements Opponent {
      * @return true if the player has the library in its citadel, false otherwise
      */
     public boolean isLibraryPresent() {
-        return this.getCitadel().stream().anyMatch(card -> card.getDistrict().equals(District.LIBRARY));
+        return this.hasDistrictInCitadel(District.LIBRARY);
     }
 
 
@@ -913,13 +1399,13 @@ public abstract class Player implements Opponent {
     }
 
     /**
-     * method tells us if a player has 7 districts in his citadel
+     * method tells us if a player has one district less than needed to end the game in his citadel
      *
      * @return a boolean
      */
     @Override
     public boolean isAboutToWin() {
-        return this.getCitadel().size() == 7;
+        return this.getCitadel().size() == this.getNumberOfDistrictsNeeded() - 1;
     }
 
     /**
@@ -927,10 +1413,28 @@ public abstract class Player implements Opponent {
      *
      * @param mockRandom the random
      */
-    public void setRandom(Random mockRandom) {
+    public void setRandom(RandomGenerator mockRandom) {
         this.random = mockRandom;
     }
 
+    /**
+     * Get the random used by the player to take its decisions
+     *
+     * @return the random
+     */
+    public RandomGenerator getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Get the context of the game of the player
+     *
+     * @return the context of the game
+     */
+    public SimulationContext getSimulationContext() {
+        return this.context;
+    }
+
     /**
      * Set the last character chosen
      *
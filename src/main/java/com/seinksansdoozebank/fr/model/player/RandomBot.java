@@ -1,5 +1,7 @@
 package com.seinksansdoozebank.fr.model.player;
 
+import com.seinksansdoozebank.fr.controller.RandomUtils;
+import com.seinksansdoozebank.fr.controller.SimulationContext;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.Deck;
@@ -11,12 +13,9 @@ import com.seinksansdoozebank.fr.model.character.roles.Role;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.MagicianTarget;
 import com.seinksansdoozebank.fr.view.IView;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-import static java.util.Collections.shuffle;
-
 /**
  * The RandomBot class represents a bot that makes random decisions.
  */
@@ -33,10 +32,23 @@ public class RandomBot extends Player {
         super(nbGold, deck, view, bank);
     }
 
+    /**
+     * RandomBot constructor
+     *
+     * @param nbGold  the number of gold
+     * @param deck    the deck
+     * @param view    the view
+     * @param bank    the bank
+     * @param context the context of the game
+     */
+    public RandomBot(int nbGold, Deck deck, IView view, Bank bank, SimulationContext context) {
+        super(nbGold, deck, view, bank, context);
+    }
+
     @Override
     public void playARound() {
         this.useCommonCharacterEffect();
-        this.getCharacter().applyEffect();
+        this.getCharacter().applyEffect(this);
         int nbDistrictsToBuild = random.nextInt(this.getNbDistrictsCanBeBuild() + 1);
         this.chooseWhenToPickACard(nbDistrictsToBuild);
     }
@@ -96,7 +108,7 @@ public class RandomBot extends Player {
      */
     @Override
     protected Card keepOneDiscardOthers(List<Card> pickedCards) {
-        shuffle(pickedCards);
+        RandomUtils.shuffle(pickedCards, random);
         return pickedCards.get(0);
     }
 
@@ -141,7 +153,7 @@ public class RandomBot extends Player {
             // exchange some cards with the deck
             int nbCardsToExchange = random.nextInt(this.getHand().size() + 1);
             // Choose the cards from the district to exchange
-            Collections.shuffle(this.getHand());
+            RandomUtils.shuffle(this.getHand(), random);
             List<Card> cardsToExchange = this.getHand().stream()
                     .limit(nbCardsToExchange)
                     .toList();
@@ -158,7 +170,7 @@ public class RandomBot extends Player {
     public Character useEffectAssassin() {
         Character characterToKill = this.chooseAssassinTarget();
         // try to kill the playerToKill and if throw retry until the playerToKill is dead
-        while (!characterToKill.isDead()) {
+        while (!this.isCharacterDead(characterToKill)) {
             try {
                 view.displayPlayerUseAssassinEffect(this, characterToKill);
                 return characterToKill;
@@ -172,7 +184,7 @@ public class RandomBot extends Player {
     @Override
     protected Character chooseAssassinTarget() {
         List<Character> targetableCharacters = this.getAvailableCharacters().stream().filter(character -> character.getRole() != Role.ASSASSIN &&
-                !character.isDead()).toList();
+                !this.isCharacterDead(character)).toList();
         return targetableCharacters.get(random.nextInt(targetableCharacters.size()));
     }
 
@@ -203,7 +215,7 @@ public class RandomBot extends Player {
     protected Optional<Character> chooseThiefTarget() {
         List<Character> targetableCharacters = this.getAvailableCharacters().stream().filter(character -> character.getRole() != Role.ASSASSIN &&
                 character.getRole() != Role.THIEF &&
-                !character.isDead()).toList();
+                !this.isCharacterDead(character)).toList();
         if (targetableCharacters.isEmpty()) {
             return Optional.empty();
         } else {
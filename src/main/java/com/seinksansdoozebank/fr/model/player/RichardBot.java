@@ -1,9 +1,12 @@
 package com.seinksansdoozebank.fr.model.player;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Deck;
+import com.seinksansdoozebank.fr.model.character.Characters;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.MagicianTarget;
 import com.seinksansdoozebank.fr.model.player.custombot.strategies.StrategyUtils;
 import com.seinksansdoozebank.fr.view.IView;
@@ -17,6 +20,12 @@ import java.util.Optional;
  * The RichardBot class represents a bot that makes decisions to adapt to strategy of community
  */
 public class RichardBot extends SmartBot {
+    /**
+     * The roles the bot looks at first when choosing its character, in this order
+     */
+    private static final Role[] ORDERED_ROLES = {Role.ASSASSIN, Role.MAGICIAN, Role.MERCHANT, Role.ARCHITECT, Role.BISHOP, Role.WARLORD};
+    private static final RoleSet ORDERED_ROLE_SET = RoleSet.of(ORDERED_ROLES);
+
     /**
      * RichardBot constructor
      *
@@ -29,23 +38,37 @@ public class RichardBot extends SmartBot {
         super(nbGold, deck, view, bank);
     }
 
+    /**
+     * RichardBot constructor
+     *
+     * @param nbGold  the number of gold
+     * @param deck    the deck
+     * @param view    the view
+     * @param bank    the bank
+     * @param context the context of the game
+     */
+    public RichardBot(int nbGold, Deck deck, IView view, Bank bank, SimulationContext context) {
+        super(nbGold, deck, view, bank, context);
+    }
+
     boolean anOpponentIsAboutToWin() {
-        return this.getOpponents().stream().anyMatch(Opponent::isAboutToWin);
+        return this.getThreatAnalysis().getOpponentAboutToWin(this).isPresent();
     }
 
     @Override
     protected Optional<Character> chooseThiefTarget() {
         // get from getAvailableCharacters the characters that are not dead
-        List<Role> charactersInTheRound = this.getAvailableCharacters()
-                .stream()
-                .filter(character -> !character.isDead())
-                .map(Character::getRole)
-                .toList();
+        RoleSet charactersInTheRound = RoleSet.empty();
+        for (Character character : this.getAvailableCharacters()) {
+            if (!this.isCharacterDead(character)) {
+                charactersInTheRound = charactersInTheRound.with(character.getRole());
+            }
+        }
         if (this.anOpponentIsAboutToWin()) {
             if (charactersInTheRound.contains(Role.BISHOP)) {
-                return Optional.ofNullable(StrategyUtils.getCharacterFromRoleInList(Role.BISHOP, this.getAvailableCharacters()));
+                return Optional.of(Characters.of(Role.BISHOP));
             } else if (charactersInTheRound.contains(Role.WARLORD)) {
-                return Optional.ofNullable(StrategyUtils.getCharacterFromRoleInList(Role.WARLORD, this.getAvailableCharacters()));
+                return Optional.of(Characters.of(Role.WARLORD));
             }
         }
         return useSuperChoseThiefEffect();
@@ -57,19 +80,25 @@ public class RichardBot extends SmartBot {
 
     @Override
     protected Character chooseAssassinTarget() {
-        List<Character> charactersList = this.getAvailableCharacters();
+        RoleSet availableRoles = RoleSet.of(this.getAvailableCharacters());
         // Conditions spécifiques pour Voleur et Warlord
-        Character target = null;
-        for (Character character : charactersList) {
-            if (character.getRole() == Role.THIEF && (shouldPreventWealth() || thinkThiefHasBeenChosenByTheLeadingOpponent())
-                    || character.getRole() == Role.WARLORD && (this.isAboutToWin() || thinkWarlordHasBeenChosenByTheLeadingOpponent())) {
-                target = character;
-            }
+        RoleSet targetRoles = RoleSet.empty();
+        if (availableRoles.contains(Role.THIEF) && (shouldPreventWealth() || thinkThiefHasBeenChosenByTheLeadingOpponent())) {
+            targetRoles = targetRoles.with(Role.THIEF);
+        }
+        if (availableRoles.contains(Role.WARLORD) && (this.isAboutToWin() || thinkWarlordHasBeenChosenByTheLeadingOpponent())) {
+            targetRoles = targetRoles.with(Role.WARLORD);
         }
-        if (target == null) {
+        if (targetRoles.isEmpty()) {
             return super.chooseAssassinTarget();
         }
-        return target;
+        // kill the role an opponent most likely holds, the warlord if they are as likely
+        RoleBelief roleBelief = this.getRoleBelief();
+        if (targetRoles.contains(Role.WARLORD) && (!targetRoles.contains(Role.THIEF)
+                || roleBelief.getHeldProbability(Role.WARLORD) >= roleBelief.getHeldProbability(Role.THIEF))) {
+            return Characters.of(Role.WARLORD);
+        }
+        return Characters.of(Role.THIEF);
     }
 
     /**
@@ -78,7 +107,7 @@ public class RichardBot extends SmartBot {
      * @return true si un adversaire a 7 pièces d'or ou plus, false sinon
      */
     boolean shouldPreventWealth() {
-        return this.getOpponents().stream().anyMatch(opponent -> opponent.getNbGold() > 7);
+        return this.getThreatAnalysis().getMaxNbGoldOfOpponents(this) > 7;
     }
 
     /**
@@ -88,7 +117,7 @@ public class RichardBot extends SmartBot {
      */
     boolean thinkWarlordHasBeenChosenByTheLeadingOpponent() {
         // if leadingOpponent is about to win, he will choose Warlord or Bishop, but the bishop is not killable
-        return StrategyUtils.getLeadingOpponent(this.getOpponents()).isAboutToWin();
+        return this.getThreatAnalysis().getLeadingOpponent(this).isAboutToWin();
     }
 
     /**
@@ -97,24 +126,13 @@ public class RichardBot extends SmartBot {
      * @return true if the player think Thief has been chosen by the opponent about to win, false otherwise
      */
     boolean thinkThiefHasBeenChosenByTheLeadingOpponent() {
-        if (StrategyUtils.isRoleInCharacterList(Role.THIEF, this.getCharactersNotInRound())) { // if thief is not in the round, we return false (because he can't be chosen)
+        if (this.getRolesNotInRound().contains(Role.THIEF)) { // if thief is not in the round, we return false (because he can't be chosen)
             return false;
         }
-        if (StrategyUtils.isRoleInCharacterList(Role.THIEF, this.getCharactersSeenInRound())) { // if thief has been seen (means that he has been chosen after the player)
-            return this.getOpponentsWhichHasChosenCharacterAfter().stream().anyMatch(Opponent::isAboutToWin); // we check if the opponent which is about to win has chosen after the player (could mean that he has chosen the thief)
-        } else {
-            return this.getOpponentsWhichHasChosenCharacterBefore().stream().anyMatch(Opponent::isAboutToWin); // if the thief has not been seen, we check if the opponents which has chosen before the player are about to win (could mean that the thief has been chosen by one of them)
-        }
-    }
-
-    /**
-     * Get the opponents which has chosen their character before the player
-     * make difference between this.getOpponents() and this.getOpponentsWhichHasChosenCharacterBefore()
-     *
-     * @return the opponents which has chosen their character before the player
-     */
-    List<Opponent> getOpponentsWhichHasChosenCharacterAfter() {
-        return this.getOpponents().stream().filter(opponent -> !this.getOpponentsWhichHasChosenCharacterBefore().contains(opponent)).toList();
+        // an opponent about to win may have the thief if it chose after the player and the thief was left, or before the player and the thief wasn't seen
+        RoleBelief roleBelief = this.getRoleBelief();
+        return this.getOpponentViews().stream()
+                .anyMatch(view -> view.isAboutToWin() && roleBelief.getProbability(view.opponent(), Role.THIEF) > 0);
     }
 
     /**
@@ -127,30 +145,31 @@ public class RichardBot extends SmartBot {
      * @return an optional of the character that will be assigned to the current player
      */
     Optional<Character> chooseCharacterWhenOpponentHasOneDistrictLeft(List<Character> characters, Opponent opponent) {
+        RoleSet roles = RoleSet.of(characters);
         //Si l'opposant est deuxième à choisir son role alors, on doit choisir l'assassin
-        if (opponent.getPositionInDrawToPickACharacter() == 1 && StrategyUtils.isRoleInCharacterList(Role.ASSASSIN, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.ASSASSIN, characters));
+        if (opponent.getPositionInDrawToPickACharacter() == 1 && roles.contains(Role.ASSASSIN)) {
+            return Optional.of(Characters.of(Role.ASSASSIN));
         }
         //Cas où l'opposant est 3ème à choisir
         if (opponent.getPositionInDrawToPickACharacter() == 2) {
-            if (StrategyUtils.isRoleInCharacterList(Role.KING, characters)) {
-                return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.KING, characters));
+            if (roles.contains(Role.KING)) {
+                return Optional.of(Characters.of(Role.KING));
             }
-            if (StrategyUtils.isRoleInCharacterList(Role.BISHOP, characters) &&
-                    StrategyUtils.isRoleInCharacterList(Role.WARLORD, characters) &&
-                    StrategyUtils.isRoleInCharacterList(Role.ASSASSIN, characters)) {
+            if (roles.contains(Role.BISHOP) &&
+                    roles.contains(Role.WARLORD) &&
+                    roles.contains(Role.ASSASSIN)) {
                 return whenCharacterContainsBishopWarlordAssassin(characters);
             }
-            if (!StrategyUtils.isRoleInCharacterList(Role.WARLORD, characters)) {
+            if (!roles.contains(Role.WARLORD)) {
                 return whenCharacterDoesNotContainWarlord(characters);
-            } else if (!StrategyUtils.isRoleInCharacterList(Role.BISHOP, characters)) {
+            } else if (!roles.contains(Role.BISHOP)) {
                 return whenCharacterDoesNotContainBishop(characters);
             } else {
                 return whenCharacterDoesNotContainAssassin(characters);
             }
         }
-        if (StrategyUtils.isRoleInCharacterList(Role.ASSASSIN, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.ASSASSIN, characters));
+        if (roles.contains(Role.ASSASSIN)) {
+            return Optional.of(Characters.of(Role.ASSASSIN));
         }
         return Optional.of(characters.get(random.nextInt(characters.size())));
     }
@@ -162,15 +181,16 @@ public class RichardBot extends SmartBot {
      * @return an optional of the character
      */
     Optional<Character> whenCharacterContainsBishopWarlordAssassin(List<Character> characters) {
-        if (this.getPositionInDrawToPickACharacter() == 0 && StrategyUtils.isRoleInCharacterList(Role.WARLORD, characters)) {
-            return Optional.ofNullable(StrategyUtils.getCharacterFromRoleInList(Role.WARLORD, characters));
-        } else if (this.getPositionInDrawToPickACharacter() == 1 && StrategyUtils.isRoleInCharacterList(Role.ASSASSIN, characters)) {
-            return Optional.ofNullable(StrategyUtils.getCharacterFromRoleInList(Role.ASSASSIN, characters));
+        RoleSet roles = RoleSet.of(characters);
+        if (this.getPositionInDrawToPickACharacter() == 0 && roles.contains(Role.WARLORD)) {
+            return Optional.of(Characters.of(Role.WARLORD));
+        } else if (this.getPositionInDrawToPickACharacter() == 1 && roles.contains(Role.ASSASSIN)) {
+            return Optional.of(Characters.of(Role.ASSASSIN));
         }
-        if (StrategyUtils.isRoleInCharacterList(Role.WARLORD, characters)) {
-            return Optional.ofNullable(StrategyUtils.getCharacterFromRoleInList(Role.WARLORD, characters));
+        if (roles.contains(Role.WARLORD)) {
+            return Optional.of(Characters.of(Role.WARLORD));
         }
-        return Optional.ofNullable(StrategyUtils.getRandomCharacterFromList(characters));
+        return Optional.ofNullable(StrategyUtils.getRandomCharacterFromList(characters, random));
     }
 
     /**
@@ -179,15 +199,16 @@ public class RichardBot extends SmartBot {
      * @return an optional of the character
      */
     Optional<Character> whenCharacterDoesNotContainWarlord(List<Character> characters) {
-        if (this.getPositionInDrawToPickACharacter() == 0 && StrategyUtils.isRoleInCharacterList(Role.ASSASSIN, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.ASSASSIN, characters));
-        } else if (this.getPositionInDrawToPickACharacter() == 1 && StrategyUtils.isRoleInCharacterList(Role.MAGICIAN, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.MAGICIAN, characters));
+        RoleSet roles = RoleSet.of(characters);
+        if (this.getPositionInDrawToPickACharacter() == 0 && roles.contains(Role.ASSASSIN)) {
+            return Optional.of(Characters.of(Role.ASSASSIN));
+        } else if (this.getPositionInDrawToPickACharacter() == 1 && roles.contains(Role.MAGICIAN)) {
+            return Optional.of(Characters.of(Role.MAGICIAN));
         }
-        if (StrategyUtils.isRoleInCharacterList(Role.ASSASSIN, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.ASSASSIN, characters));
+        if (roles.contains(Role.ASSASSIN)) {
+            return Optional.of(Characters.of(Role.ASSASSIN));
         }
-        return Optional.of(StrategyUtils.getRandomCharacterFromList(characters));
+        return Optional.of(StrategyUtils.getRandomCharacterFromList(characters, random));
     }
 
     /**
@@ -196,15 +217,16 @@ public class RichardBot extends SmartBot {
      * @return an optional of the character
      */
     Optional<Character> whenCharacterDoesNotContainBishop(List<Character> characters) {
-        if (this.getPositionInDrawToPickACharacter() == 0 && StrategyUtils.isRoleInCharacterList(Role.ASSASSIN, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.ASSASSIN, characters));
-        } else if (this.getPositionInDrawToPickACharacter() == 1 && StrategyUtils.isRoleInCharacterList(Role.WARLORD, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.WARLORD, characters));
+        RoleSet roles = RoleSet.of(characters);
+        if (this.getPositionInDrawToPickACharacter() == 0 && roles.contains(Role.ASSASSIN)) {
+            return Optional.of(Characters.of(Role.ASSASSIN));
+        } else if (this.getPositionInDrawToPickACharacter() == 1 && roles.contains(Role.WARLORD)) {
+            return Optional.of(Characters.of(Role.WARLORD));
         }
-        if (StrategyUtils.isRoleInCharacterList(Role.ASSASSIN, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.ASSASSIN, characters));
+        if (roles.contains(Role.ASSASSIN)) {
+            return Optional.of(Characters.of(Role.ASSASSIN));
         }
-        return Optional.of(StrategyUtils.getRandomCharacterFromList(characters));
+        return Optional.of(StrategyUtils.getRandomCharacterFromList(characters, random));
     }
 
     /**
@@ -213,21 +235,22 @@ public class RichardBot extends SmartBot {
      * @return an optional of the character
      */
     Optional<Character> whenCharacterDoesNotContainAssassin(List<Character> characters) {
-        if (this.getPositionInDrawToPickACharacter() == 0 && StrategyUtils.isRoleInCharacterList(Role.WARLORD, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.WARLORD, characters));
-        } else if (this.getPositionInDrawToPickACharacter() == 1 && StrategyUtils.isRoleInCharacterList(Role.BISHOP, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.BISHOP, characters));
+        RoleSet roles = RoleSet.of(characters);
+        if (this.getPositionInDrawToPickACharacter() == 0 && roles.contains(Role.WARLORD)) {
+            return Optional.of(Characters.of(Role.WARLORD));
+        } else if (this.getPositionInDrawToPickACharacter() == 1 && roles.contains(Role.BISHOP)) {
+            return Optional.of(Characters.of(Role.BISHOP));
         }
-        if (StrategyUtils.isRoleInCharacterList(Role.WARLORD, characters)) {
-            return Optional.of(StrategyUtils.getCharacterFromRoleInList(Role.WARLORD, characters));
+        if (roles.contains(Role.WARLORD)) {
+            return Optional.of(Characters.of(Role.WARLORD));
         }
-        return Optional.of(StrategyUtils.getRandomCharacterFromList(characters));
+        return Optional.of(StrategyUtils.getRandomCharacterFromList(characters, random));
     }
 
     @Override
     public Character chooseCharacterImpl(List<Character> characters) {
         Optional<Character> optionalCharacter;
-        Optional<Opponent> optionalOpponent = getOpponents().stream().filter(opponent -> opponent.getCitadel().size() == 7).findFirst();
+        Optional<Opponent> optionalOpponent = this.getThreatAnalysis().getOpponentAboutToWin(this);
         if (optionalOpponent.isPresent()) {
             optionalCharacter = chooseCharacterWhenOpponentHasOneDistrictLeft(characters, optionalOpponent.get());
             if (optionalCharacter.isPresent() && characters.contains(optionalCharacter.get())) {
@@ -284,47 +307,21 @@ public class RichardBot extends SmartBot {
      * @return the list of available characters ordered like we want
      */
     List<Character> ordinateCharacters(List<Character> characters) {
-        List<Character> copyCharacters = new ArrayList<>(characters);
-        List<Character> orderedCharacters = new ArrayList<>();
-
-        Optional<Character> optionalCharacter = copyCharacters.stream().filter(c -> c.getRole() == Role.ASSASSIN).findFirst();
-        optionalCharacter.ifPresent(assassin -> {
-            orderedCharacters.add(assassin);
-            copyCharacters.remove(assassin);
-        });
-        optionalCharacter = copyCharacters.stream().filter(c -> c.getRole() == Role.MAGICIAN).findFirst();
-        optionalCharacter.ifPresent(magician -> {
-            orderedCharacters.add(magician);
-            copyCharacters.remove(magician);
-        });
-        optionalCharacter = copyCharacters.stream().filter(c -> c.getRole() == Role.MERCHANT).findFirst();
-        optionalCharacter.ifPresent(merchant -> {
-            orderedCharacters.add(merchant);
-            copyCharacters.remove(merchant);
-        });
-        optionalCharacter = copyCharacters.stream().filter(c -> c.getRole() == Role.ARCHITECT).findFirst();
-        optionalCharacter.ifPresent(architect -> {
-            orderedCharacters.add(architect);
-            copyCharacters.remove(architect);
-        });
-        optionalCharacter = copyCharacters.stream().filter(c -> c.getRole() == Role.BISHOP).findFirst();
-        optionalCharacter.ifPresent(bishop -> {
-            orderedCharacters.add(bishop);
-            copyCharacters.remove(bishop);
-        });
-        optionalCharacter = copyCharacters.stream().filter(c -> c.getRole() == Role.WARLORD).findFirst();
-        optionalCharacter.ifPresent(warlord -> {
-            orderedCharacters.add(warlord);
-            copyCharacters.remove(warlord);
-        });
-        List<Character> charactersRemaining = new ArrayList<>(copyCharacters);
-
-        orderedCharacters.addAll(charactersRemaining);
-
+        RoleSet roles = RoleSet.of(characters);
+        List<Character> orderedCharacters = new ArrayList<>(characters.size());
+        for (Role role : ORDERED_ROLES) {
+            if (roles.contains(role)) {
+                orderedCharacters.add(Characters.of(role));
+            }
+        }
+        for (Character character : characters) {
+            if (!ORDERED_ROLE_SET.contains(character.getRole())) {
+                orderedCharacters.add(character);
+            }
+        }
         return orderedCharacters;
     }
 
-
     /**
      * find the number of players with empty hands in the game
      *
@@ -338,11 +335,10 @@ public class RichardBot extends SmartBot {
     /**
      * tells us if players with more gold than the bot exist
      *
-     * @param opponents list of the opponents of the player
      * @return a boolean
      */
-    boolean numberOfPlayerWithMoreGold(List<Opponent> opponents) {
-        return opponents.stream().anyMatch(opponent -> this.getNbGold() < opponent.getNbGold());
+    boolean numberOfPlayerWithMoreGold() {
+        return this.getThreatAnalysis().getMaxNbGoldOfOpponents(this) > this.getNbGold();
     }
 
     /**
@@ -382,7 +378,7 @@ public class RichardBot extends SmartBot {
      * @return a boolean
      */
     boolean shouldChooseArchitect() {
-        return getPriceOfNumbersOfCheaperCards(2) <= this.getNbGold() && numberOfPlayerWithMoreGold(this.getOpponents());
+        return getPriceOfNumbersOfCheaperCards(2) <= this.getNbGold() && numberOfPlayerWithMoreGold();
     }
 
 
@@ -425,7 +421,7 @@ public class RichardBot extends SmartBot {
      */
     @Override
     public MagicianTarget useEffectMagician() {
-        Opponent leadingOpponent = StrategyUtils.getLeadingOpponent(this.getOpponents());
+        Opponent leadingOpponent = this.getThreatAnalysis().getLeadingOpponent(this);
         if (leadingOpponent.isAboutToWin()) {
             this.view.displayPlayerUseMagicianEffect(this, leadingOpponent);
             return new MagicianTarget(leadingOpponent, null);
@@ -0,0 +1,246 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import com.seinksansdoozebank.fr.model.character.abstracts.Character;
+import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The RoleBelief class holds what a player believes about the roles of its opponents during a round:
+ * the probability of each opponent to hold each role, given what the player saw.
+ * <ul>
+ *     <li>the roles put face up are held by nobody, and the role of the player by no opponent</li>
+ *     <li>the opponents who chose after the player hold one of the roles the player left, the others one of the
+ *     roles it didn't see</li>
+ *     <li>a revealed role is held by the opponent who revealed it and by no other one</li>
+ *     <li>during the turn of the player, a role called before its own and neither revealed nor killed is held by
+ *     nobody</li>
+ * </ul>
+ * The roles an opponent may hold are equally likely. The belief is computed again only when the player looked at
+ * something new, and the most likely opponent of each role and the probability that an opponent holds each role
+ * are kept so that the targeting asks for them directly.
+ */
+public class RoleBelief {
+    private static final Role[] ROLES = Role.values();
+    private final List<Opponent> opponents;
+    /**
+     * The slot of each opponent, its row in the probabilities
+     */
+    private final Map<Opponent, Integer> slotOfOpponents;
+    /**
+     * The probability of each opponent to hold each role, one row per opponent
+     */
+    private double[][] probabilities;
+    /**
+     * The index of the most likely opponent to hold each role, -1 if no opponent can hold it
+     */
+    private final int[] mostLikelyOpponents;
+    /**
+     * The probability that an opponent holds each role
+     */
+    private final double[] heldProbabilities;
+    private boolean upToDate;
+
+    /**
+     * RoleBelief constructor, the player doesn't believe anything yet
+     */
+    public RoleBelief() {
+        this.opponents = new ArrayList<>();
+        this.slotOfOpponents = new HashMap<>();
+        this.probabilities = new double[0][ROLES.length];
+        this.mostLikelyOpponents = new int[ROLES.length];
+        Arrays.fill(this.mostLikelyOpponents, -1);
+        this.heldProbabilities = new double[ROLES.length];
+        this.upToDate = false;
+    }
+
+    /**
+     * Tell the belief that the player saw something new, so that it is computed again when it is asked
+     */
+    public void invalidate() {
+        this.upToDate = false;
+    }
+
+    /**
+     * Compute the belief again from what the player saw, if it saw something new since the last time
+     *
+     * @param player the player who believes
+     */
+    void refresh(Player player) {
+        if (this.upToDate) {
+            return;
+        }
+        this.upToDate = true;
+        List<OpponentView> opponentViews = player.getOpponentViews();
+        this.opponents.clear();
+        this.slotOfOpponents.clear();
+        if (this.probabilities.length != opponentViews.size()) {
+            this.probabilities = new double[opponentViews.size()][ROLES.length];
+        }
+        Character character = player.getCharacter();
+        RoleSet rolesSeen = player.getRolesSeenInRound();
+        // the roles no opponent can hold
+        RoleSet impossibleRoles = player.getRolesNotInRound();
+        if (character != null) {
+            impossibleRoles = impossibleRoles.with(character.getRole());
+        }
+        RoleSet revealedRoles = RoleSet.empty();
+        for (OpponentView opponentView : opponentViews) {
+            if (opponentView.revealedRole() != null) {
+                revealedRoles = revealedRoles.with(opponentView.revealedRole());
+            }
+        }
+        impossibleRoles = impossibleRoles.with(revealedRoles);
+        if (character != null && player.isCharacterIsRevealed()) {
+            impossibleRoles = impossibleRoles.with(this.rolesCalledWithoutHolder(player, character.getRole(), revealedRoles));
+        }
+        int position = player.getPositionInDrawToPickACharacter();
+        for (int i = 0; i < opponentViews.size(); i++) {
+            OpponentView opponentView = opponentViews.get(i);
+            this.opponents.add(opponentView.opponent());
+            this.slotOfOpponents.put(opponentView.opponent(), i);
+            RoleSet possibleRoles;
+            if (opponentView.revealedRole() != null) {
+                possibleRoles = RoleSet.of(opponentView.revealedRole());
+            } else if (opponentView.hasChosenCharacterBefore(position)) {
+                possibleRoles = RoleSet.all().without(rolesSeen).without(impossibleRoles);
+            } else {
+                possibleRoles = rolesSeen.without(impossibleRoles);
+            }
+            this.setUniformRow(this.probabilities[i], possibleRoles);
+        }
+        this.findMostLikelyOpponents();
+    }
+
+    /**
+     * Get the roles called before the role of the player which nobody revealed, and which were not killed
+     *
+     * @param player        the player, during its turn
+     * @param role          the role of the player
+     * @param revealedRoles the roles revealed by the opponents
+     * @return the roles held by nobody
+     */
+    private RoleSet rolesCalledWithoutHolder(Player player, Role role, RoleSet revealedRoles) {
+        RoleSet rolesWithoutHolder = RoleSet.empty();
+        for (int i = 0; i < role.ordinal(); i++) {
+            if (!revealedRoles.contains(ROLES[i]) && !player.getRoleStates().isDead(ROLES[i])) {
+                rolesWithoutHolder = rolesWithoutHolder.with(ROLES[i]);
+            }
+        }
+        return rolesWithoutHolder;
+    }
+
+    /**
+     * Make the possible roles of an opponent equally likely
+     *
+     * @param row           the probabilities of the opponent
+     * @param possibleRoles the roles the opponent may hold
+     */
+    private void setUniformRow(double[] row, RoleSet possibleRoles) {
+        double probability = possibleRoles.isEmpty() ? 0 : 1.0 / possibleRoles.size();
+        for (Role role : ROLES) {
+            row[role.ordinal()] = possibleRoles.contains(role) ? probability : 0;
+        }
+    }
+
+    /**
+     * Find for each role the opponent the most likely to hold it, the first one if several are as likely, and the
+     * probability that an opponent holds it
+     */
+    private void findMostLikelyOpponents() {
+        for (Role role : ROLES) {
+            int mostLikelyOpponent = -1;
+            double heldProbability = 0;
+            for (int i = 0; i < this.probabilities.length; i++) {
+                double probability = this.probabilities[i][role.ordinal()];
+                heldProbability += probability;
+                if (probability > 0 && (mostLikelyOpponent == -1 || probability > this.probabilities[mostLikelyOpponent][role.ordinal()])) {
+                    mostLikelyOpponent = i;
+                }
+            }
+            this.mostLikelyOpponents[role.ordinal()] = mostLikelyOpponent;
+            // a role is held by one opponent at most
+            this.heldProbabilities[role.ordinal()] = Math.min(1, heldProbability);
+        }
+    }
+
+    /**
+     * Get the probability that the opponent holds the role
+     *
+     * @param opponent the opponent
+     * @param role     the role
+     * @return the probability, 0 if the opponent is unknown
+     */
+    public double getProbability(Opponent opponent, Role role) {
+        Integer slot = this.slotOfOpponents.get(opponent);
+        return slot == null ? 0 : this.probabilities[slot][role.ordinal()];
+    }
+
+    /**
+     * Get the probability that an opponent holds the role
+     *
+     * @param role the role
+     * @return the probability, 0 if no opponent can hold the role
+     */
+    public double getHeldProbability(Role role) {
+        return this.heldProbabilities[role.ordinal()];
+    }
+
+    /**
+     * Get the role an opponent most likely holds among the given roles, the first one if several are as likely
+     *
+     * @param roles the roles to consider
+     * @return the role, empty if no opponent can hold any of them
+     */
+    public Optional<Role> getMostLikelyHeldRole(RoleSet roles) {
+        Role mostLikelyRole = null;
+        for (Role role : ROLES) {
+            double probability = this.heldProbabilities[role.ordinal()];
+            if (roles.contains(role) && probability > 0
+                    && (mostLikelyRole == null || probability > this.heldProbabilities[mostLikelyRole.ordinal()])) {
+                mostLikelyRole = role;
+            }
+        }
+        return Optional.ofNullable(mostLikelyRole);
+    }
+
+    /**
+     * Get the opponent the most likely to hold the role
+     *
+     * @param role the role
+     * @return the opponent, empty if no opponent can hold the role
+     */
+    public Optional<Opponent> getMostLikelyOpponent(Role role) {
+        int index = this.mostLikelyOpponents[role.ordinal()];
+        return index == -1 ? Optional.empty() : Optional.of(this.opponents.get(index));
+    }
+
+    /**
+     * Get the role the opponent most likely holds among the given roles, the first one if several are as likely
+     *
+     * @param opponent the opponent
+     * @param roles    the roles to consider
+     * @return the role, empty if the opponent can hold none of them
+     */
+    public Optional<Role> getMostLikelyRole(Opponent opponent, RoleSet roles) {
+        Integer index = this.slotOfOpponents.get(opponent);
+        if (index == null) {
+            return Optional.empty();
+        }
+        Role mostLikelyRole = null;
+        for (Role role : ROLES) {
+            double probability = this.probabilities[index][role.ordinal()];
+            if (roles.contains(role) && probability > 0
+                    && (mostLikelyRole == null || probability > this.probabilities[index][mostLikelyRole.ordinal()])) {
+                mostLikelyRole = role;
+            }
+        }
+        return Optional.ofNullable(mostLikelyRole);
+    }
+}
@@ -1,25 +1,30 @@
 package com.seinksansdoozebank.fr.model.player;
 
+import com.seinksansdoozebank.fr.controller.RandomUtils;
+import com.seinksansdoozebank.fr.controller.SimulationContext;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.Deck;
 import com.seinksansdoozebank.fr.model.cards.District;
 import com.seinksansdoozebank.fr.model.cards.DistrictType;
+import com.seinksansdoozebank.fr.model.cards.Hand;
+import com.seinksansdoozebank.fr.model.cards.effect.ManufactureEffect;
+import com.seinksansdoozebank.fr.model.character.Characters;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.abstracts.CommonCharacter;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.WarlordTarget;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Architect;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.MagicianTarget;
 import com.seinksansdoozebank.fr.view.IView;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.OptionalDouble;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -29,6 +34,12 @@ import java.util.stream.Stream;
  * in its hand in order to finish its citadel as fast as possible
  */
 public class SmartBot extends Player {
+    /**
+     * The lowest probability that one of the cards drawn with the manufacture can be built with the gold left, for
+     * the manufacture to be worth its gold
+     */
+    static final double MIN_PROBABILITY_TO_DRAW_A_BUILDABLE_CARD = 0.5;
+
     /**
      * SmartBot constructor
      *
@@ -41,9 +52,22 @@ public class SmartBot extends Player {
         super(nbGold, deck, view, bank);
     }
 
+    /**
+     * SmartBot constructor
+     *
+     * @param nbGold  the number of gold
+     * @param deck    the deck
+     * @param view    the view
+     * @param bank    the bank
+     * @param context the context of the game
+     */
+    public SmartBot(int nbGold, Deck deck, IView view, Bank bank, SimulationContext context) {
+        super(nbGold, deck, view, bank, context);
+    }
+
     @Override
     public void playARound() {
-        this.getCharacter().applyEffect();
+        this.getCharacter().applyEffect(this);
         if (!this.getHand().isEmpty()) { // s'il a des cartes en main
             this.playWhenHandIsNotEmpty();
         } else { //s'il n'a pas de cartes en main
@@ -112,21 +136,20 @@ public class SmartBot extends Player {
      */
     @Override
     protected Optional<Card> chooseCard() {
-        //Gathering districts which are not already built in player's citadel
-        List<Card> notAlreadyPlayedCardList = this.getHand().stream().filter(cardHand -> this.getCitadel().stream().noneMatch(cardCitadel -> cardHand.getDistrict().equals(cardCitadel.getDistrict()))).toList();
+        Hand hand = Hand.of(this.getHand());
+        //The districts already built in player's citadel can't be played
+        long builtDistricts = this.getBuiltDistricts();
         Optional<Card> cardToPlay;
         if (this.character instanceof CommonCharacter commonCharacter) {
-            DistrictType target = commonCharacter.getTarget();
-            cardToPlay = notAlreadyPlayedCardList.stream()
-                    .filter(card -> card.getDistrict().getDistrictType() == target) // filter the cards that are the same as the character's target
-                    .min(Comparator.comparing(card -> card.getDistrict().getCost())); // choose the cheaper one
+            // choose the cheaper card among those of the same type as the character's target
+            cardToPlay = hand.getCheapestCard(builtDistricts | ~Hand.districtsOfType(commonCharacter.getTarget()));
         } else {
-            cardToPlay = this.getCheaperCard(notAlreadyPlayedCardList);
+            cardToPlay = hand.getCheapestCard(builtDistricts);
         }
         if (cardToPlay.isPresent() && this.canPlayCard(cardToPlay.get())) {
             return cardToPlay;
         } else {
-            return this.getCheaperCard(notAlreadyPlayedCardList);
+            return hand.getCheapestCard(builtDistricts);
         }
     }
 
@@ -137,7 +160,7 @@ public class SmartBot extends Player {
      * @return the cheaper district in the hand if there is one or an empty optional
      */
     protected Optional<Card> getCheaperCard(List<Card> notAlreadyPlayedCardList) {
-        return notAlreadyPlayedCardList.stream().min(Comparator.comparing(card -> card.getDistrict().getCost()));
+        return Hand.of(notAlreadyPlayedCardList).getCheapestCard(0L);
     }
 
     @Override
@@ -190,7 +213,7 @@ public class SmartBot extends Player {
     protected List<DistrictType> getDistrictTypeFrequencyList(List<Card> citadel) {
         return citadel.stream()
                 .map(card -> card.getDistrict().getDistrictType())
-                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                .collect(Collectors.groupingBy(Function.identity(), () -> new EnumMap<>(DistrictType.class), Collectors.counting()))
                 .entrySet().stream()
                 .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
                 .map(Map.Entry::getKey)
@@ -206,18 +229,8 @@ public class SmartBot extends Player {
         if (playerWithMostDistricts.isEmpty()) {
             return null;
         }
-        // Sort the districts of the player by cost
-        List<Card> cardOfPlayerSortedByCost = playerWithMostDistricts.get().getCitadel().stream()
-                .filter(card -> !card.getDistrict().equals(District.DONJON))
-                .sorted(Comparator.comparing(card -> card.getDistrict().getCost()))
-                .toList();
-        // Destroy the district with the lowest cost, if not possible destroy the district with the second lowest cost, etc...
-        for (Card card : cardOfPlayerSortedByCost) {
-            if (this.getNbGold() >= card.getDistrict().getCost() - 1) {
-                return new WarlordTarget(playerWithMostDistricts.get(), card.getDistrict());
-            }
-        }
-        return null;
+        // Destroy the cheapest district of the player that the bot can afford
+        return this.getWarlordTargetIndex().getCheapestTarget(playerWithMostDistricts.get(), this.getNbGold()).orElse(null);
     }
 
     @Override
@@ -278,8 +291,7 @@ public class SmartBot extends Player {
      * @return the price of all the cards needed
      */
     public int getPriceOfNumbersOfCheaperCards(int numberCards) {
-        this.getHand().sort(Comparator.comparing(card -> card.getDistrict().getCost()));
-        return this.getHand().stream().limit(numberCards).mapToInt(card -> card.getDistrict().getCost()).sum();
+        return Hand.of(this.getHand()).getCostOfCheapestCards(numberCards);
     }
 
     /**
@@ -329,24 +341,22 @@ public class SmartBot extends Player {
     @Override
     protected Character chooseAssassinTarget() {
         List<Role> roleInterestingToKill = new ArrayList<>(List.of(Role.ARCHITECT, Role.MERCHANT, Role.KING));
-        Collections.shuffle(roleInterestingToKill);
-        Character target = null;
+        RandomUtils.shuffle(roleInterestingToKill, random);
         List<Character> charactersList = this.getAvailableCharacters();
+        RoleSet availableRoles = RoleSet.of(charactersList);
+        // kill the interesting role an opponent most likely holds, the shuffled order breaking the ties
+        RoleBelief roleBelief = this.getRoleBelief();
+        Role targetRole = null;
         for (Role role : roleInterestingToKill) {
-            for (Character character : charactersList) {
-                if (character.getRole() == role) {
-                    target = character;
-                    break;
-                }
-            }
-            if (target != null) {
-                break;
+            if (availableRoles.contains(role) && (targetRole == null
+                    || roleBelief.getHeldProbability(role) > roleBelief.getHeldProbability(targetRole))) {
+                targetRole = role;
             }
         }
-        if (target == null) {
-            target = charactersList.get(random.nextInt(charactersList.size()));
+        if (targetRole == null) {
+            return charactersList.get(random.nextInt(charactersList.size()));
         }
-        return target;
+        return Characters.of(targetRole);
     }
 
     public void chooseColorCourtyardOfMiracle() {
@@ -368,7 +378,21 @@ public class SmartBot extends Player {
     @Override
     public boolean wantToUseManufactureEffect() {
         // if the bot has less than 2 cards in hand, it will use the manufacture effect to get more cards
-        return this.getNbGold() > 3 && (this.getHand().size() < 2 || this.isLate());
+        return this.getNbGold() > 3 && (this.getHand().size() < 2 || this.isLate())
+                && this.getProbabilityToDrawABuildableCardWithManufacture() >= MIN_PROBABILITY_TO_DRAW_A_BUILDABLE_CARD;
+    }
+
+    /**
+     * Get the probability that one of the cards drawn with the manufacture can be built with the gold left once the
+     * manufacture is paid, read from the cards the bot has not seen yet
+     *
+     * @return the probability to draw at least one district the bot can afford
+     */
+    double getProbabilityToDrawABuildableCardWithManufacture() {
+        int nbGoldLeft = this.getNbGold() - ManufactureEffect.NB_GOLD_TO_PAY_TO_USE_EFFECT;
+        double probabilityToPickABuildableCard = this.getDeckTracker().getProbabilityToPickCostAtMost(nbGoldLeft);
+        // as many cards are drawn as gold is paid
+        return 1 - Math.pow(1 - probabilityToPickABuildableCard, ManufactureEffect.NB_GOLD_TO_PAY_TO_USE_EFFECT);
     }
 
     /**
@@ -386,22 +410,27 @@ public class SmartBot extends Player {
      * @return the average size of the citadel of the opponents
      */
     public double averageOpponentCitadelSize() {
-        OptionalDouble average = this.getOpponents().stream().mapToInt(opponent -> opponent.getCitadel().size()).average();
-        if (average.isEmpty()) {
-            return 0;
-        }
-        return average.getAsDouble();
+        return this.getThreatAnalysis().getAverageCitadelSizeOfOpponents(this);
     }
 
     protected Optional<Character> chooseThiefTarget() {
-        Optional<Character> victim = this.getAvailableCharacters().stream().filter(
-                character -> character.getRole() != Role.ASSASSIN && character.getRole() != Role.THIEF &&
-                        !character.isDead() && (character.getRole() == Role.ARCHITECT || character.getRole() == Role.MERCHANT)).findFirst();
+        RoleSet robbableRoles = RoleSet.empty();
+        for (Character character : this.getAvailableCharacters()) {
+            if (character.getRole() != Role.ASSASSIN && character.getRole() != Role.THIEF && !this.isCharacterDead(character)) {
+                robbableRoles = robbableRoles.with(character.getRole());
+            }
+        }
+        // rob first the architect or the merchant an opponent most likely holds, stealing from nobody is useless
+        RoleBelief roleBelief = this.getRoleBelief();
+        RoleSet richRoles = robbableRoles.intersect(RoleSet.of(Role.ARCHITECT, Role.MERCHANT));
+        Optional<Role> victim = roleBelief.getMostLikelyHeldRole(richRoles);
+        if (victim.isEmpty()) {
+            victim = roleBelief.getMostLikelyHeldRole(robbableRoles);
+        }
         if (victim.isEmpty()) {
-            victim = this.getAvailableCharacters().stream().filter(character -> character.getRole() != Role.ASSASSIN && character.getRole() != Role.THIEF &&
-                    !character.isDead()).findFirst();
+            victim = richRoles.isEmpty() ? robbableRoles.first() : richRoles.first();
         }
-        return victim;
+        return victim.map(Characters::of);
     }
 
     public Card chooseCardToDiscardForLaboratoryEffect() {
@@ -0,0 +1,347 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The ThreatAnalysis class gathers what the bots look at to know who is threatening them: the number of districts
+ * and of gold of every player, the players about to win and the distribution of the sizes of the citadels.
+ * It is shared by all the players of a game and kept up to date as the citadels and the gold of the players change,
+ * so that each bot asks it instead of going through all its opponents every time.
+ * It also keeps the leaderboard of the players, ordered by number of districts, then cost of the citadel, then gold:
+ * a change only moves the player who changed to its new rank, and the rank queries read the leaderboard directly.
+ */
+public class ThreatAnalysis implements IPlayerListener {
+    private final List<Opponent> trackedPlayers;
+    private final Map<Opponent, Integer> indexOfPlayers;
+    private int[] nbDistricts;
+    private int[] nbGold;
+    private int[] citadelCost;
+    /**
+     * The indexes of the players from the first of the leaderboard to the last one
+     */
+    private int[] leaderboard;
+    /**
+     * The rank of each player in the leaderboard
+     */
+    private int[] rankOfPlayers;
+    /**
+     * The number of players for each size of citadel
+     */
+    private int[] nbPlayersOfCitadelSize;
+    private int totalNbDistricts;
+    /**
+     * The number of districts of a player about to win, one less than the number of districts needed to end the game
+     */
+    private int nbDistrictsToBeAboutToWin;
+    private int nbPlayersAboutToWin;
+
+    /**
+     * ThreatAnalysis constructor, no player is tracked
+     *
+     * @param nbDistrictsNeeded the number of districts needed to end the game
+     */
+    public ThreatAnalysis(int nbDistrictsNeeded) {
+        this.trackedPlayers = new ArrayList<>();
+        this.indexOfPlayers = new HashMap<>();
+        this.nbDistricts = new int[0];
+        this.nbGold = new int[0];
+        this.citadelCost = new int[0];
+        this.leaderboard = new int[0];
+        this.rankOfPlayers = new int[0];
+        this.nbPlayersOfCitadelSize = new int[nbDistrictsNeeded + 1];
+        this.nbDistrictsToBeAboutToWin = nbDistrictsNeeded - 1;
+    }
+
+    /**
+     * ThreatAnalysis constructor, tracking the given players as they are now
+     *
+     * @param players           the players to analyse
+     * @param nbDistrictsNeeded the number of districts needed to end the game
+     */
+    public ThreatAnalysis(List<? extends Opponent> players, int nbDistrictsNeeded) {
+        this(nbDistrictsNeeded);
+        this.setPlayers(players);
+    }
+
+    /**
+     * Change the number of districts needed to end the game, and count again the players about to win
+     *
+     * @param nbDistrictsNeeded the number of districts needed to end the game
+     */
+    public void setNbDistrictsNeeded(int nbDistrictsNeeded) {
+        this.nbDistrictsToBeAboutToWin = nbDistrictsNeeded - 1;
+        this.nbPlayersAboutToWin = this.getNbPlayersWithCitadelSize(this.nbDistrictsToBeAboutToWin);
+    }
+
+    /**
+     * Start listening to the players of the game, forgetting the players tracked before
+     *
+     * @param players the players of the game
+     */
+    public void track(List<Player> players) {
+        this.setPlayers(players);
+        for (Player player : players) {
+            player.addPlayerListener(this);
+            player.setThreatAnalysis(this);
+        }
+    }
+
+    /**
+     * Forget the players tracked before and take the state of the given players
+     *
+     * @param players the players
+     */
+    private void setPlayers(List<? extends Opponent> players) {
+        this.trackedPlayers.clear();
+        this.trackedPlayers.addAll(players);
+        this.indexOfPlayers.clear();
+        this.nbDistricts = new int[players.size()];
+        this.nbGold = new int[players.size()];
+        this.citadelCost = new int[players.size()];
+        this.leaderboard = new int[players.size()];
+        this.rankOfPlayers = new int[players.size()];
+        Arrays.fill(this.nbPlayersOfCitadelSize, 0);
+        this.nbPlayersOfCitadelSize[0] = players.size();
+        this.totalNbDistricts = 0;
+        this.nbPlayersAboutToWin = 0;
+        for (int i = 0; i < players.size(); i++) {
+            this.indexOfPlayers.put(players.get(i), i);
+            this.leaderboard[i] = i;
+            this.rankOfPlayers[i] = i;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            this.updateNbDistricts(i);
+            this.nbGold[i] = players.get(i).getNbGold();
+            this.moveInLeaderboard(i);
+        }
+    }
+
+    @Override
+    public void onCitadelChanged(Player player) {
+        Integer index = this.indexOfPlayers.get(player);
+        if (index != null) {
+            this.updateNbDistricts(index);
+            this.moveInLeaderboard(index);
+        }
+    }
+
+    @Override
+    public void onResourcesChanged(Player player) {
+        Integer index = this.indexOfPlayers.get(player);
+        if (index != null) {
+            this.nbGold[index] = player.getNbGold();
+            this.moveInLeaderboard(index);
+        }
+    }
+
+    /**
+     * Update the number of districts of the player and the counts depending on it
+     *
+     * @param index the index of the player
+     */
+    private void updateNbDistricts(int index) {
+        int previousNbDistricts = this.nbDistricts[index];
+        int newNbDistricts = this.trackedPlayers.get(index).nbDistrictsInCitadel();
+        if (newNbDistricts >= this.nbPlayersOfCitadelSize.length) {
+            this.nbPlayersOfCitadelSize = Arrays.copyOf(this.nbPlayersOfCitadelSize, newNbDistricts + 1);
+        }
+        this.nbPlayersOfCitadelSize[previousNbDistricts]--;
+        this.nbPlayersOfCitadelSize[newNbDistricts]++;
+        this.totalNbDistricts += newNbDistricts - previousNbDistricts;
+        if (previousNbDistricts == this.nbDistrictsToBeAboutToWin) {
+            this.nbPlayersAboutToWin--;
+        }
+        if (newNbDistricts == this.nbDistrictsToBeAboutToWin) {
+            this.nbPlayersAboutToWin++;
+        }
+        this.nbDistricts[index] = newNbDistricts;
+        this.citadelCost[index] = this.trackedPlayers.get(index).getCitadelCost();
+    }
+
+    /**
+     * Move the player up or down the leaderboard until it is at its rank
+     *
+     * @param index the index of the player who changed
+     */
+    private void moveInLeaderboard(int index) {
+        int rank = this.rankOfPlayers[index];
+        while (rank > 0 && this.isAhead(index, this.leaderboard[rank - 1])) {
+            this.placeInLeaderboard(this.leaderboard[rank - 1], rank);
+            rank--;
+        }
+        while (rank < this.leaderboard.length - 1 && this.isAhead(this.leaderboard[rank + 1], index)) {
+            this.placeInLeaderboard(this.leaderboard[rank + 1], rank);
+            rank++;
+        }
+        this.placeInLeaderboard(index, rank);
+    }
+
+    /**
+     * Put the player at the given rank of the leaderboard
+     *
+     * @param index the index of the player
+     * @param rank  the rank
+     */
+    private void placeInLeaderboard(int index, int rank) {
+        this.leaderboard[rank] = index;
+        this.rankOfPlayers[index] = rank;
+    }
+
+    /**
+     * Check if a player is ahead of another one: more districts, then a more expensive citadel, then more gold.
+     * The first player tracked is ahead when they are equal, so that the leaderboard does not depend on the changes.
+     *
+     * @param index      the index of the player
+     * @param otherIndex the index of the other player
+     * @return true if the player is ahead of the other one
+     */
+    private boolean isAhead(int index, int otherIndex) {
+        if (this.nbDistricts[index] != this.nbDistricts[otherIndex]) {
+            return this.nbDistricts[index] > this.nbDistricts[otherIndex];
+        }
+        if (this.citadelCost[index] != this.citadelCost[otherIndex]) {
+            return this.citadelCost[index] > this.citadelCost[otherIndex];
+        }
+        if (this.nbGold[index] != this.nbGold[otherIndex]) {
+            return this.nbGold[index] > this.nbGold[otherIndex];
+        }
+        return index < otherIndex;
+    }
+
+    /**
+     * Get the index of the player, to leave it out of the analysis of its opponents
+     *
+     * @param player the player
+     * @return the index of the player, -1 if the player is not tracked
+     */
+    private int indexOf(Opponent player) {
+        Integer index = this.indexOfPlayers.get(player);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Get the opponent of the player which is the highest in the leaderboard
+     *
+     * @param player the player
+     * @return the leading opponent of the player
+     * @throws IllegalStateException if the player has no opponent
+     */
+    public Opponent getLeadingOpponent(Opponent player) {
+        int excludedIndex = this.indexOf(player);
+        int leaderRank = this.leaderboard.length > 0 && this.leaderboard[0] == excludedIndex ? 1 : 0;
+        if (leaderRank >= this.leaderboard.length) {
+            throw new IllegalStateException("No leading opponent found");
+        }
+        return this.trackedPlayers.get(this.leaderboard[leaderRank]);
+    }
+
+    /**
+     * Get the player at the given rank of the leaderboard
+     *
+     * @param rank the rank, 0 being the first of the leaderboard
+     * @return the player at this rank
+     * @throws IllegalArgumentException if there is no player at this rank
+     */
+    public Opponent getPlayerAtRank(int rank) {
+        if (rank < 0 || rank >= this.leaderboard.length) {
+            throw new IllegalArgumentException("There is no player at the rank " + rank);
+        }
+        return this.trackedPlayers.get(this.leaderboard[rank]);
+    }
+
+    /**
+     * Get the first players of the leaderboard
+     *
+     * @param nbPlayers the number of players wanted
+     * @return a read-only view of the nbPlayers first players, or of all of them if there are less players
+     */
+    public List<Opponent> getTopPlayers(int nbPlayers) {
+        int size = Math.max(0, Math.min(nbPlayers, this.leaderboard.length));
+        return new AbstractList<>() {
+            @Override
+            public Opponent get(int rank) {
+                Objects.checkIndex(rank, size);
+                return ThreatAnalysis.this.getPlayerAtRank(rank);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Get the first opponent of the player which is about to win
+     *
+     * @param player the player
+     * @return the opponent with one district less than needed to end the game, empty if there is none
+     */
+    public Optional<Opponent> getOpponentAboutToWin(Opponent player) {
+        int excludedIndex = this.indexOf(player);
+        int nbOpponentsAboutToWin = this.nbPlayersAboutToWin
+                - (excludedIndex != -1 && this.nbDistricts[excludedIndex] == this.nbDistrictsToBeAboutToWin ? 1 : 0);
+        if (nbOpponentsAboutToWin == 0) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < this.nbDistricts.length; i++) {
+            if (i != excludedIndex && this.nbDistricts[i] == this.nbDistrictsToBeAboutToWin) {
+                return Optional.of(this.trackedPlayers.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get the largest number of gold of the opponents of the player
+     *
+     * @param player the player
+     * @return the number of gold of the richest opponent, 0 if the player has no opponent
+     */
+    public int getMaxNbGoldOfOpponents(Opponent player) {
+        int excludedIndex = this.indexOf(player);
+        int maxNbGold = 0;
+        for (int i = 0; i < this.nbGold.length; i++) {
+            if (i != excludedIndex) {
+                maxNbGold = Math.max(maxNbGold, this.nbGold[i]);
+            }
+        }
+        return maxNbGold;
+    }
+
+    /**
+     * Get the average number of districts in the citadels of the opponents of the player
+     *
+     * @param player the player
+     * @return the average size of the citadels of the opponents, 0 if the player has no opponent
+     */
+    public double getAverageCitadelSizeOfOpponents(Opponent player) {
+        int excludedIndex = this.indexOf(player);
+        int nbOpponents = this.trackedPlayers.size() - (excludedIndex == -1 ? 0 : 1);
+        if (nbOpponents == 0) {
+            return 0;
+        }
+        int nbDistrictsOfOpponents = this.totalNbDistricts - (excludedIndex == -1 ? 0 : this.nbDistricts[excludedIndex]);
+        return (double) nbDistrictsOfOpponents / nbOpponents;
+    }
+
+    /**
+     * Get the number of players having the given number of districts in their citadel
+     *
+     * @param citadelSize the number of districts
+     * @return the number of players with this size of citadel
+     */
+    public int getNbPlayersWithCitadelSize(int citadelSize) {
+        if (citadelSize < 0 || citadelSize >= this.nbPlayersOfCitadelSize.length) {
+            return 0;
+        }
+        return this.nbPlayersOfCitadelSize[citadelSize];
+    }
+}
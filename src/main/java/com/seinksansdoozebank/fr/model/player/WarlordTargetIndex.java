@@ -0,0 +1,215 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import com.seinksansdoozebank.fr.model.cards.Card;
+import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.model.character.abstracts.Character;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.WarlordTarget;
+import com.seinksansdoozebank.fr.model.character.roles.Role;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * The WarlordTargetIndex class keeps the districts the warlord may destroy, sorted by the gold it costs to destroy
+ * them. The donjon and the districts of a complete citadel are never in the index, and it is kept up to date as
+ * the citadels change, so that a bot finds the best district it can afford without going through every citadel.
+ * The bishop is only known once revealed, so its districts are skipped when the index is asked.
+ */
+public class WarlordTargetIndex implements IPlayerListener {
+    private static final District LAST_DISTRICT = District.values()[District.values().length - 1];
+    private static final Comparator<Entry> BY_DESTRUCTION_COST = Comparator.comparingInt(Entry::destructionCost)
+            .thenComparingInt(Entry::playerIndex)
+            .thenComparing(Entry::district);
+    private int nbDistrictsNeeded;
+    private final List<Opponent> trackedPlayers;
+    private final Map<Opponent, Integer> indexOfPlayers;
+    private final TreeSet<Entry> entries;
+    /**
+     * The entries of each player, sorted by destruction cost
+     */
+    private final List<TreeSet<Entry>> entriesOfPlayers;
+
+    /**
+     * A district of a player and the gold needed to destroy it
+     *
+     * @param destructionCost the cost of the district minus one
+     * @param playerIndex     the index of the player
+     * @param district        the district
+     */
+    private record Entry(int destructionCost, int playerIndex, District district) {
+    }
+
+    /**
+     * WarlordTargetIndex constructor, no player is tracked
+     *
+     * @param nbDistrictsNeeded the number of districts of a complete citadel
+     */
+    public WarlordTargetIndex(int nbDistrictsNeeded) {
+        this.nbDistrictsNeeded = nbDistrictsNeeded;
+        this.trackedPlayers = new ArrayList<>();
+        this.indexOfPlayers = new HashMap<>();
+        this.entries = new TreeSet<>(BY_DESTRUCTION_COST);
+        this.entriesOfPlayers = new ArrayList<>();
+    }
+
+    /**
+     * WarlordTargetIndex constructor, indexing the citadels of the given players as they are now
+     *
+     * @param players           the players to index
+     * @param nbDistrictsNeeded the number of districts of a complete citadel
+     */
+    public WarlordTargetIndex(List<? extends Opponent> players, int nbDistrictsNeeded) {
+        this(nbDistrictsNeeded);
+        this.setPlayers(players);
+    }
+
+    /**
+     * Start listening to the players of the game, forgetting the players tracked before
+     *
+     * @param players the players of the game
+     */
+    public void track(List<Player> players) {
+        this.setPlayers(players);
+        for (Player player : players) {
+            player.addPlayerListener(this);
+            player.setWarlordTargetIndex(this);
+        }
+    }
+
+    /**
+     * Forget the players tracked before and index the citadels of the given players
+     *
+     * @param players the players
+     */
+    private void setPlayers(List<? extends Opponent> players) {
+        this.trackedPlayers.clear();
+        this.trackedPlayers.addAll(players);
+        this.indexOfPlayers.clear();
+        this.entries.clear();
+        this.entriesOfPlayers.clear();
+        for (int i = 0; i < players.size(); i++) {
+            this.indexOfPlayers.put(players.get(i), i);
+            this.entriesOfPlayers.add(new TreeSet<>(BY_DESTRUCTION_COST));
+            this.updateEntries(i);
+        }
+    }
+
+    /**
+     * Change the number of districts of a complete citadel, and index again the citadels of the players tracked
+     *
+     * @param nbDistrictsNeeded the number of districts of a complete citadel
+     */
+    public void setNbDistrictsNeeded(int nbDistrictsNeeded) {
+        this.nbDistrictsNeeded = nbDistrictsNeeded;
+        for (int i = 0; i < this.trackedPlayers.size(); i++) {
+            this.updateEntries(i);
+        }
+    }
+
+    @Override
+    public void onCitadelChanged(Player player) {
+        Integer index = this.indexOfPlayers.get(player);
+        if (index != null) {
+            this.updateEntries(index);
+        }
+    }
+
+    @Override
+    public void onResourcesChanged(Player player) {
+        // the gold of the attacker is given when the index is asked
+    }
+
+    /**
+     * Replace the entries of the player by the districts of its citadel which can be destroyed
+     *
+     * @param index the index of the player
+     */
+    private void updateEntries(int index) {
+        TreeSet<Entry> entriesOfPlayer = this.entriesOfPlayers.get(index);
+        this.entries.removeAll(entriesOfPlayer);
+        entriesOfPlayer.clear();
+        List<Card> citadel = this.trackedPlayers.get(index).getCitadel();
+        if (citadel.size() >= this.nbDistrictsNeeded) {
+            return;
+        }
+        for (Card card : citadel) {
+            District district = card.getDistrict();
+            if (district != District.DONJON) {
+                entriesOfPlayer.add(new Entry(district.getCost() - 1, index, district));
+            }
+        }
+        this.entries.addAll(entriesOfPlayer);
+    }
+
+    /**
+     * Check if the districts of the player can be targeted by the attacker
+     *
+     * @param attacker the player using the warlord
+     * @param index    the index of the player
+     * @return true if the player is not the attacker and not a revealed bishop
+     */
+    private boolean isTargetable(Opponent attacker, int index) {
+        Opponent opponent = this.trackedPlayers.get(index);
+        if (opponent == attacker) {
+            return false;
+        }
+        Character character = opponent.getOpponentCharacter();
+        return character == null || character.getRole() != Role.BISHOP;
+    }
+
+    /**
+     * Get the most expensive district the player can destroy with its gold
+     *
+     * @param player the player using the warlord
+     * @return the target, empty if the player can't afford any district of its opponents
+     */
+    public Optional<WarlordTarget> getBestAffordableTarget(Player player) {
+        Entry mostExpensiveAffordable = new Entry(player.getNbGold(), Integer.MAX_VALUE, LAST_DISTRICT);
+        Iterator<Entry> iterator = this.entries.headSet(mostExpensiveAffordable, true).descendingIterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (this.isTargetable(player, entry.playerIndex())) {
+                return Optional.of(this.toTarget(entry));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Get the cheapest district of the opponent which the given gold can destroy
+     *
+     * @param opponent the opponent
+     * @param nbGold   the gold of the player using the warlord
+     * @return the target, empty if the opponent is not tracked, is a revealed bishop or has no affordable district
+     */
+    public Optional<WarlordTarget> getCheapestTarget(Opponent opponent, int nbGold) {
+        Integer index = this.indexOfPlayers.get(opponent);
+        if (index == null || !this.isTargetable(null, index) || this.entriesOfPlayers.get(index).isEmpty()) {
+            return Optional.empty();
+        }
+        Entry cheapest = this.entriesOfPlayers.get(index).first();
+        if (cheapest.destructionCost() > nbGold) {
+            return Optional.empty();
+        }
+        return Optional.of(this.toTarget(cheapest));
+    }
+
+    /**
+     * Get the number of districts in the index
+     *
+     * @return the number of districts which can be destroyed, the bishop included
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    private WarlordTarget toTarget(Entry entry) {
+        return new WarlordTarget(this.trackedPlayers.get(entry.playerIndex()), entry.district());
+    }
+}
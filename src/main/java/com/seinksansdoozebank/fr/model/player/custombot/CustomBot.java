@@ -1,5 +1,6 @@
 package com.seinksansdoozebank.fr.model.player.custombot;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.Deck;
@@ -52,7 +53,38 @@ public class CustomBot extends RandomBot {
                         IUsingMurdererEffectStrategy usingMurdererEffectStrategy,
                         IUsingWarlordEffectStrategy usingWarlordEffectStrategy,
                         ICardChoosingStrategy cardChoosingStrategy) {
-        super(nbGold, deck, view, bank);
+        this(nbGold, deck, view, bank, SimulationContext.getDefault(),
+                pickingStrategy,
+                characterChoosingStrategy,
+                usingThiefEffectStrategy,
+                usingMurdererEffectStrategy,
+                usingWarlordEffectStrategy,
+                cardChoosingStrategy);
+    }
+
+    /**
+     * CustomBot constructor with strategies
+     *
+     * @param nbGold                      The number of gold pieces the player has.
+     * @param deck                        The deck of cards.
+     * @param view                        The view
+     * @param bank                        The bank
+     * @param context                     The context of the game
+     * @param pickingStrategy             The picking strategy
+     * @param characterChoosingStrategy   The character choosing strategy
+     * @param usingThiefEffectStrategy    The thief effect strategy
+     * @param usingMurdererEffectStrategy the murderer effect strategy
+     * @param usingWarlordEffectStrategy  the warlord effect strategy
+     * @param cardChoosingStrategy        the card chosing strategy
+     */
+    protected CustomBot(int nbGold, Deck deck, IView view, Bank bank, SimulationContext context,
+                        IPickingStrategy pickingStrategy,
+                        ICharacterChoosingStrategy characterChoosingStrategy,
+                        IUsingThiefEffectStrategy usingThiefEffectStrategy,
+                        IUsingMurdererEffectStrategy usingMurdererEffectStrategy,
+                        IUsingWarlordEffectStrategy usingWarlordEffectStrategy,
+                        ICardChoosingStrategy cardChoosingStrategy) {
+        super(nbGold, deck, view, bank, context);
         this.pickingStrategy = pickingStrategy;
         this.characterChoosingStrategy = characterChoosingStrategy;
         this.usingThiefEffectStrategy = usingThiefEffectStrategy;
@@ -164,6 +196,23 @@ public class CustomBot extends RandomBot {
         return super.chooseWarlordTarget(opponentsFocusable);
     }
 
+    /**
+     * Get the strategies of the bot, to tell apart the custom bots configured differently
+     *
+     * @return the names of the strategies separated by a slash, "none" for a strategy not set
+     */
+    public String getStrategiesDescription() {
+        StringBuilder description = new StringBuilder();
+        for (Object strategy : new Object[]{pickingStrategy, characterChoosingStrategy, usingThiefEffectStrategy,
+                usingMurdererEffectStrategy, usingWarlordEffectStrategy, cardChoosingStrategy}) {
+            if (!description.isEmpty()) {
+                description.append('/');
+            }
+            description.append(strategy == null ? "none" : strategy.getClass().getSimpleName());
+        }
+        return description.toString();
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
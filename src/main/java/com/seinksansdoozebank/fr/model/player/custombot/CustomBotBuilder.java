@@ -1,5 +1,6 @@
 package com.seinksansdoozebank.fr.model.player.custombot;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Deck;
 import com.seinksansdoozebank.fr.model.player.custombot.strategies.cardchoosing.ICardChoosingStrategy;
@@ -24,6 +25,7 @@ public class CustomBotBuilder {
     private IUsingMurdererEffectStrategy usingMurdererEffectStrategy;
     private IUsingWarlordEffectStrategy usingWarlordEffectStrategy;
     private ICardChoosingStrategy cardChoosingStrategy;
+    private SimulationContext context;
 
     /**
      * CustomBotBuilder constructor
@@ -38,6 +40,18 @@ public class CustomBotBuilder {
         this.view = view;
         this.deck = deck;
         this.bank = bank;
+        this.context = SimulationContext.getDefault();
+    }
+
+    /**
+     * Set the context of the game
+     *
+     * @param context the context of the game
+     * @return the CustomBotBuilder
+     */
+    public CustomBotBuilder setSimulationContext(SimulationContext context) {
+        this.context = context;
+        return this;
     }
 
     /**
@@ -106,7 +120,7 @@ public class CustomBotBuilder {
      * @return the CustomBot
      */
     public CustomBot build() {
-        return new CustomBot(nbGold, this.deck, this.view, this.bank,
+        return new CustomBot(nbGold, this.deck, this.view, this.bank, this.context,
                 this.pickingStrategy,
                 this.characterChoosingStrategy,
                 this.usingThiefEffectStrategy,
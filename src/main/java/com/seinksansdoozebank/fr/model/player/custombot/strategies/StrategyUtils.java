@@ -7,17 +7,12 @@ import com.seinksansdoozebank.fr.model.player.Opponent;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * The strategy utils
  */
 public class StrategyUtils {
-    /**
-     * The random object
-     */
-    public static final Random RANDOM = new Random();
-
     private StrategyUtils() {
     }
 
@@ -47,10 +42,11 @@ public class StrategyUtils {
      * Get a random character from the list
      *
      * @param characters the list of characters
+     * @param random     the random of the player choosing the character
      * @return a random character from the list
      */
-    public static Character getRandomCharacterFromList(List<Character> characters) {
-        return characters.get(RANDOM.nextInt(characters.size()));
+    public static Character getRandomCharacterFromList(List<Character> characters, RandomGenerator random) {
+        return characters.get(random.nextInt(characters.size()));
     }
 
     /**
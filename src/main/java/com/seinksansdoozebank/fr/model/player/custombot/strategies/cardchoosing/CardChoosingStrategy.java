@@ -1,9 +1,9 @@
 package com.seinksansdoozebank.fr.model.player.custombot.strategies.cardchoosing;
 
 import com.seinksansdoozebank.fr.model.cards.Card;
+import com.seinksansdoozebank.fr.model.cards.Hand;
 import com.seinksansdoozebank.fr.model.player.Player;
 
-import java.util.Comparator;
 import java.util.Optional;
 
 /**
@@ -20,15 +20,14 @@ public class CardChoosingStrategy implements ICardChoosingStrategy {
      */
     @Override
     public Optional<Card> apply(Player player) {
-        if (player.getHand().isEmpty()) {
+        Hand hand = Hand.of(player.getHand());
+        if (hand.isEmpty()) {
             return Optional.empty();
         }
         // Get the mean of the cost of the cards in the player's hand
-        int mean = player.getHand().stream().mapToInt(card -> card.getDistrict().getCost()).sum() / player.getHand().size();
-        // Get the card that is the closest to the mean
-        Optional<Card> cardToChoose = player.getHand().stream()
-                .filter(player::canPlayCard)
-                .min(Comparator.comparingInt(card -> Math.abs(card.getDistrict().getCost() - mean)));
+        int mean = hand.getTotalCost() / hand.size();
+        // Get the playable card that is the closest to the mean
+        Optional<Card> cardToChoose = hand.getCardWithCostClosestTo(mean, player.getNbGold(), player.getBuiltDistricts());
         // Check that the player can play the card
         if (cardToChoose.isPresent() && player.canPlayCard(cardToChoose.get())) {
             return cardToChoose;
@@ -1,13 +1,13 @@
 package com.seinksansdoozebank.fr.model.player.custombot.strategies.murderereffect;
 
+import com.seinksansdoozebank.fr.model.character.Characters;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
 import com.seinksansdoozebank.fr.model.player.Player;
-import com.seinksansdoozebank.fr.model.player.custombot.strategies.StrategyUtils;
 import com.seinksansdoozebank.fr.view.IView;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * Represents the strategy of the bot to use the murderer effect to focus the rusher
@@ -16,26 +16,25 @@ import java.util.Random;
  */
 public class UsingMurdererEffectToFocusRusher implements IUsingMurdererEffectStrategy {
 
-    private static final Random random = new Random();
-
     @Override
     public Character apply(Player player, IView view) {
         List<Character> characters = player.getAvailableCharacters().stream().filter(character -> character.getRole() != Role.ASSASSIN).toList();
-        if (StrategyUtils.isRoleInCharacterList(Role.MERCHANT, characters)) {
-            return useAndDisplayMurderEffect(Role.MERCHANT, characters, view, player);
-        } else if (StrategyUtils.isRoleInCharacterList(Role.ARCHITECT, characters)) {
-            return useAndDisplayMurderEffect(Role.ARCHITECT, characters, view, player);
-        } else if (StrategyUtils.isRoleInCharacterList(Role.KING, characters)) {
-            return useAndDisplayMurderEffect(Role.KING, characters, view, player);
+        RoleSet roles = RoleSet.of(characters);
+        if (roles.contains(Role.MERCHANT)) {
+            return useAndDisplayMurderEffect(Role.MERCHANT, view, player);
+        } else if (roles.contains(Role.ARCHITECT)) {
+            return useAndDisplayMurderEffect(Role.ARCHITECT, view, player);
+        } else if (roles.contains(Role.KING)) {
+            return useAndDisplayMurderEffect(Role.KING, view, player);
         } else { //random
-            Character targetCharacter = characters.get(random.nextInt(characters.size()));
+            Character targetCharacter = characters.get(player.getRandom().nextInt(characters.size()));
             view.displayPlayerUseAssassinEffect(player, targetCharacter);
             return targetCharacter;
         }
     }
 
-    private static Character useAndDisplayMurderEffect(Role role, List<Character> characters, IView view, Player player) {
-        Character targetCharacter = StrategyUtils.getCharacterFromRoleInList(role, characters);
+    private static Character useAndDisplayMurderEffect(Role role, IView view, Player player) {
+        Character targetCharacter = Characters.of(role);
         view.displayPlayerUseAssassinEffect(player, targetCharacter);
         return targetCharacter;
     }
@@ -1,12 +1,12 @@
 package com.seinksansdoozebank.fr.model.player.custombot.strategies.thiefeffect;
 
+import com.seinksansdoozebank.fr.model.character.Characters;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
 import com.seinksansdoozebank.fr.model.player.Player;
-import com.seinksansdoozebank.fr.model.player.custombot.strategies.StrategyUtils;
 
 import java.util.List;
-import java.util.Random;
 
 /**
  * Represents the strategy of the bot to use the thief effect to focus the rusher
@@ -15,21 +15,20 @@ import java.util.Random;
  */
 public class UsingThiefEffectToFocusRusher implements IUsingThiefEffectStrategy {
 
-    private static final Random random = new Random();
-
     @Override
     public Character apply(Player player) {
         List<Character> characters = player.getAvailableCharacters().stream().filter(character -> character.getRole() != Role.ASSASSIN &&
                 character.getRole() != Role.THIEF &&
-                !character.isDead()).toList();
-        if (StrategyUtils.isRoleInCharacterList(Role.ARCHITECT, characters)) {
-            return StrategyUtils.getCharacterFromRoleInList(Role.ARCHITECT, characters);
-        } else if (StrategyUtils.isRoleInCharacterList(Role.MERCHANT, characters)) {
-            return StrategyUtils.getCharacterFromRoleInList(Role.MERCHANT, characters);
-        } else if (StrategyUtils.isRoleInCharacterList(Role.KING, characters)) {
-            return StrategyUtils.getCharacterFromRoleInList(Role.KING, characters);
+                !player.isCharacterDead(character)).toList();
+        RoleSet roles = RoleSet.of(characters);
+        if (roles.contains(Role.ARCHITECT)) {
+            return Characters.of(Role.ARCHITECT);
+        } else if (roles.contains(Role.MERCHANT)) {
+            return Characters.of(Role.MERCHANT);
+        } else if (roles.contains(Role.KING)) {
+            return Characters.of(Role.KING);
         } else { //random
-            return characters.get(random.nextInt(characters.size()));
+            return characters.get(player.getRandom().nextInt(characters.size()));
         }
     }
 
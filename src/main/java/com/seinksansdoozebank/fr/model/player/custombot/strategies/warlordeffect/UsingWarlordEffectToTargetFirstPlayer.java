@@ -1,32 +1,36 @@
 package com.seinksansdoozebank.fr.model.player.custombot.strategies.warlordeffect;
 
-import com.seinksansdoozebank.fr.model.cards.Card;
-import com.seinksansdoozebank.fr.model.cards.District;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.WarlordTarget;
-import com.seinksansdoozebank.fr.model.character.roles.Role;
 import com.seinksansdoozebank.fr.model.player.Opponent;
 import com.seinksansdoozebank.fr.model.player.Player;
-import com.seinksansdoozebank.fr.model.player.custombot.strategies.StrategyUtils;
+import com.seinksansdoozebank.fr.model.player.WarlordTargetIndex;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 /**
- * This strategy targets the first player in the game and try to destroy his cheapest district
+ * This strategy targets the first player in the game and try to destroy his cheapest district.
+ * The opponents are taken in the order of the leaderboard, the first one with a district the player can destroy being
+ * targeted.
  */
 public class UsingWarlordEffectToTargetFirstPlayer implements IUsingWarlordEffectStrategy {
 
     @Override
     public WarlordTarget apply(Player player, List<Opponent> opponents) {
-        Opponent targetOpponent = StrategyUtils.getLeadingOpponent(opponents);
-        if ((targetOpponent.getOpponentCharacter() != null && targetOpponent.getOpponentCharacter().getRole() == Role.BISHOP) || targetOpponent.nbDistrictsInCitadel() >= player.getNumberOfDistrictsNeeded()) {
-            return null;
+        if (opponents.isEmpty()) {
+            throw new IllegalStateException("No leading opponent found");
         }
-        Optional<Card> cheaperCardToDestroy = targetOpponent.getCitadel().stream()
-                .filter(card -> card.getDistrict().getCost() < player.getNbGold() && card.getDistrict() != District.DONJON)
-                .min(Comparator.comparingInt(c -> c.getDistrict().getCost()));
-        return cheaperCardToDestroy.map(card -> new WarlordTarget(targetOpponent, card.getDistrict())).orElse(null);
+        WarlordTargetIndex warlordTargetIndex = player.getWarlordTargetIndex();
+        for (Opponent opponent : player.getThreatAnalysis().getTopPlayers(opponents.size() + 1)) {
+            if (opponent != player) {
+                // only a district cheaper than the gold of the player is destroyed, which costs at most the gold minus two
+                Optional<WarlordTarget> target = warlordTargetIndex.getCheapestTarget(opponent, player.getNbGold() - 2);
+                if (target.isPresent()) {
+                    return target.get();
+                }
+            }
+        }
+        return null;
     }
 
     @Override
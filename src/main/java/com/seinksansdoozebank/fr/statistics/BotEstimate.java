@@ -0,0 +1,21 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.model.player.Player;
+
+import java.util.Comparator;
+
+/**
+ * The estimate of the strength of a bot with the games played so far
+ *
+ * @param player    a player of the bot, to show the bot
+ * @param nbGames   the number of games played by the bot
+ * @param winRate   the interval of the rate of games won
+ * @param meanScore the interval of the mean score
+ */
+public record BotEstimate(Player player, long nbGames, ConfidenceInterval winRate, ConfidenceInterval meanScore) {
+    /**
+     * The order of the estimates from the highest win rate to the lowest, by the middle of their intervals
+     */
+    public static final Comparator<BotEstimate> BY_WIN_RATE_DESCENDING = Comparator.comparingDouble(
+            (BotEstimate estimate) -> estimate.winRate().lower() + estimate.winRate().upper()).reversed();
+}
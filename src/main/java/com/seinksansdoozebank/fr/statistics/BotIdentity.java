@@ -0,0 +1,27 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.model.player.Player;
+import com.seinksansdoozebank.fr.model.player.custombot.CustomBot;
+
+/**
+ * The identity of a bot in the statistics, the same from one game to another: the kind of bot, its strategies and
+ * its id, which tells apart the bots of the same kind in a game since the ids are given in the order of creation.
+ * Two players built the same way in two games, even by two different workers, have the same identity.
+ *
+ * @param botType    the name of the class of the bot
+ * @param strategies the strategies of the bot, empty if the bot can't be configured
+ * @param id         the id of the bot in its game
+ */
+public record BotIdentity(String botType, String strategies, int id) {
+
+    /**
+     * Get the identity of the player
+     *
+     * @param player the player
+     * @return the identity of the player
+     */
+    public static BotIdentity of(Player player) {
+        String strategies = player instanceof CustomBot customBot ? customBot.getStrategiesDescription() : "";
+        return new BotIdentity(player.getClass().getSimpleName(), strategies, player.getId());
+    }
+}
@@ -0,0 +1,117 @@
+package com.seinksansdoozebank.fr.statistics;
+
+/**
+ * An interval holding an unknown value with a given confidence
+ *
+ * @param lower the lower bound
+ * @param upper the upper bound
+ */
+public record ConfidenceInterval(double lower, double upper) {
+
+    /**
+     * Get the Wilson score interval of a rate, which stays within [0, 1] and is reliable even for few games or
+     * a rate close to 0 or 1
+     *
+     * @param nbSuccesses the number of successes
+     * @param nbTrials    the number of trials
+     * @param confidence  the confidence of the interval, between 0 and 1 excluded
+     * @return the interval of the rate, [0, 1] if there is no trial
+     */
+    public static ConfidenceInterval wilson(long nbSuccesses, long nbTrials, double confidence) {
+        if (nbTrials <= 0) {
+            return new ConfidenceInterval(0, 1);
+        }
+        double z = normalQuantile(confidence);
+        double rate = (double) nbSuccesses / nbTrials;
+        double zSquaredOverN = z * z / nbTrials;
+        double center = (rate + zSquaredOverN / 2) / (1 + zSquaredOverN);
+        double halfWidth = z / (1 + zSquaredOverN) * Math.sqrt(rate * (1 - rate) / nbTrials + zSquaredOverN / (4.0 * nbTrials));
+        return new ConfidenceInterval(Math.max(0, center - halfWidth), Math.min(1, center + halfWidth));
+    }
+
+    /**
+     * Get the empirical Bernstein interval of a mean, which holds whatever the distribution of values bounded by
+     * the given range (Maurer and Pontil)
+     *
+     * @param mean       the mean of the values
+     * @param variance   the variance of the values
+     * @param nbValues   the number of values
+     * @param range      the width of the range of the values
+     * @param confidence the confidence of the interval, between 0 and 1 excluded
+     * @return the interval of the mean, infinite if there are less than two values
+     */
+    public static ConfidenceInterval bernstein(double mean, double variance, long nbValues, double range, double confidence) {
+        if (nbValues < 2) {
+            return new ConfidenceInterval(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+        double logTerm = Math.log(2 / (1 - confidence));
+        double sampleVariance = variance * nbValues / (nbValues - 1);
+        double halfWidth = Math.sqrt(2 * sampleVariance * logTerm / nbValues) + 7 * range * logTerm / (3.0 * (nbValues - 1));
+        return new ConfidenceInterval(mean - halfWidth, mean + halfWidth);
+    }
+
+    /**
+     * Get the normal interval of a mean, reliable when the mean is taken over many independent measures
+     *
+     * @param mean       the mean of the measures
+     * @param variance   the variance of the measures
+     * @param nbValues   the number of measures
+     * @param confidence the confidence of the interval, between 0 and 1 excluded
+     * @return the interval of the mean, infinite if there are less than two measures
+     */
+    public static ConfidenceInterval normal(double mean, double variance, long nbValues, double confidence) {
+        if (nbValues < 2) {
+            return new ConfidenceInterval(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+        double sampleVariance = variance * nbValues / (nbValues - 1);
+        double halfWidth = normalQuantile(confidence) * Math.sqrt(sampleVariance / nbValues);
+        return new ConfidenceInterval(mean - halfWidth, mean + halfWidth);
+    }
+
+    /**
+     * Get the quantile of the standard normal distribution leaving the given two-sided confidence in the middle,
+     * 1.96 for 0.95, within 5e-4 (Abramowitz and Stegun 26.2.23)
+     *
+     * @param confidence the confidence, between 0 and 1 excluded
+     * @return the quantile
+     * @throws IllegalArgumentException if the confidence is not between 0 and 1 excluded
+     */
+    static double normalQuantile(double confidence) {
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("The confidence must be between 0 and 1 excluded, not " + confidence);
+        }
+        double tail = (1 - confidence) / 2;
+        double t = Math.sqrt(-2 * Math.log(tail));
+        return t - (2.515517 + 0.802853 * t + 0.010328 * t * t) / (1 + 1.432788 * t + 0.189269 * t * t + 0.001308 * t * t * t);
+    }
+
+    /**
+     * Get the half of the width of the interval
+     *
+     * @return the half width
+     */
+    public double halfWidth() {
+        return (this.upper - this.lower) / 2;
+    }
+
+    /**
+     * Get the interval cut to the given bounds
+     *
+     * @param min the lowest bound
+     * @param max the highest bound
+     * @return the interval within the bounds
+     */
+    public ConfidenceInterval clamp(double min, double max) {
+        return new ConfidenceInterval(Math.max(min, this.lower), Math.min(max, this.upper));
+    }
+
+    /**
+     * Check if the interval is entirely above another one
+     *
+     * @param other the other interval
+     * @return true if the lower bound of this interval is above the upper bound of the other one
+     */
+    public boolean isAbove(ConfidenceInterval other) {
+        return this.lower > other.upper;
+    }
+}
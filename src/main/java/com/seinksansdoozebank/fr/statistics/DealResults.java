@@ -0,0 +1,85 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.model.player.Player;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The DealResults class gathers the results of the rotations of a deal by bot identity, so that each deal counts
+ * as one measure of each bot once all its rotations are played.
+ * A deal being played by a single worker, the results are gathered without any lock.
+ */
+public class DealResults {
+    private final Map<BotIdentity, BotDealResults> resultsOfBots;
+
+    /**
+     * The results of a bot in the rotations of the deal
+     */
+    static final class BotDealResults {
+        private final Player player;
+        private int nbGames;
+        private int nbWins;
+        private long totalScore;
+
+        BotDealResults(Player player) {
+            this.player = player;
+        }
+
+        Player getPlayer() {
+            return player;
+        }
+
+        int getNbGames() {
+            return nbGames;
+        }
+
+        int getNbWins() {
+            return nbWins;
+        }
+
+        long getTotalScore() {
+            return totalScore;
+        }
+    }
+
+    /**
+     * DealResults constructor, no result is gathered
+     */
+    public DealResults() {
+        this.resultsOfBots = new HashMap<>();
+    }
+
+    /**
+     * Add the result of a player in a rotation of the deal
+     *
+     * @param player    the player
+     * @param placement the placement of the player, 1 being the winner
+     * @param score     the score of the player
+     */
+    public void add(Player player, int placement, int score) {
+        BotDealResults results = this.resultsOfBots.computeIfAbsent(BotIdentity.of(player), identity -> new BotDealResults(player));
+        results.nbGames++;
+        if (placement == 1) {
+            results.nbWins++;
+        }
+        results.totalScore += Math.max(0, score);
+    }
+
+    /**
+     * Forget the results gathered, to gather the ones of the next deal
+     */
+    public void clear() {
+        this.resultsOfBots.clear();
+    }
+
+    /**
+     * Get the results of each bot in the deal
+     *
+     * @return the results of each bot
+     */
+    Collection<BotDealResults> getResultsOfBots() {
+        return this.resultsOfBots.values();
+    }
+}
@@ -0,0 +1,23 @@
+package com.seinksansdoozebank.fr.statistics;
+
+/**
+ * The measures of a game recorded in the histograms of each bot and of each seat
+ */
+public enum GameMeasure {
+    /**
+     * The final score of the player
+     */
+    SCORE,
+    /**
+     * The number of rounds played in the game
+     */
+    ROUNDS,
+    /**
+     * The number of districts in the citadel of the player at the end of the game
+     */
+    DISTRICTS,
+    /**
+     * The gold of the player at the end of the game
+     */
+    GOLD
+}
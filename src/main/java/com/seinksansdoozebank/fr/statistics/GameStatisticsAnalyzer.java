@@ -5,9 +5,11 @@ import com.opencsv.CSVReader;
 import com.opencsv.CSVWriter;
 import com.seinksansdoozebank.fr.controller.Game;
 import com.seinksansdoozebank.fr.controller.GameFactory;
+import com.seinksansdoozebank.fr.controller.RandomStreams;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.player.Player;
 import com.seinksansdoozebank.fr.view.Cli;
+import com.seinksansdoozebank.fr.view.SilentView;
 import com.seinksansdoozebank.fr.view.logger.CustomLogger;
 import com.seinksansdoozebank.fr.view.logger.CustomStatisticsLogger;
 
@@ -21,6 +23,8 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
 import java.util.logging.Level;
 
 import static com.seinksansdoozebank.fr.controller.Game.NORMAL_NB_DISTRICT_TO_WIN;
@@ -71,9 +75,13 @@ public class GameStatisticsAnalyzer {
 
     private final int numSessions;
     private final Map<Player, PlayerStatistics> playerStatisticsMap;
+    private final StatisticsAccumulator statisticsAccumulator;
     private final boolean saveStatsToCsv;
     static final String FOLDER_DEFAULT_PATH = "src/main/resources/stats/";
     private final CsvCategory csvCategory;
+    private final int nbWorkers;
+    private final RandomStreams randomStreams;
+    private boolean actionValidationEnabled = true;
 
     /**
      * GameStatisticsAnalyzer constructor
@@ -81,12 +89,40 @@ public class GameStatisticsAnalyzer {
      * @param numSessions    the number of game sessions
      * @param saveStatsToCsv boolean to save the stats to a csv file
      * @param csvCategory    the category of the CSV file to save the statistics to
+     * @param nbWorkers      the number of workers playing the game sessions in parallel
+     * @param randomStreams  the random streams giving its random to each game session
      */
-    public GameStatisticsAnalyzer(int numSessions, boolean saveStatsToCsv, CsvCategory csvCategory) {
+    public GameStatisticsAnalyzer(int numSessions, boolean saveStatsToCsv, CsvCategory csvCategory, int nbWorkers, RandomStreams randomStreams) {
         this.numSessions = numSessions;
         this.playerStatisticsMap = new HashMap<>();
+        this.statisticsAccumulator = new StatisticsAccumulator();
         this.saveStatsToCsv = saveStatsToCsv;
         this.csvCategory = csvCategory;
+        this.nbWorkers = nbWorkers;
+        this.randomStreams = randomStreams;
+    }
+
+    /**
+     * GameStatisticsAnalyzer constructor, the game sessions are played with a random seed
+     *
+     * @param numSessions    the number of game sessions
+     * @param saveStatsToCsv boolean to save the stats to a csv file
+     * @param csvCategory    the category of the CSV file to save the statistics to
+     * @param nbWorkers      the number of workers playing the game sessions in parallel
+     */
+    public GameStatisticsAnalyzer(int numSessions, boolean saveStatsToCsv, CsvCategory csvCategory, int nbWorkers) {
+        this(numSessions, saveStatsToCsv, csvCategory, nbWorkers, new RandomStreams());
+    }
+
+    /**
+     * GameStatisticsAnalyzer constructor, the game sessions are played one after another
+     *
+     * @param numSessions    the number of game sessions
+     * @param saveStatsToCsv boolean to save the stats to a csv file
+     * @param csvCategory    the category of the CSV file to save the statistics to
+     */
+    public GameStatisticsAnalyzer(int numSessions, boolean saveStatsToCsv, CsvCategory csvCategory) {
+        this(numSessions, saveStatsToCsv, csvCategory, 1);
     }
 
     /**
@@ -98,13 +134,42 @@ public class GameStatisticsAnalyzer {
         this(0, saveStatsToCsv, DEMO_GAME);
     }
 
+    /**
+     * GameStatisticsAnalyzer constructor
+     *
+     * @param saveStatsToCsv boolean to save the stats to a csv file
+     * @param randomStreams  the random streams giving its random to the demo game
+     */
+    public GameStatisticsAnalyzer(boolean saveStatsToCsv, RandomStreams randomStreams) {
+        this(0, saveStatsToCsv, DEMO_GAME, 1, randomStreams);
+    }
+
+    /**
+     * Turn the checks of the actions of the games played by the analyzer on or off
+     *
+     * @param actionValidationEnabled true to check the actions before applying them
+     */
+    public void setActionValidationEnabled(boolean actionValidationEnabled) {
+        this.actionValidationEnabled = actionValidationEnabled;
+    }
+
+    /**
+     * Give the switch of the checks of the actions to the context of a game created by the analyzer
+     *
+     * @param game the game
+     * @return the game
+     */
+    private Game withActionValidation(Game game) {
+        game.getSimulationContext().setActionValidationEnabled(this.actionValidationEnabled);
+        return game;
+    }
+
     /**
      * Runs a demo game session with all types of bots and analyzes the results.
      */
     public void runDemo(boolean isVariante) {
         CustomLogger.setLevel(isSaveStatsToCsv() ? Level.OFF : Level.INFO);
-        Player.resetIdCounter();
-        Game game = GameFactory.createGameOfAllTypeOfBot(new Cli(), new Bank(), NORMAL_NB_DISTRICT_TO_WIN);
+        Game game = this.withActionValidation(GameFactory.createGameOfAllTypeOfBot(new Cli(), new Bank(), NORMAL_NB_DISTRICT_TO_WIN, this.randomStreams.nextStream()));
         game.run();
         game.setVariante(isVariante);
         analyzeGameResults(game);
@@ -113,8 +178,7 @@ public class GameStatisticsAnalyzer {
 
     public void runQuickDemo(int nbDistricts) {
         CustomLogger.setLevel(isSaveStatsToCsv() ? Level.OFF : Level.INFO);
-        Player.resetIdCounter();
-        Game game = GameFactory.createGameOfAllTypeOfBot(new Cli(), new Bank(), nbDistricts);
+        Game game = this.withActionValidation(GameFactory.createGameOfAllTypeOfBot(new Cli(), new Bank(), nbDistricts, this.randomStreams.nextStream()));
         game.setNbOfDistrictsInCitadel(nbDistricts);
         game.run();
         analyzeGameResults(game);
@@ -123,9 +187,12 @@ public class GameStatisticsAnalyzer {
 
     /**
      * Runs and analyzes multiple game sessions with the specified number of random bots, smart bots, and custom bots.
-     * This method runs multiple game sessions, resets player IDs and the bank for each session,
-     * creates a new game instance, runs the game, logs the completion of each game session,
+     * This method runs multiple game sessions, each with its own context and bank,
+     * creates a new game instance displayed by a silent view, runs the game, logs the completion of each game session,
      * analyzes the results of each game, logs aggregated statistics, and optionally saves statistics to a CSV file.
+     * The sessions are spread over {@link #getNbWorkers()} workers by a {@link TournamentRunner}.
+     * The random streams of the sessions are derived in order before the run, so a seed gives the same results
+     * whatever the number of workers.
      *
      * @param numRandomBots      The number of random bots to be included in each game session.
      * @param numSmartBots       The number of smart bots to be included in each game session.
@@ -137,16 +204,209 @@ public class GameStatisticsAnalyzer {
     public void runAndAnalyze(int numRandomBots, int numSmartBots, int numCustomBots, int numRichardBots, int numBuilderBots, int numOpportunistBots) {
         CustomStatisticsLogger.setLevel(Level.INFO);
         CustomLogger.setLevel(Level.OFF);
-        for (int i = 0; i < this.getNumSessions(); i++) {
-            Player.resetIdCounter();
-            Game game = GameFactory.createCustomGame(numRandomBots, numSmartBots, numCustomBots, numRichardBots, numBuilderBots, numOpportunistBots, Game.NORMAL_NB_DISTRICT_TO_WIN);
-            game.run();
-            CustomStatisticsLogger.log(Level.FINE, "Game {0} completed", new Object[]{i + 1});
-            analyzeGameResults(game);
+        CustomStatisticsLogger.log(Level.INFO, "Seed {0} ({1})", new Object[]{String.valueOf(this.randomStreams.getSeed()), this.randomStreams.getAlgorithm()});
+        AtomicInteger nbGamesCompleted = new AtomicInteger();
+        // each worker builds its game once, then resets it for each of its sessions
+        ThreadLocal<Game> workerGame = new ThreadLocal<>();
+        try (TournamentRunner runner = new TournamentRunner(this.getNbWorkers())) {
+            playSessions(runner, this.getNumSessions(), workerGame, nbGamesCompleted, numRandomBots, numSmartBots, numCustomBots, numRichardBots, numBuilderBots, numOpportunistBots);
         }
+        mergeStatistics();
 
         // Log aggregated statistics
         logAggregatedStatistics();
+        logDistributions();
+        if (isSaveStatsToCsv()) {
+            saveHistogramsIntoCsv();
+        }
+    }
+
+    /**
+     * Runs game sessions by batches until the ranking of the bots or the precision of their win rates is known with
+     * the confidence of the stopping rule, at most {@link #getNumSessions()} sessions.
+     * After each batch the win rate and the mean score of each bot are estimated with confidence intervals,
+     * and the tournament stops as soon as the stopping rule allows it, so a clear ranking costs fewer games.
+     * The batches are cut the same way whatever the number of workers, so a seed still gives the same results.
+     *
+     * @param stopping           The rule deciding when enough games are played.
+     * @param numRandomBots      The number of random bots to be included in each game session.
+     * @param numSmartBots       The number of smart bots to be included in each game session.
+     * @param numCustomBots      The number of custom bots to be included in each game session.
+     * @param numRichardBots     The number of richard bots to be included in each game session.
+     * @param numBuilderBots     The number of builder bots to be included in each game session.
+     * @param numOpportunistBots The number of opportunist bots to be included in each game session.
+     * @return the verdict of the last look at the results
+     */
+    public SequentialStopping.Verdict runUntilConfident(SequentialStopping stopping, int numRandomBots, int numSmartBots, int numCustomBots, int numRichardBots, int numBuilderBots, int numOpportunistBots) {
+        CustomStatisticsLogger.setLevel(Level.INFO);
+        CustomLogger.setLevel(Level.OFF);
+        CustomStatisticsLogger.log(Level.INFO, "Seed {0} ({1})", new Object[]{String.valueOf(this.randomStreams.getSeed()), this.randomStreams.getAlgorithm()});
+        AtomicInteger nbGamesCompleted = new AtomicInteger();
+        ThreadLocal<Game> workerGame = new ThreadLocal<>();
+        SequentialStopping.Verdict verdict = SequentialStopping.Verdict.CONTINUE;
+        List<BotEstimate> estimates = List.of();
+        int nbGamesPlayed = 0;
+        int look = 0;
+        // the batches are played by the same workers, each one keeping its game from a batch to the next
+        try (TournamentRunner runner = new TournamentRunner(this.getNbWorkers())) {
+            while (verdict == SequentialStopping.Verdict.CONTINUE && nbGamesPlayed < this.getNumSessions()) {
+                int batchSize = Math.min(stopping.getNextBatchSize(nbGamesPlayed), this.getNumSessions() - nbGamesPlayed);
+                playSessions(runner, batchSize, workerGame, nbGamesCompleted, numRandomBots, numSmartBots, numCustomBots, numRichardBots, numBuilderBots, numOpportunistBots);
+                nbGamesPlayed += batchSize;
+                look++;
+                estimates = stopping.estimate(this.statisticsAccumulator, look);
+                verdict = stopping.check(estimates);
+            }
+        }
+        CustomStatisticsLogger.log(Level.INFO, "Stopped after {0} of {1} games: {2}", new Object[]{nbGamesPlayed, this.getNumSessions(), verdict});
+        logEstimates(estimates);
+        mergeStatistics();
+
+        logAggregatedStatistics();
+        logDistributions();
+        if (isSaveStatsToCsv()) {
+            saveHistogramsIntoCsv();
+        }
+        return verdict;
+    }
+
+    /**
+     * Runs and analyzes game sessions in duplicate mode: each deal (the shuffles of the deck and of the characters)
+     * is played once for each rotation of the seats, so that every bot gets the same cards and the same seats.
+     * The luck of the deal and of the seat being shared by the bots, each deal counts as one measure of each bot and
+     * the confidence intervals are narrower than with as many independent games.
+     * About {@link #getNumSessions()} games are played, the number of players times the number of deals.
+     *
+     * @param numRandomBots      The number of random bots to be included in each game session.
+     * @param numSmartBots       The number of smart bots to be included in each game session.
+     * @param numCustomBots      The number of custom bots to be included in each game session.
+     * @param numRichardBots     The number of richard bots to be included in each game session.
+     * @param numBuilderBots     The number of builder bots to be included in each game session.
+     * @param numOpportunistBots The number of opportunist bots to be included in each game session.
+     */
+    public void runDuplicateAndAnalyze(int numRandomBots, int numSmartBots, int numCustomBots, int numRichardBots, int numBuilderBots, int numOpportunistBots) {
+        CustomStatisticsLogger.setLevel(Level.INFO);
+        CustomLogger.setLevel(Level.OFF);
+        CustomStatisticsLogger.log(Level.INFO, "Seed {0} ({1})", new Object[]{String.valueOf(this.randomStreams.getSeed()), this.randomStreams.getAlgorithm()});
+        int nbPlayers = numRandomBots + numSmartBots + numCustomBots + numRichardBots + numBuilderBots + numOpportunistBots;
+        int nbDeals = Math.max(1, this.getNumSessions() / nbPlayers);
+        // the seeds creating again the random of the decisions and the random of the deal at each rotation, so that
+        // a rotation doesn't depend on the worker playing it nor on the rotations played before by the worker
+        RandomGenerator[] dealRandoms = this.randomStreams.nextStreams(nbDeals);
+        long[] decisionSeeds = new long[nbDeals];
+        long[] dealSeeds = new long[nbDeals];
+        for (int deal = 0; deal < nbDeals; deal++) {
+            decisionSeeds[deal] = dealRandoms[deal].nextLong();
+            dealSeeds[deal] = dealRandoms[deal].nextLong();
+        }
+        ThreadLocal<Game> workerGame = new ThreadLocal<>();
+        ThreadLocal<DealResults> workerDealResults = ThreadLocal.withInitial(DealResults::new);
+        try (TournamentRunner runner = new TournamentRunner(this.getNbWorkers())) {
+            runner.runDuplicate(nbDeals, nbPlayers,
+                    (deal, rotation) -> {
+                        Game game = workerGame.get();
+                        if (game == null) {
+                            game = this.withActionValidation(GameFactory.createCustomGame(new SilentView(), numRandomBots, numSmartBots, numCustomBots, numRichardBots, numBuilderBots, numOpportunistBots, Game.NORMAL_NB_DISTRICT_TO_WIN, this.randomStreams.create(decisionSeeds[deal])));
+                            workerGame.set(game);
+                        }
+                        game.resetDeal(this.randomStreams.create(decisionSeeds[deal]), this.randomStreams.create(dealSeeds[deal]), rotation);
+                        return game;
+                    },
+                    game -> {
+                        recordGameResults(game);
+                        addDealResults(game, workerDealResults.get());
+                    },
+                    deal -> {
+                        this.statisticsAccumulator.recordDeal(workerDealResults.get());
+                        workerDealResults.get().clear();
+                    });
+        }
+        CustomStatisticsLogger.log(Level.INFO, "{0} deals played in {1} rotations", new Object[]{nbDeals, nbPlayers});
+        List<BotEstimate> estimates = new ArrayList<>(this.statisticsAccumulator.estimate(SequentialStopping.DEFAULT_CONFIDENCE));
+        estimates.sort(BotEstimate.BY_WIN_RATE_DESCENDING);
+        logEstimates(estimates);
+        mergeStatistics();
+
+        logAggregatedStatistics();
+        logDistributions();
+        if (isSaveStatsToCsv()) {
+            saveHistogramsIntoCsv();
+        }
+    }
+
+    /**
+     * Adds the placement and the score of each player of a rotation to the results of its deal.
+     *
+     * @param game        The game of the rotation.
+     * @param dealResults The results of the deal.
+     */
+    private void addDealResults(Game game, DealResults dealResults) {
+        List<Player> sortedPlayers = new ArrayList<>(game.getPlayers());
+        sortedPlayers.sort(Comparator.comparingLong(Player::getRankingKey).reversed());
+        for (int placement = 0; placement < sortedPlayers.size(); placement++) {
+            Player player = sortedPlayers.get(placement);
+            dealResults.add(player, placement + 1, player.getScore());
+        }
+    }
+
+    /**
+     * Plays the given number of game sessions on the workers and records their results.
+     *
+     * @param runner             The runner whose workers play the sessions.
+     * @param nbSessions         The number of game sessions to play.
+     * @param workerGame         The game of each worker, built once then reset for each of its sessions.
+     * @param nbGamesCompleted   The number of games completed so far.
+     * @param numRandomBots      The number of random bots to be included in each game session.
+     * @param numSmartBots       The number of smart bots to be included in each game session.
+     * @param numCustomBots      The number of custom bots to be included in each game session.
+     * @param numRichardBots     The number of richard bots to be included in each game session.
+     * @param numBuilderBots     The number of builder bots to be included in each game session.
+     * @param numOpportunistBots The number of opportunist bots to be included in each game session.
+     */
+    private void playSessions(TournamentRunner runner, int nbSessions, ThreadLocal<Game> workerGame, AtomicInteger nbGamesCompleted, int numRandomBots, int numSmartBots, int numCustomBots, int numRichardBots, int numBuilderBots, int numOpportunistBots) {
+        RandomGenerator[] sessionRandoms = this.randomStreams.nextStreams(nbSessions);
+        runner.run(nbSessions,
+                session -> {
+                    Game game = workerGame.get();
+                    if (game == null) {
+                        game = this.withActionValidation(GameFactory.createCustomGame(new SilentView(), numRandomBots, numSmartBots, numCustomBots, numRichardBots, numBuilderBots, numOpportunistBots, Game.NORMAL_NB_DISTRICT_TO_WIN, sessionRandoms[session]));
+                        workerGame.set(game);
+                    } else {
+                        game.reset(sessionRandoms[session]);
+                    }
+                    return game;
+                },
+                game -> {
+                    CustomStatisticsLogger.log(Level.FINE, "Game {0} completed", new Object[]{nbGamesCompleted.incrementAndGet()});
+                    recordGameResults(game);
+                });
+    }
+
+    /**
+     * Logs the confidence intervals of the win rate and of the mean score of each bot,
+     * then tells for each pair of bots if one surely wins more often than the other.
+     *
+     * @param estimates the estimates of each bot, sorted from the highest win rate to the lowest
+     */
+    void logEstimates(List<BotEstimate> estimates) {
+        StringBuilder table = new StringBuilder("Confidence intervals:\n");
+        table.append("| Player               | Games      | Win Rate          | Mean Score          |\n");
+        table.append("|----------------------|------------|-------------------|---------------------|\n");
+        for (BotEstimate estimate : estimates) {
+            table.append(String.format("| %-21s| %-11d| [%.3f, %.3f]    | [%.2f, %.2f]%n",
+                    estimate.player().toString(), estimate.nbGames(),
+                    estimate.winRate().lower(), estimate.winRate().upper(),
+                    estimate.meanScore().lower(), estimate.meanScore().upper()));
+        }
+        for (int i = 0; i < estimates.size(); i++) {
+            for (int j = i + 1; j < estimates.size(); j++) {
+                BotEstimate first = estimates.get(i);
+                BotEstimate second = estimates.get(j);
+                String comparison = first.winRate().isAbove(second.winRate()) ? "wins more often than" : "can't be told apart yet from";
+                table.append(String.format("%s %s %s%n", first.player(), comparison, second.player()));
+            }
+        }
+        CustomStatisticsLogger.log(Level.INFO, table.toString());
     }
 
     /**
@@ -159,22 +419,32 @@ public class GameStatisticsAnalyzer {
      * @param game The game instance to analyze the results of.
      */
     public void analyzeGameResults(Game game) {
-        List<Player> sortedPlayers = new ArrayList<>(game.getPlayers());
-        sortedPlayers.sort(Comparator.comparingInt(Player::getScore).reversed());
-
-        for (Player player : game.getPlayers()) {
-            PlayerStatistics playerStats = getPlayerStatisticsMap().computeIfAbsent(player, k -> new PlayerStatistics());
-            playerStats.incrementTotalGames();
+        recordGameResults(game);
+        mergeStatistics();
+    }
 
-            if (sortedPlayers.indexOf(player) == 0) {
-                playerStats.incrementGamesWon();
-            } else {
-                playerStats.incrementGamesLost();
-            }
+    /**
+     * Records the placement and the score of each player of the game, by bot identity.
+     * The games of a parallel run are recorded by the worker which played them, without any lock.
+     *
+     * @param game The game instance to record the results of.
+     */
+    void recordGameResults(Game game) {
+        List<Player> sortedPlayers = new ArrayList<>(game.getPlayers());
+        sortedPlayers.sort(Comparator.comparingLong(Player::getRankingKey).reversed());
 
-            playerStats.addScore(player.getScore());
-            playerStats.recordPlacement(sortedPlayers.indexOf(player) + 1);
+        for (int placement = 0; placement < sortedPlayers.size(); placement++) {
+            Player player = sortedPlayers.get(placement);
+            this.statisticsAccumulator.record(player, placement + 1, player.getScore(), game.getSeat(player), game.getNbRoundsPlayed());
         }
+    }
+
+    /**
+     * Merges the results recorded so far into the player statistics map and calculates the average scores.
+     */
+    void mergeStatistics() {
+        getPlayerStatisticsMap().clear();
+        getPlayerStatisticsMap().putAll(this.statisticsAccumulator.merge());
         // Calculate average score based on the current game results
         calculateAverageScore();
     }
@@ -222,6 +492,83 @@ public class GameStatisticsAnalyzer {
         CustomStatisticsLogger.log(Level.INFO, table.toString());
     }
 
+    /**
+     * Logs the spread of the measures of the games of each bot and of each seat.
+     * The percentiles are read from the streaming histograms, within about 6% of the exact value.
+     */
+    void logDistributions() {
+        StringBuilder table = new StringBuilder("Distributions of the games:\n");
+        table.append("| Player               | Measure   | Mean     | Min   | P50   | P90   | P99   | Max   |\n");
+        table.append("|----------------------|-----------|----------|-------|-------|-------|-------|-------|\n");
+        for (Map.Entry<Player, Map<GameMeasure, StreamingHistogram>> entry : this.statisticsAccumulator.getHistogramsOfBots().entrySet()) {
+            for (Map.Entry<GameMeasure, StreamingHistogram> histogram : entry.getValue().entrySet()) {
+                appendDistributionRow(table, entry.getKey().toString(), histogram.getKey(), histogram.getValue());
+            }
+        }
+        for (int seat = 0; seat < StatisticsAccumulator.NB_PLACEMENTS; seat++) {
+            StreamingHistogram scoreHistogram = this.statisticsAccumulator.getHistogramOfSeat(seat, GameMeasure.SCORE);
+            if (scoreHistogram.getCount() > 0) {
+                appendDistributionRow(table, "Seat " + (seat + 1), GameMeasure.SCORE, scoreHistogram);
+            }
+        }
+        CustomStatisticsLogger.log(Level.INFO, table.toString());
+    }
+
+    private void appendDistributionRow(StringBuilder table, String name, GameMeasure measure, StreamingHistogram histogram) {
+        table.append(String.format("| %-21s| %-10s| %-9.3f| %-6d| %-6d| %-6d| %-6d| %-6d|%n",
+                name, measure, histogram.getMean(), histogram.getMin(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99), histogram.getMax()));
+    }
+
+    /**
+     * Writes the non-empty buckets of the histograms of each bot and of each seat, one bucket per line.
+     *
+     * @param writer the writer of the CSV file
+     */
+    void writeHistograms(CSVWriter writer) {
+        writer.writeNext(new String[]{"Player", "Measure", "Lowest Value", "Highest Value", "Count"});
+        for (Map.Entry<Player, Map<GameMeasure, StreamingHistogram>> entry : this.statisticsAccumulator.getHistogramsOfBots().entrySet()) {
+            for (Map.Entry<GameMeasure, StreamingHistogram> histogram : entry.getValue().entrySet()) {
+                writeBuckets(writer, entry.getKey().toString(), histogram.getKey(), histogram.getValue());
+            }
+        }
+        for (int seat = 0; seat < StatisticsAccumulator.NB_PLACEMENTS; seat++) {
+            for (GameMeasure measure : GameMeasure.values()) {
+                writeBuckets(writer, "Seat " + (seat + 1), measure, this.statisticsAccumulator.getHistogramOfSeat(seat, measure));
+            }
+        }
+    }
+
+    private void writeBuckets(CSVWriter writer, String name, GameMeasure measure, StreamingHistogram histogram) {
+        for (StreamingHistogram.Bucket bucket : histogram.getBuckets()) {
+            writer.writeNext(new String[]{name, measure.name(), String.valueOf(bucket.lowestValue()),
+                    String.valueOf(bucket.highestValue()), String.valueOf(bucket.count())});
+        }
+    }
+
+    /**
+     * Saves the histograms into a CSV file next to the statistics of the category, the file being replaced.
+     */
+    private void saveHistogramsIntoCsv() {
+        createCsvFile();
+        String fileName = this.getCsvCategory().getFileName().replace(".csv", "Histograms.csv");
+        try (CSVWriter writer = new CSVWriter(new FileWriter(FOLDER_DEFAULT_PATH + fileName, false))) {
+            writeHistograms(writer);
+        } catch (IOException e) {
+            CustomStatisticsLogger.log(Level.SEVERE, "Error occurred while writing to CSV file: {0}", new Object[]{e.getMessage()});
+        }
+    }
+
+    /**
+     * Get the accumulator of the results recorded so far
+     *
+     * @return the statistics accumulator
+     */
+    StatisticsAccumulator getStatisticsAccumulator() {
+        return statisticsAccumulator;
+    }
+
     private StringBuilder getStringBuilder() {
         // Construct header with dynamic Pos columns
         StringBuilder header = new StringBuilder("| Player               | Total Games | Games Won | Games Lost | Average Score | Winning Percentage |");
@@ -448,6 +795,24 @@ public class GameStatisticsAnalyzer {
         return numSessions;
     }
 
+    /**
+     * Gets the number of workers playing the game sessions in parallel.
+     *
+     * @return the number of workers
+     */
+    public int getNbWorkers() {
+        return nbWorkers;
+    }
+
+    /**
+     * Gets the random streams giving its random to each game session.
+     *
+     * @return the random streams
+     */
+    public RandomStreams getRandomStreams() {
+        return randomStreams;
+    }
+
     /**
      * Get the category of the CSV file to save the statistics to
      *
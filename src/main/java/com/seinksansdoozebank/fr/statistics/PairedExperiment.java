@@ -0,0 +1,206 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.controller.RandomStreams;
+import com.seinksansdoozebank.fr.model.player.Player;
+import com.seinksansdoozebank.fr.view.logger.CustomLogger;
+import com.seinksansdoozebank.fr.view.logger.CustomStatisticsLogger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.random.RandomGenerator;
+
+/**
+ * The PairedExperiment class compares two configurations of a game (e.g. the rules with and without the variante,
+ * or two sets of strategies of a custom bot) with common random numbers: each pair of games is played under both
+ * configurations with the same deal, the same seats and the same random for the decisions of the bots.
+ * The players are paired by the order they were created in, and the differences of their score and of their wins
+ * between the configurations are estimated. The luck being shared by the two games of a pair, far fewer games are
+ * needed than with two independent runs.
+ */
+public class PairedExperiment {
+    private final Configuration configurationA;
+    private final Configuration configurationB;
+    private final int nbPairs;
+    private final int nbWorkers;
+    private final RandomStreams randomStreams;
+    /**
+     * The paired scores and wins of each player, in the order the players were created, filled at the first pair
+     */
+    private final AtomicReference<List<PlayerSamples>> samplesOfPlayers;
+
+    /**
+     * A configuration of the experiment
+     *
+     * @param name        the name of the configuration, shown in the results
+     * @param gameFactory the function creating a game of the configuration from a random, the game being reset for
+     *                    each pair
+     */
+    public record Configuration(String name, Function<RandomGenerator, Game> gameFactory) {
+    }
+
+    /**
+     * The paired measures of a player
+     *
+     * @param nameA  the name of the player under the first configuration
+     * @param nameB  the name of the player under the second configuration
+     * @param scores the paired scores
+     * @param wins   the paired wins, 1 for a game won and 0 otherwise
+     */
+    public record PlayerSamples(String nameA, String nameB, PairedSamples scores, PairedSamples wins) {
+    }
+
+    /**
+     * PairedExperiment constructor
+     *
+     * @param configurationA the first configuration
+     * @param configurationB the second configuration
+     * @param nbPairs        the number of pairs of games to play
+     * @param nbWorkers      the number of workers playing the pairs in parallel
+     * @param randomStreams  the random streams giving their random to the pairs
+     */
+    public PairedExperiment(Configuration configurationA, Configuration configurationB, int nbPairs, int nbWorkers, RandomStreams randomStreams) {
+        this.configurationA = configurationA;
+        this.configurationB = configurationB;
+        this.nbPairs = nbPairs;
+        this.nbWorkers = nbWorkers;
+        this.randomStreams = randomStreams;
+        this.samplesOfPlayers = new AtomicReference<>();
+    }
+
+    /**
+     * Play the pairs of games and log the differences between the configurations.
+     * The random streams of the pairs are derived in order before the run, and the seats are rotated from a pair to
+     * the next, so a seed gives the same results whatever the number of workers.
+     *
+     * @return the paired measures of each player, in the order the players were created
+     */
+    public List<PlayerSamples> run() {
+        CustomStatisticsLogger.setLevel(Level.INFO);
+        CustomLogger.setLevel(Level.OFF);
+        CustomStatisticsLogger.log(Level.INFO, "Seed {0} ({1})", new Object[]{String.valueOf(this.randomStreams.getSeed()), this.randomStreams.getAlgorithm()});
+        // the seed of the decisions of the bots and the seed of the deal of each pair
+        RandomGenerator[] pairRandoms = this.randomStreams.nextStreams(this.nbPairs);
+        long[] decisionSeeds = new long[this.nbPairs];
+        long[] dealSeeds = new long[this.nbPairs];
+        for (int pair = 0; pair < this.nbPairs; pair++) {
+            decisionSeeds[pair] = pairRandoms[pair].nextLong();
+            dealSeeds[pair] = pairRandoms[pair].nextLong();
+        }
+        ThreadLocal<Game> workerGameA = new ThreadLocal<>();
+        ThreadLocal<Game> workerGameB = new ThreadLocal<>();
+        try (TournamentRunner runner = new TournamentRunner(this.nbWorkers)) {
+            runner.runPaired(this.nbPairs,
+                    pair -> this.prepareGame(workerGameA, this.configurationA, decisionSeeds[pair], dealSeeds[pair], pair),
+                    pair -> this.prepareGame(workerGameB, this.configurationB, decisionSeeds[pair], dealSeeds[pair], pair),
+                    this::recordPair);
+        }
+        List<PlayerSamples> samples = this.getSamplesOfPlayers();
+        this.logDifferences(samples);
+        return samples;
+    }
+
+    /**
+     * Get the game of the worker for a configuration, built at its first pair, and reset it for the pair
+     *
+     * @param workerGame    the game of the worker for the configuration
+     * @param configuration the configuration
+     * @param decisionSeed  the seed of the decisions of the bots in the pair
+     * @param dealSeed      the seed of the deal of the pair
+     * @param pair          the index of the pair
+     * @return the game, not run yet
+     */
+    private Game prepareGame(ThreadLocal<Game> workerGame, Configuration configuration, long decisionSeed, long dealSeed, int pair) {
+        Game game = workerGame.get();
+        if (game == null) {
+            game = configuration.gameFactory().apply(this.randomStreams.create(decisionSeed));
+            workerGame.set(game);
+        }
+        int nbPlayers = game.getPlayers().size();
+        game.resetDeal(this.randomStreams.create(decisionSeed), this.randomStreams.create(dealSeed), pair % nbPlayers);
+        return game;
+    }
+
+    /**
+     * Record the scores and the wins of the players of a pair of games
+     *
+     * @param gameA the game under the first configuration
+     * @param gameB the game under the second configuration
+     * @throws IllegalStateException if the games don't have the same number of players
+     */
+    void recordPair(Game gameA, Game gameB) {
+        List<Player> playersA = sortedByCreation(gameA);
+        List<Player> playersB = sortedByCreation(gameB);
+        if (playersA.size() != playersB.size()) {
+            throw new IllegalStateException("The two configurations must have the same number of players");
+        }
+        if (this.samplesOfPlayers.get() == null) {
+            this.samplesOfPlayers.compareAndSet(null, newSamples(playersA, playersB));
+        }
+        List<PlayerSamples> samples = this.samplesOfPlayers.get();
+        Player winnerA = winnerOf(gameA);
+        Player winnerB = winnerOf(gameB);
+        for (int i = 0; i < playersA.size(); i++) {
+            Player playerA = playersA.get(i);
+            Player playerB = playersB.get(i);
+            samples.get(i).scores().add(playerA.getScore(), playerB.getScore());
+            samples.get(i).wins().add(playerA == winnerA ? 1 : 0, playerB == winnerB ? 1 : 0);
+        }
+    }
+
+    private static List<Player> sortedByCreation(Game game) {
+        List<Player> players = new ArrayList<>(game.getPlayers());
+        players.sort(Comparator.comparingInt(Player::getId));
+        return players;
+    }
+
+    private static Player winnerOf(Game game) {
+        return game.getPlayers().stream().max(Comparator.comparingLong(Player::getRankingKey)).orElseThrow();
+    }
+
+    private static List<PlayerSamples> newSamples(List<Player> playersA, List<Player> playersB) {
+        List<PlayerSamples> samples = new ArrayList<>();
+        for (int i = 0; i < playersA.size(); i++) {
+            samples.add(new PlayerSamples(playersA.get(i).toString(), playersB.get(i).toString(), new PairedSamples(), new PairedSamples()));
+        }
+        return samples;
+    }
+
+    /**
+     * Log, for each player, its mean score and win rate under each configuration, the interval of the difference
+     * and how many times fewer games the pairs needed than independent runs.
+     *
+     * @param samples the paired measures of each player
+     */
+    private void logDifferences(List<PlayerSamples> samples) {
+        StringBuilder table = new StringBuilder(String.format("Paired experiment: %s (A) against %s (B), %d pairs%n",
+                this.configurationA.name(), this.configurationB.name(), this.nbPairs));
+        table.append("| Player               | Score A  | Score B  | Score B - A         | Win A  | Win B  | Win B - A           | Variance Reduction |\n");
+        table.append("|----------------------|----------|----------|---------------------|--------|--------|---------------------|--------------------|\n");
+        for (PlayerSamples playerSamples : samples) {
+            ConfidenceInterval scoreDifference = playerSamples.scores().getDifferenceInterval(SequentialStopping.DEFAULT_CONFIDENCE);
+            ConfidenceInterval winDifference = playerSamples.wins().getDifferenceInterval(SequentialStopping.DEFAULT_CONFIDENCE);
+            table.append(String.format("| %-21s| %-9.3f| %-9.3f| %-20s| %-7.3f| %-7.3f| %-20s| %-19.1f|%n",
+                    playerSamples.nameA(), playerSamples.scores().getMeanA(), playerSamples.scores().getMeanB(),
+                    String.format("[%.3f, %.3f]", scoreDifference.lower(), scoreDifference.upper()),
+                    playerSamples.wins().getMeanA(), playerSamples.wins().getMeanB(),
+                    String.format("[%.3f, %.3f]", winDifference.lower(), winDifference.upper()),
+                    playerSamples.scores().getVarianceReduction()));
+        }
+        CustomStatisticsLogger.log(Level.INFO, table.toString());
+    }
+
+    /**
+     * Get the paired measures of each player recorded so far
+     *
+     * @return the paired measures of each player, in the order the players were created, empty if no pair was played
+     */
+    public List<PlayerSamples> getSamplesOfPlayers() {
+        List<PlayerSamples> samples = this.samplesOfPlayers.get();
+        return samples == null ? List.of() : samples;
+    }
+}
@@ -0,0 +1,130 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The PairedSamples class records a measure taken twice on the same game, once under each configuration of an
+ * experiment, and estimates the difference between the configurations.
+ * The games of a pair sharing their luck, the measures of a pair are correlated and their difference varies less
+ * than the difference of two independent games. The pairs may be recorded by several workers at the same time.
+ */
+public class PairedSamples {
+    private final LongAdder nbPairs;
+    private final LongAdder totalA;
+    private final LongAdder totalB;
+    private final LongAdder totalSquaredA;
+    private final LongAdder totalSquaredB;
+    private final LongAdder totalProducts;
+
+    /**
+     * PairedSamples constructor, no pair is recorded
+     */
+    public PairedSamples() {
+        this.nbPairs = new LongAdder();
+        this.totalA = new LongAdder();
+        this.totalB = new LongAdder();
+        this.totalSquaredA = new LongAdder();
+        this.totalSquaredB = new LongAdder();
+        this.totalProducts = new LongAdder();
+    }
+
+    /**
+     * Record the measures of a pair of games
+     *
+     * @param measureA the measure under the first configuration
+     * @param measureB the measure under the second configuration
+     */
+    public void add(long measureA, long measureB) {
+        this.nbPairs.increment();
+        this.totalA.add(measureA);
+        this.totalB.add(measureB);
+        this.totalSquaredA.add(measureA * measureA);
+        this.totalSquaredB.add(measureB * measureB);
+        this.totalProducts.add(measureA * measureB);
+    }
+
+    /**
+     * Get the number of pairs recorded
+     *
+     * @return the number of pairs
+     */
+    public long getNbPairs() {
+        return this.nbPairs.sum();
+    }
+
+    /**
+     * Get the mean of the measure under the first configuration
+     *
+     * @return the mean, 0 if no pair is recorded
+     */
+    public double getMeanA() {
+        long n = this.getNbPairs();
+        return n == 0 ? 0 : (double) this.totalA.sum() / n;
+    }
+
+    /**
+     * Get the mean of the measure under the second configuration
+     *
+     * @return the mean, 0 if no pair is recorded
+     */
+    public double getMeanB() {
+        long n = this.getNbPairs();
+        return n == 0 ? 0 : (double) this.totalB.sum() / n;
+    }
+
+    /**
+     * Get the mean of the differences, the second configuration minus the first one
+     *
+     * @return the mean difference
+     */
+    public double getMeanDifference() {
+        return this.getMeanB() - this.getMeanA();
+    }
+
+    private double getVarianceA() {
+        double mean = this.getMeanA();
+        return Math.max(0, (double) this.totalSquaredA.sum() / this.getNbPairs() - mean * mean);
+    }
+
+    private double getVarianceB() {
+        double mean = this.getMeanB();
+        return Math.max(0, (double) this.totalSquaredB.sum() / this.getNbPairs() - mean * mean);
+    }
+
+    private double getVarianceOfDifferences() {
+        double covariance = (double) this.totalProducts.sum() / this.getNbPairs() - this.getMeanA() * this.getMeanB();
+        return Math.max(0, this.getVarianceA() + this.getVarianceB() - 2 * covariance);
+    }
+
+    /**
+     * Get the interval of the mean difference, the second configuration minus the first one
+     *
+     * @param confidence the confidence of the interval, between 0 and 1 excluded
+     * @return the interval, infinite if there are less than two pairs
+     */
+    public ConfidenceInterval getDifferenceInterval(double confidence) {
+        long n = this.getNbPairs();
+        if (n < 2) {
+            return new ConfidenceInterval(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+        return ConfidenceInterval.normal(this.getMeanDifference(), this.getVarianceOfDifferences(), n, confidence);
+    }
+
+    /**
+     * Get how many times fewer games the pairs need than two independent runs to measure the difference as precisely,
+     * the variance of the difference of independent games divided by the variance of the paired differences
+     *
+     * @return the factor, 1 if the pairs are not correlated, infinite if the pairs never differ
+     */
+    public double getVarianceReduction() {
+        if (this.getNbPairs() == 0) {
+            return 1;
+        }
+        double independentVariance = this.getVarianceA() + this.getVarianceB();
+        double pairedVariance = this.getVarianceOfDifferences();
+        if (pairedVariance == 0) {
+            return independentVariance == 0 ? 1 : Double.POSITIVE_INFINITY;
+        }
+        return independentVariance / pairedVariance;
+    }
+}
@@ -0,0 +1,170 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The SequentialStopping class decides when a tournament has played enough games: the games are played by batches,
+ * and after each batch the tournament stops if the win rate of every bot is known within the target precision,
+ * or if the bots can be ranked by win rate without any doubt.
+ * Since the results are looked at after each batch, the error allowed by the confidence is shared between the
+ * looks (half of it at the first look, a sixth at the second, ...) and between the bots, so that the confidence
+ * holds for the decision taken at whatever look.
+ */
+public class SequentialStopping {
+    /**
+     * The confidence used when none is given
+     */
+    public static final double DEFAULT_CONFIDENCE = 0.95;
+    /**
+     * The number of games played before the first look when none is given
+     */
+    public static final int DEFAULT_MIN_GAMES = 100;
+    /**
+     * The number of games played between two looks when none is given
+     */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    private final double targetPrecision;
+    private final double confidence;
+    private final int minGames;
+    private final int batchSize;
+
+    /**
+     * The decision taken after a look at the results
+     */
+    public enum Verdict {
+        /**
+         * More games are needed
+         */
+        CONTINUE,
+        /**
+         * The win rate of every bot is known within the target precision
+         */
+        PRECISION_REACHED,
+        /**
+         * The win rates of the bots are far enough from each other to rank them
+         */
+        RANKING_SETTLED
+    }
+
+    /**
+     * SequentialStopping constructor
+     *
+     * @param targetPrecision the half width the interval of each win rate must reach, between 0 and 1 excluded
+     * @param confidence      the confidence of the decision, between 0 and 1 excluded
+     * @param minGames        the number of games played before the first look
+     * @param batchSize       the number of games played between two looks
+     * @throws IllegalArgumentException if a parameter is out of its bounds
+     */
+    public SequentialStopping(double targetPrecision, double confidence, int minGames, int batchSize) {
+        if (targetPrecision <= 0 || targetPrecision >= 1) {
+            throw new IllegalArgumentException("The target precision must be between 0 and 1 excluded, not " + targetPrecision);
+        }
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("The confidence must be between 0 and 1 excluded, not " + confidence);
+        }
+        if (minGames < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("At least one game must be played before each look");
+        }
+        this.targetPrecision = targetPrecision;
+        this.confidence = confidence;
+        this.minGames = minGames;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * SequentialStopping constructor, with the default confidence, minimum number of games and batch size
+     *
+     * @param targetPrecision the half width the interval of each win rate must reach, between 0 and 1 excluded
+     */
+    public SequentialStopping(double targetPrecision) {
+        this(targetPrecision, DEFAULT_CONFIDENCE, DEFAULT_MIN_GAMES, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Get the number of games to play before the next look
+     *
+     * @param nbGamesPlayed the number of games played so far
+     * @return the number of games of the next batch
+     */
+    public int getNextBatchSize(int nbGamesPlayed) {
+        return nbGamesPlayed < this.minGames ? this.minGames - nbGamesPlayed : this.batchSize;
+    }
+
+    /**
+     * Get the confidence of each interval at the given look, the error being shared between the bots and the looks
+     *
+     * @param nbBots the number of bots
+     * @param look   the number of the look, 1 for the first one
+     * @return the confidence of each interval
+     */
+    double getIntervalConfidence(int nbBots, int look) {
+        double error = (1 - this.confidence) / Math.max(1, nbBots) / ((double) look * (look + 1));
+        return 1 - error;
+    }
+
+    /**
+     * Estimate the bots with the results recorded so far, at the given look
+     *
+     * @param statisticsAccumulator the results recorded so far
+     * @param look                  the number of the look, 1 for the first one
+     * @return the estimates of each bot, sorted from the highest win rate to the lowest
+     */
+    public List<BotEstimate> estimate(StatisticsAccumulator statisticsAccumulator, int look) {
+        List<BotEstimate> estimates = new ArrayList<>(statisticsAccumulator.estimate(this.getIntervalConfidence(statisticsAccumulator.getNbBots(), look)));
+        estimates.sort(BotEstimate.BY_WIN_RATE_DESCENDING);
+        return estimates;
+    }
+
+    /**
+     * Decide if the tournament can stop
+     *
+     * @param estimates the estimates of each bot, sorted from the highest win rate to the lowest
+     * @return the verdict
+     */
+    public Verdict check(List<BotEstimate> estimates) {
+        if (estimates.isEmpty()) {
+            return Verdict.CONTINUE;
+        }
+        if (estimates.stream().allMatch(estimate -> estimate.winRate().halfWidth() <= this.targetPrecision)) {
+            return Verdict.PRECISION_REACHED;
+        }
+        if (estimates.size() > 1 && this.isRankingSettled(estimates)) {
+            return Verdict.RANKING_SETTLED;
+        }
+        return Verdict.CONTINUE;
+    }
+
+    /**
+     * Check if each bot has a win rate surely above the one of the next bot
+     *
+     * @param estimates the estimates of each bot, sorted from the highest win rate to the lowest
+     * @return true if the ranking is settled
+     */
+    private boolean isRankingSettled(List<BotEstimate> estimates) {
+        for (int i = 0; i < estimates.size() - 1; i++) {
+            if (!estimates.get(i).winRate().isAbove(estimates.get(i + 1).winRate())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the target precision of the win rates
+     *
+     * @return the half width the interval of each win rate must reach
+     */
+    public double getTargetPrecision() {
+        return targetPrecision;
+    }
+
+    /**
+     * Get the confidence of the decision
+     *
+     * @return the confidence
+     */
+    public double getConfidence() {
+        return confidence;
+    }
+}
@@ -0,0 +1,321 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.model.player.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The StatisticsAccumulator class records the results of the games played by several workers at the same time.
+ * The results are kept by bot identity in striped counters, so that the workers record them without any lock and
+ * without boxing, and they are merged into player statistics once the games are over.
+ * The measures of the games are also counted in streaming histograms, by bot and by seat, whose memory does not
+ * grow with the number of games. Each worker has its own histograms, so that the workers don't contend on the same
+ * buckets, and they are merged once the games are over.
+ */
+public class StatisticsAccumulator {
+    /**
+     * The number of placements recorded, one per seat of a game
+     */
+    static final int NB_PLACEMENTS = Game.NB_PLAYER_MAX;
+    private final Map<BotIdentity, BotCounters> countersOfBots;
+    /**
+     * The histograms of every worker having recorded a game
+     */
+    private final Queue<WorkerHistograms> histogramsOfWorkers;
+    private final ThreadLocal<WorkerHistograms> histogramsOfWorker;
+
+    /**
+     * The counters of a bot
+     */
+    private static final class BotCounters {
+        /**
+         * A player of the bot, to show the bot in the statistics
+         */
+        private final Player player;
+        private final LongAdder totalGames = new LongAdder();
+        private final LongAdder gamesWon = new LongAdder();
+        private final LongAdder gamesLost = new LongAdder();
+        private final LongAdder totalScore = new LongAdder();
+        private final LongAdder totalSquaredScore = new LongAdder();
+        private final LongAdder[] placementCounts = new LongAdder[NB_PLACEMENTS];
+        private final LongAccumulator maxScore = new LongAccumulator(Math::max, 0);
+        /**
+         * The number of deals played in duplicate mode and of games played by the bot in them, and the sums of the
+         * wins and of the score of the bot in each deal and of their squares, kept as integers so that the sums
+         * don't depend on the order the workers add the deals in
+         */
+        private final LongAdder totalDeals = new LongAdder();
+        private final LongAdder totalDealGames = new LongAdder();
+        private final LongAdder totalDealWins = new LongAdder();
+        private final LongAdder totalSquaredDealWins = new LongAdder();
+        private final LongAdder totalDealScore = new LongAdder();
+        private final LongAdder totalSquaredDealScore = new LongAdder();
+
+        BotCounters(Player player) {
+            this.player = player;
+            for (int i = 0; i < NB_PLACEMENTS; i++) {
+                this.placementCounts[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * The histograms recorded by a worker, only read by the other threads once the games are over
+     */
+    private static final class WorkerHistograms {
+        private final Map<BotIdentity, Map<GameMeasure, StreamingHistogram>> histogramsOfBots = new HashMap<>();
+        /**
+         * The histograms of each seat, the first seat being the first player of the game
+         */
+        private final List<Map<GameMeasure, StreamingHistogram>> histogramsOfSeats = new ArrayList<>(NB_PLACEMENTS);
+
+        WorkerHistograms() {
+            for (int i = 0; i < NB_PLACEMENTS; i++) {
+                this.histogramsOfSeats.add(newHistograms());
+            }
+        }
+    }
+
+    /**
+     * StatisticsAccumulator constructor, no result is recorded
+     */
+    public StatisticsAccumulator() {
+        this.countersOfBots = new ConcurrentHashMap<>();
+        this.histogramsOfWorkers = new ConcurrentLinkedQueue<>();
+        this.histogramsOfWorker = ThreadLocal.withInitial(() -> {
+            WorkerHistograms histograms = new WorkerHistograms();
+            this.histogramsOfWorkers.add(histograms);
+            return histograms;
+        });
+    }
+
+    /**
+     * Create an empty histogram for each measure
+     *
+     * @return the histograms
+     */
+    private static Map<GameMeasure, StreamingHistogram> newHistograms() {
+        Map<GameMeasure, StreamingHistogram> histograms = new EnumMap<>(GameMeasure.class);
+        for (GameMeasure measure : GameMeasure.values()) {
+            histograms.put(measure, new StreamingHistogram());
+        }
+        return histograms;
+    }
+
+    /**
+     * Record the result of a player in a game, the method may be called by several workers at the same time
+     *
+     * @param player    the player, at the end of the game
+     * @param placement the placement of the player, 1 being the winner
+     * @param score     the score of the player
+     * @param seat      the seat of the player, 0 being the first player of the game
+     * @param nbRounds  the number of rounds played in the game
+     */
+    public void record(Player player, int placement, int score, int seat, int nbRounds) {
+        BotIdentity botIdentity = BotIdentity.of(player);
+        BotCounters counters = this.countersOfBots.computeIfAbsent(botIdentity, identity -> new BotCounters(player));
+        counters.totalGames.increment();
+        if (placement == 1) {
+            counters.gamesWon.increment();
+        } else {
+            counters.gamesLost.increment();
+        }
+        if (score > 0) {
+            counters.totalScore.add(score);
+            counters.totalSquaredScore.add((long) score * score);
+            counters.maxScore.accumulate(score);
+        }
+        if (placement >= 1 && placement <= NB_PLACEMENTS) {
+            counters.placementCounts[placement - 1].increment();
+        }
+        WorkerHistograms workerHistograms = this.histogramsOfWorker.get();
+        recordMeasures(workerHistograms.histogramsOfBots.computeIfAbsent(botIdentity, identity -> newHistograms()), player, score, nbRounds);
+        if (seat >= 0 && seat < NB_PLACEMENTS) {
+            recordMeasures(workerHistograms.histogramsOfSeats.get(seat), player, score, nbRounds);
+        }
+    }
+
+    /**
+     * Record the results of the bots in all the rotations of a deal, each bot counting the deal once.
+     * The games of the deal must also be recorded one by one with {@link #record(Player, int, int, int, int)}.
+     *
+     * @param dealResults the results of the bots in the deal
+     */
+    public void recordDeal(DealResults dealResults) {
+        for (DealResults.BotDealResults results : dealResults.getResultsOfBots()) {
+            BotCounters counters = this.countersOfBots.computeIfAbsent(BotIdentity.of(results.getPlayer()), identity -> new BotCounters(results.getPlayer()));
+            long nbWins = results.getNbWins();
+            long totalScore = results.getTotalScore();
+            counters.totalDeals.increment();
+            counters.totalDealGames.add(results.getNbGames());
+            counters.totalDealWins.add(nbWins);
+            counters.totalSquaredDealWins.add(nbWins * nbWins);
+            counters.totalDealScore.add(totalScore);
+            counters.totalSquaredDealScore.add(totalScore * totalScore);
+        }
+    }
+
+    /**
+     * Record the measures of the game of a player in the histograms
+     *
+     * @param histograms the histograms of each measure
+     * @param player     the player, at the end of the game
+     * @param score      the score of the player
+     * @param nbRounds   the number of rounds played in the game
+     */
+    private static void recordMeasures(Map<GameMeasure, StreamingHistogram> histograms, Player player, int score, int nbRounds) {
+        histograms.get(GameMeasure.SCORE).record(Math.max(0, score));
+        histograms.get(GameMeasure.ROUNDS).record(Math.max(0, nbRounds));
+        histograms.get(GameMeasure.DISTRICTS).record(player.getCitadel().size());
+        histograms.get(GameMeasure.GOLD).record(Math.max(0, player.getNbGold()));
+    }
+
+    /**
+     * Merge the counters into the statistics of each bot, shown by one of its players.
+     * The games must be over, the counters being read without stopping the workers.
+     *
+     * @return the statistics of each bot
+     */
+    public Map<Player, PlayerStatistics> merge() {
+        Map<Player, PlayerStatistics> statistics = new HashMap<>();
+        for (BotCounters counters : this.countersOfBots.values()) {
+            PlayerStatistics playerStatistics = new PlayerStatistics();
+            playerStatistics.setTotalGames(counters.totalGames.intValue());
+            playerStatistics.setGamesWon(counters.gamesWon.intValue());
+            playerStatistics.setGamesLost(counters.gamesLost.intValue());
+            playerStatistics.addScore(counters.totalScore.intValue());
+            Map<Integer, Integer> placementCounts = new HashMap<>();
+            for (int i = 0; i < NB_PLACEMENTS; i++) {
+                placementCounts.put(i + 1, counters.placementCounts[i].intValue());
+            }
+            playerStatistics.setDetailedPlacement(placementCounts);
+            statistics.put(counters.player, playerStatistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Get the number of bots having recorded results
+     *
+     * @return the number of bot identities
+     */
+    public int getNbBots() {
+        return this.countersOfBots.size();
+    }
+
+    /**
+     * Estimate the win rate and the mean score of each bot with the games recorded so far, the workers may still
+     * be recording games.
+     * The win rate is given by a Wilson interval, the mean score by an empirical Bernstein interval whose range is
+     * the highest score recorded. When the bot played several deals in duplicate mode, each deal is one measure and
+     * both are given by normal intervals of the means of the deals, the luck of the deal and of the seat being
+     * the same for every bot of a deal.
+     *
+     * @param confidence the confidence of each interval, between 0 and 1 excluded
+     * @return the estimates of each bot
+     */
+    public List<BotEstimate> estimate(double confidence) {
+        List<BotEstimate> estimates = new ArrayList<>();
+        for (BotCounters counters : this.countersOfBots.values()) {
+            long nbGames = counters.totalGames.sum();
+            long nbWins = counters.gamesWon.sum();
+            double meanScore = nbGames == 0 ? 0 : (double) counters.totalScore.sum() / nbGames;
+            double variance = nbGames == 0 ? 0 : Math.max(0, (double) counters.totalSquaredScore.sum() / nbGames - meanScore * meanScore);
+            long nbDeals = counters.totalDeals.sum();
+            if (nbDeals > 1) {
+                // a bot plays as many games in every deal, one per rotation and per player of the bot
+                double gamesPerDeal = (double) counters.totalDealGames.sum() / nbDeals;
+                estimates.add(new BotEstimate(counters.player, nbGames,
+                        estimateDealMean(counters.totalDealWins.sum(), counters.totalSquaredDealWins.sum(), nbDeals, gamesPerDeal, confidence).clamp(0, 1),
+                        estimateDealMean(counters.totalDealScore.sum(), counters.totalSquaredDealScore.sum(), nbDeals, gamesPerDeal, confidence)));
+                continue;
+            }
+            long range = counters.maxScore.get();
+            estimates.add(new BotEstimate(counters.player, nbGames,
+                    ConfidenceInterval.wilson(nbWins, nbGames, confidence),
+                    ConfidenceInterval.bernstein(meanScore, variance, nbGames, range, confidence)));
+        }
+        return estimates;
+    }
+
+    /**
+     * Estimate the mean of a measure per game of the deals, the measure of a deal being its total divided by the
+     * number of games of the bot in the deal
+     *
+     * @param total        the sum of the totals of the deals
+     * @param totalSquared the sum of the squares of the totals of the deals
+     * @param nbDeals      the number of deals
+     * @param gamesPerDeal the number of games of the bot in each deal
+     * @param confidence   the confidence of the interval
+     * @return the interval of the mean
+     */
+    private static ConfidenceInterval estimateDealMean(long total, long totalSquared, long nbDeals, double gamesPerDeal, double confidence) {
+        double mean = total / (nbDeals * gamesPerDeal);
+        double variance = Math.max(0, totalSquared / (nbDeals * gamesPerDeal * gamesPerDeal) - mean * mean);
+        return ConfidenceInterval.normal(mean, variance, nbDeals, confidence);
+    }
+
+    /**
+     * Get the histograms of each bot, shown by the same player as in {@link #merge()}, merged from the histograms of
+     * the workers. The games must be over, the histograms of the workers being read without stopping them.
+     *
+     * @return the histograms of each measure, by bot
+     */
+    public Map<Player, Map<GameMeasure, StreamingHistogram>> getHistogramsOfBots() {
+        Map<Player, Map<GameMeasure, StreamingHistogram>> histograms = new HashMap<>();
+        for (Map.Entry<BotIdentity, BotCounters> entry : this.countersOfBots.entrySet()) {
+            Map<GameMeasure, StreamingHistogram> histogramsOfBot = newHistograms();
+            for (WorkerHistograms workerHistograms : this.histogramsOfWorkers) {
+                Map<GameMeasure, StreamingHistogram> histogramsOfWorker = workerHistograms.histogramsOfBots.get(entry.getKey());
+                if (histogramsOfWorker != null) {
+                    mergeHistograms(histogramsOfBot, histogramsOfWorker);
+                }
+            }
+            histograms.put(entry.getValue().player, Collections.unmodifiableMap(histogramsOfBot));
+        }
+        return histograms;
+    }
+
+    /**
+     * Add the values of the histograms of each measure to other histograms
+     *
+     * @param histograms the histograms receiving the values
+     * @param other      the histograms whose values are added, which are not modified
+     */
+    private static void mergeHistograms(Map<GameMeasure, StreamingHistogram> histograms, Map<GameMeasure, StreamingHistogram> other) {
+        for (Map.Entry<GameMeasure, StreamingHistogram> entry : other.entrySet()) {
+            histograms.get(entry.getKey()).merge(entry.getValue());
+        }
+    }
+
+    /**
+     * Get the histogram of a measure for the players seated at the given seat, merged from the histograms of the
+     * workers. The games must be over, the histograms of the workers being read without stopping them.
+     *
+     * @param seat    the seat, 0 being the first player of the game
+     * @param measure the measure
+     * @return the histogram
+     * @throws IllegalArgumentException if there is no such seat
+     */
+    public StreamingHistogram getHistogramOfSeat(int seat, GameMeasure measure) {
+        if (seat < 0 || seat >= NB_PLACEMENTS) {
+            throw new IllegalArgumentException("There is no seat " + seat);
+        }
+        StreamingHistogram histogram = new StreamingHistogram();
+        for (WorkerHistograms workerHistograms : this.histogramsOfWorkers) {
+            histogram.merge(workerHistograms.histogramsOfSeats.get(seat).get(measure));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,212 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The StreamingHistogram class counts non-negative values in a fixed number of log-linear buckets, as HDR histograms
+ * do: the values under {@value #NB_EXACT_VALUES} have a bucket each, then each power of two is split in
+ * {@value #NB_SUB_BUCKETS} buckets of the same width, so a value is known within about 6% whatever its size.
+ * The memory does not depend on the number of values recorded, the values may be recorded by several workers at the
+ * same time and the histograms of the workers may be merged.
+ */
+public class StreamingHistogram {
+    /**
+     * The number of values having a bucket each
+     */
+    static final int NB_EXACT_VALUES = 32;
+    /**
+     * The number of buckets each power of two is split in
+     */
+    static final int NB_SUB_BUCKETS = 16;
+    private static final int FIRST_LOG_BUCKETED = 5;
+    private static final int SUB_BUCKET_BITS = 4;
+    /**
+     * The number of buckets, enough to record any non-negative long
+     */
+    static final int NB_BUCKETS = NB_EXACT_VALUES + (Long.SIZE - 1 - FIRST_LOG_BUCKETED) * NB_SUB_BUCKETS;
+    private final AtomicLongArray counts;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong min;
+    private final AtomicLong max;
+
+    /**
+     * A non-empty bucket of the histogram
+     *
+     * @param lowestValue  the lowest value of the bucket
+     * @param highestValue the highest value of the bucket
+     * @param count        the number of values recorded in the bucket
+     */
+    public record Bucket(long lowestValue, long highestValue, long count) {
+    }
+
+    /**
+     * StreamingHistogram constructor, no value is recorded
+     */
+    public StreamingHistogram() {
+        this.counts = new AtomicLongArray(NB_BUCKETS);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.min = new AtomicLong(Long.MAX_VALUE);
+        this.max = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    /**
+     * Get the index of the bucket of a value
+     *
+     * @param value the value, not negative
+     * @return the index of the bucket
+     */
+    static int bucketIndex(long value) {
+        if (value < NB_EXACT_VALUES) {
+            return (int) value;
+        }
+        int log = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (log - SUB_BUCKET_BITS)) - NB_SUB_BUCKETS;
+        return NB_EXACT_VALUES + (log - FIRST_LOG_BUCKETED) * NB_SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the lowest value of a bucket
+     *
+     * @param index the index of the bucket
+     * @return the lowest value counted in the bucket
+     */
+    static long lowestValue(int index) {
+        if (index < NB_EXACT_VALUES) {
+            return index;
+        }
+        int log = (index - NB_EXACT_VALUES) / NB_SUB_BUCKETS + FIRST_LOG_BUCKETED;
+        int subBucket = (index - NB_EXACT_VALUES) % NB_SUB_BUCKETS;
+        return (long) (NB_SUB_BUCKETS + subBucket) << (log - SUB_BUCKET_BITS);
+    }
+
+    /**
+     * Get the highest value of a bucket
+     *
+     * @param index the index of the bucket
+     * @return the highest value counted in the bucket
+     */
+    static long highestValue(int index) {
+        return index == NB_BUCKETS - 1 ? Long.MAX_VALUE : lowestValue(index + 1) - 1;
+    }
+
+    /**
+     * Record a value, the method may be called by several workers at the same time
+     *
+     * @param value the value
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("A histogram can't record the negative value " + value);
+        }
+        this.counts.incrementAndGet(bucketIndex(value));
+        this.count.increment();
+        this.sum.add(value);
+        this.min.accumulateAndGet(value, Math::min);
+        this.max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Add the values recorded by another histogram to this one
+     *
+     * @param other the other histogram, which is not modified
+     */
+    public void merge(StreamingHistogram other) {
+        for (int i = 0; i < NB_BUCKETS; i++) {
+            long bucketCount = other.counts.get(i);
+            if (bucketCount > 0) {
+                this.counts.addAndGet(i, bucketCount);
+            }
+        }
+        this.count.add(other.count.sum());
+        this.sum.add(other.sum.sum());
+        this.min.accumulateAndGet(other.min.get(), Math::min);
+        this.max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    /**
+     * Get the value under which the given percentage of the values are, within the precision of the buckets
+     *
+     * @param percentile the percentage, between 0 and 100
+     * @return the highest value of the bucket reaching the percentage, bounded by the highest value recorded,
+     * 0 if no value is recorded
+     * @throws IllegalArgumentException if the percentage is not between 0 and 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100, not " + percentile);
+        }
+        long totalCount = this.getCount();
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < NB_BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValue(i), this.getMax());
+            }
+        }
+        return this.getMax();
+    }
+
+    /**
+     * Get the number of values recorded
+     *
+     * @return the number of values
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Get the mean of the values recorded, exact since the sum is kept apart from the buckets
+     *
+     * @return the mean, 0 if no value is recorded
+     */
+    public double getMean() {
+        long totalCount = this.getCount();
+        return totalCount == 0 ? 0 : (double) this.sum.sum() / totalCount;
+    }
+
+    /**
+     * Get the lowest value recorded
+     *
+     * @return the lowest value, 0 if no value is recorded
+     */
+    public long getMin() {
+        return this.getCount() == 0 ? 0 : this.min.get();
+    }
+
+    /**
+     * Get the highest value recorded
+     *
+     * @return the highest value, 0 if no value is recorded
+     */
+    public long getMax() {
+        return this.getCount() == 0 ? 0 : this.max.get();
+    }
+
+    /**
+     * Get the buckets holding at least one value, from the lowest to the highest
+     *
+     * @return the non-empty buckets
+     */
+    public List<Bucket> getBuckets() {
+        List<Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < NB_BUCKETS; i++) {
+            long bucketCount = this.counts.get(i);
+            if (bucketCount > 0) {
+                buckets.add(new Bucket(lowestValue(i), highestValue(i), bucketCount));
+            }
+        }
+        return buckets;
+    }
+}
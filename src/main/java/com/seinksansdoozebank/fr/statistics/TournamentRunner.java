@@ -0,0 +1,206 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.controller.Game;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * The TournamentRunner class plays a given number of independent games, either one after another
+ * or on a work-stealing pool of workers when more than one worker is requested.
+ * In duplicate mode, each deal is played once for each rotation of the seats, on the same worker.
+ * In paired mode, each session is played under two configurations, on the same worker.
+ * The pool of workers is created at the first run and kept until the runner is closed, so that the runs of a
+ * tournament played by batches are played by the same workers, which keep the games they built.
+ */
+public class TournamentRunner implements AutoCloseable {
+    private final int nbWorkers;
+    private ForkJoinPool pool;
+
+    /**
+     * The function giving the game of a rotation of a deal
+     */
+    @FunctionalInterface
+    public interface DealGameSupplier {
+        /**
+         * Get the game playing the deal with the players seated in the given rotation
+         *
+         * @param deal     the index of the deal
+         * @param rotation the rotation of the seats
+         * @return the game, not run yet
+         */
+        Game get(int deal, int rotation);
+    }
+
+    /**
+     * TournamentRunner constructor
+     *
+     * @param nbWorkers the number of workers used to play the games (1 to play them sequentially)
+     */
+    public TournamentRunner(int nbWorkers) {
+        if (nbWorkers < 1) {
+            throw new IllegalArgumentException("The number of workers must be at least 1");
+        }
+        this.nbWorkers = nbWorkers;
+    }
+
+    /**
+     * Play the given number of games.
+     * Each game is created from the index of its session and run on the worker that created it, then handed to the consumer.
+     * The consumer may be called concurrently by several workers, so it must be thread-safe.
+     *
+     * @param numSessions    the number of games to play
+     * @param gameSupplier   the function creating a new game for the session of the given index
+     * @param resultConsumer the consumer receiving each game once it has been run
+     */
+    public void run(int numSessions, IntFunction<Game> gameSupplier, Consumer<Game> resultConsumer) {
+        if (numSessions <= 0) {
+            return;
+        }
+        this.runSessions(numSessions, session -> playSession(session, gameSupplier, resultConsumer));
+    }
+
+    /**
+     * Play the given number of deals, each deal being played once for each rotation of the seats.
+     * All the rotations of a deal are played one after another by the same worker, then the end of the deal is
+     * told to the deal consumer on that worker, so the results of a deal may be gathered without any lock.
+     * The consumers may be called concurrently by several workers for different deals, so they must be thread-safe.
+     *
+     * @param nbDeals        the number of deals to play
+     * @param nbRotations    the number of rotations of each deal, usually the number of players
+     * @param gameSupplier   the function giving the game of each rotation of each deal
+     * @param resultConsumer the consumer receiving each game once it has been run
+     * @param dealConsumer   the consumer told the index of each deal once all its rotations have been run
+     */
+    public void runDuplicate(int nbDeals, int nbRotations, DealGameSupplier gameSupplier, Consumer<Game> resultConsumer, IntConsumer dealConsumer) {
+        if (nbRotations < 1) {
+            throw new IllegalArgumentException("A deal must be played at least once");
+        }
+        if (nbDeals <= 0) {
+            return;
+        }
+        this.runSessions(nbDeals, deal -> {
+            for (int rotation = 0; rotation < nbRotations; rotation++) {
+                Game game = gameSupplier.get(deal, rotation);
+                game.run();
+                resultConsumer.accept(game);
+            }
+            dealConsumer.accept(deal);
+        });
+    }
+
+    /**
+     * Play the given number of pairs of games, the two games of a pair being played one after another by the same
+     * worker, then handed together to the consumer.
+     * The consumer may be called concurrently by several workers for different pairs, so it must be thread-safe.
+     *
+     * @param nbPairs       the number of pairs to play
+     * @param gameSupplierA the function giving the game of the pair of the given index under the first configuration
+     * @param gameSupplierB the function giving the game of the pair of the given index under the second configuration
+     * @param pairConsumer  the consumer receiving the two games of each pair once they have been run
+     */
+    public void runPaired(int nbPairs, IntFunction<Game> gameSupplierA, IntFunction<Game> gameSupplierB, BiConsumer<Game, Game> pairConsumer) {
+        if (nbPairs <= 0) {
+            return;
+        }
+        this.runSessions(nbPairs, pair -> {
+            Game gameA = gameSupplierA.apply(pair);
+            gameA.run();
+            Game gameB = gameSupplierB.apply(pair);
+            gameB.run();
+            pairConsumer.accept(gameA, gameB);
+        });
+    }
+
+    /**
+     * Run each session, one after another or on the pool of workers
+     *
+     * @param numSessions the number of sessions
+     * @param session     the action playing the session of the given index
+     */
+    private void runSessions(int numSessions, IntConsumer session) {
+        if (this.nbWorkers == 1) {
+            for (int i = 0; i < numSessions; i++) {
+                session.accept(i);
+            }
+            return;
+        }
+        if (this.pool == null) {
+            this.pool = new ForkJoinPool(this.nbWorkers);
+        }
+        this.pool.invoke(new GameSessionsTask(0, numSessions, session));
+    }
+
+    /**
+     * Shut down the pool of workers, if any, once the runs are over
+     */
+    @Override
+    public void close() {
+        if (this.pool != null) {
+            this.pool.shutdown();
+            this.pool = null;
+        }
+    }
+
+    /**
+     * Create, run and hand over one game
+     *
+     * @param session        the index of the session
+     * @param gameSupplier   the function creating the game
+     * @param resultConsumer the consumer receiving the game once it has been run
+     */
+    private static void playSession(int session, IntFunction<Game> gameSupplier, Consumer<Game> resultConsumer) {
+        Game game = gameSupplier.apply(session);
+        game.run();
+        resultConsumer.accept(game);
+    }
+
+    /**
+     * Get the number of workers used to play the games
+     *
+     * @return the number of workers
+     */
+    public int getNbWorkers() {
+        return nbWorkers;
+    }
+
+    /**
+     * Task playing a range of sessions. The range is split in two until a single game is left,
+     * so that idle workers steal the pending halves: games do not all last the same number of rounds,
+     * a fixed share of games per worker would leave some workers idle at the end of the tournament.
+     */
+    private static class GameSessionsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final transient IntConsumer session;
+
+        /**
+         * GameSessionsTask constructor
+         *
+         * @param from    the first session of the range (inclusive)
+         * @param to      the last session of the range (exclusive)
+         * @param session the action playing the session of the given index
+         */
+        GameSessionsTask(int from, int to, IntConsumer session) {
+            this.from = from;
+            this.to = to;
+            this.session = session;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                session.accept(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GameSessionsTask(from, middle, session),
+                    new GameSessionsTask(middle, to, session));
+        }
+    }
+}
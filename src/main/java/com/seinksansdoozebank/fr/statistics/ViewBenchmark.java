@@ -0,0 +1,71 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.controller.GameFactory;
+import com.seinksansdoozebank.fr.controller.RandomStreams;
+import com.seinksansdoozebank.fr.view.Cli;
+import com.seinksansdoozebank.fr.view.IView;
+import com.seinksansdoozebank.fr.view.SilentView;
+import com.seinksansdoozebank.fr.view.logger.CustomLogger;
+import com.seinksansdoozebank.fr.view.logger.CustomStatisticsLogger;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.random.RandomGenerator;
+
+/**
+ * The ViewBenchmark class measures how many games per second are played with the {@link Cli} view
+ * while its logger is OFF, and with the {@link SilentView}.
+ * Both views play exactly the same games (same seed), after a warm-up of the JVM.
+ */
+public class ViewBenchmark {
+    private static final long NANOS_IN_A_SECOND = 1_000_000_000L;
+    private final int nbGames;
+    private final long seed;
+
+    /**
+     * ViewBenchmark constructor
+     *
+     * @param nbGames the number of games played with each view
+     * @param seed    the seed of the games
+     */
+    public ViewBenchmark(int nbGames, long seed) {
+        if (nbGames < 1) {
+            throw new IllegalArgumentException("The number of games must be at least 1");
+        }
+        this.nbGames = nbGames;
+        this.seed = seed;
+    }
+
+    /**
+     * Run the benchmark and log the number of games per second of each view
+     */
+    public void run() {
+        CustomStatisticsLogger.setLevel(Level.INFO);
+        CustomLogger.setLevel(Level.OFF);
+        // warm-up so that both views are measured on compiled code
+        this.measure(Cli::new);
+        this.measure(SilentView::new);
+        double cliGamesPerSecond = this.measure(Cli::new);
+        double silentGamesPerSecond = this.measure(SilentView::new);
+        CustomStatisticsLogger.log(Level.INFO, "Cli (logger OFF) : {0} games/s", new Object[]{String.format("%.1f", cliGamesPerSecond)});
+        CustomStatisticsLogger.log(Level.INFO, "SilentView : {0} games/s", new Object[]{String.format("%.1f", silentGamesPerSecond)});
+    }
+
+    /**
+     * Play the games of the benchmark with the given view
+     *
+     * @param viewSupplier the supplier of the view of each game
+     * @return the number of games played per second
+     */
+    double measure(Supplier<IView> viewSupplier) {
+        RandomGenerator[] randoms = new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, this.seed).nextStreams(this.nbGames);
+        long start = System.nanoTime();
+        for (RandomGenerator random : randoms) {
+            Game game = GameFactory.createCustomGame(viewSupplier.get(), 1, 1, 1, 1, 1, 1, Game.NORMAL_NB_DISTRICT_TO_WIN, random);
+            game.run();
+        }
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        return this.nbGames * (double) NANOS_IN_A_SECOND / elapsed;
+    }
+}
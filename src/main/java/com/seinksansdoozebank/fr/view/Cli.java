@@ -145,8 +145,8 @@ public class Cli implements IView {
     }
 
     @Override
-    public void displayStolenCharacter(Character character) {
-        CustomLogger.log(Level.INFO, "Le {0} a été volé et perd {1} pièces d''or ", new Object[]{character, character.getPlayer().getNbGold()}, character.getPlayer());
+    public void displayStolenCharacter(Player player) {
+        CustomLogger.log(Level.INFO, "Le {0} a été volé et perd {1} pièces d''or ", new Object[]{player.getCharacter(), player.getNbGold()}, player);
     }
 
     @Override
@@ -128,9 +128,9 @@ public interface IView {
 
     /**
      * Display the character who has been stolen
-     * @param character the character
+     * @param player the player whose character has been stolen
      */
-    void displayStolenCharacter(Character character);
+    void displayStolenCharacter(Player player);
 
     /**
      * Display the actual number of gold of the player
@@ -0,0 +1,165 @@
+package com.seinksansdoozebank.fr.view;
+
+import com.seinksansdoozebank.fr.model.cards.Card;
+import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.model.cards.DistrictType;
+import com.seinksansdoozebank.fr.model.character.abstracts.Character;
+import com.seinksansdoozebank.fr.model.player.Opponent;
+import com.seinksansdoozebank.fr.model.player.Player;
+
+/**
+ * The SilentView class is a view which displays nothing.
+ * It is used by the batch simulations so that no presentation work is done while the games are played.
+ */
+public class SilentView implements IView {
+
+    @Override
+    public void displayPlayerInfo(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayRound(int roundNumber) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerPlaysCard(Player player, Card card) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayWinner(Player winner) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerStartPlaying(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerPickCards(Player player, int numberOfCards) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerPicksGold(Player player, int numberOfGold) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerChooseCharacter(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerRevealCharacter(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerUseWarlordDistrict(Player attacker, Player defender, District district) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerScore(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerGetBonus(Player player, int pointsBonus, String bonusName) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayGameFinished() {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerError(Player player, String message) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerStrategy(Player player, String strategy) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerUseAssassinEffect(Player player, Character target) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayUnusedCharacterInRound(Character character) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayStolenCharacter(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayActualNumberOfGold(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerUseMagicianEffect(Player player, Opponent targetPlayer) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerHasGotObservatory(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerUseThiefEffect(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerDiscardCard(Player player, Card card) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerUseLaboratoryEffect(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerUseManufactureEffect(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayGoldCollectedFromDistrictType(Player player, int nbGold, DistrictType districtType) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerKeepBothCardsBecauseOfLibrary(Player player) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayGameStuck() {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayPlayerUseCemeteryEffect(Player player, Card card) {
+        // nothing is displayed
+    }
+
+    @Override
+    public void displayGoldCollectedFromMerchant(Player player) {
+        // nothing is displayed
+    }
+}
@@ -0,0 +1,73 @@
+package com.seinksansdoozebank.fr.view.logger;
+
+import com.seinksansdoozebank.fr.model.player.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * The PlayerColors class gives each player of a game its own color in the logs
+ */
+public class PlayerColors {
+    private static final List<String> COLORS = List.of(
+            "\u001B[38;5;21m", // dark blue
+            "\u001B[38;5;32m", // light blue
+            "\u001B[38;5;129m", // purple
+            "\u001B[38;5;199m", // pink
+            "\u001B[38;5;28m", // dark green
+            "\u001B[38;5;40m", // light green
+            "\u001B[38;5;202m", // orange
+            "\u001B[38;5;124m" // red
+    );
+    private static final String RESET_COLOR = "\u001B[0m";
+
+    private final Map<Player, String> colorsOfPlayers;
+    private final List<String> availableColors;
+    private final RandomGenerator random;
+
+    /**
+     * PlayerColors constructor
+     *
+     * @param random the random used to pick the color of each player
+     */
+    public PlayerColors(RandomGenerator random) {
+        this.colorsOfPlayers = new HashMap<>();
+        this.availableColors = new ArrayList<>(COLORS);
+        this.random = random;
+    }
+
+    /**
+     * Apply the color of the player to the message, a color is given to the player if it has none yet
+     *
+     * @param player  the player
+     * @param message the message
+     * @return the message with the color
+     */
+    public String applyColor(Player player, String message) {
+        return this.colorsOfPlayers.computeIfAbsent(player, p -> this.pickAvailableColor()) + message + RESET_COLOR;
+    }
+
+    /**
+     * Pick a color which is not used yet, all the colors become available again once they are all used
+     *
+     * @return the color picked
+     */
+    private String pickAvailableColor() {
+        if (this.availableColors.isEmpty()) {
+            this.availableColors.addAll(COLORS);
+        }
+        // remove the color from the list so that it can't be used again
+        return this.availableColors.remove(this.random.nextInt(this.availableColors.size()));
+    }
+
+    /**
+     * Make all the colors available again
+     */
+    public void reset() {
+        this.availableColors.clear();
+        this.availableColors.addAll(COLORS);
+    }
+}
@@ -10,10 +10,13 @@ import com.seinksansdoozebank.fr.model.character.commoncharacters.Warlord;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.King;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.Merchant;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Architect;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Assassin;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Magician;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Thief;
+import com.seinksansdoozebank.fr.model.player.Opponent;
+import com.seinksansdoozebank.fr.model.player.OpponentView;
 import com.seinksansdoozebank.fr.model.player.Player;
 import com.seinksansdoozebank.fr.model.player.RandomBot;
 import com.seinksansdoozebank.fr.model.player.SmartBot;
@@ -38,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -84,14 +88,13 @@ class GameTest {
                         new Card(District.CEMETERY),
                         new Card(District.MANUFACTURE),
                         new Card(District.CASTLE)));
-        when(playerWIthEightDistrictsAndFiveDistrictTypes.getCitadel()).
-                thenReturn(citadelWithEightDistrictsAndFiveDistrictTypes);
+        playerWIthEightDistrictsAndFiveDistrictTypes.setCitadel(citadelWithEightDistrictsAndFiveDistrictTypes);
         //Set player 2 with only two districts in its citadel
         playerWithNoBonus = spy(new RandomBot(5, new Deck(), view, threePlayersGameBank));
         List<Card> citadelWithNoBonusAssociated = new ArrayList<>(List.
                 of(new Card(District.PORT),
                         new Card(District.PALACE)));
-        when(playerWithNoBonus.getCitadel()).thenReturn(citadelWithNoBonusAssociated);
+        playerWithNoBonus.setCitadel(citadelWithNoBonusAssociated);
         //Set player 3 with eight district in its citadel and with less than 5 different districtTypes
         playerWithEightDistricts = spy(new RandomBot(5, new Deck(), view, threePlayersGameBank));
 
@@ -105,7 +108,7 @@ class GameTest {
                         new Card(District.PALACE),
                         new Card(District.TAVERN)));
 
-        when(playerWithEightDistricts.getCitadel()).thenReturn(citadelWithEightDistricts);
+        playerWithEightDistricts.setCitadel(citadelWithEightDistricts);
         normalGameWithThreePlayers.setPlayers(List.of(playerWIthEightDistrictsAndFiveDistrictTypes, playerWithNoBonus, playerWithEightDistricts));
 
         fourPlayersGameBank = mock(Bank.class);
@@ -126,14 +129,14 @@ class GameTest {
 
     @Test
     void getWinnerIsP3WithTheMostPoint() {
-        Player p1 = mock(Player.class);
+        Player p1 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(p1.getScore()).thenReturn(5);
         when(p1.getIsFirstToHaveAllDistricts()).thenReturn(true);
-        Player p2 = mock(Player.class);
+        Player p2 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(p2.getScore()).thenReturn(4);
-        Player p3 = mock(Player.class);
+        Player p3 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(p3.getScore()).thenReturn(7);
-        Player p4 = mock(Player.class);
+        Player p4 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(p4.getScore()).thenReturn(6);
         normalGameWithFivePlayers.setPlayers(
                 new ArrayList<>(
@@ -281,6 +284,22 @@ class GameTest {
         verify(view, times(1)).displayWinner(any(Player.class));
     }
 
+    @Test
+    void theRoundsPlayedAndTheSeatsShouldBeKnownAfterTheGame() {
+        assertEquals(0, normalGameWithFourPlayers.getNbRoundsPlayed());
+
+        normalGameWithFourPlayers.run();
+
+        assertEquals(normalGameWithFourPlayers.getNbCurrentRound() - 1, normalGameWithFourPlayers.getNbRoundsPlayed());
+        List<Integer> seats = new ArrayList<>();
+        for (Player player : normalGameWithFourPlayers.getPlayers()) {
+            seats.add(normalGameWithFourPlayers.getSeat(player));
+        }
+        seats.sort(null);
+        assertEquals(List.of(0, 1, 2, 3), seats);
+        assertEquals(-1, normalGameWithFourPlayers.getSeat(mock(Player.class)));
+    }
+
     @Test
     void runAStuckGameShouldDisplayStuckGame() {
         when(normalGameWithFourPlayers.isStuck()).thenReturn(true);
@@ -317,7 +336,7 @@ class GameTest {
                         new Card(District.CEMETERY),
                         new Card(District.COURTYARD_OF_MIRACLE))
         );
-        when(playerWithFourDifferentDistrictAndTheCourtyardOfMiracleButPLacedInTheLastPosition.getCitadel()).thenReturn(citadelWithFourDifferentDistrictAndTheCourtyardOfMiraclePlaceInTheLastPosition);
+        playerWithFourDifferentDistrictAndTheCourtyardOfMiracleButPLacedInTheLastPosition.setCitadel(citadelWithFourDifferentDistrictAndTheCourtyardOfMiraclePlaceInTheLastPosition);
         return playerWithFourDifferentDistrictAndTheCourtyardOfMiracleButPLacedInTheLastPosition;
     }
 
@@ -359,7 +378,7 @@ class GameTest {
                         new Card(District.COURTYARD_OF_MIRACLE))
         );
 
-        when(playerWithFourDifferentDistrictAndTheCourtyardOfMiracle.getCitadel()).thenReturn(citadelWithFourDifferentDistrictAndTheCourtyardOfMiracle);
+        playerWithFourDifferentDistrictAndTheCourtyardOfMiracle.setCitadel(citadelWithFourDifferentDistrictAndTheCourtyardOfMiracle);
 
 
         normalGameWithFourPlayers.setPlayers(List.of(playerWithFourDifferentDistrictAndTheCourtyardOfMiracle));
@@ -382,7 +401,7 @@ class GameTest {
     void kingPlayerIsNotUpdatedWhilePlayingARoundANdKingIsDead() {
         King king = new King();
         Assassin assassin = new Assassin();
-        assassin.useEffect(king);
+        assassin.useEffect(normalGameWithFourPlayers.players.get(0), king);
         normalGameWithFourPlayers.getAvailableCharacters().addAll(List.of(king, new Bishop(), new Merchant(), new Warlord()));
 
         normalGameWithFourPlayers.playARound();
@@ -395,7 +414,7 @@ class GameTest {
     void kingPlayerIsUpdatedWhenPlayingARoundAndKingIsDead() {
         King king = new King();
         Assassin assassin = new Assassin();
-        assassin.useEffect(king);
+        assassin.useEffect(normalGameWithFourPlayers.players.get(0), king);
         normalGameWithFourPlayers.getAvailableCharacters().addAll(List.of(king, new Bishop(), new Merchant(), new Warlord()));
         normalGameWithFourPlayers.setVariante(true);
         normalGameWithFourPlayers.playARound();
@@ -438,29 +457,92 @@ class GameTest {
         verify(view, times(0)).displayUnusedCharacterInRound(any(Character.class));
     }
 
+    @Test
+    void createCharactersShouldShareTheRolesBetweenTheRoundAndTheUnusedOnesAtEachRound() {
+        Game gameWithThreePlayers = GameFactory.createGameOfRandomBot(view, new Bank(), 3, Game.NORMAL_NB_DISTRICT_TO_WIN);
+        for (int round = 0; round < 5; round++) {
+            gameWithThreePlayers.createCharacters();
+
+            assertEquals(5, gameWithThreePlayers.getRolesInTheRound().size());
+            assertEquals(2, gameWithThreePlayers.getUnusedRoles().size());
+            assertTrue(gameWithThreePlayers.getRolesInTheRound().contains(Role.KING));
+            assertFalse(gameWithThreePlayers.getRolesInTheRound().contains(Role.ASSASSIN));
+            assertFalse(gameWithThreePlayers.getUnusedRoles().contains(Role.ASSASSIN));
+            assertEquals(RoleSet.all().without(Role.ASSASSIN),
+                    gameWithThreePlayers.getRolesInTheRound().with(gameWithThreePlayers.getUnusedRoles()));
+            assertEquals(gameWithThreePlayers.getRolesInTheRound(), RoleSet.of(gameWithThreePlayers.getAvailableCharacters()));
+        }
+    }
+
     /**
      * we verify that the method getPlayerWithRoleTest return the right Optional
      */
     @Test
     void getPlayerWithRoleTest() {
-        //Création du player de type architecte
-        Player playerArchitect = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
-        Architect architect = new Architect();
-        architect.setPlayer(playerArchitect);
-        when(playerArchitect.getCharacter()).thenReturn(architect);
-        //Création du player de type voleur
-        Player playerThief = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
-        Thief thief = new Thief();
-        thief.setPlayer(playerThief);
-        when(playerThief.getCharacter()).thenReturn(thief);
-
-        normalGameWithFivePlayers.setPlayers(List.of(playerThief, playerArchitect));
+        Player playerThief = normalGameWithFivePlayers.players.get(0);
+        Player playerArchitect = normalGameWithFivePlayers.players.get(1);
+        playerThief.chooseCharacter(new ArrayList<>(List.of(new Thief())));
+        playerArchitect.chooseCharacter(new ArrayList<>(List.of(new Architect())));
+
         //The player architect is present in the game
         assertEquals(Optional.of(playerArchitect), normalGameWithFivePlayers.getPlayerByRole(Role.ARCHITECT));
         //The player merchant is not present in the game
         assertEquals(Optional.empty(), normalGameWithFivePlayers.getPlayerByRole(Role.MERCHANT));
     }
 
+    @Test
+    void theRoleSetsShouldFollowTheDraft() {
+        normalGameWithFourPlayers.createCharacters();
+        RoleSet rolesInTheRound = normalGameWithFourPlayers.getRolesInTheRound();
+
+        assertEquals(RoleSet.of(normalGameWithFourPlayers.getAvailableCharacters()), rolesInTheRound);
+        assertEquals(6, rolesInTheRound.size());
+        assertTrue(rolesInTheRound.contains(Role.KING));
+        assertTrue(rolesInTheRound.intersect(normalGameWithFourPlayers.getUnusedRoles()).isEmpty());
+        assertEquals(8, rolesInTheRound.size() + normalGameWithFourPlayers.getUnusedRoles().size());
+
+        normalGameWithFourPlayers.playersChooseCharacters();
+
+        assertEquals(RoleSet.of(normalGameWithFourPlayers.getAvailableCharacters()), normalGameWithFourPlayers.getAvailableRoles());
+        assertEquals(2, normalGameWithFourPlayers.getAvailableRoles().size());
+
+        normalGameWithFourPlayers.players.forEach(Player::reveal);
+        normalGameWithFourPlayers.retrieveCharacters();
+
+        assertEquals(rolesInTheRound, normalGameWithFourPlayers.getAvailableRoles());
+    }
+
+    @Test
+    void theOpponentViewsShouldBeASnapshotOfTheOpponentsAtTheBeginningOfThePhase() {
+        normalGameWithFourPlayers.createCharacters();
+        normalGameWithFourPlayers.playersChooseCharacters();
+        Player player = normalGameWithFourPlayers.players.get(0);
+        List<OpponentView> opponentViews = player.getOpponentViews();
+
+        assertEquals(3, opponentViews.size());
+        for (int i = 0; i < opponentViews.size(); i++) {
+            Opponent opponent = player.getOpponents().get(i);
+            OpponentView opponentView = opponentViews.get(i);
+            assertSame(opponent, opponentView.opponent());
+            assertEquals(opponent.getNbGold(), opponentView.nbGold());
+            assertEquals(opponent.getHandSize(), opponentView.handSize());
+            assertEquals(opponent.getPositionInDrawToPickACharacter(), opponentView.positionInDrawToPickACharacter());
+            assertNull(opponentView.revealedRole());
+        }
+
+        // the views don't change with the opponents until the next phase
+        Player opponent = (Player) player.getOpponents().get(0);
+        int nbGold = opponent.getNbGold();
+        opponent.pickGold();
+        assertEquals(nbGold, player.getOpponentViews().get(0).nbGold());
+
+        normalGameWithFourPlayers.publishOpponentViews();
+        assertEquals(opponent.getNbGold(), player.getOpponentViews().get(0).nbGold());
+        // the list of the previous phase is left as it was
+        assertEquals(nbGold, opponentViews.get(0).nbGold());
+        assertThrows(UnsupportedOperationException.class, () -> player.getOpponentViews().set(0, null));
+    }
+
     /**
      * On vérifie qu'en appelant checkUniversityOrPortForDragonsInCitadel, il met les bons bonus au joueur, c'est-à-dire 2 par cartes
      */
@@ -510,7 +592,7 @@ class GameTest {
     @Test
     void isStuckWithStuckGameShouldReturnTrue() {
         Deck mockDeck = mock(Deck.class);
-        when(mockDeck.getDeck()).thenReturn(new ArrayList<>());
+        when(mockDeck.isEmpty()).thenReturn(true);
         Game stuckGame = new GameBuilder(mock(IView.class), mockDeck, mock(Bank.class), Game.NORMAL_NB_DISTRICT_TO_WIN)
                 .addRandomBot()
                 .addRandomBot()
@@ -540,7 +622,7 @@ class GameTest {
     @Test
     void isStuckWithNotEmptyDeckShouldReturnFalse() {
         Deck mockDeck = mock(Deck.class);
-        when(mockDeck.getDeck()).thenReturn(new ArrayList<>(List.of(new Card(District.TEMPLE))));
+        when(mockDeck.isEmpty()).thenReturn(false);
         Game stuckGame = new GameBuilder(mock(IView.class), mockDeck, mock(Bank.class), Game.NORMAL_NB_DISTRICT_TO_WIN)
                 .addRandomBot()
                 .addRandomBot()
@@ -555,7 +637,7 @@ class GameTest {
     void isStuckWithRemainingCoinsShouldReturnFalse() {
         Bank bank = new Bank();
         Deck mockDeck = mock(Deck.class);
-        when(mockDeck.getDeck()).thenReturn(new ArrayList<>());
+        when(mockDeck.isEmpty()).thenReturn(true);
         Game stuckGame = new GameBuilder(mock(IView.class), mockDeck, bank, Game.NORMAL_NB_DISTRICT_TO_WIN)
                 .addRandomBot()
                 .addRandomBot()
@@ -618,19 +700,19 @@ class GameTest {
     void testReorderPlayersByPointsWithTieInPoints() {
         Player player1 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(player1.getScore()).thenReturn(10);
-        when(player1.getCitadel()).thenReturn(List.of(new Card(District.MANOR), new Card(District.CEMETERY)));
+        player1.setCitadel(List.of(new Card(District.MANOR), new Card(District.CEMETERY)));
 
         Player player2 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(player2.getScore()).thenReturn(10);
-        when(player2.getCitadel()).thenReturn(List.of(new Card(District.TAVERN)));
+        player2.setCitadel(List.of(new Card(District.TAVERN)));
 
         Player player3 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(player3.getScore()).thenReturn(6);
-        when(player3.getCitadel()).thenReturn(List.of(new Card(District.CASTLE), new Card(District.CEMETERY), new Card(District.MANOR)));
+        player3.setCitadel(List.of(new Card(District.CASTLE), new Card(District.CEMETERY), new Card(District.MANOR)));
 
         Player player4 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(player4.getScore()).thenReturn(5);
-        when(player4.getCitadel()).thenReturn(List.of(new Card(District.MARKET_PLACE), new Card(District.CEMETERY), new Card(District.MANOR), new Card(District.TAVERN)));
+        player4.setCitadel(List.of(new Card(District.MARKET_PLACE), new Card(District.CEMETERY), new Card(District.MANOR), new Card(District.TAVERN)));
 
         List<Player> expectedOrder = List.of(player1, player2, player3, player4);
 
@@ -644,19 +726,19 @@ class GameTest {
     void testReorderPlayersByPointsWithTieInPointsAndCitadelSize() {
         Player player1 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(player1.getScore()).thenReturn(10);
-        when(player1.getCitadel()).thenReturn(List.of(new Card(District.MANOR), new Card(District.CEMETERY))); // MANO Cost 3 // CEME Cost 5
+        player1.setCitadel(List.of(new Card(District.MANOR), new Card(District.CEMETERY))); // MANO Cost 3 // CEME Cost 5
 
         Player player2 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(player2.getScore()).thenReturn(10);
-        when(player2.getCitadel()).thenReturn(List.of(new Card(District.TAVERN), new Card(District.CEMETERY))); // TAVER Cost 1 // CEME Cost 5
+        player2.setCitadel(List.of(new Card(District.TAVERN), new Card(District.CEMETERY))); // TAVER Cost 1 // CEME Cost 5
 
         Player player3 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(player3.getScore()).thenReturn(6);
-        when(player3.getCitadel()).thenReturn(List.of(new Card(District.CASTLE), new Card(District.CEMETERY), new Card(District.MANOR)));
+        player3.setCitadel(List.of(new Card(District.CASTLE), new Card(District.CEMETERY), new Card(District.MANOR)));
 
         Player player4 = spy(new RandomBot(5, new Deck(), view, fourPlayersGameBank));
         when(player4.getScore()).thenReturn(6);
-        when(player4.getCitadel()).thenReturn(List.of(new Card(District.MARKET_PLACE), new Card(District.CEMETERY), new Card(District.MANOR), new Card(District.TAVERN)));
+        player4.setCitadel(List.of(new Card(District.MARKET_PLACE), new Card(District.CEMETERY), new Card(District.MANOR), new Card(District.TAVERN)));
 
         List<Player> expectedOrder = List.of(player1, player2, player4, player3);
 
@@ -700,4 +782,109 @@ class GameTest {
         assertTrue(game.getPlayers().stream().anyMatch(player -> player.getCitadel().size() >= expected));
     }
 
+    @Test
+    void thePlayersOfAGameOfThreePlayersShouldNeedTheDistrictsOfTheGame() {
+        Game gameWithThreePlayers = GameFactory.createGameOfRandomBot(view, new Bank(), 3, Game.NORMAL_NB_DISTRICT_TO_WIN);
+
+        assertEquals(10, gameWithThreePlayers.getNumberOfDistrictsNeeded());
+        for (Player player : gameWithThreePlayers.getPlayers()) {
+            assertEquals(10, player.getNumberOfDistrictsNeeded());
+        }
+    }
+
+    @Test
+    void theWarlordShouldNotTargetACitadelCompleteForTheNewNumberOfDistrictsNeeded() {
+        Game game = new GameBuilder(mock(IView.class), new Deck(), new Bank(), Game.NORMAL_NB_DISTRICT_TO_WIN)
+                .addRandomBot()
+                .addRandomBot()
+                .addRandomBot()
+                .build();
+        Player player = game.getPlayers().get(0);
+        player.setCitadel(List.of(new Card(District.TAVERN), new Card(District.MANOR), new Card(District.TEMPLE)));
+
+        game.setNbOfDistrictsInCitadel(3);
+
+        assertEquals(Optional.empty(), player.getWarlordTargetIndex().getCheapestTarget(player, 10));
+    }
+
+    @Test
+    void aResetGameShouldBePlayedLikeANewGameWithTheSameRandom() {
+        Game reusedGame = GameFactory.createCustomGame(mock(IView.class), 1, 1, 1, 1, 1, 1, Game.NORMAL_NB_DISTRICT_TO_WIN,
+                new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 1).nextStream());
+        reusedGame.run();
+        reusedGame.reset(new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 2).nextStream());
+        Game newGame = GameFactory.createCustomGame(mock(IView.class), 1, 1, 1, 1, 1, 1, Game.NORMAL_NB_DISTRICT_TO_WIN,
+                new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 2).nextStream());
+
+        reusedGame.run();
+        newGame.run();
+
+        assertEquals(newGame.getPlayers().toString(), reusedGame.getPlayers().toString());
+        assertEquals(newGame.getPlayers().stream().map(Player::getScore).toList(),
+                reusedGame.getPlayers().stream().map(Player::getScore).toList());
+        assertEquals(newGame.getNbCurrentRound(), reusedGame.getNbCurrentRound());
+    }
+
+    @Test
+    void aDealShouldBePlayedAgainWithTheSameCardsAndCharactersInAnotherRotation() {
+        RandomStreams randomStreams = new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 3);
+        Game game = GameFactory.createCustomGame(mock(IView.class), 1, 1, 1, 1, 0, 0, Game.NORMAL_NB_DISTRICT_TO_WIN,
+                randomStreams.nextStream());
+
+        game.resetDeal(randomStreams.nextStream(), randomStreams.create(42), 0);
+        List<Player> firstSeats = new ArrayList<>(game.playersInInitialOrder);
+        List<District> firstDeck = game.deck.getDeck().stream().map(Card::getDistrict).toList();
+        game.createCharacters();
+        List<Role> firstRoles = game.getAvailableCharacters().stream().map(Character::getRole).toList();
+        game.resetDeal(randomStreams.nextStream(), randomStreams.create(42), 1);
+        game.createCharacters();
+
+        assertEquals(firstDeck, game.deck.getDeck().stream().map(Card::getDistrict).toList());
+        assertEquals(firstRoles, game.getAvailableCharacters().stream().map(Character::getRole).toList());
+        // every player moved one seat forward
+        for (int seat = 0; seat < firstSeats.size(); seat++) {
+            assertEquals(firstSeats.get((seat + 1) % firstSeats.size()), game.playersInInitialOrder.get(seat));
+        }
+        assertThrows(IllegalArgumentException.class, () -> game.resetDeal(randomStreams.nextStream(), randomStreams.create(42), 4));
+    }
+
+    @Test
+    void checkPlayerStolenShouldGiveAllTheGoldOfTheRobbedPlayerToTheThief() {
+        Player thiefPlayer = normalGameWithFourPlayers.players.get(0);
+        Player merchantPlayer = normalGameWithFourPlayers.players.get(1);
+        thiefPlayer.chooseCharacter(new ArrayList<>(List.of(new Thief())));
+        merchantPlayer.chooseCharacter(new ArrayList<>(List.of(new Merchant())));
+        int goldOfTheThief = thiefPlayer.getNbGold();
+        int goldOfTheMerchant = merchantPlayer.getNbGold();
+        ((Thief) thiefPlayer.getCharacter()).useEffect(thiefPlayer, merchantPlayer.getCharacter());
+
+        normalGameWithFourPlayers.checkPlayerStolen(merchantPlayer);
+
+        assertEquals(goldOfTheThief + goldOfTheMerchant, thiefPlayer.getNbGold());
+        assertEquals(0, merchantPlayer.getNbGold());
+        assertNull(merchantPlayer.getRoleStates().getRobbedBy(Role.MERCHANT));
+        verify(view, times(1)).displayStolenCharacter(merchantPlayer);
+    }
+
+    @Test
+    void orderPlayerBeforeChoosingCharacterShouldStartFromTheCrownedPlayerAroundTheTable() {
+        List<Player> seats = new ArrayList<>(normalGameWithFourPlayers.playersInInitialOrder);
+        normalGameWithFourPlayers.crownedPlayer = seats.get(2);
+
+        normalGameWithFourPlayers.orderPlayerBeforeChoosingCharacter();
+
+        assertEquals(List.of(seats.get(2), seats.get(3), seats.get(0), seats.get(1)), normalGameWithFourPlayers.players);
+    }
+
+    @Test
+    void playersChooseCharactersShouldGiveThePositionInTheDraft() {
+        normalGameWithFourPlayers.createCharacters();
+        normalGameWithFourPlayers.orderPlayerBeforeChoosingCharacter();
+
+        normalGameWithFourPlayers.playersChooseCharacters();
+
+        for (int i = 0; i < normalGameWithFourPlayers.players.size(); i++) {
+            assertEquals(i, normalGameWithFourPlayers.players.get(i).getPositionInDrawToPickACharacter());
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package com.seinksansdoozebank.fr.controller;
+
+import com.seinksansdoozebank.fr.model.bank.Bank;
+import com.seinksansdoozebank.fr.model.player.Player;
+import com.seinksansdoozebank.fr.view.IView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class RandomStreamsTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"L64X128MixRandom", "Xoshiro256PlusPlus", "Random"})
+    void theSameSeedShouldGiveTheSameStreams(String algorithm) {
+        RandomGenerator[] streams = new RandomStreams(algorithm, 42).nextStreams(3);
+        RandomGenerator[] sameStreams = new RandomStreams(algorithm, 42).nextStreams(3);
+
+        for (int i = 0; i < streams.length; i++) {
+            assertEquals(streams[i].nextLong(), sameStreams[i].nextLong());
+        }
+    }
+
+    @Test
+    void successiveStreamsShouldBeDifferent() {
+        RandomStreams randomStreams = new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 42);
+
+        assertNotEquals(randomStreams.nextStream().nextLong(), randomStreams.nextStream().nextLong());
+    }
+
+    @Test
+    void unknownAlgorithmShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new RandomStreams("NotAnAlgorithm", 42));
+    }
+
+    @Test
+    void gettersShouldReturnTheSeedAndTheAlgorithm() {
+        RandomStreams randomStreams = new RandomStreams("Xoshiro256PlusPlus", 7);
+
+        assertEquals(7, randomStreams.getSeed());
+        assertEquals("Xoshiro256PlusPlus", randomStreams.getAlgorithm());
+    }
+
+    @Test
+    void theSameStreamShouldReplayTheSameGame() {
+        Game game = GameFactory.createGameOfAllTypeOfBot(mock(IView.class), new Bank(), Game.NORMAL_NB_DISTRICT_TO_WIN,
+                new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 1234).nextStream());
+        Game replayedGame = GameFactory.createGameOfAllTypeOfBot(mock(IView.class), new Bank(), Game.NORMAL_NB_DISTRICT_TO_WIN,
+                new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 1234).nextStream());
+
+        game.run();
+        replayedGame.run();
+
+        assertEquals(scoresOf(game.getPlayers()), scoresOf(replayedGame.getPlayers()));
+        assertEquals(game.getPlayers().toString(), replayedGame.getPlayers().toString());
+    }
+
+    private static List<Integer> scoresOf(List<Player> players) {
+        return players.stream().map(Player::getScore).toList();
+    }
+}
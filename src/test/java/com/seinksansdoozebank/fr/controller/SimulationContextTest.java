@@ -0,0 +1,98 @@
+package com.seinksansdoozebank.fr.controller;
+
+import com.seinksansdoozebank.fr.model.bank.Bank;
+import com.seinksansdoozebank.fr.model.cards.Deck;
+import com.seinksansdoozebank.fr.model.player.Player;
+import com.seinksansdoozebank.fr.model.player.RandomBot;
+import com.seinksansdoozebank.fr.view.IView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SimulationContextTest {
+    private SimulationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new SimulationContext();
+    }
+
+    @Test
+    void theDealRandomShouldBeTheRandomOfTheGameUnlessOneIsGiven() {
+        assertSame(context.getRandom(), context.getDealRandom());
+
+        RandomStreams randomStreams = new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 1);
+        RandomGenerator dealRandom = randomStreams.nextStream();
+        context.reset(randomStreams.nextStream(), dealRandom);
+
+        assertSame(dealRandom, context.getDealRandom());
+
+        context.reset(randomStreams.nextStream());
+
+        assertSame(context.getRandom(), context.getDealRandom());
+    }
+
+    @Test
+    void theActionsShouldBeCheckedUnlessTurnedOffForTheContext() {
+        SimulationContext otherContext = new SimulationContext();
+
+        context.setActionValidationEnabled(false);
+        context.reset(RandomGenerator.getDefault());
+
+        assertFalse(context.isActionValidationEnabled());
+        assertTrue(otherContext.isActionValidationEnabled());
+    }
+
+    @Test
+    void nextPlayerIdShouldStartAtOneAndIncrement() {
+        assertEquals(1, context.nextPlayerId());
+        assertEquals(2, context.nextPlayerId());
+    }
+
+    @Test
+    void resetPlayerIdsShouldRestartAtOne() {
+        context.nextPlayerId();
+        context.nextPlayerId();
+        context.resetPlayerIds();
+        assertEquals(1, context.nextPlayerId());
+    }
+
+    @Test
+    void resetCardIdsShouldRestartAtOne() {
+        context.nextCardId();
+        context.resetCardIds();
+        assertEquals(1, context.nextCardId());
+    }
+
+    @Test
+    void playersOfDifferentContextsShouldBeNumberedIndependently() {
+        SimulationContext otherContext = new SimulationContext();
+        IView view = mock(IView.class);
+        Player firstPlayer = new RandomBot(2, new Deck(context), view, new Bank(), context);
+        Player secondPlayer = new RandomBot(2, new Deck(context), view, new Bank(), context);
+        Player playerOfOtherContext = new RandomBot(2, new Deck(otherContext), view, new Bank(), otherContext);
+
+        assertEquals(1, firstPlayer.getId());
+        assertEquals(2, secondPlayer.getId());
+        assertEquals(1, playerOfOtherContext.getId());
+        assertSame(context, firstPlayer.getSimulationContext());
+        assertSame(context.getRandom(), firstPlayer.getRandom());
+    }
+
+    @Test
+    void deckShouldNumberItsCardsFromItsContext() {
+        Deck deck = new Deck(context);
+        Deck deckOfOtherContext = new Deck(new SimulationContext());
+
+        assertEquals(deck.getDeck().size() + 1, context.nextCardId());
+        assertNotEquals(0, deckOfOtherContext.getDeck().size());
+    }
+}
@@ -0,0 +1,105 @@
+package com.seinksansdoozebank.fr.controller;
+
+import com.seinksansdoozebank.fr.model.bank.Bank;
+import com.seinksansdoozebank.fr.model.cards.Card;
+import com.seinksansdoozebank.fr.model.cards.Deck;
+import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.model.player.Player;
+import com.seinksansdoozebank.fr.model.player.RandomBot;
+import com.seinksansdoozebank.fr.view.IView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TerminationTrackerTest {
+    private TerminationTracker terminationTracker;
+    private Deck deck;
+    private Player player;
+    private Player otherPlayer;
+
+    @BeforeEach
+    void setUp() {
+        deck = mock(Deck.class);
+        Bank bank = new Bank();
+        IView view = mock(IView.class);
+        player = new RandomBot(0, deck, view, bank);
+        otherPlayer = new RandomBot(0, deck, view, bank);
+        terminationTracker = new TerminationTracker(1);
+        terminationTracker.track(List.of(player, otherPlayer));
+    }
+
+    @Test
+    void nobodyCanPlayWithoutCards() {
+        assertFalse(terminationTracker.aPlayerCanPlay());
+        assertFalse(terminationTracker.aCitadelIsComplete());
+    }
+
+    @Test
+    void aPlayerCanPlayOnceItHasTheGoldToBuildACardOfItsHand() {
+        when(deck.pick()).thenReturn(Optional.of(new Card(District.TEMPLE)));
+        player.pickACard();
+        assertFalse(terminationTracker.aPlayerCanPlay());
+
+        player.increaseGold(1);
+        assertTrue(terminationTracker.aPlayerCanPlay());
+        assertEquals(1, terminationTracker.getNbPlayableCards(player));
+
+        player.decreaseGold(1);
+        assertFalse(terminationTracker.aPlayerCanPlay());
+    }
+
+    @Test
+    void theCardsPickedWithTheArchitectShouldBeCounted() {
+        when(deck.pick()).thenReturn(Optional.of(new Card(District.TEMPLE)), Optional.of(new Card(District.MANOR)));
+        player.increaseGold(1);
+
+        player.useEffectArchitect();
+
+        assertTrue(terminationTracker.aPlayerCanPlay());
+        assertEquals(1, terminationTracker.getNbPlayableCards(player));
+    }
+
+    @Test
+    void buildingTheLastDistrictShouldCompleteTheCitadel() {
+        Card temple = new Card(District.TEMPLE);
+        when(deck.pick()).thenReturn(Optional.of(temple));
+        player.pickACard();
+        player.pickGold(1);
+
+        player.buyACardAndAddItToCitadel(temple);
+
+        assertTrue(terminationTracker.aCitadelIsComplete());
+        assertFalse(terminationTracker.aPlayerCanPlay());
+    }
+
+    @Test
+    void aCitadelShouldNotBeCompleteAnymoreWhenMoreDistrictsAreNeeded() {
+        Card temple = new Card(District.TEMPLE);
+        when(deck.pick()).thenReturn(Optional.of(temple));
+        player.pickACard();
+        player.pickGold(1);
+        player.buyACardAndAddItToCitadel(temple);
+
+        terminationTracker.setNumberOfDistrictsNeeded(2);
+
+        assertFalse(terminationTracker.aCitadelIsComplete());
+    }
+
+    @Test
+    void theChangesOfAPlayerWhichIsNotTrackedShouldBeIgnored() {
+        terminationTracker.track(List.of(otherPlayer));
+        when(deck.pick()).thenReturn(Optional.of(new Card(District.TEMPLE)));
+        player.pickACard();
+        player.increaseGold(1);
+
+        assertFalse(terminationTracker.aPlayerCanPlay());
+    }
+}
@@ -1,5 +1,7 @@
 package com.seinksansdoozebank.fr.model.bank;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -52,4 +54,37 @@ class BankTest {
         assertDoesNotThrow(() -> bank.retrieveCoin(coinPicked));
         assertEquals(coinPicked + nbOfAvailableCoin, bank.getNbOfAvailableCoins());
     }
-}
\ No newline at end of file
+
+    @Test
+    void resetShouldMakeAllTheCoinsAvailableAgain() {
+        bank.pickXCoin(5);
+        bank.reset();
+        assertEquals(Bank.MAX_COIN, bank.getNbOfAvailableCoins());
+    }
+
+    @Test
+    void tryRetrieveCoinWithTooMuchCoinShouldNotChangeTheBank() {
+        assertEquals(ActionResult.BANK_IS_FULL, bank.canRetrieveCoin(1));
+        assertEquals(ActionResult.BANK_IS_FULL, bank.tryRetrieveCoin(1));
+        assertEquals(Bank.MAX_COIN, bank.getNbOfAvailableCoins());
+    }
+
+    @Test
+    void tryRetrieveCoinWithCorrectNumberOfCoinShouldUpdateAvailableCoin() {
+        bank.pickXCoin(5);
+        assertEquals(ActionResult.OK, bank.tryRetrieveCoin(5));
+        assertEquals(Bank.MAX_COIN, bank.getNbOfAvailableCoins());
+    }
+
+    @Test
+    void retrieveCoinWithoutValidationShouldNotThrowException() {
+        SimulationContext context = new SimulationContext();
+        context.setActionValidationEnabled(false);
+        Bank bankWithoutValidation = new Bank(context);
+
+        assertDoesNotThrow(() -> bankWithoutValidation.retrieveCoin(1));
+        assertEquals(Bank.MAX_COIN + 1, bankWithoutValidation.getNbOfAvailableCoins());
+        // the other banks still check the coins they retrieve
+        assertThrows(IllegalStateException.class, () -> bank.retrieveCoin(1));
+    }
+}
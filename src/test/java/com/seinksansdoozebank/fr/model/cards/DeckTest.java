@@ -3,10 +3,12 @@ package com.seinksansdoozebank.fr.model.cards;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DeckTest {
@@ -89,4 +91,35 @@ class DeckTest {
         districtList.discard(cardToDiscard);
         assertEquals(cardToDiscard, districtList.getDeck().get(0));
     }
+
+    @Test
+    void theDiscardedCardsShouldBePickedAfterTheOtherCards() {
+        Deck deck = new Deck();
+        List<Card> pickedCards = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            pickedCards.add(deck.pick().orElseThrow());
+        }
+        pickedCards.forEach(deck::discard);
+        Card cardFromOutside = new Card(District.MANOR);
+        deck.discard(cardFromOutside);
+
+        assertEquals(66, deck.size());
+        for (int i = 0; i < 62; i++) {
+            assertFalse(pickedCards.contains(deck.pick().orElseThrow()));
+        }
+        assertEquals(pickedCards.get(0), deck.pick().orElseThrow());
+        assertEquals(pickedCards.get(1), deck.pick().orElseThrow());
+        assertEquals(pickedCards.get(2), deck.pick().orElseThrow());
+        assertEquals(cardFromOutside, deck.pick().orElseThrow());
+        assertTrue(deck.isEmpty());
+    }
+
+    @Test
+    void resetShouldPutBackAllTheCardsOfTheDeck() {
+        int nbCards = districtList.getDeck().size();
+        districtList.pick();
+        districtList.discard(new Card(District.MANOR));
+        districtList.reset();
+        assertEquals(nbCards, districtList.getDeck().size());
+    }
 }
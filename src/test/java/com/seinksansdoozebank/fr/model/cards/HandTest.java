@@ -0,0 +1,110 @@
+package com.seinksansdoozebank.fr.model.cards;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandTest {
+    Hand hand;
+    Card templeCard;
+    Card manorCard;
+    Card castleCard;
+    Card secondCastleCard;
+    Card fortressCard;
+
+    @BeforeEach
+    void setUp() {
+        hand = new Hand();
+        templeCard = new Card(District.TEMPLE);
+        manorCard = new Card(District.MANOR);
+        castleCard = new Card(District.CASTLE);
+        secondCastleCard = new Card(District.CASTLE);
+        fortressCard = new Card(District.FORTRESS);
+        hand.addAll(List.of(castleCard, templeCard, fortressCard, manorCard, secondCastleCard));
+    }
+
+    @Test
+    void theCountsShouldFollowTheAddsAndTheRemoves() {
+        assertEquals(2, hand.getNbCardsOfDistrict(District.CASTLE));
+        hand.remove(castleCard);
+        assertEquals(1, hand.getNbCardsOfDistrict(District.CASTLE));
+        hand.remove(0);
+        assertEquals(0, hand.getNbCardsOfDistrict(District.TEMPLE));
+        assertFalse(hand.remove(new Card(District.PORT)));
+        assertEquals(List.of(fortressCard, manorCard, secondCastleCard), hand);
+        hand.clear();
+        assertTrue(hand.isEmpty());
+        assertEquals(0, hand.getTotalCost());
+        assertEquals(Optional.empty(), hand.getCheapestCard(0L));
+    }
+
+    @Test
+    void getCheapestAndMostExpensiveCardShouldSkipTheExcludedDistricts() {
+        assertEquals(Optional.of(templeCard), hand.getCheapestCard(0L));
+        assertEquals(Optional.of(fortressCard), hand.getMostExpensiveCard(0L));
+
+        long builtDistricts = (1L << District.TEMPLE.ordinal()) | (1L << District.FORTRESS.ordinal());
+        assertEquals(Optional.of(manorCard), hand.getCheapestCard(builtDistricts));
+        // the first of the two castles is chosen
+        assertEquals(Optional.of(castleCard), hand.getMostExpensiveCard(builtDistricts));
+    }
+
+    @Test
+    void getCheapestCardOfATypeShouldReturnTheCheapestCardOfThisType() {
+        long notNobility = ~Hand.districtsOfType(DistrictType.NOBILITY);
+
+        assertEquals(Optional.of(manorCard), hand.getCheapestCard(notNobility));
+        assertEquals(Optional.empty(), hand.getCheapestCard(notNobility | (1L << District.MANOR.ordinal()) | (1L << District.CASTLE.ordinal())));
+    }
+
+    @Test
+    void hasPlayableCardShouldDependOnTheGold() {
+        assertFalse(hand.hasPlayableCard(0, 0L));
+        assertTrue(hand.hasPlayableCard(1, 0L));
+        assertFalse(hand.hasPlayableCard(1, 1L << District.TEMPLE.ordinal()));
+        assertTrue(hand.hasPlayableCard(3, 1L << District.TEMPLE.ordinal()));
+    }
+
+    @Test
+    void getNbPlayableCardsShouldCountTheAffordableCardsNotBuilt() {
+        assertEquals(0, hand.getNbPlayableCards(0, 0L));
+        // the temple, the manor and the two castles
+        assertEquals(4, hand.getNbPlayableCards(4, 0L));
+        assertEquals(2, hand.getNbPlayableCards(4, 1L << District.CASTLE.ordinal()));
+        assertEquals(3, hand.getNbPlayableCards(10, (1L << District.CASTLE.ordinal()) | (1L << District.PORT.ordinal())));
+    }
+
+    @Test
+    void getCardWithCostClosestToShouldReturnAPlayableCard() {
+        assertEquals(Optional.of(castleCard), hand.getCardWithCostClosestTo(4, 10, 0L));
+        assertEquals(Optional.of(manorCard), hand.getCardWithCostClosestTo(4, 3, 0L));
+        assertEquals(Optional.of(templeCard), hand.getCardWithCostClosestTo(4, 2, 0L));
+        assertEquals(Optional.empty(), hand.getCardWithCostClosestTo(4, 0, 0L));
+    }
+
+    @Test
+    void getCostOfCheapestCardsShouldSumTheCheapestCosts() {
+        assertEquals(0, hand.getCostOfCheapestCards(0));
+        assertEquals(4, hand.getCostOfCheapestCards(2));
+        assertEquals(8, hand.getCostOfCheapestCards(3));
+        assertEquals(17, hand.getCostOfCheapestCards(10));
+        assertEquals(17, hand.getTotalCost());
+    }
+
+    @Test
+    void ofShouldOnlyCopyTheCardsWhichAreNotAHand() {
+        assertSame(hand, Hand.of(hand));
+        List<Card> cards = new ArrayList<>(List.of(templeCard));
+        Hand handOfCards = Hand.of(cards);
+        assertEquals(cards, handOfCards);
+        assertEquals(1, handOfCards.getNbCardsOfDistrict(District.TEMPLE));
+    }
+}
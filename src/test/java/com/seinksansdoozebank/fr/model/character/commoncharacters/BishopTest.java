@@ -39,17 +39,15 @@ class BishopTest {
         citadel.add(new Card(District.MONASTERY));
         citadel.add(new Card(District.CATHEDRAL));
         // Set the citadel to the player
-        when(player.getCitadel()).thenReturn(citadel);
+        player.setCitadel(citadel);
         // Create a Bishop character
         bishop = new Bishop();
-        // Set the player and the citadel to the character
-        bishop.setPlayer(player);
     }
 
     @Test
     void testGoldCollectedFromDistrictType() {
         // Perform the action
-        bishop.goldCollectedFromDistrictType();
+        bishop.goldCollectedFromDistrictType(player);
 
         // Check if the player's gold has been increased correctly
         assertEquals(6, player.getNbGold());
@@ -60,9 +58,9 @@ class BishopTest {
         // Add a district to the citadel
         citadel.add(new Card(District.SCHOOL_OF_MAGIC));
         // Set the citadel to the player
-        when(player.getCitadel()).thenReturn(citadel);
+        player.setCitadel(citadel);
         // Perform the action
-        bishop.goldCollectedFromDistrictType();
+        bishop.goldCollectedFromDistrictType(player);
 
         // Check if the player's gold has been increased correctly
         assertEquals(7, player.getNbGold());
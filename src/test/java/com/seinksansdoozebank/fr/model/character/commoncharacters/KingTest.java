@@ -39,17 +39,15 @@ class KingTest {
         citadel.add(new Card(District.MANOR));
         citadel.add(new Card(District.BARRACK));
         // Set the citadel to the player
-        when(player.getCitadel()).thenReturn(citadel);
+        player.setCitadel(citadel);
         // Create a Bishop character
         king = new King();
-        // Set the player and the citadel to the character
-        king.setPlayer(player);
     }
 
     @Test
     void testGoldCollectedFromDistrictType() {
         // Perform the action
-        king.goldCollectedFromDistrictType();
+        king.goldCollectedFromDistrictType(player);
 
         // Check if the player's gold has been increased correctly
         assertEquals(5, player.getNbGold());
@@ -59,8 +57,10 @@ class KingTest {
     void testGoldCollectedFromDistrictTypeAndSchoolOfMagic() {
         // Add a district to the citadel
         citadel.add(new Card(District.SCHOOL_OF_MAGIC));
+        // Set the citadel to the player
+        player.setCitadel(citadel);
         // Perform the action
-        king.goldCollectedFromDistrictType();
+        king.goldCollectedFromDistrictType(player);
 
         // Check if the player's gold has been increased correctly
         assertEquals(6, player.getNbGold());
@@ -42,17 +42,15 @@ class MerchantTest {
         citadel.add(new Card(District.BARRACK));
         citadel.add(new Card(District.BARRACK));
         // Set the citadel to the player
-        when(player.getCitadel()).thenReturn(citadel);
+        player.setCitadel(citadel);
         // Create a Bishop character
         merchant = new Merchant();
-        // Set the player and the citadel to the character
-        merchant.setPlayer(player);
     }
 
     @Test
     void testGoldCollectedFromDistrictType() {
         // Perform the action
-        merchant.goldCollectedFromDistrictType();
+        merchant.goldCollectedFromDistrictType(player);
 
         // Check if the player's gold has been increased correctly
         // 2 gold for the start + 6 for the 6 districts
@@ -63,8 +61,10 @@ class MerchantTest {
     void testGoldCollectedFromDistrictTypeAndSchoolOfMagic() {
         // Add a district to the citadel
         citadel.add(new Card(District.SCHOOL_OF_MAGIC));
+        // Set the citadel to the player
+        player.setCitadel(citadel);
         // Perform the action
-        merchant.goldCollectedFromDistrictType();
+        merchant.goldCollectedFromDistrictType(player);
 
         // Check if the player's gold has been increased correctly
         // 2 gold for the start + 6 for the 6 districts + 1 for the school of magic
@@ -74,7 +74,7 @@ class MerchantTest {
     @Test
     void testUseEffect() {
         // Perform the action
-        merchant.useEffect();
+        merchant.useEffect(player);
 
         // Check if the player's gold has been increased correctly
         // 2 gold for the start + 1 for the new turn + 6 for the 6 districts
@@ -8,6 +8,7 @@ import com.seinksansdoozebank.fr.model.player.Player;
 import com.seinksansdoozebank.fr.model.player.RandomBot;
 import com.seinksansdoozebank.fr.view.Cli;
 import com.seinksansdoozebank.fr.view.IView;
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -43,17 +44,15 @@ class WarlordTest {
         citadel.add(new Card(District.JAIL));
         citadel.add(new Card(District.WATCH_TOWER));
         // Set the citadel to the player
-        when(player.getCitadel()).thenReturn(citadel);
+        player.setCitadel(citadel);
         // Create a Bishop character
         warlord = new Warlord();
-        // Set the player and the citadel to the character
-        warlord.setPlayer(player);
     }
 
     @Test
     void testGoldCollectedFromDistrictType() {
         // Perform the action
-        warlord.goldCollectedFromDistrictType();
+        warlord.goldCollectedFromDistrictType(player);
 
         // Check if the player's gold has been increased correctly
         assertEquals(6, player.getNbGold());
@@ -63,8 +62,10 @@ class WarlordTest {
     void testGoldCollectedFromDistrictTypeAndSchoolOfMagic() {
         // Add a district to the citadel
         citadel.add(new Card(District.SCHOOL_OF_MAGIC));
+        // Set the citadel to the player
+        player.setCitadel(citadel);
         // Perform the action
-        warlord.goldCollectedFromDistrictType();
+        warlord.goldCollectedFromDistrictType(player);
 
         // Check if the player's gold has been increased correctly
         assertEquals(7, player.getNbGold());
@@ -80,7 +81,7 @@ class WarlordTest {
         citadel.add(new Card(District.DONJON));
         when(otherPlayer.getCitadel()).thenReturn(citadel);
         WarlordTarget target = new WarlordTarget(otherPlayer, District.DONJON);
-        assertThrows(IllegalArgumentException.class, () -> warlord.useEffect(target));
+        assertThrows(IllegalArgumentException.class, () -> warlord.useEffect(player, target));
         verify(deck, times(0)).discard(any());
     }
 
@@ -101,7 +102,7 @@ class WarlordTest {
         citadel.add(new Card(District.MANUFACTURE));
         when(otherPlayer.getCitadel()).thenReturn(citadel);
         WarlordTarget target = new WarlordTarget(otherPlayer, District.BARRACK);
-        assertThrows(IllegalArgumentException.class, () -> warlord.useEffect(target));
+        assertThrows(IllegalArgumentException.class, () -> warlord.useEffect(player, target));
         verify(deck, times(0)).discard(any());
     }
 
@@ -115,7 +116,7 @@ class WarlordTest {
         citadel.add(new Card(District.PORT_FOR_DRAGONS));
         when(otherPlayer.getCitadel()).thenReturn(citadel);
         WarlordTarget target = new WarlordTarget(otherPlayer, District.PORT_FOR_DRAGONS);
-        assertThrows(IllegalArgumentException.class, () -> warlord.useEffect(target));
+        assertThrows(IllegalArgumentException.class, () -> warlord.useEffect(player, target));
         verify(deck, times(0)).discard(any());
     }
 
@@ -129,7 +130,7 @@ class WarlordTest {
         citadel.add(new Card(District.TAVERN));
         when(otherPlayer.getCitadel()).thenReturn(citadel);
         WarlordTarget target = new WarlordTarget(otherPlayer, District.TAVERN);
-        assertThrows(IllegalArgumentException.class, () -> warlord.useEffect(target));
+        assertThrows(IllegalArgumentException.class, () -> warlord.useEffect(player, target));
         verify(deck, times(0)).discard(any());
     }
 
@@ -141,8 +142,33 @@ class WarlordTest {
         otherPlayer.reveal();
         List<Card> citadel = new ArrayList<>();
         citadel.add(new Card(District.TAVERN));
-        when(otherPlayer.getCitadel()).thenReturn(citadel);
-        warlord.useEffect(new WarlordTarget(otherPlayer, District.TAVERN));
+        otherPlayer.setCitadel(citadel);
+        warlord.useEffect(player, new WarlordTarget(otherPlayer, District.TAVERN));
+        verify(deck, times(1)).discard(any());
+    }
+
+    @Test
+    void canApplyShouldGiveTheReasonOfTheRefusal() {
+        Player otherPlayer = spy(new RandomBot(2, deck, view, bank));
+        Bishop bishop = new Bishop();
+        otherPlayer.chooseCharacter(new ArrayList<>(List.of(bishop)));
+        otherPlayer.setCitadel(new ArrayList<>(List.of(new Card(District.TAVERN), new Card(District.DONJON), new Card(District.PORT_FOR_DRAGONS))));
+        assertEquals(ActionResult.NO_TARGET, warlord.canApply(player, null));
+        assertEquals(ActionResult.OK, warlord.canApply(player, new WarlordTarget(otherPlayer, District.TAVERN)));
+        assertEquals(ActionResult.NOT_ENOUGH_GOLD, warlord.canApply(player, new WarlordTarget(otherPlayer, District.PORT_FOR_DRAGONS)));
+        assertEquals(ActionResult.DISTRICT_IS_PROTECTED, warlord.canApply(player, new WarlordTarget(otherPlayer, District.DONJON)));
+        otherPlayer.reveal();
+        assertEquals(ActionResult.TARGET_IS_PROTECTED, warlord.canApply(player, new WarlordTarget(otherPlayer, District.TAVERN)));
+    }
+
+    @Test
+    void tryApplyShouldDestroyOnlyADistrictOfTheCitadel() {
+        Player otherPlayer = spy(new RandomBot(2, deck, view, bank));
+        otherPlayer.setCitadel(new ArrayList<>(List.of(new Card(District.TAVERN))));
+        assertEquals(ActionResult.DISTRICT_NOT_IN_CITADEL, warlord.tryApply(player, new WarlordTarget(otherPlayer, District.TEMPLE)));
+        verify(deck, times(0)).discard(any());
+        assertEquals(ActionResult.OK, warlord.tryApply(player, new WarlordTarget(otherPlayer, District.TAVERN)));
         verify(deck, times(1)).discard(any());
+        assertEquals(0, otherPlayer.getCitadel().size());
     }
 }
@@ -0,0 +1,75 @@
+package com.seinksansdoozebank.fr.model.character.roles;
+
+import com.seinksansdoozebank.fr.model.character.Characters;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoleSetTest {
+
+    @Test
+    void emptySetShouldContainNoRole() {
+        RoleSet roleSet = RoleSet.empty();
+
+        assertTrue(roleSet.isEmpty());
+        assertEquals(0, roleSet.size());
+        for (Role role : Role.values()) {
+            assertFalse(roleSet.contains(role));
+        }
+    }
+
+    @Test
+    void allShouldContainEveryRole() {
+        assertEquals(Role.values().length, RoleSet.all().size());
+        assertEquals(List.of(Role.values()), RoleSet.all().toList());
+    }
+
+    @Test
+    void ofCharactersShouldContainTheirRoles() {
+        RoleSet roleSet = RoleSet.of(List.of(Characters.of(Role.KING), Characters.of(Role.THIEF)));
+
+        assertEquals(RoleSet.of(Role.THIEF, Role.KING), roleSet);
+        assertTrue(roleSet.contains(Role.KING));
+        assertTrue(roleSet.contains(Role.THIEF));
+        assertFalse(roleSet.contains(Role.WARLORD));
+        assertEquals(2, roleSet.size());
+    }
+
+    @Test
+    void withAndWithoutShouldNotChangeTheSet() {
+        RoleSet roleSet = RoleSet.of(Role.ASSASSIN);
+
+        RoleSet withBishop = roleSet.with(Role.BISHOP);
+        RoleSet withoutAssassin = roleSet.without(Role.ASSASSIN);
+
+        assertEquals(List.of(Role.ASSASSIN), roleSet.toList());
+        assertEquals(List.of(Role.ASSASSIN, Role.BISHOP), withBishop.toList());
+        assertTrue(withoutAssassin.isEmpty());
+    }
+
+    @Test
+    void theSameRolesShouldGiveTheSameInstance() {
+        assertSame(RoleSet.of(Role.MERCHANT, Role.ARCHITECT), RoleSet.empty().with(Role.ARCHITECT).with(Role.MERCHANT));
+        assertSame(RoleSet.empty(), RoleSet.of(Role.KING).without(Role.KING));
+    }
+
+    @Test
+    void intersectShouldKeepTheCommonRoles() {
+        RoleSet roleSet = RoleSet.of(Role.KING, Role.BISHOP, Role.WARLORD);
+
+        assertEquals(RoleSet.of(Role.BISHOP), roleSet.intersect(RoleSet.of(Role.BISHOP, Role.MAGICIAN)));
+    }
+
+    @Test
+    void withAndWithoutAnotherSetShouldAddAndRemoveItsRoles() {
+        RoleSet roleSet = RoleSet.of(Role.KING, Role.BISHOP);
+
+        assertEquals(RoleSet.of(Role.KING, Role.BISHOP, Role.THIEF), roleSet.with(RoleSet.of(Role.THIEF, Role.KING)));
+        assertEquals(RoleSet.of(Role.BISHOP), roleSet.without(RoleSet.of(Role.KING, Role.THIEF)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.seinksansdoozebank.fr.model.character.roles;
+
+import com.seinksansdoozebank.fr.model.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class RoleStateTableTest {
+    private RoleStateTable roleStates;
+    private Player player;
+    private Player thief;
+
+    @BeforeEach
+    void setUp() {
+        roleStates = new RoleStateTable();
+        player = mock(Player.class);
+        thief = mock(Player.class);
+        roleStates.assign(Role.KING, player);
+        roleStates.assign(Role.THIEF, thief);
+    }
+
+    @Test
+    void assignShouldGiveThePlayerOfTheRole() {
+        assertEquals(player, roleStates.getPlayer(Role.KING));
+        assertEquals(thief, roleStates.getPlayer(Role.THIEF));
+        assertNull(roleStates.getPlayer(Role.BISHOP));
+    }
+
+    @Test
+    void killShouldOnlyKillTheRole() {
+        roleStates.kill(Role.KING);
+
+        assertTrue(roleStates.isDead(Role.KING));
+        assertFalse(roleStates.isDead(Role.THIEF));
+    }
+
+    @Test
+    void releaseShouldForgetTheStateOfTheRole() {
+        roleStates.kill(Role.KING);
+        roleStates.setRobbedBy(Role.KING, thief);
+        roleStates.setRevealed(Role.KING, true);
+
+        roleStates.release(Role.KING);
+
+        assertNull(roleStates.getPlayer(Role.KING));
+        assertFalse(roleStates.isDead(Role.KING));
+        assertNull(roleStates.getRobbedBy(Role.KING));
+        assertFalse(roleStates.isRevealed(Role.KING));
+        assertEquals(thief, roleStates.getPlayer(Role.THIEF));
+    }
+
+    @Test
+    void clearShouldForgetTheStateOfAllTheRoles() {
+        roleStates.kill(Role.THIEF);
+        roleStates.setRevealed(Role.KING, true);
+
+        roleStates.clear();
+
+        for (Role role : Role.values()) {
+            assertNull(roleStates.getPlayer(role));
+            assertFalse(roleStates.isDead(role));
+            assertFalse(roleStates.isRevealed(role));
+        }
+    }
+
+    @Test
+    void copyShouldNotChangeWhenTheTableChanges() {
+        roleStates.setRobbedBy(Role.KING, thief);
+        RoleStateTable copy = new RoleStateTable(roleStates);
+
+        roleStates.kill(Role.KING);
+        roleStates.setRobbedBy(Role.KING, null);
+
+        assertFalse(copy.isDead(Role.KING));
+        assertEquals(thief, copy.getRobbedBy(Role.KING));
+        assertEquals(player, copy.getPlayer(Role.KING));
+    }
+}
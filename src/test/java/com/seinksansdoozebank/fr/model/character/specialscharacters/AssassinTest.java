@@ -1,8 +1,11 @@
 package com.seinksansdoozebank.fr.model.character.specialscharacters;
 
+import com.seinksansdoozebank.fr.controller.SimulationContext;
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Deck;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.Bishop;
+import com.seinksansdoozebank.fr.model.character.roles.RoleStateTable;
 import com.seinksansdoozebank.fr.model.player.Player;
 import com.seinksansdoozebank.fr.model.player.RandomBot;
 import com.seinksansdoozebank.fr.view.IView;
@@ -10,6 +13,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -18,20 +23,25 @@ class AssassinTest {
 
     private Assassin assassin;
     private Bishop bishop;
+    private Player playerAssassin;
+    private RoleStateTable roleStates;
 
     @Mock
     private IView view;
 
     @BeforeEach
     void setUp() {
+        roleStates = new RoleStateTable();
         Deck deckAssassin = new Deck();
         assassin = new Assassin();
-        Player playerAssassin = new RandomBot(2, deckAssassin, view, mock(Bank.class));
-        assassin.setPlayer(playerAssassin);
+        playerAssassin = new RandomBot(2, deckAssassin, view, mock(Bank.class));
+        playerAssassin.setRoleStates(roleStates);
+        roleStates.assign(assassin.getRole(), playerAssassin);
         Deck deckBishop = new Deck();
         Player playerBishop = new RandomBot(2, deckBishop, view, mock(Bank.class));
+        playerBishop.setRoleStates(roleStates);
         bishop = new Bishop();
-        bishop.setPlayer(playerBishop);
+        roleStates.assign(bishop.getRole(), playerBishop);
     }
 
     /**
@@ -40,24 +50,44 @@ class AssassinTest {
     @Test
     void testUseEffect() {
         // Test the effect of the assassin.
-        assassin.useEffect(bishop);
+        assassin.useEffect(playerAssassin, bishop);
         // Check if the bishop is dead.
-        assertTrue(bishop.isDead());
+        assertTrue(roleStates.isDead(bishop.getRole()));
     }
 
     @Test
     void testUseEffectWhenCharacterIsAlreadyDead() {
         // Kill the bishop.
-        bishop.kill();
+        roleStates.kill(bishop.getRole());
         // Test the effect of the assassin.
         // Check that the useEffect throw an IllegalStateException.
-        assertThrows(IllegalStateException.class, () -> assassin.useEffect(bishop));
+        assertThrows(IllegalStateException.class, () -> assassin.useEffect(playerAssassin, bishop));
     }
 
     @Test
     void testUseEffectWhenCharacterIsItself() {
         // Test the effect of the assassin.
         // Check that the useEffect throw an IllegalArgumentException.
-        assertThrows(IllegalArgumentException.class, () -> assassin.useEffect(assassin));
+        assertThrows(IllegalArgumentException.class, () -> assassin.useEffect(playerAssassin, assassin));
+    }
+
+    @Test
+    void tryApplyShouldGiveTheReasonWhyTheCharacterCannotBeKilled() {
+        assertEquals(ActionResult.TARGET_IS_SELF, assassin.tryApply(playerAssassin, assassin));
+        assertEquals(ActionResult.NO_TARGET, assassin.tryApply(playerAssassin, null));
+        assertEquals(ActionResult.OK, assassin.tryApply(playerAssassin, bishop));
+        assertTrue(roleStates.isDead(bishop.getRole()));
+        assertEquals(ActionResult.TARGET_IS_DEAD, assassin.tryApply(playerAssassin, bishop));
+    }
+
+    @Test
+    void useEffectWithoutValidationShouldNotCheckTheCharacter() {
+        SimulationContext context = new SimulationContext();
+        context.setActionValidationEnabled(false);
+        Player trustedAssassin = new RandomBot(2, new Deck(context), view, mock(Bank.class), context);
+        trustedAssassin.setRoleStates(roleStates);
+        roleStates.kill(bishop.getRole());
+
+        assertDoesNotThrow(() -> assassin.useEffect(trustedAssassin, bishop));
     }
 }
@@ -1,5 +1,6 @@
 package com.seinksansdoozebank.fr.model.character.specialscharacters;
 
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.Deck;
@@ -15,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class MagicianTest {
@@ -41,7 +43,6 @@ class MagicianTest {
         spyPlayer = spy(new RandomBot(2, deck, view, mock(Bank.class)));
         otherSpyPlayer = spy(new RandomBot(2, deck, view, mock(Bank.class)));
         magician = new Magician();
-        magician.setPlayer(spyPlayer);
         spyPlayer.chooseCharacter(new ArrayList<>(List.of(magician)));
     }
 
@@ -49,7 +50,7 @@ class MagicianTest {
     void useEffectSwitchHandWithPlayer() {
         List<Card> handSave = spyPlayer.getHand();
         List<Card> otherHandSave = otherSpyPlayer.getHand();
-        ((Magician) spyPlayer.getCharacter()).useEffect(new MagicianTarget(otherSpyPlayer, null));
+        ((Magician) spyPlayer.getCharacter()).useEffect(spyPlayer, new MagicianTarget(otherSpyPlayer, null));
         verify(otherSpyPlayer, times(1)).switchHandWith(spyPlayer);
         // Check that the other player has the same hand as the ancient hand spyPlayer
         assertEquals(handSave, otherSpyPlayer.getHand());
@@ -67,28 +68,28 @@ class MagicianTest {
 
         assertEquals(3, spyPlayer.getHand().size());
 
-        ((Magician) spyPlayer.getCharacter()).useEffect(new MagicianTarget(null, List.of(firstExchangeCard, secondExchangeCard)));
+        ((Magician) spyPlayer.getCharacter()).useEffect(spyPlayer, new MagicianTarget(null, List.of(firstExchangeCard, secondExchangeCard)));
 
         assertEquals(3, spyPlayer.getHand().size());
         assertEquals(firstPickedCard, spyPlayer.getHand().get(0));
     }
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
 
+    @Test
+    void tryApplyShouldGiveTheReasonWhyTheCardsCannotBeSwitched() {
+        spyPlayer.getHand().add(firstExchangeCard);
 
+        assertEquals(ActionResult.NO_TARGET, magician.tryApply(spyPlayer, null));
+        assertEquals(ActionResult.TARGET_IS_SELF, magician.tryApply(spyPlayer, new MagicianTarget(spyPlayer, null)));
+        assertEquals(ActionResult.CARD_NOT_IN_HAND, magician.tryApply(spyPlayer, new MagicianTarget(null, List.of(secondExchangeCard))));
+        assertEquals(List.of(firstExchangeCard), spyPlayer.getHand());
 
+        assertEquals(ActionResult.OK, magician.tryApply(spyPlayer, new MagicianTarget(otherSpyPlayer, null)));
+        assertEquals(List.of(firstExchangeCard), otherSpyPlayer.getHand());
+    }
 
+    @Test
+    void useEffectWithACardNotInTheHandShouldThrowException() {
+        MagicianTarget target = new MagicianTarget(null, List.of(secondExchangeCard));
+        assertThrows(IllegalArgumentException.class, () -> magician.useEffect(spyPlayer, target));
+    }
+}
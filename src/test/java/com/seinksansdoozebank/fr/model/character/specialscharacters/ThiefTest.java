@@ -3,14 +3,17 @@ package com.seinksansdoozebank.fr.model.character.specialscharacters;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Deck;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.Merchant;
+import com.seinksansdoozebank.fr.model.character.roles.RoleStateTable;
 import com.seinksansdoozebank.fr.model.player.Player;
 import com.seinksansdoozebank.fr.model.player.RandomBot;
 import com.seinksansdoozebank.fr.view.IView;
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
@@ -18,26 +21,32 @@ class ThiefTest {
     private Assassin assassin;
     private Thief thief;
     private Merchant merchant;
+    private Player playerThief;
+    private RoleStateTable roleStates;
 
     @Mock
     private IView view;
 
     @BeforeEach
     void setUp() {
+        roleStates = new RoleStateTable();
         Deck deckThief = new Deck();
         thief = new Thief();
-        Player playerThief = new RandomBot(2, deckThief, view, mock(Bank.class));
-        thief.setPlayer(playerThief);
+        playerThief = new RandomBot(2, deckThief, view, mock(Bank.class));
+        playerThief.setRoleStates(roleStates);
+        roleStates.assign(thief.getRole(), playerThief);
 
         Deck deckAssassin = new Deck();
         assassin = new Assassin();
         Player playerAssassin = new RandomBot(2, deckAssassin, view, mock(Bank.class));
-        assassin.setPlayer(playerAssassin);
+        playerAssassin.setRoleStates(roleStates);
+        roleStates.assign(assassin.getRole(), playerAssassin);
 
         Deck deckMerchant = new Deck();
         Player playerMerchant = new RandomBot(2, deckMerchant, view, mock(Bank.class));
+        playerMerchant.setRoleStates(roleStates);
         merchant = new Merchant();
-        merchant.setPlayer(playerMerchant);
+        roleStates.assign(merchant.getRole(), playerMerchant);
     }
 
     /**
@@ -45,8 +54,8 @@ class ThiefTest {
      */
     @Test
     void testUseEffect() {
-        thief.useEffect(merchant);
-        assertEquals(thief.getPlayer(),merchant.getSavedThief());
+        thief.useEffect(playerThief, merchant);
+        assertEquals(playerThief, roleStates.getRobbedBy(merchant.getRole()));
     }
 
     /**
@@ -54,7 +63,7 @@ class ThiefTest {
      */
     @Test
     void testUseEffectWhenCharacterIsAThief() {
-        assertThrows(IllegalArgumentException.class, () -> thief.useEffect(thief));
+        assertThrows(IllegalArgumentException.class, () -> thief.useEffect(playerThief, thief));
     }
 
     /**
@@ -62,8 +71,8 @@ class ThiefTest {
      */
     @Test
     void testUseEffectWhenCharacterIsDead() {
-        merchant.kill();
-        assertThrows(IllegalStateException.class, () -> thief.useEffect(merchant));
+        roleStates.kill(merchant.getRole());
+        assertThrows(IllegalStateException.class, () -> thief.useEffect(playerThief, merchant));
     }
 
     /**
@@ -71,8 +80,30 @@ class ThiefTest {
      */
     @Test
     void testUseEffectWhenCharacterIsTheAssassin() {
-        assertThrows(IllegalArgumentException.class, () -> thief.useEffect(assassin));
+        assertThrows(IllegalArgumentException.class, () -> thief.useEffect(playerThief, assassin));
     }
 
+    /**
+     * We test that the checks of the thief give the reason of the refusal
+     */
+    @Test
+    void canApplyShouldGiveTheReasonOfTheRefusal() {
+        assertEquals(ActionResult.OK, thief.canApply(playerThief, merchant));
+        assertEquals(ActionResult.TARGET_IS_SELF, thief.canApply(playerThief, thief));
+        assertEquals(ActionResult.TARGET_IS_PROTECTED, thief.canApply(playerThief, assassin));
+        roleStates.kill(merchant.getRole());
+        assertEquals(ActionResult.TARGET_IS_DEAD, thief.canApply(playerThief, merchant));
+    }
 
+    /**
+     * We test that tryApply steals only a character which can be stolen
+     */
+    @Test
+    void tryApplyShouldStealOnlyWhenItCan() {
+        assertEquals(ActionResult.TARGET_IS_PROTECTED, thief.tryApply(playerThief, assassin));
+        assertNull(roleStates.getRobbedBy(assassin.getRole()));
+        assertEquals(ActionResult.NO_TARGET, thief.tryApply(playerThief, null));
+        assertEquals(ActionResult.OK, thief.tryApply(playerThief, merchant));
+        assertEquals(playerThief, roleStates.getRobbedBy(merchant.getRole()));
+    }
 }
@@ -55,7 +55,7 @@ class BuilderBotTest {
     @Test
     void chooseCharacterWithNobilityDistrict() {
         List<Character> characters = new ArrayList<>(List.of(new King(), new Merchant(), new Architect()));
-        when(spyBuilderBot.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.PALACE)))); // Add a Nobility district to the citadel
+        spyBuilderBot.setCitadel(new ArrayList<>(List.of(new Card(District.PALACE)))); // Add a Nobility district to the citadel
 
         Character chosenCharacter = spyBuilderBot.chooseCharacter(characters);
 
@@ -65,7 +65,7 @@ class BuilderBotTest {
     @Test
     void chooseCharacterWithMultipleCommerceDistricts() {
         List<Character> characters = new ArrayList<>(List.of(new Merchant()));
-        when(spyBuilderBot.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.MARKET_PLACE), new Card(District.TAVERN))));
+        spyBuilderBot.setCitadel(new ArrayList<>(List.of(new Card(District.MARKET_PLACE), new Card(District.TAVERN))));
 
         Character chosenCharacter = spyBuilderBot.chooseCharacter(characters);
 
@@ -75,7 +75,7 @@ class BuilderBotTest {
     @Test
     void chooseCharacterWithAllTypeOfDistrictsShouldGetKing() {
         List<Character> characters = new ArrayList<>(List.of(new King(), new Merchant(), new Architect()));
-        when(spyBuilderBot.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.PALACE), new Card(District.TAVERN), new Card(District.WATCH_TOWER), new Card(District.PORT))));
+        spyBuilderBot.setCitadel(new ArrayList<>(List.of(new Card(District.PALACE), new Card(District.TAVERN), new Card(District.WATCH_TOWER), new Card(District.PORT))));
 
         Character chosenCharacter = spyBuilderBot.chooseCharacter(characters);
 
@@ -0,0 +1,124 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import com.seinksansdoozebank.fr.model.bank.Bank;
+import com.seinksansdoozebank.fr.model.cards.Card;
+import com.seinksansdoozebank.fr.model.cards.Deck;
+import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.model.cards.DistrictType;
+import com.seinksansdoozebank.fr.view.IView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DeckTrackerTest {
+    private static final int NB_CARDS = 65;
+    private Deck deck;
+    private Player player;
+    private Player opponent;
+    private DeckTracker deckTracker;
+
+    @BeforeEach
+    void setUp() {
+        deck = mock(Deck.class);
+        Bank bank = new Bank();
+        IView view = mock(IView.class);
+        player = new RandomBot(0, deck, view, bank);
+        opponent = new RandomBot(0, deck, view, bank);
+        deckTracker = player.getDeckTracker();
+        deckTracker.track(List.of(player, opponent));
+    }
+
+    @Test
+    void everyCardShouldBeUnseenAtTheBeginning() {
+        assertEquals(NB_CARDS, deckTracker.getNbUnseenCards());
+        assertEquals(District.TEMPLE.getNumberOfAppearance(), deckTracker.getNbUnseenCards(District.TEMPLE));
+        int nbPrestigeCards = 0;
+        int nbCardsCostingAtMostTwo = 0;
+        for (District district : District.values()) {
+            if (district.getDistrictType() == DistrictType.PRESTIGE) {
+                nbPrestigeCards += district.getNumberOfAppearance();
+            }
+            if (district.getCost() <= 2) {
+                nbCardsCostingAtMostTwo += district.getNumberOfAppearance();
+            }
+        }
+        assertEquals((double) nbPrestigeCards / NB_CARDS, deckTracker.getProbabilityToPick(DistrictType.PRESTIGE));
+        assertEquals((double) nbCardsCostingAtMostTwo / NB_CARDS, deckTracker.getProbabilityToPickCostAtMost(2));
+    }
+
+    @Test
+    void theCardsOfTheHandShouldBeSeen() {
+        when(deck.pick()).thenReturn(Optional.of(new Card(District.TEMPLE)));
+        player.pickACard();
+
+        assertEquals(NB_CARDS - 1, deckTracker.getNbUnseenCards());
+        assertEquals(District.TEMPLE.getNumberOfAppearance() - 1, deckTracker.getNbUnseenCards(District.TEMPLE));
+        assertEquals((double) (District.TEMPLE.getNumberOfAppearance() - 1) / (NB_CARDS - 1), deckTracker.getProbabilityToPick(District.TEMPLE));
+    }
+
+    @Test
+    void theBuiltDistrictsShouldBeSeenUntilTheyAreDestroyed() {
+        opponent.setCitadel(List.of(new Card(District.CASTLE)));
+
+        assertEquals(District.CASTLE.getNumberOfAppearance() - 1, deckTracker.getNbUnseenCards(District.CASTLE));
+        assertEquals(NB_CARDS - 1, deckTracker.getNbUnseenCards());
+
+        opponent.setCitadel(List.of());
+
+        assertEquals(District.CASTLE.getNumberOfAppearance(), deckTracker.getNbUnseenCards(District.CASTLE));
+    }
+
+    @Test
+    void aCardTakenWithTheCemeteryShouldStaySeenWhenItIsBuiltAgain() {
+        deckTracker.onCardShownTakenInHand(opponent, new Card(District.MANOR));
+
+        assertEquals(District.MANOR.getNumberOfAppearance() - 1, deckTracker.getNbUnseenCards(District.MANOR));
+
+        opponent.setCitadel(List.of(new Card(District.MANOR)));
+
+        assertEquals(District.MANOR.getNumberOfAppearance() - 1, deckTracker.getNbUnseenCards(District.MANOR));
+    }
+
+    @Test
+    void theHandGivenWithTheMagicianShouldStaySeen() {
+        Card templeCard = new Card(District.TEMPLE);
+        when(deck.pick()).thenReturn(Optional.of(templeCard));
+        player.pickACard();
+
+        opponent.switchHandWith(player);
+
+        // the player doesn't have the temple anymore, but it knows the opponent has it
+        assertEquals(0, player.getHand().size());
+        assertEquals(District.TEMPLE.getNumberOfAppearance() - 1, deckTracker.getNbUnseenCards(District.TEMPLE));
+
+        opponent.setCitadel(List.of(templeCard));
+
+        assertEquals(District.TEMPLE.getNumberOfAppearance() - 1, deckTracker.getNbUnseenCards(District.TEMPLE));
+        assertEquals(NB_CARDS - 1, deckTracker.getNbUnseenCards());
+    }
+
+    @Test
+    void aTrackerAskedDuringTheGameShouldSeeTheCitadelsAsTheyAre() {
+        IView view = mock(IView.class);
+        Player lateViewpoint = new RandomBot(0, deck, view, new Bank());
+        Player lateOpponent = new RandomBot(0, deck, view, new Bank());
+        lateViewpoint.setOpponents(List.of(lateOpponent));
+        lateOpponent.setCitadel(List.of(new Card(District.CASTLE)));
+
+        DeckTracker lateTracker = lateViewpoint.getDeckTracker();
+
+        assertSame(lateTracker, lateViewpoint.getDeckTracker());
+        assertEquals(NB_CARDS - 1, lateTracker.getNbUnseenCards());
+
+        lateOpponent.setCitadel(List.of());
+
+        assertEquals(NB_CARDS, lateTracker.getNbUnseenCards());
+    }
+}
@@ -66,7 +66,7 @@ class OpportunistBotTest {
                 new Thief(),
                 new Merchant()
         ));
-        when(spyOpportunistBot.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.CHURCH))));
+        spyOpportunistBot.setCitadel(new ArrayList<>(List.of(new Card(District.CHURCH))));
 
         Character chosenCharacter = spyOpportunistBot.chooseCharacter(characters);
 
@@ -82,7 +82,7 @@ class OpportunistBotTest {
                 new Merchant()
         ));
         when(spyOpportunistBot.getNbGold()).thenReturn(2);
-        when(spyOpportunistBot.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.MARKET_PLACE))));
+        spyOpportunistBot.setCitadel(new ArrayList<>(List.of(new Card(District.MARKET_PLACE))));
 
         Character chosenCharacter = spyOpportunistBot.chooseCharacter(characters);
 
@@ -99,7 +99,7 @@ class OpportunistBotTest {
         ));
         RandomBot opponent = spy(new RandomBot(4, deck, view, bank));
         when(spyOpportunistBot.getNbGold()).thenReturn(2);
-        when(spyOpportunistBot.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.MARKET_PLACE))));
+        spyOpportunistBot.setCitadel(new ArrayList<>(List.of(new Card(District.MARKET_PLACE))));
         when(spyOpportunistBot.getOpponents()).thenReturn(new ArrayList<>(List.of(opponent)));
         when(opponent.getNbGold()).thenReturn(4);
 
@@ -122,7 +122,7 @@ class OpportunistBotTest {
         spyOpportunistBot.setRandom(randomMock);
 
         when(spyOpportunistBot.getNbGold()).thenReturn(0);
-        when(spyOpportunistBot.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.MARKET_PLACE))));
+        spyOpportunistBot.setCitadel(new ArrayList<>(List.of(new Card(District.MARKET_PLACE))));
 
         Character chosenCharacter = spyOpportunistBot.chooseCharacter(characters);
 
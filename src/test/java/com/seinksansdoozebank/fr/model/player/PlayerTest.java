@@ -1,9 +1,11 @@
 package com.seinksansdoozebank.fr.model.player;
 
+import com.seinksansdoozebank.fr.model.action.ActionResult;
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.seinksansdoozebank.fr.model.cards.Card;
 import com.seinksansdoozebank.fr.model.cards.Deck;
 import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.model.cards.DistrictType;
 import com.seinksansdoozebank.fr.model.cards.effect.ManufactureEffect;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.Warlord;
@@ -13,6 +15,7 @@ import com.seinksansdoozebank.fr.view.Cli;
 import com.seinksansdoozebank.fr.view.IView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,13 +24,17 @@ import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -116,7 +123,7 @@ class PlayerTest {
 
     @Test
     void testCanPlayCardWithAlreadyPlayedDistrictShouldReturnFalse() {
-        when(spyPlayer.getCitadel()).thenReturn(List.of(cardCostThree));
+        spyPlayer.setCitadel(List.of(cardCostThree));
         assertFalse(spyPlayer.canPlayCard(cardCostThree));
     }
 
@@ -152,11 +159,29 @@ class PlayerTest {
 
     @Test
     void testGetScoreWithSomeDistrictInCitadel() {
-        when(spyPlayer.getCitadel()).thenReturn(List.of(cardCostThree, cardCostFive));
+        spyPlayer.setCitadel(List.of(cardCostThree, cardCostFive));
         int sum = cardCostThree.getDistrict().getCost() + cardCostFive.getDistrict().getCost();
         assertEquals(sum, spyPlayer.getScore());
     }
 
+    @Test
+    void theRankingKeyShouldOrderByScoreThenNumberOfDistrictsThenCitadelCost() {
+        Player twoDistricts = new RandomBot(0, deck, view, bank);
+        twoDistricts.setCitadel(List.of(new Card(District.TAVERN), new Card(District.MANOR)));
+        Player oneDistrict = new RandomBot(0, deck, view, bank);
+        oneDistrict.setCitadel(List.of(new Card(District.FORTRESS)));
+        oneDistrict.addBonus(-1);
+        Player sameScoreMoreBonus = new RandomBot(0, deck, view, bank);
+        sameScoreMoreBonus.setCitadel(List.of(new Card(District.TAVERN), new Card(District.TEMPLE)));
+        sameScoreMoreBonus.addBonus(2);
+
+        assertEquals(4, twoDistricts.getCitadelCost());
+        assertEquals(twoDistricts.getScore(), oneDistrict.getScore());
+        assertTrue(twoDistricts.getRankingKey() > oneDistrict.getRankingKey());
+        assertEquals(twoDistricts.getScore(), sameScoreMoreBonus.getScore());
+        assertTrue(twoDistricts.getRankingKey() > sameScoreMoreBonus.getRankingKey());
+    }
+
     @Test
     void retrieveCharacter() {
         List<Character> characters = new ArrayList<>();
@@ -168,7 +193,7 @@ class PlayerTest {
 
         assertEquals(warlord, retrievedCharacter);
         assertThrows(IllegalStateException.class, () -> player.retrieveCharacter());
-        assertNull(warlord.getPlayer());
+        assertNull(player.getRoleStates().getPlayer(warlord.getRole()));
     }
 
     @Test
@@ -176,8 +201,7 @@ class PlayerTest {
         List<Card> spyPlayerCitadel = new ArrayList<>(List.
                 of(new Card(District.PORT),
                         new Card(District.PALACE)));
-        when(spyPlayer.getCitadel()).
-                thenReturn(spyPlayerCitadel);
+        spyPlayer.setCitadel(spyPlayerCitadel);
 
         spyPlayer.addBonus(4);
         int sum = (new Card(District.PORT)).getDistrict().getCost() + (new Card(District.PALACE)).getDistrict().getCost() + spyPlayer.getBonus();
@@ -277,6 +301,16 @@ class PlayerTest {
         assertThrows(IllegalArgumentException.class, () -> spyPlayer.buyXCardsAndAddThemToCitadel(5));
     }
 
+    @Test
+    void tryPlayCardsWithUncorrectBoundariesShouldNotPlay() {
+        spyPlayer.chooseCharacter(new ArrayList<>(List.of(new Architect())));
+
+        assertEquals(ActionResult.INVALID_NUMBER_OF_CARDS, spyPlayer.tryBuyXCardsAndAddThemToCitadel(0));
+        assertEquals(ActionResult.INVALID_NUMBER_OF_CARDS, spyPlayer.tryBuyXCardsAndAddThemToCitadel(5));
+        assertEquals(ActionResult.OK, spyPlayer.canBuyXCardsAndAddThemToCitadel(3));
+        verify(spyPlayer, never()).playACard();
+    }
+
     /**
      * We verify if a player has already 8 districts then he can't play another card
      */
@@ -290,7 +324,7 @@ class PlayerTest {
                 new Card(District.CORNER_SHOP),
                 new Card(District.CASTLE),
                 new Card(District.LIBRARY)));
-        when(spyPlayer.getCitadel()).thenReturn(citadelle);
+        spyPlayer.setCitadel(citadelle);
         assertFalse(spyPlayer.canPlayCard(new Card(District.PALACE)));
     }
 
@@ -307,7 +341,7 @@ class PlayerTest {
 
     @Test
     void playWithObservatoryInCitadelle() {
-        when(spyPlayer.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE), new Card(District.OBSERVATORY)));
+        spyPlayer.setCitadel(List.of(new Card(District.TEMPLE), new Card(District.OBSERVATORY)));
         when(deck.pick()).thenReturn(Optional.of(new Card(District.MANOR)));
         spyPlayer.pickCardsKeepSomeAndDiscardOthers();
         verify(view, times(1)).displayPlayerHasGotObservatory(spyPlayer);
@@ -316,7 +350,7 @@ class PlayerTest {
 
     @Test
     void numberOfCardsToPickWhenTheBotHasObservatoryInHisCitadelTest() {
-        when(spyPlayer.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE), new Card(District.OBSERVATORY)));
+        spyPlayer.setCitadel(List.of(new Card(District.TEMPLE), new Card(District.OBSERVATORY)));
         assertEquals(3, spyPlayer.numberOfCardsToPick());
     }
 
@@ -354,6 +388,32 @@ class PlayerTest {
         verify(view, times(1)).displayPlayerUseWarlordDistrict(attacker, spyPlayer, temple.getDistrict());
     }
 
+    @Test
+    void theDistrictsAndTheDistrictTypesOfTheCitadelShouldFollowTheBuildsAndTheDestructions() {
+        Player attacker = mock(Player.class);
+        player.setCitadel(new ArrayList<>(List.of(new Card(District.TEMPLE), new Card(District.CHURCH))));
+        // the gold of the player comes from the bank, so that it can be given back when building
+        bank.pickXCoin(player.getNbGold());
+        player.buyACardAndAddItToCitadel(new Card(District.TAVERN));
+
+        assertTrue(player.hasDistrictInCitadel(District.TEMPLE));
+        assertTrue(player.hasDistrictInCitadel(District.TAVERN));
+        assertFalse(player.hasDistrictInCitadel(District.PORT));
+        assertEquals(2, player.getNbDistrictsOfTypeInCitadel(DistrictType.RELIGION));
+        assertEquals(1, player.getNbDistrictsOfTypeInCitadel(DistrictType.TRADE_AND_CRAFTS));
+
+        player.destroyDistrict(attacker, District.TEMPLE);
+
+        assertFalse(player.hasDistrictInCitadel(District.TEMPLE));
+        assertTrue(player.hasDistrictInCitadel(District.CHURCH));
+        assertEquals(1, player.getNbDistrictsOfTypeInCitadel(DistrictType.RELIGION));
+
+        player.reset(0);
+
+        assertFalse(player.hasDistrictInCitadel(District.CHURCH));
+        assertEquals(0, player.getNbDistrictsOfTypeInCitadel(DistrictType.RELIGION));
+    }
+
     @Test
     void havingADistrictDestroyedWithTargetInCitadelShouldRemoveItFromCitadelAndAskOpponentForCemeteryEffectTrueSoNoDiscard() {
         Player attacker = mock(Player.class);
@@ -383,6 +443,7 @@ class PlayerTest {
         Card temple = new Card(District.TEMPLE);
         Opponent opponent1 = mock(Player.class);
         when(opponent1.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.PORT), new Card(District.CEMETERY))));
+        when(opponent1.hasDistrictInCitadel(District.CEMETERY)).thenReturn(true);
         when(opponent1.isUsingCemeteryEffect(temple)).thenReturn(false);
         Opponent opponent2 = mock(Player.class);
         when(opponent2.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.CASTLE), new Card(District.TAVERN))));
@@ -397,6 +458,7 @@ class PlayerTest {
         when(opponent1.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.PORT), new Card(District.DONJON))));
         Opponent opponent2 = mock(Player.class);
         when(opponent2.getCitadel()).thenReturn(new ArrayList<>(List.of(new Card(District.CEMETERY), new Card(District.TAVERN))));
+        when(opponent2.hasDistrictInCitadel(District.CEMETERY)).thenReturn(true);
         when(opponent2.isUsingCemeteryEffect(temple)).thenReturn(true);
         when(spyPlayer.getOpponents()).thenReturn(List.of(opponent1, opponent2));
         assertTrue(spyPlayer.askOpponentForCemeteryEffect(temple));
@@ -468,13 +530,27 @@ class PlayerTest {
         verify(view, times(1)).displayPlayerUseManufactureEffect(spyPlayer);
     }
 
+    @Test
+    void usePrestigesEffectShouldUseTheEffectsInTheOrderOfTheDistrictsWhateverTheOrderOfConstruction() {
+        bank.pickXCoin(ManufactureEffect.NB_GOLD_TO_PAY_TO_USE_EFFECT);
+        Random mockRandom = mock(Random.class);
+        when(mockRandom.nextBoolean()).thenReturn(true);
+        spyPlayer.setRandom(mockRandom);
+        spyPlayer.getHand().add(new Card(District.TEMPLE));
+        spyPlayer.setCitadel(new ArrayList<>(List.of(new Card(District.MANUFACTURE), new Card(District.PORT),
+                new Card(District.LABORATORY))));
+        spyPlayer.usePrestigesEffect();
+        InOrder inOrder = inOrder(view);
+        inOrder.verify(view).displayPlayerUseLaboratoryEffect(spyPlayer);
+        inOrder.verify(view).displayPlayerUseManufactureEffect(spyPlayer);
+    }
+
     @Test
     void testUseEffectOfCommonCharacterItsGettingGoldsFromDistrictType() {
         spyPlayer.setCitadel(new ArrayList<>(List.of(new Card(District.MARKET_PLACE))));
         Merchant merchant = new Merchant();
         player.chooseCharacter(new ArrayList<>(List.of(merchant)));
         when(spyPlayer.getCharacter()).thenReturn(merchant);
-        merchant.setPlayer(spyPlayer);
         assertEquals(10, spyPlayer.getNbGold());
         spyPlayer.useCommonCharacterEffect();
         assertEquals(11, spyPlayer.getNbGold());
@@ -487,7 +563,6 @@ class PlayerTest {
         Merchant merchant = new Merchant();
         player.chooseCharacter(new ArrayList<>(List.of(merchant)));
         when(spyPlayer.getCharacter()).thenReturn(merchant);
-        merchant.setPlayer(spyPlayer);
         assertEquals(10, spyPlayer.getNbGold());
         spyPlayer.useCommonCharacterEffect();
         assertEquals(10, spyPlayer.getNbGold());
@@ -520,6 +595,33 @@ class PlayerTest {
         assertTrue(spyPlayer.isAboutToWin());
     }
 
+    @Test
+    void isAboutToWinShouldFollowTheNumberOfDistrictsNeeded() {
+        spyPlayer.setNumberOfDistrictsNeeded(6);
+        spyPlayer.setCitadel(new ArrayList<>(List.of(new Card(District.LIBRARY),
+                new Card(District.TAVERN),
+                new Card(District.PORT),
+                new Card(District.CASTLE),
+                new Card(District.FORTRESS))));
+        assertTrue(spyPlayer.isAboutToWin());
+        spyPlayer.publishOpponentView();
+        assertTrue(spyPlayer.getOpponentView().isAboutToWin());
+    }
+
+    @Test
+    void theOpponentViewShouldBeKeptWhileThePlayerDoesNotChange() {
+        spyPlayer.publishOpponentView();
+        OpponentView opponentView = spyPlayer.getOpponentView();
+
+        spyPlayer.publishOpponentView();
+        assertSame(opponentView, spyPlayer.getOpponentView());
+
+        spyPlayer.increaseGold(1);
+        spyPlayer.publishOpponentView();
+        assertNotSame(opponentView, spyPlayer.getOpponentView());
+        assertEquals(opponentView.nbGold() + 1, spyPlayer.getOpponentView().nbGold());
+    }
+
     @Test
     void isAboutToWInTestFalse() {
         spyPlayer.setCitadel(new ArrayList<>(List.of(new Card(District.PORT))));
@@ -77,7 +77,7 @@ class RandomBotTest {
     void playWhereCharacterIsDead() {
         King king = new King();
         when(spyRandomBot.getCharacter()).thenReturn(king);
-        king.kill();
+        spyRandomBot.getRoleStates().kill(king.getRole());
         assertThrows(IllegalStateException.class, () -> spyRandomBot.play());
     }
 
@@ -117,7 +117,7 @@ class RandomBotTest {
         verify(view, times(1)).displayPlayerRevealCharacter(spyRandomBot);
         verify(view, times(2)).displayPlayerInfo(spyRandomBot);
         verify(view, atMost(1)).displayPlayerPlaysCard(any(), any());
-        verify(assassin, times(1)).useEffect(opponent.getCharacter());
+        verify(assassin, times(1)).useEffect(spyRandomBot, opponent.getCharacter());
     }
 
 
@@ -184,7 +184,7 @@ class RandomBotTest {
         spyRandomBot.chooseCharacter(characters);
 
         Character character = spyRandomBot.getCharacter();
-        assertEquals(character.getPlayer().getId(), spyRandomBot.getId());
+        assertEquals(spyRandomBot.getRoleStates().getPlayer(character.getRole()).getId(), spyRandomBot.getId());
         verify(view, times(1)).displayPlayerChooseCharacter(spyRandomBot);
 
     }
@@ -205,7 +205,7 @@ class RandomBotTest {
         opponent.reveal();
         spyRandomBot.setOpponents(new ArrayList<>(List.of(opponent)));
         // Test the useEffect method
-        spyRandomBot.getCharacter().applyEffect();
+        spyRandomBot.getCharacter().applyEffect(spyRandomBot);
         verify(spyRandomBot, times(1)).chooseWarlordTarget(any());
     }
 
@@ -226,7 +226,7 @@ class RandomBotTest {
         spyRandomBot.setOpponents(new ArrayList<>(List.of(opponent)));
         // Test the useEffect method
         int nbGold = spyRandomBot.getNbGold();
-        spyRandomBot.getCharacter().applyEffect();
+        spyRandomBot.getCharacter().applyEffect(spyRandomBot);
         verify(spyRandomBot, times(0)).chooseWarlordTarget(any());
         assertEquals(nbGold, spyRandomBot.getNbGold());
     }
@@ -269,10 +269,10 @@ class RandomBotTest {
         player.chooseCharacter(new ArrayList<>(List.of(bishop)));
         when(spyRandomBot.getAvailableCharacters()).thenReturn(List.of(bishop));
 
-        spyRandomBot.getCharacter().applyEffect();
+        spyRandomBot.getCharacter().applyEffect(spyRandomBot);
 
         verify(view, times(1)).displayPlayerUseThiefEffect(spyRandomBot);
-        assertEquals(spyRandomBot, bishop.getSavedThief());
+        assertEquals(spyRandomBot, spyRandomBot.getRoleStates().getRobbedBy(bishop.getRole()));
     }
 
     /**
@@ -290,10 +290,10 @@ class RandomBotTest {
         when(spyRandomBot.getCharacter()).thenReturn(thief);
         when(spyRandomBot.getAvailableCharacters()).thenReturn(List.of(assassin));
 
-        spyRandomBot.getCharacter().applyEffect();
+        spyRandomBot.getCharacter().applyEffect(spyRandomBot);
 
         verify(view, times(0)).displayPlayerUseThiefEffect(spyRandomBot);
-        assertNull(assassin.getSavedThief());
+        assertNull(spyRandomBot.getRoleStates().getRobbedBy(assassin.getRole()));
     }
 
     @Test
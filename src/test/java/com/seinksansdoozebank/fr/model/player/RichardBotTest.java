@@ -10,6 +10,7 @@ import com.seinksansdoozebank.fr.model.character.commoncharacters.Warlord;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.King;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.Merchant;
 import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Architect;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Assassin;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Magician;
@@ -100,13 +101,13 @@ class RichardBotTest {
     @Test
     void numberOfPlayerWithMoreGoldTestTrue() {
         richardBot.decreaseGold(5);
-        assertTrue(richardBot.numberOfPlayerWithMoreGold(opponentsList));
+        assertTrue(richardBot.numberOfPlayerWithMoreGold());
     }
 
     @Test
     void numberOfPlayerWithMoreGoldTestFalse() {
         richardBot.increaseGold(3);
-        assertFalse(richardBot.numberOfPlayerWithMoreGold(opponentsList));
+        assertFalse(richardBot.numberOfPlayerWithMoreGold());
     }
 
 
@@ -362,9 +363,9 @@ class RichardBotTest {
     @Test
     void getOpponentsAboutToWinWithNoOpponentAboutToWinShouldReturnEmptyList() {
         Opponent opponent1 = mock(Opponent.class);
-        when(opponent1.isAboutToWin()).thenReturn(false);
+        when(opponent1.nbDistrictsInCitadel()).thenReturn(3);
         Opponent opponent2 = mock(Opponent.class);
-        when(opponent2.isAboutToWin()).thenReturn(false);
+        when(opponent2.nbDistrictsInCitadel()).thenReturn(3);
         List<Opponent> opponents = List.of(opponent1, opponent2);
         when(richardBot.getOpponents()).thenReturn(opponents);
 
@@ -374,9 +375,9 @@ class RichardBotTest {
     @Test
     void getOpponentsAboutToWinWithNoOpponentAboutToWinShouldReturnFalse() {
         Opponent opponent1 = mock(Opponent.class);
-        when(opponent1.isAboutToWin()).thenReturn(false);
+        when(opponent1.nbDistrictsInCitadel()).thenReturn(3);
         Opponent opponent2 = mock(Opponent.class);
-        when(opponent2.isAboutToWin()).thenReturn(true);
+        when(opponent2.nbDistrictsInCitadel()).thenReturn(7);
         List<Opponent> opponents = List.of(opponent1, opponent2);
         when(richardBot.getOpponents()).thenReturn(opponents);
 
@@ -386,9 +387,9 @@ class RichardBotTest {
     @Test
     void getOpponentsAboutToWinWithAnOpponentAboutToWinShouldReturnTrue() {
         Opponent opponent1 = mock(Opponent.class);
-        when(opponent1.isAboutToWin()).thenReturn(true);
+        when(opponent1.nbDistrictsInCitadel()).thenReturn(7);
         Opponent opponent2 = mock(Opponent.class);
-        when(opponent2.isAboutToWin()).thenReturn(false);
+        when(opponent2.nbDistrictsInCitadel()).thenReturn(3);
         List<Opponent> opponents = List.of(opponent1, opponent2);
         when(richardBot.getOpponents()).thenReturn(opponents);
 
@@ -452,7 +453,7 @@ class RichardBotTest {
         when(richardBot.getAvailableCharacters()).thenReturn(availableCharacters);
         when(richardBot.anOpponentIsAboutToWin()).thenReturn(true);
         when(richardBot.getOpponents()).thenReturn(List.of(opponentWithEmptyHand));
-        when(opponent.isDead()).thenReturn(true);
+        richardBot.getRoleStates().kill(opponent.getRole());
 
         Optional<Character> result = richardBot.chooseThiefTarget();
 
@@ -552,17 +553,33 @@ class RichardBotTest {
         assertFalse(thinkWarlordWillBeChosenByTheLeadingOpponent, "The bot should think the Warlord will not be chosen by the leading opponent if he is not about to win.");
     }
 
+    /**
+     * Publish to the bot the views of the given opponents, as the game does at the beginning of a phase
+     *
+     * @param opponents the opponents
+     */
+    private void publishOpponentViews(Player... opponents) {
+        for (Player opponent : opponents) {
+            opponent.publishOpponentView();
+        }
+        when(richardBot.getOpponents()).thenReturn(List.of(opponents));
+        richardBot.collectOpponentViews();
+    }
+
     @Test
     void thinkThiefHasBeenChosenByTheLeadingOpponentWhenThiefHasBeenSeen() {
         Player opponentThief = spy(new SmartBot(10, deck, view, bank));
         opponentThief.chooseCharacter(new ArrayList<>(List.of(new Thief())));
         Player opponentWarlord = spy(new SmartBot(10, deck, view, bank));
         opponentWarlord.chooseCharacter(new ArrayList<>(List.of(new Warlord())));
-        when(richardBot.getOpponents()).thenReturn(List.of(opponentThief, opponentWarlord));
-        when(opponentThief.isAboutToWin()).thenReturn(true);
-        when(richardBot.getOpponentsWhichHasChosenCharacterBefore()).thenReturn(List.of(opponentWarlord));
-        when(richardBot.getCharactersSeenInRound()).thenReturn(List.of(new Thief()));
-        when(richardBot.getCharactersNotInRound()).thenReturn(List.of());
+        when(opponentThief.nbDistrictsInCitadel()).thenReturn(7);
+        // the warlord has been chosen before the bot and the thief after it
+        richardBot.setPositionInDrawToPickACharacter(1);
+        opponentWarlord.setPositionInDrawToPickACharacter(0);
+        opponentThief.setPositionInDrawToPickACharacter(2);
+        publishOpponentViews(opponentThief, opponentWarlord);
+        when(richardBot.getRolesSeenInRound()).thenReturn(RoleSet.of(Role.THIEF));
+        when(richardBot.getRolesNotInRound()).thenReturn(RoleSet.empty());
         boolean thinkThiefWillBeChosenByTheLeadingOpponent = richardBot.thinkThiefHasBeenChosenByTheLeadingOpponent();
         assertTrue(thinkThiefWillBeChosenByTheLeadingOpponent, "The bot should think the Thief has been chosen by the leading opponent if he is about to win.");
     }
@@ -573,11 +590,14 @@ class RichardBotTest {
         opponentThief.chooseCharacter(new ArrayList<>(List.of(new Thief())));
         Player opponentWarlord = spy(new SmartBot(10, deck, view, bank));
         opponentWarlord.chooseCharacter(new ArrayList<>(List.of(new Warlord())));
-        when(richardBot.getOpponents()).thenReturn(List.of(opponentThief, opponentWarlord));
-        when(opponentThief.isAboutToWin()).thenReturn(true);
-        when(richardBot.getOpponentsWhichHasChosenCharacterBefore()).thenReturn(List.of(opponentThief));
-        when(richardBot.getCharactersSeenInRound()).thenReturn(List.of(new Warlord()));
-        when(richardBot.getCharactersNotInRound()).thenReturn(List.of());
+        when(opponentThief.nbDistrictsInCitadel()).thenReturn(7);
+        // the thief has been chosen before the bot and the warlord after it
+        richardBot.setPositionInDrawToPickACharacter(1);
+        opponentThief.setPositionInDrawToPickACharacter(0);
+        opponentWarlord.setPositionInDrawToPickACharacter(2);
+        publishOpponentViews(opponentThief, opponentWarlord);
+        when(richardBot.getRolesSeenInRound()).thenReturn(RoleSet.of(Role.WARLORD));
+        when(richardBot.getRolesNotInRound()).thenReturn(RoleSet.empty());
         boolean thinkThiefWillBeChosenByTheLeadingOpponent = richardBot.thinkThiefHasBeenChosenByTheLeadingOpponent();
         assertTrue(thinkThiefWillBeChosenByTheLeadingOpponent, "The bot should think the Thief has been chosen by the leading opponent if he is about to win.");
     }
@@ -591,8 +611,8 @@ class RichardBotTest {
         when(richardBot.getOpponents()).thenReturn(List.of(opponentThief, opponentWarlord));
         when(opponentThief.isAboutToWin()).thenReturn(true);
         when(richardBot.getOpponentsWhichHasChosenCharacterBefore()).thenReturn(List.of(opponentThief));
-        when(richardBot.getCharactersSeenInRound()).thenReturn(List.of());
-        when(richardBot.getCharactersNotInRound()).thenReturn(List.of(new Thief()));
+        when(richardBot.getRolesSeenInRound()).thenReturn(RoleSet.empty());
+        when(richardBot.getRolesNotInRound()).thenReturn(RoleSet.of(Role.THIEF));
         boolean thinkThiefWillBeChosenByTheLeadingOpponent = richardBot.thinkThiefHasBeenChosenByTheLeadingOpponent();
         assertFalse(thinkThiefWillBeChosenByTheLeadingOpponent, "The bot should think the Thief has not been chose because thief is not in round.");
     }
@@ -607,12 +627,12 @@ class RichardBotTest {
         Card monasteryCard = new Card(District.MONASTERY);
         Card cathedralCard = new Card(District.CATHEDRAL);
         List<Card> richardBotHand = new ArrayList<>(List.of(monasteryCard, cathedralCard));
-        when(richardBot.getHand()).thenReturn(richardBotHand);
+        richardBot.getHand().addAll(richardBotHand);
         Card templeCard = new Card(District.TEMPLE);
         Card churchCard = new Card(District.CHURCH);
         Card portCard = new Card(District.PORT);
-        when(opponent.getHand()).thenReturn(new ArrayList<>(List.of(templeCard)));
-        when(opponent2.getHand()).thenReturn(new ArrayList<>(List.of(templeCard, churchCard)));
+        opponent.getHand().add(templeCard);
+        opponent2.getHand().addAll(List.of(templeCard, churchCard));
 
         when(opponent.getCitadel()).thenReturn(new ArrayList<>(
                 List.of(templeCard,
@@ -623,7 +643,7 @@ class RichardBotTest {
                         new Card(District.CASTLE),
                         new Card(District.CASTLE)
                 )));
-        richardBot.getCharacter().applyEffect();
+        richardBot.getCharacter().applyEffect(richardBot);
         verify(opponent).switchHandWith(richardBot);
         assertTrue(richardBot.getHand().contains(templeCard));
         assertFalse(richardBot.getHand().contains(churchCard)); // check that we didn't switch with opponent2
@@ -641,12 +661,12 @@ class RichardBotTest {
         Card monasteryCard = new Card(District.MONASTERY);
         Card cathedralCard = new Card(District.CATHEDRAL);
         List<Card> richardBotHand = new ArrayList<>(List.of(monasteryCard, cathedralCard));
-        when(richardBot.getHand()).thenReturn(richardBotHand);
+        richardBot.getHand().addAll(richardBotHand);
         Card templeCard = new Card(District.TEMPLE);
         Card churchCard = new Card(District.CHURCH);
         Card portCard = new Card(District.PORT);
-        when(opponent.getHand()).thenReturn(new ArrayList<>(List.of(templeCard)));
-        when(opponent2.getHand()).thenReturn(new ArrayList<>(List.of(templeCard, churchCard)));
+        opponent.getHand().add(templeCard);
+        opponent2.getHand().addAll(List.of(templeCard, churchCard));
 
         when(opponent.getCitadel()).thenReturn(new ArrayList<>(
                 List.of(templeCard,
@@ -656,7 +676,7 @@ class RichardBotTest {
                         new Card(District.CASTLE),
                         new Card(District.CASTLE)
                 )));
-        richardBot.getCharacter().applyEffect();
+        richardBot.getCharacter().applyEffect(richardBot);
         verify(opponent2).switchHandWith(richardBot);
         assertTrue(richardBot.getHand().contains(templeCard));
         assertTrue(richardBot.getHand().contains(churchCard));
@@ -0,0 +1,143 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import com.seinksansdoozebank.fr.model.bank.Bank;
+import com.seinksansdoozebank.fr.model.cards.Deck;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.Bishop;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.King;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.Merchant;
+import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
+import com.seinksansdoozebank.fr.model.character.roles.RoleStateTable;
+import com.seinksansdoozebank.fr.model.character.specialscharacters.Assassin;
+import com.seinksansdoozebank.fr.model.character.specialscharacters.Thief;
+import com.seinksansdoozebank.fr.view.IView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+class RoleBeliefTest {
+    private Player player;
+    private Player opponentBefore;
+    private Player opponentAfter;
+    private RoleStateTable roleStates;
+
+    @BeforeEach
+    void setUp() {
+        Deck deck = mock(Deck.class);
+        Bank bank = new Bank();
+        IView view = mock(IView.class);
+        roleStates = new RoleStateTable();
+        player = spy(new RandomBot(2, deck, view, bank));
+        opponentBefore = new RandomBot(2, deck, view, bank);
+        opponentAfter = new RandomBot(2, deck, view, bank);
+        for (Player p : List.of(player, opponentBefore, opponentAfter)) {
+            p.setRoleStates(roleStates);
+        }
+        player.setOpponents(List.of(opponentBefore, opponentAfter));
+        // the merchant is face up, the opponent before the player took the assassin, the player the king
+        // and it left the thief and the warlord, the opponent after it took the thief
+        player.setCharactersNotInRound(List.of(new Merchant()));
+        opponentBefore.setPositionInDrawToPickACharacter(0);
+        player.setPositionInDrawToPickACharacter(1);
+        opponentAfter.setPositionInDrawToPickACharacter(2);
+        opponentBefore.chooseCharacter(new ArrayList<>(List.of(new Assassin())));
+        player.chooseCharacter(new ArrayList<>(List.of(new King())));
+        opponentAfter.chooseCharacter(new ArrayList<>(List.of(new Thief())));
+        when(player.getRolesSeenInRound()).thenReturn(RoleSet.of(Role.THIEF, Role.WARLORD));
+        publishOpponentViews();
+    }
+
+    private void publishOpponentViews() {
+        opponentBefore.publishOpponentView();
+        opponentAfter.publishOpponentView();
+        player.collectOpponentViews();
+    }
+
+    @Test
+    void theOpponentsShouldHoldTheRolesTheyCouldHaveChosen() {
+        RoleBelief roleBelief = player.getRoleBelief();
+
+        // the opponent after the player has one of the roles it left
+        assertEquals(0.5, roleBelief.getProbability(opponentAfter, Role.THIEF));
+        assertEquals(0.5, roleBelief.getProbability(opponentAfter, Role.WARLORD));
+        assertEquals(0, roleBelief.getProbability(opponentAfter, Role.ASSASSIN));
+        // the opponent before the player has one of the roles it didn't see
+        assertEquals(0.25, roleBelief.getProbability(opponentBefore, Role.ASSASSIN));
+        assertEquals(0.25, roleBelief.getProbability(opponentBefore, Role.ARCHITECT));
+        assertEquals(0, roleBelief.getProbability(opponentBefore, Role.MERCHANT));
+        assertEquals(0, roleBelief.getProbability(opponentBefore, Role.KING));
+        assertEquals(0, roleBelief.getProbability(opponentBefore, Role.THIEF));
+    }
+
+    @Test
+    void theMostLikelyHolderShouldBeFoundForEachRole() {
+        RoleBelief roleBelief = player.getRoleBelief();
+
+        assertEquals(Optional.of(opponentAfter), roleBelief.getMostLikelyOpponent(Role.THIEF));
+        assertEquals(Optional.of(opponentBefore), roleBelief.getMostLikelyOpponent(Role.BISHOP));
+        assertEquals(Optional.empty(), roleBelief.getMostLikelyOpponent(Role.MERCHANT));
+        assertEquals(Optional.empty(), roleBelief.getMostLikelyOpponent(Role.KING));
+        assertEquals(Optional.of(Role.ASSASSIN), roleBelief.getMostLikelyRole(opponentBefore, RoleSet.of(Role.ASSASSIN, Role.BISHOP)));
+        assertEquals(Optional.empty(), roleBelief.getMostLikelyRole(opponentAfter, RoleSet.of(Role.BISHOP)));
+    }
+
+    @Test
+    void theRoleMostLikelyHeldByAnOpponentShouldBeFoundAmongTheCandidates() {
+        RoleBelief roleBelief = player.getRoleBelief();
+
+        assertEquals(0.5, roleBelief.getHeldProbability(Role.THIEF));
+        assertEquals(0.25, roleBelief.getHeldProbability(Role.ARCHITECT));
+        assertEquals(0, roleBelief.getHeldProbability(Role.MERCHANT));
+        assertEquals(Optional.of(Role.THIEF), roleBelief.getMostLikelyHeldRole(RoleSet.of(Role.ARCHITECT, Role.THIEF)));
+        assertEquals(Optional.of(Role.ASSASSIN), roleBelief.getMostLikelyHeldRole(RoleSet.of(Role.ASSASSIN, Role.ARCHITECT)));
+        assertEquals(Optional.empty(), roleBelief.getMostLikelyHeldRole(RoleSet.of(Role.MERCHANT, Role.KING)));
+    }
+
+    @Test
+    void aRevealedRoleShouldBeHeldByTheOpponentWhoRevealedIt() {
+        opponentBefore.reveal();
+        publishOpponentViews();
+
+        RoleBelief roleBelief = player.getRoleBelief();
+
+        assertEquals(1, roleBelief.getProbability(opponentBefore, Role.ASSASSIN));
+        assertEquals(0, roleBelief.getProbability(opponentBefore, Role.BISHOP));
+        assertEquals(Optional.of(opponentBefore), roleBelief.getMostLikelyOpponent(Role.ASSASSIN));
+    }
+
+    @Test
+    void theRolesCalledBeforeThePlayerWithoutHolderShouldBeHeldByNobody() {
+        opponentBefore.reveal();
+        player.reveal();
+        publishOpponentViews();
+
+        RoleBelief roleBelief = player.getRoleBelief();
+
+        // nobody revealed the thief before the king, the opponent after the player has the warlord
+        assertEquals(0, roleBelief.getProbability(opponentAfter, Role.THIEF));
+        assertEquals(1, roleBelief.getProbability(opponentAfter, Role.WARLORD));
+
+        // unless the thief was killed
+        roleStates.kill(Role.THIEF);
+        publishOpponentViews();
+
+        assertEquals(0.5, player.getRoleBelief().getProbability(opponentAfter, Role.THIEF));
+    }
+
+    @Test
+    void anUnknownOpponentShouldHoldNoRole() {
+        Player stranger = new RandomBot(2, mock(Deck.class), mock(IView.class), new Bank());
+        stranger.chooseCharacter(new ArrayList<>(List.of(new Bishop())));
+
+        assertEquals(0, player.getRoleBelief().getProbability(stranger, Role.BISHOP));
+        assertEquals(Optional.empty(), player.getRoleBelief().getMostLikelyRole(stranger, RoleSet.all()));
+    }
+}
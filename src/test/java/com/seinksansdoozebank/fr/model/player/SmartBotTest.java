@@ -11,6 +11,8 @@ import com.seinksansdoozebank.fr.model.character.commoncharacters.Bishop;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.Warlord;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.King;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.Merchant;
+import com.seinksansdoozebank.fr.model.character.roles.Role;
+import com.seinksansdoozebank.fr.model.character.roles.RoleSet;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Architect;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Assassin;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Magician;
@@ -172,7 +174,7 @@ class SmartBotTest {
     void chooseDistrictShouldReturnANotAlreadyBuiltDistrict() {
         spySmartBot.getHand().add(cardCostThree);
         spySmartBot.getHand().add(cardCostFive);
-        when(spySmartBot.getCitadel()).thenReturn(List.of(cardCostThree));
+        spySmartBot.setCitadel(new ArrayList<>(List.of(cardCostThree)));
         Optional<Card> chosenDistrict = spySmartBot.chooseCard();
         assertTrue(chosenDistrict.isPresent());
         assertEquals(cardCostFive, chosenDistrict.get());
@@ -316,6 +318,38 @@ class SmartBotTest {
         assertInstanceOf(Architect.class, target);
     }
 
+    @Test
+    void choseAssassinTargetShouldKillTheRoleAnOpponentMostLikelyHolds() {
+        RoleBelief roleBelief = mock(RoleBelief.class);
+        when(roleBelief.getHeldProbability(Role.KING)).thenReturn(1.0);
+        when(spySmartBot.getRoleBelief()).thenReturn(roleBelief);
+        when(spySmartBot.getAvailableCharacters()).thenReturn(List.of(new Architect(), new Merchant(), new King()));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Role.KING, spySmartBot.chooseAssassinTarget().getRole());
+        }
+    }
+
+    @Test
+    void chooseThiefTargetShouldRobTheRoleAnOpponentMostLikelyHolds() {
+        RoleBelief roleBelief = mock(RoleBelief.class);
+        when(roleBelief.getMostLikelyHeldRole(RoleSet.of(Role.ARCHITECT, Role.MERCHANT))).thenReturn(Optional.of(Role.MERCHANT));
+        when(spySmartBot.getRoleBelief()).thenReturn(roleBelief);
+        when(spySmartBot.getAvailableCharacters()).thenReturn(List.of(new Assassin(), new Architect(), new Merchant(), new Bishop()));
+
+        assertEquals(Optional.of(Role.MERCHANT), spySmartBot.chooseThiefTarget().map(Character::getRole));
+    }
+
+    @Test
+    void chooseThiefTargetShouldRobAnArchitectOrAMerchantWhenTheBeliefKnowsNothing() {
+        RoleBelief roleBelief = mock(RoleBelief.class);
+        when(roleBelief.getMostLikelyHeldRole(any(RoleSet.class))).thenReturn(Optional.empty());
+        when(spySmartBot.getRoleBelief()).thenReturn(roleBelief);
+        when(spySmartBot.getAvailableCharacters()).thenReturn(List.of(new Bishop(), new Merchant(), new Thief()));
+
+        assertEquals(Optional.of(Role.MERCHANT), spySmartBot.chooseThiefTarget().map(Character::getRole));
+    }
+
     @Test
     void choseAssassinTargetWithTargetNotInList() {
         Player bishopPlayer = spy(new SmartBot(10, deck, view, bank));
@@ -344,14 +378,14 @@ class SmartBotTest {
     @Test
     void useEffectTestArchitect() {
         spySmartBot.chooseCharacter(new ArrayList<>(List.of(new Architect())));
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
         verify(spySmartBot, times(1)).useEffectArchitect();
     }
 
     @Test
     void useEffectTestWarlordWithEmptyOpponents() {
         spySmartBot.chooseCharacter(new ArrayList<>(List.of(new Warlord())));
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
         verify(spySmartBot, times(0)).chooseWarlordTarget(any());
     }
 
@@ -360,10 +394,10 @@ class SmartBotTest {
         spySmartBot.chooseCharacter(new ArrayList<>(List.of(new Warlord())));
         Player opponent = spy(new SmartBot(10, deck, view, bank));
         opponent.chooseCharacter(new ArrayList<>(List.of(new Merchant())));
-        when(opponent.getCitadel()).thenReturn(List.of(new Card(District.MARKET_PLACE)));
+        opponent.setCitadel(List.of(new Card(District.MARKET_PLACE)));
         opponent.reveal();
         when(spySmartBot.getOpponents()).thenReturn(List.of(opponent));
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
         verify(spySmartBot, times(1)).chooseWarlordTarget(any());
     }
 
@@ -378,8 +412,8 @@ class SmartBotTest {
         when(spySmartBot.getOpponents()).thenReturn(List.of(opponent));
         opponentCharacters = new ArrayList<>(List.of(new Merchant()));
         when(spySmartBot.getAvailableCharacters()).thenReturn(opponentCharacters);
-        spySmartBot.getCharacter().applyEffect();
-        verify(assassin, times(1)).useEffect(any());
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
+        verify(assassin, times(1)).useEffect(any(), any());
     }
 
     @Test
@@ -465,12 +499,10 @@ class SmartBotTest {
     @Test
     void useEffectOfTheMagicianWhenThePlayerHasNoCardTest() {
         Magician magician = new Magician();
-        magician.setPlayer(spySmartBot);
         // Set the player character to magician
         spySmartBot.chooseCharacter(new ArrayList<>(List.of(magician)));
         // Set the Hand of the player to Empty
         spySmartBot.getHand().clear();
-        when(spySmartBot.getHand()).thenReturn(new ArrayList<>());
         // Set the hand of the other player to 2 cards
         Player otherPlayer = spy(new SmartBot(10, deck, view, bank));
         Card cemeteryCard = new Card(District.CEMETERY);
@@ -478,16 +510,14 @@ class SmartBotTest {
         List<Card> otherPlayerHand = new ArrayList<>(List.of(cemeteryCard, castleCard));
         List<Card> otherPlayerHandCopy = new ArrayList<>(List.of(cemeteryCard, castleCard));
         otherPlayer.getHand().addAll(otherPlayerHand);
-        when(otherPlayer.getHand()).thenReturn(otherPlayerHand);
         // Set the hand of another player to 1 card
         Player anotherPlayer = spy(new SmartBot(10, deck, view, bank));
         anotherPlayer.getHand().add(new Card(District.CEMETERY));
-        when(anotherPlayer.getHand()).thenReturn(List.of(new Card(District.CEMETERY)));
         // Set the opponents of the player
         when(spySmartBot.getOpponents()).thenReturn(List.of(otherPlayer, anotherPlayer));
 
         // Set the player to switch hand with the other player
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
 
         // Check that the magician effect is used
         verify(spySmartBot, times(1)).useEffectMagician();
@@ -505,7 +535,6 @@ class SmartBotTest {
     void useEffectOfTheMagicianWhenThePlayerHasTheMostCardsTest() {
         when(deck.pick()).thenReturn(Optional.of(new Card(District.TAVERN)), Optional.of(new Card(District.BARRACK)));
         Magician magician = new Magician();
-        magician.setPlayer(spySmartBot);
         // Set the player character to magician
         spySmartBot.chooseCharacter(new ArrayList<>(List.of(magician)));
         // Set the Hand of the player to 3 cards
@@ -528,12 +557,11 @@ class SmartBotTest {
         when(otherPlayer.getHand()).thenReturn(List.of(new Card(District.CEMETERY)));
         Player anotherPlayer = spy(new SmartBot(10, deck, view, bank));
         anotherPlayer.getHand().add(new Card(District.CEMETERY));
-        when(anotherPlayer.getHand()).thenReturn(List.of(new Card(District.CEMETERY)));
 
         // Set the opponents of the player
         when(spySmartBot.getOpponents()).thenReturn(List.of(otherPlayer, anotherPlayer));
         // Set the player to switch hand with the other player
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
 
         // Check that the magician effect is used
         verify(spySmartBot, times(1)).useEffectMagician();
@@ -550,7 +578,6 @@ class SmartBotTest {
     void useEffectOfTheMagicianWhenThePlayerHasTheSameNumberOfCardsTest() {
         when(deck.pick()).thenReturn(Optional.of(new Card(District.TAVERN)), Optional.of(new Card(District.BARRACK)));
         Magician magician = new Magician();
-        magician.setPlayer(spySmartBot);
         // Set the player character to magician
         spySmartBot.chooseCharacter(new ArrayList<>(List.of(magician)));
         // Set the Hand of the player to 3 cards
@@ -578,7 +605,7 @@ class SmartBotTest {
         when(spySmartBot.getOpponents()).thenReturn(List.of(otherPlayer, anotherPlayer));
 
         // Set the player to switch hand with the other player
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
 
         // Check that the magician effect is used
         verify(spySmartBot, times(1)).useEffectMagician();
@@ -595,10 +622,10 @@ class SmartBotTest {
         Player opponent2 = spy(new SmartBot(10, deck, view, bank));
         opponents.add(opponent1);
         opponents.add(opponent2);
-        when(spySmartBot.getOpponents()).thenReturn(opponents);
         when(spySmartBot.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE)));
         when(opponent1.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE), new Card(District.TEMPLE)));
         when(opponent2.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE), new Card(District.TEMPLE), new Card(District.TEMPLE)));
+        publishOpponentViews(opponents);
         assertTrue(spySmartBot.isLate());
 
     }
@@ -611,19 +638,33 @@ class SmartBotTest {
         Player opponent2 = spy(new SmartBot(10, deck, view, bank));
         opponents.add(opponent1);
         opponents.add(opponent2);
-        when(spySmartBot.getOpponents()).thenReturn(opponents);
         when(spySmartBot.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE), new Card(District.TEMPLE)));
         when(opponent1.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE)));
         when(opponent2.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE), new Card(District.TEMPLE)));
+        publishOpponentViews(opponents);
         assertFalse(spySmartBot.isLate());
 
         // test when player has the same number of card in his citadel than the average opponents districts in their citadel
         when(spySmartBot.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE), new Card(District.TEMPLE)));
         when(opponent1.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE), new Card(District.TEMPLE)));
         when(opponent2.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE)));
+        publishOpponentViews(opponents);
         assertFalse(spySmartBot.isLate());
     }
 
+    /**
+     * Publish to the bot the views of the given opponents, as the game does at the beginning of a phase
+     *
+     * @param opponents the opponents
+     */
+    private void publishOpponentViews(List<Opponent> opponents) {
+        for (Opponent opponent : opponents) {
+            ((Player) opponent).publishOpponentView();
+        }
+        when(spySmartBot.getOpponents()).thenReturn(opponents);
+        spySmartBot.collectOpponentViews();
+    }
+
     @Test
     void testWantToUseManufactureEffectWhenHavingLessThan2CardInHisHand() {
         spySmartBot.chooseCharacter(new ArrayList<>(List.of(new Bishop())));
@@ -634,6 +675,22 @@ class SmartBotTest {
         assertTrue(spySmartBot.wantToUseManufactureEffect());
     }
 
+    @Test
+    void testDoesNotWantToUseManufactureEffectWhenTheCardsDrawnAreUnlikelyToBeBuildable() {
+        List<Card> hand = new ArrayList<>(List.of(templeCard));
+        when(spySmartBot.getHand()).thenReturn(hand);
+        DeckTracker deckTracker = mock(DeckTracker.class);
+        doReturn(deckTracker).when(spySmartBot).getDeckTracker();
+        // with 10 gold, 7 are left to build a card once the manufacture is paid
+        when(deckTracker.getProbabilityToPickCostAtMost(7)).thenReturn(0.1);
+        assertFalse(spySmartBot.wantToUseManufactureEffect());
+
+        // one card in three is buildable, so at least one of the three cards drawn is buildable two times in three
+        when(deckTracker.getProbabilityToPickCostAtMost(7)).thenReturn(1.0 / 3);
+        assertTrue(spySmartBot.wantToUseManufactureEffect());
+        assertEquals(19.0 / 27, spySmartBot.getProbabilityToDrawABuildableCardWithManufacture(), 1e-9);
+    }
+
     @Test
     void testDoesNotWantToUseManufactureEffectWhenHavingMoreThan2CardInHisHand() {
         spySmartBot.chooseCharacter(new ArrayList<>(List.of(new Bishop())));
@@ -680,9 +737,9 @@ class SmartBotTest {
         List<Character> opponents = new ArrayList<>(List.of(bishop));
         when(spySmartBot.getAvailableCharacters()).thenReturn(opponents);
 
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
         verify(view, times(1)).displayPlayerUseThiefEffect(spySmartBot);
-        assertEquals(spySmartBot, bishop.getSavedThief());
+        assertEquals(spySmartBot, spySmartBot.getRoleStates().getRobbedBy(bishop.getRole()));
     }
 
     /**
@@ -700,9 +757,9 @@ class SmartBotTest {
         List<Character> opponents = new ArrayList<>(List.of(assassin));
         when(spySmartBot.getAvailableCharacters()).thenReturn(opponents);
 
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
         verify(view, times(0)).displayPlayerUseThiefEffect(spySmartBot);
-        assertNull(assassin.getSavedThief());
+        assertNull(spySmartBot.getRoleStates().getRobbedBy(assassin.getRole()));
     }
 
     /**
@@ -725,10 +782,10 @@ class SmartBotTest {
         opponents.add(architect);
         when(spySmartBot.getAvailableCharacters()).thenReturn(opponents);
 
-        spySmartBot.getCharacter().applyEffect();
-        assertEquals(spySmartBot, architect.getSavedThief());
-        assertNull(bishop.getSavedThief());
-        assertEquals(spySmartBot, architect.getSavedThief());
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
+        assertEquals(spySmartBot, spySmartBot.getRoleStates().getRobbedBy(architect.getRole()));
+        assertNull(spySmartBot.getRoleStates().getRobbedBy(bishop.getRole()));
+        assertEquals(spySmartBot, spySmartBot.getRoleStates().getRobbedBy(architect.getRole()));
     }
 
 
@@ -745,7 +802,7 @@ class SmartBotTest {
         when(spySmartBot.getOpponents()).thenReturn(List.of(opponent));
         when(spySmartBot.getAvailableCharacters()).thenReturn(List.of(new Merchant()));
         int lastGold = spySmartBot.getNbGold();
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
         assertEquals(0, opponent.getCitadel().size());
         assertEquals(lastGold - District.MARKET_PLACE.getCost() + 1, spySmartBot.getNbGold());
     }
@@ -763,7 +820,7 @@ class SmartBotTest {
         when(spySmartBot.getOpponents()).thenReturn(List.of(opponent));
         when(spySmartBot.getAvailableCharacters()).thenReturn(List.of(new Merchant()));
         int lastGold = spySmartBot.getNbGold();
-        spySmartBot.getCharacter().applyEffect();
+        spySmartBot.getCharacter().applyEffect(spySmartBot);
         assertEquals(1, opponent.getCitadel().size());
         assertEquals(lastGold - District.OBSERVATORY.getCost() + 1, spySmartBot.getNbGold());
     }
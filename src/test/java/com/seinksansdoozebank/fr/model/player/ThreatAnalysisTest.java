@@ -0,0 +1,149 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.model.bank.Bank;
+import com.seinksansdoozebank.fr.model.cards.Card;
+import com.seinksansdoozebank.fr.model.cards.Deck;
+import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.view.IView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ThreatAnalysisTest {
+    private ThreatAnalysis threatAnalysis;
+    private Player firstPlayer;
+    private Player secondPlayer;
+    private Player thirdPlayer;
+
+    @BeforeEach
+    void setUp() {
+        Deck deck = mock(Deck.class);
+        Bank bank = new Bank();
+        IView view = mock(IView.class);
+        firstPlayer = new RandomBot(2, deck, view, bank);
+        secondPlayer = new RandomBot(2, deck, view, bank);
+        thirdPlayer = new RandomBot(2, deck, view, bank);
+        threatAnalysis = new ThreatAnalysis(Game.NORMAL_NB_DISTRICT_TO_WIN);
+        threatAnalysis.track(List.of(firstPlayer, secondPlayer, thirdPlayer));
+    }
+
+    private List<Card> citadelOfSize(int size) {
+        List<Card> citadel = new ArrayList<>();
+        District[] districts = District.values();
+        for (int i = 0; i < size; i++) {
+            citadel.add(new Card(districts[i]));
+        }
+        return citadel;
+    }
+
+    @Test
+    void thePlayersShouldShareTheAnalysisOfTheGame() {
+        assertSame(threatAnalysis, firstPlayer.getThreatAnalysis());
+        assertSame(threatAnalysis, thirdPlayer.getThreatAnalysis());
+    }
+
+    @Test
+    void theLeadingOpponentShouldFollowTheCitadels() {
+        // nobody has built yet, the first opponent is the leader
+        assertSame(secondPlayer, threatAnalysis.getLeadingOpponent(firstPlayer));
+        assertSame(firstPlayer, threatAnalysis.getLeadingOpponent(secondPlayer));
+
+        thirdPlayer.setCitadel(citadelOfSize(3));
+        firstPlayer.setCitadel(citadelOfSize(4));
+
+        assertSame(thirdPlayer, threatAnalysis.getLeadingOpponent(firstPlayer));
+        assertSame(firstPlayer, threatAnalysis.getLeadingOpponent(secondPlayer));
+        assertSame(firstPlayer, threatAnalysis.getLeadingOpponent(thirdPlayer));
+    }
+
+    @Test
+    void getOpponentAboutToWinShouldLeaveThePlayerOut() {
+        assertEquals(Optional.empty(), threatAnalysis.getOpponentAboutToWin(firstPlayer));
+
+        secondPlayer.setCitadel(citadelOfSize(7));
+
+        assertEquals(Optional.of(secondPlayer), threatAnalysis.getOpponentAboutToWin(firstPlayer));
+        assertEquals(Optional.empty(), threatAnalysis.getOpponentAboutToWin(secondPlayer));
+
+        secondPlayer.setCitadel(citadelOfSize(6));
+
+        assertEquals(Optional.empty(), threatAnalysis.getOpponentAboutToWin(firstPlayer));
+    }
+
+    @Test
+    void thePlayersAboutToWinShouldBeCountedAgainWhenTheNumberOfDistrictsNeededChanges() {
+        secondPlayer.setCitadel(citadelOfSize(5));
+        assertEquals(Optional.empty(), threatAnalysis.getOpponentAboutToWin(firstPlayer));
+
+        threatAnalysis.setNbDistrictsNeeded(6);
+
+        assertEquals(Optional.of(secondPlayer), threatAnalysis.getOpponentAboutToWin(firstPlayer));
+
+        secondPlayer.setCitadel(citadelOfSize(7));
+
+        assertEquals(Optional.empty(), threatAnalysis.getOpponentAboutToWin(firstPlayer));
+    }
+
+    @Test
+    void theGoldOfTheOpponentsShouldFollowTheirResources() {
+        assertEquals(2, threatAnalysis.getMaxNbGoldOfOpponents(firstPlayer));
+
+        secondPlayer.increaseGold(5);
+
+        assertEquals(7, threatAnalysis.getMaxNbGoldOfOpponents(firstPlayer));
+        assertEquals(2, threatAnalysis.getMaxNbGoldOfOpponents(secondPlayer));
+    }
+
+    @Test
+    void theSizesOfTheCitadelsShouldBeCounted() {
+        firstPlayer.setCitadel(citadelOfSize(1));
+        secondPlayer.setCitadel(citadelOfSize(3));
+        thirdPlayer.setCitadel(citadelOfSize(3));
+
+        assertEquals(3.0, threatAnalysis.getAverageCitadelSizeOfOpponents(firstPlayer));
+        assertEquals(2.0, threatAnalysis.getAverageCitadelSizeOfOpponents(secondPlayer));
+        assertEquals(0, threatAnalysis.getNbPlayersWithCitadelSize(0));
+        assertEquals(1, threatAnalysis.getNbPlayersWithCitadelSize(1));
+        assertEquals(2, threatAnalysis.getNbPlayersWithCitadelSize(3));
+    }
+
+    @Test
+    void theLeaderboardShouldBeOrderedByDistrictsThenCostThenGold() {
+        // a temple and a tavern cost 2, a castle costs 4
+        firstPlayer.setCitadel(List.of(new Card(District.TEMPLE), new Card(District.TAVERN)));
+        secondPlayer.setCitadel(List.of(new Card(District.CASTLE)));
+        thirdPlayer.setCitadel(List.of(new Card(District.TEMPLE)));
+
+        assertEquals(List.of(firstPlayer, secondPlayer, thirdPlayer), threatAnalysis.getTopPlayers(3));
+
+        thirdPlayer.setCitadel(List.of(new Card(District.CASTLE)));
+        thirdPlayer.increaseGold(1);
+
+        assertEquals(List.of(firstPlayer, thirdPlayer), threatAnalysis.getTopPlayers(2));
+        assertSame(secondPlayer, threatAnalysis.getPlayerAtRank(2));
+
+        // a destroyed district moves the player down
+        firstPlayer.setCitadel(List.of(new Card(District.TAVERN)));
+
+        assertEquals(List.of(thirdPlayer, secondPlayer, firstPlayer), threatAnalysis.getTopPlayers(5));
+        assertSame(secondPlayer, threatAnalysis.getLeadingOpponent(thirdPlayer));
+        assertThrows(IllegalArgumentException.class, () -> threatAnalysis.getPlayerAtRank(3));
+    }
+
+    @Test
+    void anAnalysisWithoutOpponentShouldHaveNoLeader() {
+        ThreatAnalysis emptyAnalysis = new ThreatAnalysis(List.of(firstPlayer), Game.NORMAL_NB_DISTRICT_TO_WIN);
+
+        assertThrows(IllegalStateException.class, () -> emptyAnalysis.getLeadingOpponent(firstPlayer));
+        assertEquals(0, emptyAnalysis.getAverageCitadelSizeOfOpponents(firstPlayer));
+    }
+}
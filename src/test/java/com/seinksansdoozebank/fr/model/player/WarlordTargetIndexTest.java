@@ -0,0 +1,121 @@
+package com.seinksansdoozebank.fr.model.player;
+
+import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.model.bank.Bank;
+import com.seinksansdoozebank.fr.model.cards.Card;
+import com.seinksansdoozebank.fr.model.cards.Deck;
+import com.seinksansdoozebank.fr.model.cards.District;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.Bishop;
+import com.seinksansdoozebank.fr.model.character.commoncharacters.WarlordTarget;
+import com.seinksansdoozebank.fr.model.character.roles.RoleStateTable;
+import com.seinksansdoozebank.fr.view.IView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class WarlordTargetIndexTest {
+    private WarlordTargetIndex warlordTargetIndex;
+    private Player warlord;
+    private Player firstOpponent;
+    private Player secondOpponent;
+
+    @BeforeEach
+    void setUp() {
+        Deck deck = mock(Deck.class);
+        Bank bank = new Bank();
+        IView view = mock(IView.class);
+        RoleStateTable roleStates = new RoleStateTable();
+        warlord = new RandomBot(2, deck, view, bank);
+        firstOpponent = new RandomBot(2, deck, view, bank);
+        secondOpponent = new RandomBot(2, deck, view, bank);
+        for (Player player : List.of(warlord, firstOpponent, secondOpponent)) {
+            player.setRoleStates(roleStates);
+        }
+        warlordTargetIndex = new WarlordTargetIndex(Game.NORMAL_NB_DISTRICT_TO_WIN);
+        warlordTargetIndex.track(List.of(warlord, firstOpponent, secondOpponent));
+    }
+
+    @Test
+    void thePlayersShouldShareTheIndexOfTheGame() {
+        assertSame(warlordTargetIndex, warlord.getWarlordTargetIndex());
+        assertSame(warlordTargetIndex, secondOpponent.getWarlordTargetIndex());
+    }
+
+    @Test
+    void theBestAffordableTargetShouldBeTheMostExpensiveDistrictTheGoldCanDestroy() {
+        // a tavern costs 1 to destroy, a castle 3 and a fortress 4
+        firstOpponent.setCitadel(List.of(new Card(District.TAVERN), new Card(District.FORTRESS)));
+        secondOpponent.setCitadel(List.of(new Card(District.CASTLE)));
+        warlord.setCitadel(List.of(new Card(District.MANOR)));
+
+        assertEquals(Optional.of(new WarlordTarget(firstOpponent, District.TAVERN)), warlordTargetIndex.getBestAffordableTarget(warlord));
+
+        warlord.increaseGold(1);
+
+        assertEquals(Optional.of(new WarlordTarget(secondOpponent, District.CASTLE)), warlordTargetIndex.getBestAffordableTarget(warlord));
+
+        warlord.increaseGold(5);
+
+        assertEquals(Optional.of(new WarlordTarget(firstOpponent, District.FORTRESS)), warlordTargetIndex.getBestAffordableTarget(warlord));
+    }
+
+    @Test
+    void theIndexShouldFollowTheCitadels() {
+        firstOpponent.setCitadel(List.of(new Card(District.TAVERN)));
+
+        assertEquals(1, warlordTargetIndex.size());
+
+        firstOpponent.setCitadel(List.of());
+
+        assertEquals(0, warlordTargetIndex.size());
+        assertEquals(Optional.empty(), warlordTargetIndex.getBestAffordableTarget(warlord));
+    }
+
+    @Test
+    void theDonjonAndTheCompleteCitadelsShouldNotBeTargeted() {
+        firstOpponent.setCitadel(List.of(new Card(District.DONJON)));
+        List<Card> completeCitadel = new ArrayList<>();
+        for (int i = 0; i < Game.NORMAL_NB_DISTRICT_TO_WIN; i++) {
+            completeCitadel.add(new Card(District.values()[i]));
+        }
+        secondOpponent.setCitadel(completeCitadel);
+
+        assertEquals(0, warlordTargetIndex.size());
+        assertEquals(Optional.empty(), warlordTargetIndex.getCheapestTarget(secondOpponent, 10));
+    }
+
+    @Test
+    void theRevealedBishopShouldBeSkipped() {
+        firstOpponent.setCitadel(List.of(new Card(District.TEMPLE)));
+        secondOpponent.setCitadel(List.of(new Card(District.MANOR), new Card(District.TAVERN)));
+        firstOpponent.chooseCharacter(new ArrayList<>(List.of(new Bishop())));
+        firstOpponent.reveal();
+
+        // the temple of the bishop is skipped, the manor is the best the warlord can afford with 2 golds
+        assertEquals(Optional.of(new WarlordTarget(secondOpponent, District.MANOR)), warlordTargetIndex.getBestAffordableTarget(warlord));
+        assertEquals(Optional.empty(), warlordTargetIndex.getCheapestTarget(firstOpponent, 10));
+        assertEquals(Optional.of(new WarlordTarget(secondOpponent, District.TAVERN)), warlordTargetIndex.getCheapestTarget(secondOpponent, 1));
+        assertEquals(Optional.empty(), warlordTargetIndex.getCheapestTarget(secondOpponent, -1));
+    }
+
+    @Test
+    void theCitadelsShouldBeIndexedAgainWhenTheNumberOfDistrictsNeededChanges() {
+        firstOpponent.setCitadel(List.of(new Card(District.TAVERN), new Card(District.MANOR)));
+
+        warlordTargetIndex.setNbDistrictsNeeded(2);
+
+        assertEquals(0, warlordTargetIndex.size());
+        assertEquals(Optional.empty(), warlordTargetIndex.getCheapestTarget(firstOpponent, 10));
+
+        warlordTargetIndex.setNbDistrictsNeeded(3);
+
+        assertEquals(Optional.of(new WarlordTarget(firstOpponent, District.TAVERN)), warlordTargetIndex.getCheapestTarget(firstOpponent, 10));
+    }
+}
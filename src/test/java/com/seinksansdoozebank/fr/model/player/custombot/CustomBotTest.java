@@ -155,7 +155,7 @@ class CustomBotTest {
         verify(spyChoosingStrategy).apply(customBotWithARealChoosingStrat, characters);
         assertTrue(characters.contains(customBotWithARealChoosingStrat.getCharacter()));
         assertEquals(customBotWithARealChoosingStrat.getCharacter(), assassin);
-        assertEquals(customBotWithARealChoosingStrat, assassin.getPlayer());
+        assertEquals(customBotWithARealChoosingStrat, customBotWithARealChoosingStrat.getRoleStates().getPlayer(assassin.getRole()));
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.seinksansdoozebank.fr.model.player.custombot.strategies.characterchoosing;
 
+import com.seinksansdoozebank.fr.controller.Game;
 import com.seinksansdoozebank.fr.model.character.abstracts.Character;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.Bishop;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.Warlord;
@@ -10,12 +11,14 @@ import com.seinksansdoozebank.fr.model.character.specialscharacters.Assassin;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Magician;
 import com.seinksansdoozebank.fr.model.character.specialscharacters.Thief;
 import com.seinksansdoozebank.fr.model.player.Opponent;
+import com.seinksansdoozebank.fr.model.player.ThreatAnalysis;
 import com.seinksansdoozebank.fr.model.player.custombot.CustomBot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -32,6 +35,9 @@ class ChoosingCharacterToTargetFirstPlayerTest {
     @BeforeEach
     void setUp() {
         mockCustomBot = mock(CustomBot.class);
+        when(mockCustomBot.getRandom()).thenReturn(new Random());
+        // the analysis of the threats is made on the opponents given to the bot by each test
+        when(mockCustomBot.getThreatAnalysis()).thenAnswer(invocation -> new ThreatAnalysis(mockCustomBot.getOpponents(), Game.NORMAL_NB_DISTRICT_TO_WIN));
         choosingCharacterToTargetFirstPlayer = new ChoosingCharacterToTargetFirstPlayer();
         characterList = new ArrayList<>();
         leadingOpponent = mock(Opponent.class);
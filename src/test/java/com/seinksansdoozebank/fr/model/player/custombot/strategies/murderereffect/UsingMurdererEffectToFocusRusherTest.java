@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -37,6 +38,7 @@ class UsingMurdererEffectToFocusRusherTest {
                 new Warlord()));
         strategy = new UsingMurdererEffectToFocusRusher();
         mockPlayer = mock(Player.class);
+        when(mockPlayer.getRandom()).thenReturn(new Random());
     }
 
     @Test
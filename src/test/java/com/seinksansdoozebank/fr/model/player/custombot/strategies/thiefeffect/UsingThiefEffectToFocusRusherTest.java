@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -35,6 +36,7 @@ class UsingThiefEffectToFocusRusherTest {
                 new Warlord()));
         strategy = new UsingThiefEffectToFocusRusher();
         mockPlayer = mock(Player.class);
+        when(mockPlayer.getRandom()).thenReturn(new Random());
     }
 
     @Test
@@ -9,6 +9,8 @@ import com.seinksansdoozebank.fr.model.character.commoncharacters.WarlordTarget;
 import com.seinksansdoozebank.fr.model.character.commoncharacters.King;
 import com.seinksansdoozebank.fr.model.player.Opponent;
 import com.seinksansdoozebank.fr.model.player.Player;
+import com.seinksansdoozebank.fr.model.player.ThreatAnalysis;
+import com.seinksansdoozebank.fr.model.player.WarlordTargetIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -36,12 +38,14 @@ class UsingWarlordEffectToTargetFirstPlayerTest {
         mockPlayer = mock(Player.class);
         when(mockPlayer.getNbGold()).thenReturn(4);
         opponentList = new ArrayList<>();
+        when(mockPlayer.getWarlordTargetIndex()).thenAnswer(invocation -> new WarlordTargetIndex(opponentList, Game.NORMAL_NB_DISTRICT_TO_WIN));
+        when(mockPlayer.getThreatAnalysis()).thenAnswer(invocation -> new ThreatAnalysis(opponentList, Game.NORMAL_NB_DISTRICT_TO_WIN));
     }
 
     @Test
     void applyWithNotOpponentShouldThrowExceptionAndNotUseWarlordEffect() {
         assertThrows(IllegalStateException.class, () -> strategy.apply(mockPlayer, opponentList));
-        verify(spyWarlord, never()).useEffect(any());
+        verify(spyWarlord, never()).useEffect(any(), any());
     }
 
     @Test
@@ -139,4 +143,21 @@ class UsingWarlordEffectToTargetFirstPlayerTest {
         when(mockPlayer.getNumberOfDistrictsNeeded()).thenReturn(Game.NORMAL_NB_DISTRICT_TO_WIN);
         assertEquals(strategy.apply(mockPlayer, opponentList), new WarlordTarget(mockOpponent2, destroyableCard.getDistrict()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void applyWithALeaderWithoutDestroyableDistrictShouldTargetTheNextOneInTheLeaderboard() {
+        Opponent mockOpponent1 = mock(Opponent.class);
+        when(mockOpponent1.nbDistrictsInCitadel()).thenReturn(1);
+        when(mockOpponent1.getOpponentCharacter()).thenReturn(new King());
+        Card destroyableCard = new Card(District.TAVERN);
+        when(mockOpponent1.getCitadel()).thenReturn(List.of(destroyableCard));
+        opponentList.add(mockOpponent1);
+        Opponent mockOpponent2 = mock(Opponent.class);
+        when(mockOpponent2.nbDistrictsInCitadel()).thenReturn(2);
+        when(mockOpponent2.getOpponentCharacter()).thenReturn(new Bishop());
+        when(mockOpponent2.getCitadel()).thenReturn(List.of(new Card(District.TEMPLE), new Card(District.MANOR)));
+        opponentList.add(mockOpponent2);
+        when(mockPlayer.getNumberOfDistrictsNeeded()).thenReturn(Game.NORMAL_NB_DISTRICT_TO_WIN);
+        assertEquals(new WarlordTarget(mockOpponent1, destroyableCard.getDistrict()), strategy.apply(mockPlayer, opponentList));
+    }
+}
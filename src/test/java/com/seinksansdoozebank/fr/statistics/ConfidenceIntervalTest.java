@@ -0,0 +1,52 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfidenceIntervalTest {
+    private static final double DELTA = 1e-3;
+
+    @Test
+    void theQuantilesOfTheNormalDistributionShouldBeKnown() {
+        assertEquals(1.645, ConfidenceInterval.normalQuantile(0.90), DELTA);
+        assertEquals(1.960, ConfidenceInterval.normalQuantile(0.95), DELTA);
+        assertEquals(2.576, ConfidenceInterval.normalQuantile(0.99), DELTA);
+        assertThrows(IllegalArgumentException.class, () -> ConfidenceInterval.normalQuantile(1));
+    }
+
+    @Test
+    void theWilsonIntervalShouldStayBetweenZeroAndOne() {
+        ConfidenceInterval noWin = ConfidenceInterval.wilson(0, 10, 0.95);
+        assertEquals(0, noWin.lower(), DELTA);
+        assertEquals(0.278, noWin.upper(), DELTA);
+
+        ConfidenceInterval halfWins = ConfidenceInterval.wilson(50, 100, 0.95);
+        assertEquals(0.404, halfWins.lower(), DELTA);
+        assertEquals(0.596, halfWins.upper(), DELTA);
+
+        assertEquals(new ConfidenceInterval(0, 1), ConfidenceInterval.wilson(0, 0, 0.95));
+    }
+
+    @Test
+    void theBernsteinIntervalShouldNarrowWithTheNumberOfValues() {
+        ConfidenceInterval fewValues = ConfidenceInterval.bernstein(15, 25, 100, 40, 0.95);
+        ConfidenceInterval manyValues = ConfidenceInterval.bernstein(15, 25, 10_000, 40, 0.95);
+
+        assertEquals(15, (fewValues.lower() + fewValues.upper()) / 2, DELTA);
+        assertTrue(manyValues.halfWidth() < fewValues.halfWidth() / 5);
+        assertEquals(Double.POSITIVE_INFINITY, ConfidenceInterval.bernstein(15, 0, 1, 40, 0.95).upper());
+    }
+
+    @Test
+    void anIntervalShouldBeAboveAnotherOnlyIfTheyDontOverlap() {
+        ConfidenceInterval high = new ConfidenceInterval(0.4, 0.6);
+
+        assertTrue(high.isAbove(new ConfidenceInterval(0.1, 0.3)));
+        assertFalse(high.isAbove(new ConfidenceInterval(0.3, 0.5)));
+        assertEquals(0.1, high.halfWidth(), DELTA);
+    }
+}
@@ -2,9 +2,11 @@ package com.seinksansdoozebank.fr.statistics;
 
 import com.seinksansdoozebank.fr.model.bank.Bank;
 import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
 import com.opencsv.exceptions.CsvValidationException;
 import com.seinksansdoozebank.fr.controller.Game;
 import com.seinksansdoozebank.fr.controller.GameBuilder;
+import com.seinksansdoozebank.fr.controller.RandomStreams;
 import com.seinksansdoozebank.fr.model.cards.Deck;
 import com.seinksansdoozebank.fr.model.player.Player;
 import com.seinksansdoozebank.fr.model.player.RandomBot;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -87,8 +90,89 @@ class GameStatisticsAnalyzerTest {
 
         analyzer.runAndAnalyze(1, 1, 1, 1, 1, 1);
 
-        Mockito.verify(analyzer, Mockito.times(1)).analyzeGameResults(any());
+        // the workers only record the results, they are merged once all the games are over
+        Mockito.verify(analyzer, Mockito.times(1)).recordGameResults(any());
+        Mockito.verify(analyzer, Mockito.times(1)).mergeStatistics();
         Mockito.verify(analyzer, Mockito.times(1)).logAggregatedStatistics();
+        Mockito.verify(analyzer, Mockito.times(1)).logDistributions();
+        assertEquals(6, analyzer.getStatisticsAccumulator().getHistogramsOfBots().size());
+    }
+
+    @Test
+    void testRunUntilConfident() {
+        GameStatisticsAnalyzer adaptiveAnalyzer = spy(new GameStatisticsAnalyzer(30, false, GameStatisticsAnalyzer.CsvCategory.DEMO_GAME, 1));
+
+        // the precision can't be reached in so few games, they are played by batches of ten until the maximum
+        SequentialStopping.Verdict verdict = adaptiveAnalyzer.runUntilConfident(new SequentialStopping(0.01, 0.95, 10, 10), 1, 1, 1, 1, 1, 1);
+
+        assertEquals(SequentialStopping.Verdict.CONTINUE, verdict);
+        Mockito.verify(adaptiveAnalyzer, Mockito.times(30)).recordGameResults(any());
+        Mockito.verify(adaptiveAnalyzer, Mockito.times(1)).logEstimates(any());
+        Mockito.verify(adaptiveAnalyzer, Mockito.times(1)).mergeStatistics();
+        assertEquals(30, adaptiveAnalyzer.getPlayerStatisticsMap().values().iterator().next().getTotalGames());
+
+        // with a loose precision the first look is enough
+        GameStatisticsAnalyzer looseAnalyzer = spy(new GameStatisticsAnalyzer(30, false, GameStatisticsAnalyzer.CsvCategory.DEMO_GAME, 1));
+
+        assertEquals(SequentialStopping.Verdict.PRECISION_REACHED, looseAnalyzer.runUntilConfident(new SequentialStopping(0.9, 0.95, 10, 10), 1, 1, 1, 1, 1, 1));
+        Mockito.verify(looseAnalyzer, Mockito.times(10)).recordGameResults(any());
+    }
+
+    @Test
+    void testRunDuplicateAndAnalyze() {
+        GameStatisticsAnalyzer duplicateAnalyzer = spy(new GameStatisticsAnalyzer(8, false, GameStatisticsAnalyzer.CsvCategory.DEMO_GAME, 2));
+
+        duplicateAnalyzer.runDuplicateAndAnalyze(1, 1, 1, 1, 0, 0);
+
+        // two deals, each played in the four rotations of the seats
+        Mockito.verify(duplicateAnalyzer, Mockito.times(8)).recordGameResults(any());
+        Mockito.verify(duplicateAnalyzer, Mockito.times(1)).logEstimates(any());
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(8, duplicateAnalyzer.getStatisticsAccumulator().getHistogramOfSeat(seat, GameMeasure.SCORE).getCount());
+        }
+        for (PlayerStatistics statistics : duplicateAnalyzer.getPlayerStatisticsMap().values()) {
+            assertEquals(8, statistics.getTotalGames());
+        }
+    }
+
+    @Test
+    void theDuplicateResultsShouldNotDependOnTheNumberOfWorkers() {
+        GameStatisticsAnalyzer sequential = new GameStatisticsAnalyzer(48, false, GameStatisticsAnalyzer.CsvCategory.DEMO_GAME, 1, new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 42));
+        GameStatisticsAnalyzer parallel = new GameStatisticsAnalyzer(48, false, GameStatisticsAnalyzer.CsvCategory.DEMO_GAME, 4, new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 42));
+
+        sequential.runDuplicateAndAnalyze(1, 1, 1, 1, 0, 0);
+        parallel.runDuplicateAndAnalyze(1, 1, 1, 1, 0, 0);
+
+        Map<String, BotEstimate> parallelEstimates = new HashMap<>();
+        for (BotEstimate estimate : parallel.getStatisticsAccumulator().estimate(SequentialStopping.DEFAULT_CONFIDENCE)) {
+            parallelEstimates.put(estimate.player().toString(), estimate);
+        }
+        for (BotEstimate estimate : sequential.getStatisticsAccumulator().estimate(SequentialStopping.DEFAULT_CONFIDENCE)) {
+            BotEstimate parallelEstimate = parallelEstimates.get(estimate.player().toString());
+            assertEquals(estimate.nbGames(), parallelEstimate.nbGames());
+            assertEquals(estimate.winRate(), parallelEstimate.winRate());
+            assertEquals(estimate.meanScore(), parallelEstimate.meanScore());
+        }
+        assertEquals(sequential.getStatisticsAccumulator().getNbBots(), parallelEstimates.size());
+    }
+
+    @Test
+    void testWriteHistograms() {
+        Game game = new GameBuilder(new Cli(), new Deck(), new Bank(), Game.NORMAL_NB_DISTRICT_TO_WIN)
+                .addRandomBot()
+                .addSmartBot()
+                .addBuilderBot()
+                .build();
+        analyzer.analyzeGameResults(game);
+        StringWriter content = new StringWriter();
+
+        analyzer.writeHistograms(new CSVWriter(content));
+
+        String[] lines = content.toString().split("\n");
+        assertEquals("\"Player\",\"Measure\",\"Lowest Value\",\"Highest Value\",\"Count\"", lines[0]);
+        // one bucket by measure for each of the three bots and each of the three seats
+        assertEquals(1 + 6 * 4, lines.length);
+        assertTrue(content.toString().contains("\"Seat 2\",\"ROUNDS\",\"0\",\"0\",\"1\""));
     }
 
     @Test
@@ -0,0 +1,58 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.controller.GameFactory;
+import com.seinksansdoozebank.fr.controller.RandomStreams;
+import com.seinksansdoozebank.fr.view.SilentView;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PairedExperimentTest {
+    private static final PairedExperiment.Configuration STANDARD_RULES = new PairedExperiment.Configuration("standard rules",
+            random -> GameFactory.createCustomGame(new SilentView(), 1, 1, 1, 1, 0, 0, Game.NORMAL_NB_DISTRICT_TO_WIN, random));
+    private static final PairedExperiment.Configuration VARIANTE = new PairedExperiment.Configuration("variante", random -> {
+        Game game = GameFactory.createCustomGame(new SilentView(), 1, 1, 1, 1, 0, 0, Game.NORMAL_NB_DISTRICT_TO_WIN, random);
+        game.setVariante(true);
+        return game;
+    });
+
+    @Test
+    void theSameConfigurationShouldGiveTheSameGamesInEachPair() {
+        PairedExperiment experiment = new PairedExperiment(STANDARD_RULES, STANDARD_RULES, 8, 2, new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 1));
+
+        List<PairedExperiment.PlayerSamples> samples = experiment.run();
+
+        assertEquals(4, samples.size());
+        for (PairedExperiment.PlayerSamples playerSamples : samples) {
+            assertEquals(playerSamples.nameA(), playerSamples.nameB());
+            assertEquals(8, playerSamples.scores().getNbPairs());
+            assertEquals(new ConfidenceInterval(0, 0), playerSamples.scores().getDifferenceInterval(0.95));
+            assertEquals(new ConfidenceInterval(0, 0), playerSamples.wins().getDifferenceInterval(0.95));
+        }
+        assertEquals(8, samples.stream().mapToDouble(playerSamples -> playerSamples.wins().getMeanA() * 8).sum(), 1e-9);
+    }
+
+    @Test
+    void theResultsShouldNotDependOnTheNumberOfWorkers() {
+        List<PairedExperiment.PlayerSamples> sequential = new PairedExperiment(STANDARD_RULES, VARIANTE, 8, 1, new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 2)).run();
+        List<PairedExperiment.PlayerSamples> parallel = new PairedExperiment(STANDARD_RULES, VARIANTE, 8, 4, new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 2)).run();
+
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).scores().getMeanA(), parallel.get(i).scores().getMeanA());
+            assertEquals(sequential.get(i).scores().getMeanB(), parallel.get(i).scores().getMeanB());
+        }
+    }
+
+    @Test
+    void theConfigurationsShouldHaveTheSameNumberOfPlayers() {
+        PairedExperiment.Configuration threePlayers = new PairedExperiment.Configuration("three players",
+                random -> GameFactory.createCustomGame(new SilentView(), 1, 1, 1, 0, 0, 0, Game.NORMAL_NB_DISTRICT_TO_WIN, random));
+        PairedExperiment experiment = new PairedExperiment(STANDARD_RULES, threePlayers, 1, 1, new RandomStreams());
+
+        assertThrows(IllegalStateException.class, experiment::run);
+    }
+}
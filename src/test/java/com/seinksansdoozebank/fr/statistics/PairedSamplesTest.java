@@ -0,0 +1,53 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PairedSamplesTest {
+    private PairedSamples samples;
+
+    @BeforeEach
+    void setUp() {
+        samples = new PairedSamples();
+    }
+
+    @Test
+    void correlatedPairsShouldMeasureTheDifferencePrecisely() {
+        // the second configuration always gives one point more than the first one, whatever the luck of the game
+        for (int game = 0; game < 100; game++) {
+            long score = 10 + game % 20;
+            samples.add(score, score + 1 + game % 2);
+        }
+
+        assertEquals(100, samples.getNbPairs());
+        assertEquals(1.5, samples.getMeanDifference(), 1e-9);
+        ConfidenceInterval difference = samples.getDifferenceInterval(0.95);
+        assertTrue(difference.lower() > 1.4 && difference.upper() < 1.6);
+        assertTrue(samples.getVarianceReduction() > 100);
+    }
+
+    @Test
+    void independentPairsShouldNotReduceTheVariance() {
+        // the measures of a pair are not correlated at all
+        for (int game = 0; game < 100; game++) {
+            samples.add(game % 2, game / 2 % 2);
+        }
+
+        assertEquals(1, samples.getVarianceReduction(), 1e-9);
+        assertEquals(0, samples.getMeanDifference(), 1e-9);
+    }
+
+    @Test
+    void identicalPairsShouldGiveNoDifference() {
+        samples.add(10, 10);
+        samples.add(20, 20);
+
+        assertEquals(new ConfidenceInterval(0, 0), samples.getDifferenceInterval(0.95));
+        assertEquals(Double.POSITIVE_INFINITY, samples.getVarianceReduction());
+        assertEquals(1, new PairedSamples().getVarianceReduction());
+        assertEquals(Double.NEGATIVE_INFINITY, new PairedSamples().getDifferenceInterval(0.95).lower());
+    }
+}
@@ -0,0 +1,85 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.controller.SimulationContext;
+import com.seinksansdoozebank.fr.model.bank.Bank;
+import com.seinksansdoozebank.fr.model.cards.Deck;
+import com.seinksansdoozebank.fr.model.player.Player;
+import com.seinksansdoozebank.fr.model.player.RandomBot;
+import com.seinksansdoozebank.fr.model.player.SmartBot;
+import com.seinksansdoozebank.fr.view.IView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SequentialStoppingTest {
+    private StatisticsAccumulator accumulator;
+    private Player randomBot;
+    private Player smartBot;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new StatisticsAccumulator();
+        SimulationContext context = new SimulationContext();
+        randomBot = new RandomBot(2, mock(Deck.class), mock(IView.class), new Bank(), context);
+        smartBot = new SmartBot(2, mock(Deck.class), mock(IView.class), new Bank(), context);
+    }
+
+    private void recordGames(int nbGames, int nbGamesWonBySmartBot) {
+        for (int game = 0; game < nbGames; game++) {
+            boolean smartBotWins = game < nbGamesWonBySmartBot;
+            accumulator.record(smartBot, smartBotWins ? 1 : 2, smartBotWins ? 25 : 15, 0, 8);
+            accumulator.record(randomBot, smartBotWins ? 2 : 1, smartBotWins ? 15 : 25, 1, 8);
+        }
+    }
+
+    @Test
+    void theFirstLookShouldComeAfterTheMinimumNumberOfGames() {
+        SequentialStopping stopping = new SequentialStopping(0.05, 0.95, 100, 20);
+
+        assertEquals(100, stopping.getNextBatchSize(0));
+        assertEquals(40, stopping.getNextBatchSize(60));
+        assertEquals(20, stopping.getNextBatchSize(100));
+    }
+
+    @Test
+    void theErrorShouldBeSharedBetweenTheBotsAndTheLooks() {
+        SequentialStopping stopping = new SequentialStopping(0.05, 0.9, 100, 20);
+
+        assertEquals(0.975, stopping.getIntervalConfidence(2, 1), 1e-9);
+        assertEquals(1 - 0.1 / 2 / 6, stopping.getIntervalConfidence(2, 2), 1e-9);
+    }
+
+    @Test
+    void aClearRankingShouldStopTheTournament() {
+        SequentialStopping stopping = new SequentialStopping(0.01);
+        recordGames(200, 180);
+
+        List<BotEstimate> estimates = stopping.estimate(accumulator, 1);
+
+        assertEquals(smartBot, estimates.get(0).player());
+        assertTrue(estimates.get(0).meanScore().lower() > estimates.get(1).meanScore().upper());
+        assertEquals(SequentialStopping.Verdict.RANKING_SETTLED, stopping.check(estimates));
+    }
+
+    @Test
+    void closeBotsShouldNeedMoreGamesUnlessThePrecisionIsReached() {
+        recordGames(200, 104);
+
+        assertEquals(SequentialStopping.Verdict.CONTINUE, new SequentialStopping(0.05).check(new SequentialStopping(0.05).estimate(accumulator, 1)));
+        assertEquals(SequentialStopping.Verdict.PRECISION_REACHED, new SequentialStopping(0.2).check(new SequentialStopping(0.2).estimate(accumulator, 1)));
+        assertEquals(SequentialStopping.Verdict.CONTINUE, new SequentialStopping(0.2).check(List.of()));
+    }
+
+    @Test
+    void theInvalidParametersShouldBeRefused() {
+        assertThrows(IllegalArgumentException.class, () -> new SequentialStopping(0));
+        assertThrows(IllegalArgumentException.class, () -> new SequentialStopping(0.05, 1, 100, 20));
+        assertThrows(IllegalArgumentException.class, () -> new SequentialStopping(0.05, 0.95, 100, 0));
+    }
+}
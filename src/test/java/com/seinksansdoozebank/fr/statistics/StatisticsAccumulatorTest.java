@@ -0,0 +1,160 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.controller.SimulationContext;
+import com.seinksansdoozebank.fr.model.bank.Bank;
+import com.seinksansdoozebank.fr.model.cards.Deck;
+import com.seinksansdoozebank.fr.model.player.Player;
+import com.seinksansdoozebank.fr.model.player.RandomBot;
+import com.seinksansdoozebank.fr.model.player.SmartBot;
+import com.seinksansdoozebank.fr.model.player.custombot.CustomBotBuilder;
+import com.seinksansdoozebank.fr.model.player.custombot.strategies.picking.PickingAlwaysDistrict;
+import com.seinksansdoozebank.fr.model.player.custombot.strategies.picking.PickingAlwaysGold;
+import com.seinksansdoozebank.fr.view.IView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class StatisticsAccumulatorTest {
+    private StatisticsAccumulator accumulator;
+    private IView view;
+    private Deck deck;
+    private Bank bank;
+
+    @BeforeEach
+    void setUp() {
+        accumulator = new StatisticsAccumulator();
+        view = mock(IView.class);
+        deck = mock(Deck.class);
+        bank = new Bank();
+    }
+
+    @Test
+    void thePlayersOfTwoGamesBuiltTheSameWayShouldHaveTheSameIdentity() {
+        Player firstGameBot = new RandomBot(2, deck, view, bank, new SimulationContext());
+        Player secondGameBot = new RandomBot(2, deck, view, bank, new SimulationContext());
+
+        accumulator.record(firstGameBot, 1, 20, 0, 10);
+        accumulator.record(secondGameBot, 2, 10, 1, 10);
+
+        assertEquals(BotIdentity.of(firstGameBot), BotIdentity.of(secondGameBot));
+        assertEquals(1, accumulator.getNbBots());
+        PlayerStatistics statistics = accumulator.merge().values().iterator().next();
+        assertEquals(2, statistics.getTotalGames());
+        assertEquals(1, statistics.getGamesWon());
+        assertEquals(1, statistics.getGamesLost());
+        assertEquals(30, statistics.getTotalScore());
+        assertEquals(1, statistics.getDetailedPlacement().get(1));
+        assertEquals(1, statistics.getDetailedPlacement().get(2));
+        assertEquals(0, statistics.getDetailedPlacement().get(6));
+    }
+
+    @Test
+    void theMeasuresOfTheGamesShouldBeCountedByBotAndBySeat() {
+        Player firstGameBot = new RandomBot(2, deck, view, bank, new SimulationContext());
+        Player secondGameBot = new RandomBot(5, deck, view, bank, new SimulationContext());
+
+        accumulator.record(firstGameBot, 1, 20, 0, 10);
+        accumulator.record(secondGameBot, 2, 12, 3, 7);
+
+        Map<GameMeasure, StreamingHistogram> histograms = accumulator.getHistogramsOfBots().values().iterator().next();
+        assertEquals(2, histograms.get(GameMeasure.SCORE).getCount());
+        assertEquals(12, histograms.get(GameMeasure.SCORE).getMin());
+        assertEquals(20, histograms.get(GameMeasure.SCORE).getMax());
+        assertEquals(7, histograms.get(GameMeasure.ROUNDS).getValueAtPercentile(50));
+        assertEquals(5, histograms.get(GameMeasure.GOLD).getMax());
+        assertEquals(0, histograms.get(GameMeasure.DISTRICTS).getMax());
+        assertEquals(1, accumulator.getHistogramOfSeat(3, GameMeasure.SCORE).getCount());
+        assertEquals(12, accumulator.getHistogramOfSeat(3, GameMeasure.SCORE).getMax());
+        assertEquals(0, accumulator.getHistogramOfSeat(1, GameMeasure.SCORE).getCount());
+        assertThrows(IllegalArgumentException.class, () -> accumulator.getHistogramOfSeat(StatisticsAccumulator.NB_PLACEMENTS, GameMeasure.SCORE));
+    }
+
+    @Test
+    void theDealsShouldBeTheMeasuresOfTheBotsInDuplicateMode() {
+        SimulationContext context = new SimulationContext();
+        Player randomBot = new RandomBot(2, deck, view, bank, context);
+        Player smartBot = new SmartBot(2, deck, view, bank, context);
+        DealResults dealResults = new DealResults();
+        for (int deal = 0; deal < 20; deal++) {
+            // the smart bot wins one of the two rotations of each deal, and both rotations of one deal in four
+            for (int rotation = 0; rotation < 2; rotation++) {
+                boolean smartBotWins = rotation == 0 || deal % 4 == 0;
+                accumulator.record(smartBot, smartBotWins ? 1 : 2, smartBotWins ? 20 : 10, rotation, 8);
+                accumulator.record(randomBot, smartBotWins ? 2 : 1, smartBotWins ? 10 : 20, 1 - rotation, 8);
+                dealResults.add(smartBot, smartBotWins ? 1 : 2, smartBotWins ? 20 : 10);
+                dealResults.add(randomBot, smartBotWins ? 2 : 1, smartBotWins ? 10 : 20);
+            }
+            accumulator.recordDeal(dealResults);
+            dealResults.clear();
+        }
+
+        BotEstimate smartBotEstimate = accumulator.estimate(0.95).stream().filter(estimate -> estimate.player() == smartBot).findFirst().orElseThrow();
+
+        assertEquals(40, smartBotEstimate.nbGames());
+        // the win rate of the deals is 0.625, each deal counting once
+        assertEquals(0.625, (smartBotEstimate.winRate().lower() + smartBotEstimate.winRate().upper()) / 2, 1e-9);
+        assertEquals(16.25, (smartBotEstimate.meanScore().lower() + smartBotEstimate.meanScore().upper()) / 2, 1e-9);
+        assertTrue(smartBotEstimate.winRate().halfWidth() < ConfidenceInterval.wilson(25, 40, 0.95).halfWidth());
+    }
+
+    @Test
+    void theBotsOfAnotherKindOrWithOtherStrategiesShouldHaveAnotherIdentity() {
+        SimulationContext firstContext = new SimulationContext();
+        SimulationContext secondContext = new SimulationContext();
+        Player randomBot = new RandomBot(2, deck, view, bank, firstContext);
+        Player smartBot = new SmartBot(2, deck, view, bank, secondContext);
+        Player goldBot = new CustomBotBuilder(2, view, deck, bank).setSimulationContext(new SimulationContext())
+                .setPickingStrategy(new PickingAlwaysGold()).build();
+        Player districtBot = new CustomBotBuilder(2, view, deck, bank).setSimulationContext(new SimulationContext())
+                .setPickingStrategy(new PickingAlwaysDistrict()).build();
+
+        assertEquals(randomBot.getId(), smartBot.getId());
+        assertNotEquals(BotIdentity.of(randomBot), BotIdentity.of(smartBot));
+        assertNotEquals(BotIdentity.of(goldBot), BotIdentity.of(districtBot));
+        assertTrue(BotIdentity.of(goldBot).strategies().startsWith("PickingAlwaysGold/"));
+    }
+
+    @Test
+    void theResultsRecordedBySeveralWorkersShouldAllBeCounted() throws InterruptedException {
+        int nbWorkers = 4;
+        int nbGamesPerWorker = 1000;
+        ExecutorService workers = Executors.newFixedThreadPool(nbWorkers);
+        for (int worker = 0; worker < nbWorkers; worker++) {
+            workers.execute(() -> {
+                // each worker plays with its own players
+                SimulationContext context = new SimulationContext();
+                Player winner = new RandomBot(2, deck, view, bank, context);
+                Player loser = new SmartBot(2, deck, view, bank, context);
+                for (int game = 0; game < nbGamesPerWorker; game++) {
+                    accumulator.record(winner, 1, 3, 0, 10);
+                    accumulator.record(loser, 2, 1, 1, 10);
+                }
+            });
+        }
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(10, TimeUnit.SECONDS));
+
+        Map<Player, PlayerStatistics> statistics = accumulator.merge();
+
+        assertEquals(2, statistics.size());
+        for (PlayerStatistics playerStatistics : statistics.values()) {
+            assertEquals(nbWorkers * nbGamesPerWorker, playerStatistics.getTotalGames());
+        }
+        assertEquals(nbWorkers * nbGamesPerWorker, statistics.values().stream().mapToInt(PlayerStatistics::getGamesWon).sum());
+        assertEquals(4 * nbWorkers * nbGamesPerWorker, statistics.values().stream().mapToInt(PlayerStatistics::getTotalScore).sum());
+        assertEquals(nbWorkers * nbGamesPerWorker, accumulator.getHistogramOfSeat(1, GameMeasure.ROUNDS).getCount());
+        for (Map<GameMeasure, StreamingHistogram> histograms : accumulator.getHistogramsOfBots().values()) {
+            assertEquals(nbWorkers * nbGamesPerWorker, histograms.get(GameMeasure.SCORE).getCount());
+        }
+    }
+}
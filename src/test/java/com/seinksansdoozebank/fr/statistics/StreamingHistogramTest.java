@@ -0,0 +1,112 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingHistogramTest {
+    private StreamingHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new StreamingHistogram();
+    }
+
+    @Test
+    void theBucketsShouldFollowEachOtherWithoutGap() {
+        for (int i = 0; i < StreamingHistogram.NB_BUCKETS - 1; i++) {
+            assertEquals(StreamingHistogram.highestValue(i) + 1, StreamingHistogram.lowestValue(i + 1));
+            assertEquals(i, StreamingHistogram.bucketIndex(StreamingHistogram.lowestValue(i)));
+            assertEquals(i, StreamingHistogram.bucketIndex(StreamingHistogram.highestValue(i)));
+        }
+        assertEquals(StreamingHistogram.NB_BUCKETS - 1, StreamingHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    void theSmallValuesShouldBeExactAndTheOthersWithinSixPercent() {
+        assertEquals(17, StreamingHistogram.bucketIndex(17));
+        for (long value : new long[]{32, 100, 1_000, 123_456_789L}) {
+            int index = StreamingHistogram.bucketIndex(value);
+            long width = StreamingHistogram.highestValue(index) - StreamingHistogram.lowestValue(index) + 1;
+            assertTrue(width <= value / StreamingHistogram.NB_SUB_BUCKETS);
+        }
+    }
+
+    @Test
+    void thePercentilesShouldBeReadFromTheBuckets() {
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        // 50 is counted with 51 in the bucket [50, 51], the precision of the buckets
+        assertEquals(51, histogram.getValueAtPercentile(50));
+        assertEquals(91, histogram.getValueAtPercentile(90));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void anEmptyHistogramShouldGiveZero() {
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(List.of(), histogram.getBuckets());
+    }
+
+    @Test
+    void theInvalidValuesShouldBeRefused() {
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    void theMergedHistogramShouldCountTheValuesOfBoth() {
+        StreamingHistogram other = new StreamingHistogram();
+        histogram.record(3);
+        histogram.record(40);
+        other.record(3);
+        other.record(1_000);
+
+        histogram.merge(other);
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(3, histogram.getMin());
+        assertEquals(1_000, histogram.getMax());
+        assertEquals(List.of(new StreamingHistogram.Bucket(3, 3, 2), new StreamingHistogram.Bucket(40, 41, 1),
+                new StreamingHistogram.Bucket(992, 1023, 1)), histogram.getBuckets());
+        assertEquals(2, other.getCount());
+    }
+
+    @Test
+    void theValuesRecordedBySeveralWorkersShouldAllBeCounted() throws InterruptedException {
+        int nbWorkers = 4;
+        int nbValuesPerWorker = 10_000;
+        ExecutorService workers = Executors.newFixedThreadPool(nbWorkers);
+        for (int worker = 0; worker < nbWorkers; worker++) {
+            workers.execute(() -> {
+                for (int value = 0; value < nbValuesPerWorker; value++) {
+                    histogram.record(value % 50);
+                }
+            });
+        }
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals((long) nbWorkers * nbValuesPerWorker, histogram.getCount());
+        assertEquals(24.5, histogram.getMean());
+        assertEquals(49, histogram.getMax());
+    }
+}
@@ -0,0 +1,164 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.controller.RandomStreams;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TournamentRunnerTest {
+
+    @Test
+    void constructorWithLessThanOneWorkerShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new TournamentRunner(0));
+    }
+
+    @Test
+    void runSequentiallyShouldPlayAndHandOverEachGame() {
+        TournamentRunner runner = new TournamentRunner(1);
+        AtomicInteger nbGamesCreated = new AtomicInteger();
+        Set<Game> gamesReceived = ConcurrentHashMap.newKeySet();
+
+        runner.run(5, session -> {
+            nbGamesCreated.incrementAndGet();
+            return mock(Game.class);
+        }, gamesReceived::add);
+
+        assertEquals(5, nbGamesCreated.get());
+        assertEquals(5, gamesReceived.size());
+        gamesReceived.forEach(game -> verify(game).run());
+    }
+
+    @Test
+    void runInParallelShouldPlayAndHandOverEachGameOnce() {
+        TournamentRunner runner = new TournamentRunner(4);
+        Set<Game> gamesReceived = ConcurrentHashMap.newKeySet();
+        AtomicInteger nbGamesReceived = new AtomicInteger();
+
+        runner.run(50, session -> mock(Game.class), game -> {
+            gamesReceived.add(game);
+            nbGamesReceived.incrementAndGet();
+        });
+
+        assertEquals(50, nbGamesReceived.get());
+        assertEquals(50, gamesReceived.size());
+        gamesReceived.forEach(game -> verify(game).run());
+    }
+
+    @Test
+    void runDuplicateShouldPlayEveryRotationOfADealBeforeItsEnd() {
+        TournamentRunner runner = new TournamentRunner(4);
+        Map<Integer, Integer> nbRotationsPlayedByDeal = new ConcurrentHashMap<>();
+        Map<Integer, Integer> nbRotationsAtTheEndOfDeal = new ConcurrentHashMap<>();
+        AtomicInteger nbGamesReceived = new AtomicInteger();
+
+        runner.runDuplicate(10, 3, (deal, rotation) -> {
+            nbRotationsPlayedByDeal.merge(deal, 1, Integer::sum);
+            return mock(Game.class);
+        }, game -> nbGamesReceived.incrementAndGet(), deal -> nbRotationsAtTheEndOfDeal.put(deal, nbRotationsPlayedByDeal.get(deal)));
+
+        assertEquals(30, nbGamesReceived.get());
+        assertEquals(10, nbRotationsAtTheEndOfDeal.size());
+        nbRotationsAtTheEndOfDeal.values().forEach(nbRotations -> assertEquals(3, nbRotations));
+        assertThrows(IllegalArgumentException.class, () -> runner.runDuplicate(1, 0, (deal, rotation) -> mock(Game.class), game -> {
+        }, deal -> {
+        }));
+    }
+
+    @Test
+    void runPairedShouldHandOverTheTwoGamesOfEachPairTogether() {
+        TournamentRunner runner = new TournamentRunner(4);
+        Map<Game, Integer> pairOfGames = new ConcurrentHashMap<>();
+        AtomicInteger nbPairsReceived = new AtomicInteger();
+
+        runner.runPaired(20, pair -> {
+            Game game = mock(Game.class);
+            pairOfGames.put(game, pair);
+            return game;
+        }, pair -> {
+            Game game = mock(Game.class);
+            pairOfGames.put(game, pair);
+            return game;
+        }, (gameA, gameB) -> {
+            assertEquals(pairOfGames.get(gameA), pairOfGames.get(gameB));
+            verify(gameA).run();
+            verify(gameB).run();
+            nbPairsReceived.incrementAndGet();
+        });
+
+        assertEquals(20, nbPairsReceived.get());
+        assertEquals(40, pairOfGames.size());
+    }
+
+    @Test
+    void runWithNoSessionShouldNotCreateAnyGame() {
+        TournamentRunner runner = new TournamentRunner(2);
+        AtomicInteger nbGamesCreated = new AtomicInteger();
+
+        runner.run(0, session -> {
+            nbGamesCreated.incrementAndGet();
+            return mock(Game.class);
+        }, game -> {
+        });
+
+        assertEquals(0, nbGamesCreated.get());
+    }
+
+    @Test
+    void theRunsOfARunnerShouldBePlayedByTheSameWorkers() {
+        Set<Thread> workersOfFirstRun = ConcurrentHashMap.newKeySet();
+        Set<Thread> workersOfAllRuns = ConcurrentHashMap.newKeySet();
+
+        try (TournamentRunner runner = new TournamentRunner(2)) {
+            runner.run(20, session -> {
+                workersOfFirstRun.add(Thread.currentThread());
+                return mock(Game.class);
+            }, game -> {
+            });
+            for (int batch = 0; batch < 5; batch++) {
+                runner.run(20, session -> {
+                    workersOfAllRuns.add(Thread.currentThread());
+                    return mock(Game.class);
+                }, game -> {
+                });
+            }
+        }
+
+        workersOfAllRuns.addAll(workersOfFirstRun);
+        assertTrue(workersOfAllRuns.size() <= 2);
+    }
+
+    @Test
+    void runAndAnalyzeInParallelShouldRecordEveryGame() {
+        GameStatisticsAnalyzer analyzer = new GameStatisticsAnalyzer(20, false, GameStatisticsAnalyzer.CsvCategory.DEMO_GAME, 4);
+
+        analyzer.runAndAnalyze(1, 1, 1, 1, 1, 1);
+
+        int nbGamesPlayed = analyzer.getPlayerStatisticsMap().values().stream()
+                .mapToInt(PlayerStatistics::getTotalGames)
+                .sum();
+        assertEquals(20 * 6, nbGamesPlayed);
+    }
+
+    @Test
+    void runAndAnalyzeWithTheSameSeedShouldGiveTheSameResultsWhateverTheNumberOfWorkers() {
+        GameStatisticsAnalyzer sequentialAnalyzer = new GameStatisticsAnalyzer(30, false, GameStatisticsAnalyzer.CsvCategory.DEMO_GAME, 1,
+                new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 42));
+        GameStatisticsAnalyzer parallelAnalyzer = new GameStatisticsAnalyzer(30, false, GameStatisticsAnalyzer.CsvCategory.DEMO_GAME, 4,
+                new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 42));
+
+        sequentialAnalyzer.runAndAnalyze(1, 1, 1, 1, 1, 1);
+        parallelAnalyzer.runAndAnalyze(1, 1, 1, 1, 1, 1);
+
+        assertEquals(sequentialAnalyzer.getPlayerStatisticsMap().toString(), parallelAnalyzer.getPlayerStatisticsMap().toString());
+    }
+}
@@ -0,0 +1,22 @@
+package com.seinksansdoozebank.fr.statistics;
+
+import com.seinksansdoozebank.fr.view.SilentView;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ViewBenchmarkTest {
+
+    @Test
+    void constructorWithNoGameShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new ViewBenchmark(0, 1));
+    }
+
+    @Test
+    void measureShouldReturnAPositiveNumberOfGamesPerSecond() {
+        ViewBenchmark benchmark = new ViewBenchmark(5, 1);
+
+        assertTrue(benchmark.measure(SilentView::new) > 0);
+    }
+}
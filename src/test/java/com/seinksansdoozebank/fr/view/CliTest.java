@@ -53,7 +53,7 @@ class CliTest {
     @AfterEach
     void tearDown() {
         LOGGER.removeHandler(testHandler);
-        CustomLogger.resetAvailableColors();
+        player.getSimulationContext().getPlayerColors().reset();
     }
 
     /**
@@ -291,11 +291,11 @@ class CliTest {
 
     @Test
     void testDisplayStolenCharacter() {
-        Bishop stolenCharacter = spy(new Bishop());
-        when(stolenCharacter.getPlayer()).thenReturn(player);
-        view.displayStolenCharacter(stolenCharacter);
+        Bishop stolenCharacter = new Bishop();
+        when(player.getCharacter()).thenReturn(stolenCharacter);
+        view.displayStolenCharacter(player);
 
-        String expectedOutput = "Le " + stolenCharacter + " a été volé et perd " + stolenCharacter.getPlayer().getNbGold() + " pièces d'or ";
+        String expectedOutput = "Le " + stolenCharacter + " a été volé et perd " + player.getNbGold() + " pièces d'or ";
 
         assertLogged(Level.INFO, expectedOutput, false);
     }
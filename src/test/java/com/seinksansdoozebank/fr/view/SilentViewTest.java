@@ -0,0 +1,27 @@
+package com.seinksansdoozebank.fr.view;
+
+import com.seinksansdoozebank.fr.controller.Game;
+import com.seinksansdoozebank.fr.controller.GameFactory;
+import com.seinksansdoozebank.fr.controller.RandomStreams;
+import com.seinksansdoozebank.fr.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class SilentViewTest {
+
+    @Test
+    void aGameDisplayedBySilentViewShouldBePlayedLikeWithAnyOtherView() {
+        Game silentGame = GameFactory.createCustomGame(new SilentView(), 1, 1, 1, 1, 1, 1, Game.NORMAL_NB_DISTRICT_TO_WIN,
+                new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 99).nextStream());
+        Game otherGame = GameFactory.createCustomGame(mock(IView.class), 1, 1, 1, 1, 1, 1, Game.NORMAL_NB_DISTRICT_TO_WIN,
+                new RandomStreams(RandomStreams.DEFAULT_ALGORITHM, 99).nextStream());
+
+        silentGame.run();
+        otherGame.run();
+
+        assertEquals(silentGame.getPlayers().stream().map(Player::getScore).toList(),
+                otherGame.getPlayers().stream().map(Player::getScore).toList());
+    }
+}